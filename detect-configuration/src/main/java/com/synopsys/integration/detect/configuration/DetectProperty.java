@@ -158,6 +158,10 @@ public enum DetectProperty {
     @HelpDescription("The name of the build environment init script")
     DETECT_BITBAKE_BUILD_ENV_NAME("detect.bitbake.build.env.name", "BitBake Init Script Name", "4.4.0", PropertyType.STRING, PropertyAuthority.None, "oe-init-build-env"),
 
+    @HelpGroup(primary = GROUP_BITBAKE, additional = GROUP_SOURCE_SCAN)
+    @HelpDescription("The path to a directory where the recipe-depends.dot of each package is kept between scans. When set, packages are only generated again after the init script, the template configuration or a recipe, append, class or configuration file of one of its layers changes. Builds whose layers can not be resolved from the template configuration are not cached.")
+    DETECT_BITBAKE_CACHE_PATH("detect.bitbake.cache.path", "BitBake Cache Path", "5.5.0", PropertyType.STRING, PropertyAuthority.None),
+
     @HelpGroup(primary = GROUP_BITBAKE, additional = GROUP_SOURCE_SCAN)
     @HelpDescription("The reference implementation of the yocto project. These characters will be stripped from the discovered target architecture.")
     DETECT_BITBAKE_REFERENCE_IMPL("detect.bitbake.reference.impl", "Reference implementation", "4.4.0", PropertyType.STRING, PropertyAuthority.None, "_poky_linux"),
@@ -244,6 +248,10 @@ public enum DetectProperty {
     @HelpDescription("The name of the anaconda environment used by your project")
     DETECT_CONDA_ENVIRONMENT_NAME("detect.conda.environment.name", "Anaconda Environment Name", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
 
+    @HelpGroup(primary = GROUP_CONDA, additional = { GROUP_SOURCE_SCAN })
+    @HelpDescription("The path of the anaconda environment (its prefix directory) used by your project. When set, the environment's conda-meta records are read directly instead of running conda.")
+    DETECT_CONDA_PREFIX_PATH("detect.conda.prefix.path", "Anaconda Environment Prefix Path", "5.5.0", PropertyType.STRING, PropertyAuthority.None),
+
     @HelpGroup(primary = GROUP_CONDA, additional = { SEARCH_GROUP_GLOBAL })
     @HelpDescription("The path of the conda executable")
     DETECT_CONDA_PATH("detect.conda.path", "Conda Executable", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
@@ -256,6 +264,10 @@ public enum DetectProperty {
     @HelpDescription("The path of the cpanm executable")
     DETECT_CPANM_PATH("detect.cpanm.path", "cpanm Executable", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
 
+    @HelpGroup(primary = GROUP_CPAN, additional = { GROUP_SOURCE_SCAN })
+    @HelpDescription("The path of the local::lib directory your project's modules are installed into. When set, and no cpanfile.snapshot is present, module versions are resolved from the install records cpanm keeps there. Only used in buildless mode.")
+    DETECT_CPAN_LOCAL_LIB_PATH("detect.cpan.local.lib.path", "cpan Local Lib Path", "5.5.0", PropertyType.STRING, PropertyAuthority.None),
+
     @HelpGroup(primary = GROUP_PROJECT, additional = { SEARCH_GROUP_GLOBAL })
     @HelpDescription("The scheme to use when the package managers can not determine a version, either 'text' or 'timestamp'")
     DETECT_DEFAULT_PROJECT_VERSION_SCHEME("detect.default.project.version.scheme", "Default Project Version Name Scheme", "3.0.0", PropertyType.STRING, PropertyAuthority.None, "text"),
@@ -296,9 +308,13 @@ public enum DetectProperty {
     DETECT_IGNORE_CONNECTION_FAILURES("detect.ignore.connection.failures", "Detect Ignore Connection Failures", "5.3.0", PropertyType.BOOLEAN, PropertyAuthority.None, "false"),
 
     @HelpGroup(primary = GROUP_DOCKER, additional = { GROUP_SOURCE_PATH })
-    @HelpDescription("The Docker image name to inspect. For Detect to run Docker Inspector, either this property or detect.docker.tar must be set. Docker Inspector finds packages installed by the Linux package manager in Linux-based images.")
+    @HelpDescription("The Docker image name to inspect. For Detect to run Docker Inspector, at least one of detect.docker.image, detect.docker.images, detect.docker.tar or detect.docker.tars must be set. Docker Inspector finds packages installed by the Linux package manager in Linux-based images.")
     DETECT_DOCKER_IMAGE("detect.docker.image", "Docker Image Name", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
 
+    @HelpGroup(primary = GROUP_DOCKER, additional = { GROUP_SOURCE_PATH })
+    @HelpDescription("A comma-separated list of Docker image names to inspect in addition to detect.docker.image. Each image becomes its own code location. If any image cannot be inspected the remaining images are still reported, and the run fails listing the images that were missed.")
+    DETECT_DOCKER_IMAGES("detect.docker.images", "Docker Image Names", "5.5.0", PropertyType.STRING_ARRAY, PropertyAuthority.None),
+
     @HelpGroup(primary = GROUP_DOCKER, additional = { SEARCH_GROUP_GLOBAL })
     @HelpDescription("The path to the directory containing the Docker Inspector jar and images")
     DETECT_DOCKER_INSPECTOR_AIR_GAP_PATH("detect.docker.inspector.air.gap.path", "Docker Inspector AirGap Path", "3.0.0", PropertyType.STRING, PropertyAuthority.AirGapManager),
@@ -307,10 +323,18 @@ public enum DetectProperty {
     @HelpDescription("This is used to override using the hosted Docker Inspector .jar file by binary repository url. You can use a local Docker Inspector .jar file at this path.")
     DETECT_DOCKER_INSPECTOR_PATH("detect.docker.inspector.path", "Docker Inspector .jar File Path", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
 
+    @HelpGroup(primary = GROUP_DOCKER, additional = { SEARCH_GROUP_GLOBAL })
+    @HelpDescription("The path to a directory where Docker Inspector results are kept between scans. Results are keyed by image name or tar file name, image digest, Docker Inspector version and docker properties, so an image that was already inspected is not inspected again. Each entry holds the squashed image file system and entries are never removed by Detect, so the size of this directory is not limited; clean it up periodically. While this is set, an image that Docker Inspector has to pull is kept in the local Docker image store so its digest can be looked up, unless cleanup.inspected.image is set in the additional docker properties.")
+    DETECT_DOCKER_INSPECTOR_CACHE_PATH("detect.docker.inspector.cache.path", "Docker Inspector Cache Path", "5.5.0", PropertyType.STRING, PropertyAuthority.None),
+
     @HelpGroup(primary = GROUP_DOCKER, additional = { SEARCH_GROUP_GLOBAL })
     @HelpDescription("Version of the Docker Inspector to use. By default Detect will attempt to automatically determine the version to use.")
     DETECT_DOCKER_INSPECTOR_VERSION("detect.docker.inspector.version", "Docker Inspector Version", "3.0.0", PropertyType.STRING, PropertyAuthority.None, ""),
 
+    @HelpGroup(primary = GROUP_DOCKER, additional = { SEARCH_GROUP_GLOBAL })
+    @HelpDescription("The number of Docker images that are inspected at the same time when more than one image or image archive is supplied. Every Docker Inspector run uses the same image inspector service ports and containers, so concurrent runs on one host can fail or interfere with each other; only set this above 1 when the docker properties give each run its own service and container ports, or when your Docker Inspector setup is known to handle it.")
+    DETECT_DOCKER_PARALLEL_INSPECTIONS("detect.docker.parallel.inspections", "Docker Parallel Inspections", "5.5.0", PropertyType.INTEGER, PropertyAuthority.None, "1"),
+
     @HelpGroup(primary = GROUP_DOCKER, additional = { SEARCH_GROUP_GLOBAL })
     @HelpDescription("Path of the docker executable")
     DETECT_DOCKER_PATH("detect.docker.path", "Docker Executable", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
@@ -320,9 +344,13 @@ public enum DetectProperty {
     DETECT_DOCKER_PATH_REQUIRED("detect.docker.path.required", "Run Without Docker in Path", "4.0.0", PropertyType.BOOLEAN, PropertyAuthority.None, "true"),
 
     @HelpGroup(primary = GROUP_DOCKER, additional = { GROUP_SOURCE_PATH })
-    @HelpDescription("A saved Docker image - must be a .tar file. For Detect to run Docker Inspector, either this property or detect.docker.tar must be set. Docker Inspector finds packages installed by the Linux package manager in Linux-based images.")
+    @HelpDescription("A saved Docker image - must be a .tar file. For Detect to run Docker Inspector, at least one of detect.docker.image, detect.docker.images, detect.docker.tar or detect.docker.tars must be set. Docker Inspector finds packages installed by the Linux package manager in Linux-based images.")
     DETECT_DOCKER_TAR("detect.docker.tar", "Docker Image Archive File", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
 
+    @HelpGroup(primary = GROUP_DOCKER, additional = { GROUP_SOURCE_PATH })
+    @HelpDescription("A comma-separated list of saved Docker images (.tar files) to inspect in addition to detect.docker.tar. Each image becomes its own code location. If any image cannot be inspected the remaining images are still reported, and the run fails listing the images that were missed.")
+    DETECT_DOCKER_TARS("detect.docker.tars", "Docker Image Archive Files", "5.5.0", PropertyType.STRING_ARRAY, PropertyAuthority.None),
+
     @HelpGroup(primary = GROUP_NUGET, additional = { SEARCH_GROUP_GLOBAL })
     @HelpDescription("The path of the dotnet executable")
     DETECT_DOTNET_PATH("detect.dotnet.path", "dotnet Executable", "4.4.0", PropertyType.STRING, PropertyAuthority.None),
@@ -371,6 +399,14 @@ public enum DetectProperty {
     @HelpDescription("The override version of the Gradle Inspector to use. By default, Detect will try to automatically determine the correct gradle version.")
     DETECT_GRADLE_INSPECTOR_VERSION("detect.gradle.inspector.version", "Gradle Inspector Version", "3.0.0", PropertyType.STRING, PropertyAuthority.None, ""),
 
+    @HelpGroup(primary = GROUP_GRADLE, additional = { SEARCH_GROUP_GLOBAL })
+    @HelpDescription("Set this to true to have the Gradle init script write a compact node and edge graph for each project instead of the text dependency tree. Shared dependencies are written once, which keeps reports small for large multi-project builds.")
+    DETECT_GRADLE_INSPECTOR_STRUCTURED_OUTPUT("detect.gradle.inspector.structured.output", "Gradle Inspector Structured Output", "5.5.0", PropertyType.BOOLEAN, PropertyAuthority.None, "false"),
+
+    @HelpGroup(primary = GROUP_GRADLE, additional = { SEARCH_GROUP_GLOBAL })
+    @HelpDescription("The path to a directory where Gradle inspector reports are kept between scans. When set, projects whose build files have not changed since the last scan are not resolved again and their cached report is used instead. Builds with a buildSrc directory, and projects that apply scripts or use dynamic or snapshot versions, are always resolved.")
+    DETECT_GRADLE_INSPECTOR_CACHE_PATH("detect.gradle.inspector.cache.path", "Gradle Inspector Cache Path", "5.5.0", PropertyType.STRING, PropertyAuthority.None),
+
     @HelpGroup(primary = GROUP_GRADLE)
     @HelpDescription("Path of the Gradle executable")
     DETECT_GRADLE_PATH("detect.gradle.path", "Gradle Executable", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
@@ -494,6 +530,10 @@ public enum DetectProperty {
     @HelpDescription("The path of the requirements.txt file")
     DETECT_PIP_REQUIREMENTS_PATH("detect.pip.requirements.path", "PIP Requirements Path", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
 
+    @HelpGroup(primary = GROUP_PIP, additional = { GROUP_SOURCE_SCAN })
+    @HelpDescription("The path of a virtualenv or site-packages directory the project is installed into. When set, the Pip Inspector reads the installed distribution metadata directly instead of running python. Requires detect.pip.project.name or detect.pip.requirements.path to decide which installed distributions are the project's dependencies.")
+    DETECT_PIP_SITE_PACKAGES_PATH("detect.pip.site.packages.path", "PIP Site Packages Path", "5.5.0", PropertyType.STRING, PropertyAuthority.None),
+
     @HelpGroup(primary = GROUP_PIP, additional = { SEARCH_GROUP_GLOBAL })
     @HelpDescription("The path of the Pipenv executable")
     DETECT_PIPENV_PATH("detect.pipenv.path", "Pipenv Executable", "4.1.0", PropertyType.STRING, PropertyAuthority.None),
@@ -671,6 +711,10 @@ public enum DetectProperty {
     @HelpGroup(primary = GROUP_YARN, additional = { SEARCH_GROUP_GLOBAL, GROUP_SOURCE_SCAN })
     DETECT_YARN_PROD_ONLY("detect.yarn.prod.only", "Include Yarn Production Dependencies Only", "4.0.0", PropertyType.BOOLEAN, PropertyAuthority.None, "false"),
 
+    @HelpDescription("Set this to true to build the dependency graph from the yarn.lock and package.json files alone instead of running 'yarn list'")
+    @HelpGroup(primary = GROUP_YARN, additional = { SEARCH_GROUP_GLOBAL, GROUP_SOURCE_SCAN })
+    DETECT_YARN_LOCKFILE_ONLY("detect.yarn.lockfile.only", "Yarn Lockfile Only", "5.5.0", PropertyType.BOOLEAN, PropertyAuthority.None, "false"),
+
     @HelpGroup(primary = GROUP_LOGGING, additional = { SEARCH_GROUP_GLOBAL })
     @HelpDescription("The logging level of Detect")
     @AcceptableValues(value = { "TRACE", "DEBUG", "INFO", "WARN", "ERROR", "FATAL", "OFF" }, caseSensitive = false, strict = true)
@@ -33,6 +33,7 @@ public enum CodeLocationType {
     GO_DEP,
     GO_VNDR,
     GO_VENDOR,
+    GO_MOD,
     GRADLE,
     HEX,
     MAVEN,
@@ -28,7 +28,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.antlr.v4.runtime.misc.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,12 +65,10 @@ public class SimpleExecutableFinder {
         }
     }
 
-    @Nullable
     public File findExecutable(final String executable, File location) {
         return findExecutable(executable, Arrays.asList(location));
     }
 
-    @Nullable
     public File findExecutable(final String executable, List<File> locations) {
         final List<String> executables = executablesFromName(executable);
 
@@ -26,11 +26,7 @@ import java.io.File;
 import java.util.Arrays;
 import java.util.List;
 
-import org.antlr.v4.runtime.misc.NotNull;
-import org.antlr.v4.runtime.misc.Nullable;
-
 public interface FileFinder {
-    @Nullable
     default File findFile(File directoryToSearch, String filenamePattern) {
         List<File> files = findFiles(directoryToSearch, Arrays.asList(filenamePattern), 0);
         if (files != null && files.size() > 0){
@@ -39,16 +35,13 @@ public interface FileFinder {
         return null;
     }
 
-    @NotNull
     default List<File> findFiles(File directoryToSearch, String filenamePattern) {
         return findFiles(directoryToSearch, Arrays.asList(filenamePattern), 0);
     }
 
-    @NotNull
     default List<File> findFiles(File directoryToSearch, String filenamePattern, int depth) {
         return findFiles(directoryToSearch, Arrays.asList(filenamePattern), depth);
     }
 
-    @NotNull
     List<File> findFiles(File directoryToSearch, List<String> filenamePatterns, int depth);
 }
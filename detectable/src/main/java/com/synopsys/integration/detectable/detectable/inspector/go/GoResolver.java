@@ -24,11 +24,8 @@ package com.synopsys.integration.detectable.detectable.inspector.go;
 
 import java.io.File;
 
-import org.antlr.v4.runtime.misc.Nullable;
-
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 
 public interface GoResolver {
-    @Nullable
     File resolveGo() throws DetectableException;
 }
@@ -26,9 +26,11 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPathExpressionException;
@@ -47,6 +49,10 @@ import com.synopsys.integration.detectable.detectables.bazel.model.SearchReplace
 import com.synopsys.integration.exception.IntegrationException;
 
 public class BazelExternalIdGenerator {
+    private static final int MAX_BATCH_QUERY_LENGTH = 16000;
+    private static final String RULE_XPATH_QUERY = "/query/rule";
+    private static final String RULE_NAME_ATTRIBUTE = "name";
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final ExecutableRunner executableRunner;
     private final String bazelExe;
@@ -71,14 +77,13 @@ public class BazelExternalIdGenerator {
         if (!rawDependencies.isPresent()) {
             return projectExternalIds;
         }
+        final Set<String> bazelExternalIds = new LinkedHashSet<>();
         for (final String rawDependency : rawDependencies.get()) {
-            String bazelExternalId = transformRawDependencyToBazelExternalId(xPathRule, rawDependency);
-            final List<String> dependencyDetailsQueryArgs = deriveDependencyDetailsQueryArgs(xPathRule, bazelExternalId);
-            final Optional<String> xml = executeDependencyDetailsQuery(xPathRule, dependencyDetailsQueryArgs);
-            if (!xml.isPresent()) {
-                return projectExternalIds;
-            }
-            final Optional<List<String>> artifactStrings = parseArtifactStringsFromXml(xPathRule, xml.get());
+            bazelExternalIds.add(transformRawDependencyToBazelExternalId(xPathRule, rawDependency));
+        }
+        // One query per chunk of dependencies instead of one per dependency, chunks keep the command line within platform limits.
+        for (final List<String> batch : createBatches(bazelExternalIds)) {
+            final Optional<List<String>> artifactStrings = queryArtifactStrings(xPathRule, batch);
             if (!artifactStrings.isPresent()) {
                 return projectExternalIds;
             }
@@ -90,6 +95,63 @@ public class BazelExternalIdGenerator {
         return projectExternalIds;
     }
 
+    private List<List<String>> createBatches(final Set<String> bazelExternalIds) {
+        final List<List<String>> batches = new ArrayList<>();
+        List<String> batch = new ArrayList<>();
+        int batchLength = 0;
+        for (final String bazelExternalId : bazelExternalIds) {
+            if (!batch.isEmpty() && batchLength + bazelExternalId.length() + 1 > MAX_BATCH_QUERY_LENGTH) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchLength = 0;
+            }
+            batch.add(bazelExternalId);
+            batchLength += bazelExternalId.length() + 1;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private Optional<List<String>> queryArtifactStrings(final BazelExternalIdExtractionFullRule xPathRule, final List<String> bazelExternalIds) {
+        final List<String> artifactStrings = new ArrayList<>();
+        final Set<String> unresolvedBazelExternalIds = new LinkedHashSet<>(bazelExternalIds);
+        if (bazelExternalIds.size() > 1) {
+            final String batchTarget = String.format("set(%s)", String.join(" ", bazelExternalIds));
+            final Optional<ExecutableOutput> batchOutput = executeBatchDependencyDetailsQuery(deriveDependencyDetailsQueryArgs(xPathRule, batchTarget));
+            if (batchOutput.isPresent() && batchOutput.get().getReturnCode() == 0) {
+                return parseArtifactStringsFromXml(xPathRule, batchOutput.get().getStandardOutput());
+            }
+            logger.debug("The batched bazel dependency details query failed, querying the dependencies it did not return individually.");
+            if (batchOutput.isPresent() && StringUtils.isNotBlank(batchOutput.get().getStandardOutput())) {
+                final String partialXml = batchOutput.get().getStandardOutput();
+                try {
+                    final List<String> partialArtifactStrings = parser.parseStringValuesWithXPath(partialXml, xPathRule.getXPathQuery(), xPathRule.getRuleElementValueAttrName());
+                    final List<String> returnedRuleNames = parser.parseStringValuesWithXPath(partialXml, RULE_XPATH_QUERY, RULE_NAME_ATTRIBUTE);
+                    artifactStrings.addAll(partialArtifactStrings);
+                    unresolvedBazelExternalIds.removeAll(returnedRuleNames);
+                } catch (IOException | SAXException | ParserConfigurationException | XPathExpressionException e) {
+                    logger.debug(String.format("Could not parse the output of the failed batched query, every dependency will be queried: %s", e.getMessage()));
+                }
+            }
+        }
+
+        for (final String bazelExternalId : unresolvedBazelExternalIds) {
+            final List<String> dependencyDetailsQueryArgs = deriveDependencyDetailsQueryArgs(xPathRule, bazelExternalId);
+            final Optional<String> xml = executeDependencyDetailsQuery(xPathRule, dependencyDetailsQueryArgs);
+            if (!xml.isPresent()) {
+                return Optional.empty();
+            }
+            final Optional<List<String>> dependencyArtifactStrings = parseArtifactStringsFromXml(xPathRule, xml.get());
+            if (!dependencyArtifactStrings.isPresent()) {
+                return Optional.empty();
+            }
+            artifactStrings.addAll(dependencyArtifactStrings.get());
+        }
+        return Optional.of(artifactStrings);
+    }
+
     public boolean isErrors() {
         if (exceptionsGenerated.keySet().size() > 0) {
             return true;
@@ -153,6 +215,17 @@ public class BazelExternalIdGenerator {
         return Optional.of(ruleArtifactStrings);
     }
 
+    private Optional<ExecutableOutput> executeBatchDependencyDetailsQuery(final List<String> dependencyDetailsQueryArgs) {
+        try {
+            final ExecutableOutput batchQueryResults = executableRunner.execute(workspaceDir, bazelExe, dependencyDetailsQueryArgs);
+            logger.debug(String.format("Bazel batched query returned %d; output: %s", batchQueryResults.getReturnCode(), batchQueryResults.getStandardOutput()));
+            return Optional.of(batchQueryResults);
+        } catch (ExecutableRunnerException e) {
+            logger.debug(String.format("Error executing bazel with args: %s: %s", dependencyDetailsQueryArgs, e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
     private Optional<String> executeDependencyDetailsQuery(final BazelExternalIdExtractionFullRule xPathRule, final List<String> dependencyDetailsQueryArgs) {
         ExecutableOutput dependencyDetailsXmlQueryResults = null;
         try {
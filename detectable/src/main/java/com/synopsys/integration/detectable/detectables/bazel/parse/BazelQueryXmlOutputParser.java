@@ -24,8 +24,10 @@ package com.synopsys.integration.detectable.detectables.bazel.parse;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.xpath.XPathExpressionException;
 
 import org.slf4j.Logger;
@@ -35,12 +37,23 @@ import org.xml.sax.SAXException;
 public class BazelQueryXmlOutputParser {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final XPathParser xPathParser;
+    private final StreamingXPathParser streamingXPathParser;
 
-    public BazelQueryXmlOutputParser(final XPathParser xPathParser) {
+    public BazelQueryXmlOutputParser(final XPathParser xPathParser, final StreamingXPathParser streamingXPathParser) {
         this.xPathParser = xPathParser;
+        this.streamingXPathParser = streamingXPathParser;
     }
 
     public List<String> parseStringValuesWithXPath(final String xml, final String xPathQuery, final String ruleElementValueAttrName) throws XPathExpressionException, ParserConfigurationException, SAXException, IOException {
+        try {
+            final Optional<List<String>> streamedExternalIds = streamingXPathParser.parseAttributeValuesWithGivenXPathQuery(xml, xPathQuery, ruleElementValueAttrName);
+            if (streamedExternalIds.isPresent()) {
+                return streamedExternalIds.get();
+            }
+        } catch (final XMLStreamException e) {
+            throw new SAXException(String.format("Unable to parse bazel query output: %s", e.getMessage()), e);
+        }
+        logger.debug(String.format("Falling back to a full document parse for xPathQuery: %s", xPathQuery));
         List<String> externalIds = xPathParser.parseAttributeValuesWithGivenXPathQuery(xml, xPathQuery, ruleElementValueAttrName);
         return externalIds;
     }
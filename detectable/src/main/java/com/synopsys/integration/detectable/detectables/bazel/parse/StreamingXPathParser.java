@@ -0,0 +1,201 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.bazel.parse;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Evaluates absolute location paths of the form /a/b[@x='1' and @y='2']/c[@z='3'] while streaming the xml, so only matched values are kept in memory.
+public class StreamingXPathParser {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final XMLInputFactory xmlInputFactory;
+
+    public StreamingXPathParser() {
+        xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    public Optional<List<String>> parseAttributeValuesWithGivenXPathQuery(final String xmlString, final String xPathExpression, final String targetAttributeName) throws XMLStreamException {
+        final Optional<List<PathStep>> compiledPath = compile(xPathExpression);
+        if (!compiledPath.isPresent()) {
+            logger.debug(String.format("xPathExpression %s can not be evaluated while streaming.", xPathExpression));
+            return Optional.empty();
+        }
+        final List<PathStep> steps = compiledPath.get();
+        final List<String> parsedValues = new ArrayList<>();
+
+        final XMLStreamReader reader = createReader(xmlString);
+        try {
+            int depth = 0;
+            int matchedDepth = 0;
+            while (reader.hasNext()) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    if (matchedDepth == depth - 1 && depth <= steps.size() && steps.get(depth - 1).matches(reader)) {
+                        matchedDepth = depth;
+                        if (depth == steps.size()) {
+                            final String value = reader.getAttributeValue(null, targetAttributeName);
+                            if (value != null) {
+                                logger.debug(String.format("parsed value: %s", value));
+                                parsedValues.add(value);
+                            }
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (matchedDepth == depth) {
+                        matchedDepth--;
+                    }
+                    depth--;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return Optional.of(parsedValues);
+    }
+
+    private XMLStreamReader createReader(final String xmlString) throws XMLStreamException {
+        synchronized (xmlInputFactory) {
+            return xmlInputFactory.createXMLStreamReader(new StringReader(xmlString));
+        }
+    }
+
+    private Optional<List<PathStep>> compile(final String xPathExpression) {
+        final List<PathStep> steps = new ArrayList<>();
+        final String expression = xPathExpression.trim();
+        int position = 0;
+        while (position < expression.length()) {
+            if (expression.charAt(position) != '/') {
+                return Optional.empty();
+            }
+            position++;
+            final int nameStart = position;
+            while (position < expression.length() && isNameCharacter(expression.charAt(position))) {
+                position++;
+            }
+            if (position == nameStart) {
+                return Optional.empty();
+            }
+            final PathStep step = new PathStep(expression.substring(nameStart, position));
+            while (position < expression.length() && expression.charAt(position) == '[') {
+                position = compilePredicate(expression, position + 1, step);
+                if (position < 0) {
+                    return Optional.empty();
+                }
+            }
+            steps.add(step);
+        }
+        if (steps.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(steps);
+    }
+
+    // Returns the position after the closing bracket, or -1 when the predicate is not a conjunction of @name='value' tests.
+    private int compilePredicate(final String expression, final int start, final PathStep step) {
+        int position = start;
+        while (true) {
+            position = skipWhitespace(expression, position);
+            if (position >= expression.length() || expression.charAt(position) != '@') {
+                return -1;
+            }
+            final int nameStart = ++position;
+            while (position < expression.length() && isNameCharacter(expression.charAt(position))) {
+                position++;
+            }
+            final String attributeName = expression.substring(nameStart, position);
+            position = skipWhitespace(expression, position);
+            if (attributeName.isEmpty() || position >= expression.length() || expression.charAt(position) != '=') {
+                return -1;
+            }
+            position = skipWhitespace(expression, position + 1);
+            if (position >= expression.length() || (expression.charAt(position) != '\'' && expression.charAt(position) != '"')) {
+                return -1;
+            }
+            final int valueEnd = expression.indexOf(expression.charAt(position), position + 1);
+            if (valueEnd < 0) {
+                return -1;
+            }
+            step.addAttributeTest(attributeName, expression.substring(position + 1, valueEnd));
+            position = skipWhitespace(expression, valueEnd + 1);
+            if (position < expression.length() && expression.charAt(position) == ']') {
+                return position + 1;
+            }
+            if (!expression.startsWith("and", position) || position + 3 >= expression.length() || isNameCharacter(expression.charAt(position + 3))) {
+                return -1;
+            }
+            position += 3;
+        }
+    }
+
+    private int skipWhitespace(final String expression, final int start) {
+        int position = start;
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private boolean isNameCharacter(final char character) {
+        return Character.isLetterOrDigit(character) || character == '_' || character == '-' || character == '.' || character == '*';
+    }
+
+    private static class PathStep {
+        private final String elementName;
+        private final Map<String, String> attributeTests = new LinkedHashMap<>();
+
+        public PathStep(final String elementName) {
+            this.elementName = elementName;
+        }
+
+        public void addAttributeTest(final String attributeName, final String attributeValue) {
+            attributeTests.put(attributeName, attributeValue);
+        }
+
+        public boolean matches(final XMLStreamReader reader) {
+            if (!"*".equals(elementName) && !elementName.equals(reader.getLocalName())) {
+                return false;
+            }
+            for (final Map.Entry<String, String> attributeTest : attributeTests.entrySet()) {
+                if (!attributeTest.getValue().equals(reader.getAttributeValue(null, attributeTest.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -24,6 +24,8 @@ package com.synopsys.integration.detectable.detectables.bitbake;
 
 import java.io.File;
 
+import org.apache.commons.lang3.StringUtils;
+
 import com.synopsys.integration.detectable.Detectable;
 import com.synopsys.integration.detectable.DetectableEnvironment;
 import com.synopsys.integration.detectable.Extraction;
@@ -81,6 +83,11 @@ public class BitbakeDetectable extends Detectable {
 
     @Override
     public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
-        return bitbakeExtractor.extract(extractionEnvironment, foundBuildEnvScript, environment.getDirectory(), bitbakeDetectableOptions.getPackageNames(), bashExe, bitbakeDetectableOptions.getReferenceImplementation());
+        File cacheDirectory = null;
+        if (StringUtils.isNotBlank(bitbakeDetectableOptions.getCachePath())) {
+            cacheDirectory = new File(bitbakeDetectableOptions.getCachePath());
+        }
+        return bitbakeExtractor.extract(extractionEnvironment, foundBuildEnvScript, environment.getDirectory(), bitbakeDetectableOptions.getPackageNames(), bashExe, bitbakeDetectableOptions.getReferenceImplementation(),
+            cacheDirectory);
     }
 }
@@ -26,11 +26,13 @@ public class BitbakeDetectableOptions {
     private final String buildEnvName;
     private final String[] packageNames;
     private final String referenceImplementation;
+    private final String cachePath;
 
-    public BitbakeDetectableOptions(final String buildEnvName, final String[] packageNames, final String referenceImplementation) {
+    public BitbakeDetectableOptions(final String buildEnvName, final String[] packageNames, final String referenceImplementation, final String cachePath) {
         this.buildEnvName = buildEnvName;
         this.packageNames = packageNames;
         this.referenceImplementation = referenceImplementation;
+        this.cachePath = cachePath;
     }
 
     public String getBuildEnvName() {
@@ -44,4 +46,8 @@ public class BitbakeDetectableOptions {
     public String getReferenceImplementation() {
         return referenceImplementation;
     }
+
+    public String getCachePath() {
+        return cachePath;
+    }
 }
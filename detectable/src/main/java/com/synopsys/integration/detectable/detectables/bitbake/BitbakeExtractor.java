@@ -22,19 +22,23 @@
  */
 package com.synopsys.integration.detectable.detectables.bitbake;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.paypal.digraph.parser.GraphParser;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
@@ -44,43 +48,117 @@ import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunnerException;
-import com.synopsys.integration.detectable.detectable.file.FileFinder;
 import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGraph;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeArchitectureParser;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeGraphTransformer;
-import com.synopsys.integration.detectable.detectables.bitbake.parse.GraphParserTransformer;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeRecipeDependsParser;
 import com.synopsys.integration.exception.IntegrationException;
 
 public class BitbakeExtractor {
     public static final String RECIPE_DEPENDS_FILE_NAME = "recipe-depends.dot";
+    private static final int BITBAKE_SERVER_TIMEOUT_SECONDS = 60;
+    private static final String EXIT_CODE_PREFIX = "DETECT BITBAKE COMMAND ";
+    private static final String EXIT_CODE_SEPARATOR = "EXIT CODE ";
+    private static final String ARCHITECTURE_COMMAND_ID = "-c listtasks";
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final ExecutableRunner executableRunner;
-    private final FileFinder fileFinder;
-    private final GraphParserTransformer graphParserTransformer;
+    private final BitbakeRecipeDependsParser bitbakeRecipeDependsParser;
     private final BitbakeGraphTransformer bitbakeGraphTransformer;
     private final BitbakeArchitectureParser bitbakeArchitectureParser;
 
-    public BitbakeExtractor(final ExecutableRunner executableRunner, final FileFinder fileFinder, final GraphParserTransformer graphParserTransformer, final BitbakeGraphTransformer bitbakeGraphTransformer,
+    public BitbakeExtractor(final ExecutableRunner executableRunner, final BitbakeRecipeDependsParser bitbakeRecipeDependsParser, final BitbakeGraphTransformer bitbakeGraphTransformer,
         final BitbakeArchitectureParser bitbakeArchitectureParser) {
         this.executableRunner = executableRunner;
-        this.fileFinder = fileFinder;
-        this.graphParserTransformer = graphParserTransformer;
+        this.bitbakeRecipeDependsParser = bitbakeRecipeDependsParser;
         this.bitbakeGraphTransformer = bitbakeGraphTransformer;
         this.bitbakeArchitectureParser = bitbakeArchitectureParser;
     }
 
-    public Extraction extract(final ExtractionEnvironment extractionEnvironment, final File buildEnvScript, final File sourcePath, final String[] packageNames, final File bash, final String referenceImplementation) {
+    public Extraction extract(final ExtractionEnvironment extractionEnvironment, final File buildEnvScript, final File sourcePath, final String[] packageNames, final File bash, final String referenceImplementation,
+        final File recipeDependsCacheDirectory) {
         final File outputDirectory = extractionEnvironment.getOutputDirectory();
         final File bitbakeBuildDirectory = new File(outputDirectory, "build");
 
+        final Map<String, File> recipeDependsFiles = new HashMap<>();
+        final Map<String, String> failedCommands = new HashMap<>();
+        String targetArchitecture = null;
+        BitbakeRecipeDependsCache recipeDependsCache = null;
+        try {
+            if (recipeDependsCacheDirectory != null) {
+                recipeDependsCache = new BitbakeRecipeDependsCache(recipeDependsCacheDirectory, sourcePath, buildEnvScript, bitbakeBuildDirectory);
+                targetArchitecture = recipeDependsCache.findArchitecture().orElse(null);
+                for (final String packageName : packageNames) {
+                    recipeDependsCache.findRecipeDepends(packageName).ifPresent(recipeDepends -> recipeDependsFiles.put(packageName, recipeDepends));
+                }
+            }
+
+            final List<String> uncachedPackageNames = Arrays.stream(packageNames).filter(packageName -> !recipeDependsFiles.containsKey(packageName)).collect(Collectors.toList());
+            if (!uncachedPackageNames.isEmpty() || targetArchitecture == null) {
+                final Map<String, String> commands = new LinkedHashMap<>();
+                final Map<String, File> generatedFiles = new HashMap<>();
+                final File recipeDependsFile = new File(bitbakeBuildDirectory, RECIPE_DEPENDS_FILE_NAME);
+                final List<String> bitbakeCommands = new ArrayList<>();
+                // Keeps the bitbake server and its parsed metadata alive between the commands of this session.
+                bitbakeCommands.add("export BB_SERVER_TIMEOUT=" + BITBAKE_SERVER_TIMEOUT_SECONDS);
+                if (targetArchitecture == null) {
+                    final String command = "bitbake -c listtasks " + packageNames[0];
+                    commands.put(ARCHITECTURE_COMMAND_ID, command);
+                    bitbakeCommands.add(reportExitCode(ARCHITECTURE_COMMAND_ID, command));
+                }
+                for (int i = 0; i < uncachedPackageNames.size(); i++) {
+                    final String packageName = uncachedPackageNames.get(i);
+                    final String command = "bitbake -g " + packageName;
+                    final File generatedFile = new File(outputDirectory, i + "-" + RECIPE_DEPENDS_FILE_NAME);
+                    commands.put(packageName, command);
+                    generatedFiles.put(packageName, generatedFile);
+                    bitbakeCommands.add(String.format("rm -f '%s'", recipeDependsFile.getAbsolutePath()));
+                    bitbakeCommands.add(reportExitCode(packageName, command));
+                    bitbakeCommands.add(String.format("if [ -f '%s' ]; then cp '%s' '%s'; fi", recipeDependsFile.getAbsolutePath(), recipeDependsFile.getAbsolutePath(), generatedFile.getAbsolutePath()));
+                }
+                bitbakeCommands.add("bitbake -m");
+
+                final ExecutableOutput executableOutput = runBitbake(outputDirectory, buildEnvScript, bitbakeCommands, bash);
+                final Map<String, Integer> exitCodes = parseExitCodes(executableOutput.getStandardOutput());
+                if (executableOutput.getReturnCode() != 0) {
+                    logger.warn(String.format("The bitbake session returned a non-zero exit code %s", executableOutput.getReturnCode()));
+                }
+                for (final Map.Entry<String, String> command : commands.entrySet()) {
+                    final Integer exitCode = exitCodes.get(command.getKey());
+                    if (exitCode == null) {
+                        logger.error(String.format("Command '%s' did not run, the bitbake session returned exit code %s", command.getValue(), executableOutput.getReturnCode()));
+                        failedCommands.put(command.getKey(), command.getValue());
+                    } else if (exitCode != 0) {
+                        logger.error(String.format("Executing command '%s' returned a non-zero exit code %s", command.getValue(), exitCode));
+                        failedCommands.put(command.getKey(), command.getValue());
+                    }
+                }
+
+                if (targetArchitecture == null && !failedCommands.containsKey(ARCHITECTURE_COMMAND_ID)) {
+                    targetArchitecture = bitbakeArchitectureParser.architectureFromOutput(executableOutput.getStandardOutput()).orElse(null);
+                }
+                for (final Map.Entry<String, File> generatedFile : generatedFiles.entrySet()) {
+                    if (!failedCommands.containsKey(generatedFile.getKey()) && generatedFile.getValue().isFile()) {
+                        recipeDependsFiles.put(generatedFile.getKey(), generatedFile.getValue());
+                        if (recipeDependsCache != null && StringUtils.isNotBlank(targetArchitecture)) {
+                            recipeDependsCache.store(targetArchitecture, generatedFile.getKey(), generatedFile.getValue());
+                        }
+                    }
+                }
+            }
+        } catch (final IOException | ExecutableRunnerException e) {
+            logger.error("Failed to run bitbake.");
+            logger.debug(e.getMessage(), e);
+        }
+
         final List<CodeLocation> codeLocations = new ArrayList<>();
         for (final String packageName : packageNames) {
             try {
-                final File dependsFile = executeBitbakeForRecipeDependsFile(outputDirectory, bitbakeBuildDirectory, buildEnvScript, packageName, bash);
-                final String targetArchitecture = executeBitbakeForTargetArchitecture(outputDirectory, buildEnvScript, packageName, bash).replace(referenceImplementation, "");
-
+                final File dependsFile = recipeDependsFiles.get(packageName);
+                if (failedCommands.containsKey(packageName)) {
+                    throw new IntegrationException(String.format("Executing command '%s' failed", failedCommands.get(packageName)));
+                }
                 if (dependsFile == null) {
                     throw new IntegrationException(
                         String.format("Failed to find %s. This may be due to this project being a version of The Yocto Project earlier than 2.3 (Pyro) which is the minimum version for Detect", RECIPE_DEPENDS_FILE_NAME));
@@ -89,17 +167,18 @@ public class BitbakeExtractor {
                     throw new IntegrationException("Failed to find a target architecture");
                 }
 
-                logger.debug(FileUtils.readFileToString(dependsFile, Charset.defaultCharset()));
-                final InputStream recipeDependsInputStream = FileUtils.openInputStream(dependsFile);
-                final GraphParser graphParser = new GraphParser(recipeDependsInputStream);
-                final BitbakeGraph bitbakeGraph = graphParserTransformer.transform(graphParser);
-                final DependencyGraph dependencyGraph = bitbakeGraphTransformer.transform(bitbakeGraph, targetArchitecture);
+                logger.debug(String.format("Parsing %s", dependsFile.getAbsolutePath()));
+                final BitbakeGraph bitbakeGraph;
+                try (final BufferedReader recipeDependsReader = Files.newBufferedReader(dependsFile.toPath(), StandardCharsets.UTF_8)) {
+                    bitbakeGraph = bitbakeRecipeDependsParser.parse(recipeDependsReader);
+                }
+                final DependencyGraph dependencyGraph = bitbakeGraphTransformer.transform(bitbakeGraph, targetArchitecture.replace(referenceImplementation, ""));
 
                 final ExternalId externalId = new ExternalId(Forge.YOCTO);
                 final CodeLocation codeLocation = new CodeLocation(dependencyGraph, externalId, sourcePath);
 
                 codeLocations.add(codeLocation);
-            } catch (final IOException | IntegrationException | ExecutableRunnerException e) {
+            } catch (final IOException | IntegrationException e) {
                 logger.error(String.format("Failed to extract a Code Location while running Bitbake against package '%s'", packageName));
                 logger.debug(e.getMessage(), e);
             }
@@ -120,39 +199,31 @@ public class BitbakeExtractor {
         return extraction;
     }
 
-    private File executeBitbakeForRecipeDependsFile(final File outputDirectory, final File bitbakeBuildDirectory, final File buildEnvScript, final String packageName, final File bash) throws ExecutableRunnerException {
-        final String bitbakeCommand = "bitbake -g " + packageName;
-        final ExecutableOutput executableOutput = runBitbake(outputDirectory, buildEnvScript, bitbakeCommand, bash);
-        final int returnCode = executableOutput.getReturnCode();
-        File recipeDependsFile = null;
-
-        if (returnCode == 0) {
-            recipeDependsFile = fileFinder.findFile(bitbakeBuildDirectory, RECIPE_DEPENDS_FILE_NAME);
-        } else {
-            logger.error(String.format("Executing command '%s' returned a non-zero exit code %s", bitbakeCommand, returnCode));
-        }
-
-        return recipeDependsFile;
+    // The session keeps going when a command fails, so each command reports its own exit code for the failures to be attributed.
+    private String reportExitCode(final String commandId, final String command) {
+        return String.format("%s; echo \"%s%s %s$?\"", command, EXIT_CODE_PREFIX, commandId, EXIT_CODE_SEPARATOR);
     }
 
-    private String executeBitbakeForTargetArchitecture(final File outputDirectory, final File buildEnvScript, final String packageName, final File bash) throws ExecutableRunnerException {
-        final String bitbakeCommand = "bitbake -c listtasks " + packageName;
-        final ExecutableOutput executableOutput = runBitbake(outputDirectory, buildEnvScript, bitbakeCommand, bash);
-        final int returnCode = executableOutput.getReturnCode();
-        String targetArchitecture = null;
-
-        if (returnCode == 0) {
-            targetArchitecture = bitbakeArchitectureParser.architectureFromOutput(executableOutput.getStandardOutput()).orElse(null);
-        } else {
-            logger.error(String.format("Executing command '%s' returned a non-zero exit code %s", bitbakeCommand, returnCode));
+    private Map<String, Integer> parseExitCodes(final String standardOutput) {
+        final Map<String, Integer> exitCodes = new HashMap<>();
+        for (final String line : standardOutput.split("\\r?\\n")) {
+            if (line.startsWith(EXIT_CODE_PREFIX) && line.contains(EXIT_CODE_SEPARATOR)) {
+                final String commandId = StringUtils.substringBetween(line, EXIT_CODE_PREFIX, " " + EXIT_CODE_SEPARATOR);
+                final String exitCode = StringUtils.substringAfterLast(line, EXIT_CODE_SEPARATOR).trim();
+                if (commandId != null && StringUtils.isNumeric(exitCode)) {
+                    exitCodes.put(commandId, Integer.valueOf(exitCode));
+                }
+            }
         }
-
-        return targetArchitecture;
+        return exitCodes;
     }
 
-    private ExecutableOutput runBitbake(final File outputDirectory, final File buildEnvScript, final String bitbakeCommand, final File bash) throws ExecutableRunnerException {
+    // Every command runs in one shell so the init script is sourced, and the metadata parsed, once for all packages.
+    private ExecutableOutput runBitbake(final File outputDirectory, final File buildEnvScript, final List<String> bitbakeCommands, final File bash) throws ExecutableRunnerException {
+        final StringBuilder script = new StringBuilder(". " + buildEnvScript);
+        bitbakeCommands.forEach(command -> script.append("; ").append(command));
         try {
-            return executableRunner.execute(outputDirectory, bash, "-c", ". " + buildEnvScript + "; " + bitbakeCommand);
+            return executableRunner.execute(outputDirectory, bash, "-c", script.toString());
         } catch (final ExecutableRunnerException e) {
             logger.error(String.format("Failed executing bitbake command."));
             logger.debug(e.getMessage(), e);
@@ -0,0 +1,248 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.bitbake;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+  Keeps the recipe-depends.dot of each package and the target architecture between runs. The build directory is generated from the template
+  configuration on every run, so entries are keyed on the init script, the template configuration and the recipes, appends, classes and
+  configuration files of every layer the template lists. Any change discards the whole cache for the source directory, and a template whose
+  layers can not be resolved without sourcing the init script is not cached at all.
+ */
+public class BitbakeRecipeDependsCache {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final String INDEX_FILENAME = "index.properties";
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    private static final String ARCHITECTURE_KEY = "architecture";
+    private static final String RECIPE_DEPENDS_SUFFIX = "-recipe-depends.dot";
+
+    private static final String TEMPLATE_CONF_FILENAME = ".templateconf";
+    private static final String TEMPLATE_CONF_VARIABLE = "TEMPLATECONF";
+    private static final List<String> DEFAULT_TEMPLATE_CONF_DIRECTORIES = Arrays.asList("meta-poky/conf", "meta/conf");
+    private static final String BBLAYERS_TEMPLATE_FILENAME = "bblayers.conf.sample";
+    private static final Pattern TEMPLATE_CONF_PATTERN = Pattern.compile("TEMPLATECONF=(?:\\$\\{TEMPLATECONF:-)?([^}\\s]+)");
+    private static final Pattern BBLAYERS_PATTERN = Pattern.compile("^\\s*BBLAYERS\\s*\\??\\??=\\s*\"([^\"]*)\"", Pattern.MULTILINE);
+    private static final List<String> LAYER_FILE_EXTENSIONS = Arrays.asList(".bb", ".bbappend", ".bbclass", ".inc", ".conf");
+
+    private final File cacheDirectory;
+    private final String fingerprint;
+    private final Properties index;
+
+    public BitbakeRecipeDependsCache(final File cacheRootDirectory, final File sourceDirectory, final File buildEnvScript, final File bitbakeBuildDirectory) throws IOException {
+        this.cacheDirectory = new File(cacheRootDirectory, sha256(sourceDirectory.getCanonicalPath().getBytes(StandardCharsets.UTF_8)));
+        this.fingerprint = fingerprint(buildEnvScript, bitbakeBuildDirectory).orElse(null);
+        this.index = readIndex();
+        if (fingerprint == null) {
+            logger.debug("The bitbake layers could not be resolved from the template configuration, cached results will not be used.");
+            index.clear();
+        } else if (!fingerprint.equals(index.getProperty(FINGERPRINT_KEY))) {
+            logger.debug("The bitbake configuration or layers changed since the last run, cached results will not be used.");
+            index.clear();
+            index.setProperty(FINGERPRINT_KEY, fingerprint);
+        }
+    }
+
+    public Optional<String> findArchitecture() {
+        return Optional.ofNullable(index.getProperty(ARCHITECTURE_KEY));
+    }
+
+    public Optional<File> findRecipeDepends(final String packageName) {
+        final File recipeDepends = recipeDependsFile(packageName);
+        if (index.containsKey(packageName) && recipeDepends.isFile()) {
+            return Optional.of(recipeDepends);
+        }
+        return Optional.empty();
+    }
+
+    public void store(final String architecture, final String packageName, final File recipeDepends) {
+        if (fingerprint == null) {
+            return;
+        }
+        try {
+            cacheDirectory.mkdirs();
+            FileUtils.copyFile(recipeDepends, recipeDependsFile(packageName));
+            index.setProperty(packageName, recipeDependsFile(packageName).getName());
+            index.setProperty(ARCHITECTURE_KEY, architecture);
+            try (final OutputStream outputStream = new FileOutputStream(new File(cacheDirectory, INDEX_FILENAME))) {
+                index.store(outputStream, "Bitbake recipe depends cache");
+            }
+        } catch (final IOException e) {
+            logger.warn(String.format("Failed to update the bitbake cache: %s", e.getMessage()));
+        }
+    }
+
+    private File recipeDependsFile(final String packageName) {
+        return new File(cacheDirectory, sha256(packageName.getBytes(StandardCharsets.UTF_8)) + RECIPE_DEPENDS_SUFFIX);
+    }
+
+    private Properties readIndex() {
+        final Properties properties = new Properties();
+        final File indexFile = new File(cacheDirectory, INDEX_FILENAME);
+        if (indexFile.isFile()) {
+            try (final InputStream inputStream = new FileInputStream(indexFile)) {
+                properties.load(inputStream);
+            } catch (final IOException e) {
+                logger.debug("Failed to read the bitbake cache index, every package will be generated.", e);
+                properties.clear();
+            }
+        }
+        return properties;
+    }
+
+    private Optional<String> fingerprint(final File buildEnvScript, final File bitbakeBuildDirectory) throws IOException {
+        final File oeRoot = buildEnvScript.getCanonicalFile().getParentFile();
+        final Optional<File> templateConfDirectory = findTemplateConfDirectory(oeRoot);
+        if (!templateConfDirectory.isPresent()) {
+            return Optional.empty();
+        }
+        final Optional<List<File>> layerDirectories = findLayerDirectories(new File(templateConfDirectory.get(), BBLAYERS_TEMPLATE_FILENAME), oeRoot, bitbakeBuildDirectory);
+        if (!layerDirectories.isPresent()) {
+            return Optional.empty();
+        }
+
+        final MessageDigest digest = newDigest();
+        digest.update(Files.readAllBytes(buildEnvScript.toPath()));
+        final File[] templateFiles = templateConfDirectory.get().listFiles(File::isFile);
+        if (templateFiles != null) {
+            Arrays.sort(templateFiles);
+            for (final File templateFile : templateFiles) {
+                digest.update(templateFile.getName().getBytes(StandardCharsets.UTF_8));
+                digest.update(Files.readAllBytes(templateFile.toPath()));
+            }
+        }
+        for (final File layerDirectory : layerDirectories.get()) {
+            updateDigestWithLayer(digest, layerDirectory);
+        }
+        return Optional.of(toHex(digest.digest()));
+    }
+
+    // Mirrors oe-setup-builddir: TEMPLATECONF from the environment, then the one named in .templateconf, then the default poky configuration.
+    private Optional<File> findTemplateConfDirectory(final File oeRoot) throws IOException {
+        final List<String> candidates = new ArrayList<>();
+        final String templateConfVariable = System.getenv(TEMPLATE_CONF_VARIABLE);
+        if (StringUtils.isNotBlank(templateConfVariable)) {
+            candidates.add(templateConfVariable);
+        } else {
+            final File templateConfFile = new File(oeRoot, TEMPLATE_CONF_FILENAME);
+            if (templateConfFile.isFile()) {
+                final Matcher matcher = TEMPLATE_CONF_PATTERN.matcher(FileUtils.readFileToString(templateConfFile, StandardCharsets.UTF_8));
+                if (matcher.find()) {
+                    candidates.add(matcher.group(1));
+                }
+            }
+            candidates.addAll(DEFAULT_TEMPLATE_CONF_DIRECTORIES);
+        }
+
+        for (final String candidate : candidates) {
+            final File candidateDirectory = new File(candidate).isAbsolute() ? new File(candidate) : new File(oeRoot, candidate);
+            if (new File(candidateDirectory, BBLAYERS_TEMPLATE_FILENAME).isFile()) {
+                return Optional.of(candidateDirectory);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<List<File>> findLayerDirectories(final File bblayersTemplate, final File oeRoot, final File bitbakeBuildDirectory) throws IOException {
+        final Matcher matcher = BBLAYERS_PATTERN.matcher(FileUtils.readFileToString(bblayersTemplate, StandardCharsets.UTF_8));
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+
+        final List<File> layerDirectories = new ArrayList<>();
+        for (final String layer : matcher.group(1).split("[\\s\\\\]+")) {
+            if (StringUtils.isBlank(layer)) {
+                continue;
+            }
+            final String layerPath = layer.replace("##OEROOT##", oeRoot.getPath())
+                                         .replace("##COREBASE##", oeRoot.getPath())
+                                         .replace("${TOPDIR}", bitbakeBuildDirectory.getPath());
+            final File layerDirectory = new File(layerPath);
+            if (layerPath.contains("${") || layerPath.contains("##") || !layerDirectory.isDirectory()) {
+                logger.debug(String.format("Could not resolve the bitbake layer %s.", layer));
+                return Optional.empty();
+            }
+            layerDirectories.add(layerDirectory.getCanonicalFile());
+        }
+        return Optional.of(layerDirectories);
+    }
+
+    // Sizes and modification times are enough to notice an edited recipe without reading every file of every layer.
+    private void updateDigestWithLayer(final MessageDigest digest, final File layerDirectory) throws IOException {
+        final Path layerPath = layerDirectory.toPath();
+        final List<Path> layerFiles;
+        try (final Stream<Path> paths = Files.walk(layerPath)) {
+            layerFiles = paths.filter(Files::isRegularFile)
+                             .filter(path -> LAYER_FILE_EXTENSIONS.stream().anyMatch(extension -> path.getFileName().toString().endsWith(extension)))
+                             .sorted()
+                             .collect(Collectors.toList());
+        }
+        digest.update(layerPath.toString().getBytes(StandardCharsets.UTF_8));
+        for (final Path layerFile : layerFiles) {
+            digest.update(layerPath.relativize(layerFile).toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(String.format(":%s:%s;", Files.size(layerFile), Files.getLastModifiedTime(layerFile).toMillis()).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private String sha256(final byte[] value) {
+        return toHex(newDigest().digest(value));
+    }
+
+    private String toHex(final byte[] bytes) {
+        return String.format("%064x", new BigInteger(1, bytes));
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -23,24 +23,16 @@
 package com.synopsys.integration.detectable.detectables.bitbake.model;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class BitbakeGraph {
-    private List<BitbakeNode> nodes = new ArrayList<>();
+    private Map<String, BitbakeNode> nodes = new LinkedHashMap<>();
 
     private BitbakeNode getOrCreate(String name){
-        Optional<BitbakeNode> existingNode = nodes.stream()
-            .filter(node -> node.getName().equals(name))
-            .findFirst();
-
-        if (existingNode.isPresent()){
-            return existingNode.get();
-        }
-
-        BitbakeNode newNode = new BitbakeNode(name);
-        nodes.add(newNode);
-        return newNode;
+        return nodes.computeIfAbsent(name, BitbakeNode::new);
     }
 
     public void addNode(String name, Optional<String> version){
@@ -59,6 +51,6 @@ public class BitbakeGraph {
     }
 
     public List<BitbakeNode> getNodes() {
-        return nodes;
+        return new ArrayList<>(nodes.values());
     }
 }
@@ -0,0 +1,114 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.bitbake.parse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGraph;
+
+/*
+  Reads the recipe-depends.dot written by 'bitbake -g' one statement per line rather than building a full DOT parse tree:
+    "acl" [label="acl\n:2.2.52-r0\n/poky/meta/recipes-support/attr/acl_2.2.52.bb"]
+    "acl" -> "attr"
+ */
+public class BitbakeRecipeDependsParser {
+    private static final String EDGE_OPERATOR = "->";
+    private static final String LABEL_ATTRIBUTE = "label=\"";
+
+    public BitbakeGraph parse(final BufferedReader reader) throws IOException {
+        final BitbakeGraph bitbakeGraph = new BitbakeGraph();
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final String statement = line.trim();
+            if (statement.isEmpty() || statement.startsWith("digraph") || statement.startsWith("}") || statement.startsWith("//") || statement.startsWith("#")) {
+                continue;
+            }
+
+            final int attributesStart = findOutsideQuotes(statement, '[');
+            final String body = attributesStart >= 0 ? statement.substring(0, attributesStart) : statement;
+            final int edgeOperator = body.indexOf(EDGE_OPERATOR);
+            if (edgeOperator >= 0) {
+                final String parent = parseId(body.substring(0, edgeOperator));
+                final String child = parseId(body.substring(edgeOperator + EDGE_OPERATOR.length()));
+                if (StringUtils.isNoneBlank(parent, child)) {
+                    bitbakeGraph.addChild(parent, child);
+                }
+            } else {
+                final String name = parseId(body);
+                if (StringUtils.isNotBlank(name) && !isGraphAttributeStatement(name)) {
+                    final Optional<String> version = attributesStart >= 0 ? parseVersion(statement.substring(attributesStart)) : Optional.empty();
+                    bitbakeGraph.addNode(name, version);
+                }
+            }
+        }
+
+        return bitbakeGraph;
+    }
+
+    private String parseId(final String rawId) {
+        final String id = StringUtils.removeEnd(rawId.trim(), ";").trim();
+        return StringUtils.remove(id, '"');
+    }
+
+    // Statements such as 'node [shape=box]' set defaults for the whole graph and are not recipes.
+    private boolean isGraphAttributeStatement(final String name) {
+        return "node".equals(name) || "edge".equals(name) || "graph".equals(name);
+    }
+
+    private Optional<String> parseVersion(final String attributes) {
+        final int labelStart = attributes.indexOf(LABEL_ATTRIBUTE);
+        if (labelStart < 0) {
+            return Optional.empty();
+        }
+        final int valueStart = labelStart + LABEL_ATTRIBUTE.length();
+        final int valueEnd = attributes.indexOf('"', valueStart);
+        if (valueEnd < 0) {
+            return Optional.empty();
+        }
+
+        final String label = attributes.substring(valueStart, valueEnd);
+        final String[] components = label.split("\\\\n:|\\\\n");
+        if (components.length < 2) {
+            return Optional.empty();
+        }
+        return Optional.of(components[1]);
+    }
+
+    private int findOutsideQuotes(final String statement, final char target) {
+        boolean quoted = false;
+        for (int i = 0; i < statement.length(); i++) {
+            final char current = statement.charAt(i);
+            if (current == '"') {
+                quoted = !quoted;
+            } else if (current == target && !quoted) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
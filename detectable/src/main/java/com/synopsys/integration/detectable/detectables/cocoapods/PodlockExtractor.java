@@ -24,9 +24,10 @@ package com.synopsys.integration.detectable.detectables.cocoapods;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,20 +50,10 @@ public class PodlockExtractor {
     }
 
     public Extraction extract(final File directory, final File podlock) {
-        final String podLockText;
-        try {
-            logger.trace(String.format("Reading from the pod lock file %s", podlock.getAbsolutePath()));
-            podLockText = FileUtils.readFileToString(podlock, StandardCharsets.UTF_8);
-            logger.debug(podLockText);
-            logger.trace("Finished reading from the pod lock file.");
-        } catch (final IOException e) {
-            return new Extraction.Builder().exception(e).build();
-        }
-
         final DependencyGraph dependencyGraph;
-        try {
-            logger.trace("Attempting to create the dependency graph from the pod lock file.");
-            dependencyGraph = podlockParser.extractDependencyGraph(podLockText);
+        try (final Reader podlockReader = Files.newBufferedReader(podlock.toPath(), StandardCharsets.UTF_8)) {
+            logger.trace(String.format("Attempting to create the dependency graph from the pod lock file %s", podlock.getAbsolutePath()));
+            dependencyGraph = podlockParser.extractDependencyGraph(podlockReader);
             logger.trace("Finished creating the dependency graph from the pod lock file.");
         } catch (final IOException e) {
             return new Extraction.Builder().exception(e).build();
@@ -23,9 +23,12 @@
 package com.synopsys.integration.detectable.detectables.cocoapods.parser;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,7 +37,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.graph.builder.LazyExternalIdDependencyGraphBuilder;
 import com.synopsys.integration.bdio.model.Forge;
@@ -42,64 +47,134 @@ import com.synopsys.integration.bdio.model.dependencyid.DependencyId;
 import com.synopsys.integration.bdio.model.dependencyid.NameDependencyId;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
-import com.synopsys.integration.detectable.detectables.cocoapods.model.Pod;
-import com.synopsys.integration.detectable.detectables.cocoapods.model.PodSource;
-import com.synopsys.integration.detectable.detectables.cocoapods.model.PodfileLock;
+import com.synopsys.integration.util.NameVersion;
 
 public class PodlockParser {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final static List<String> fuzzyVersionIdentifiers = new ArrayList<>(Arrays.asList(">", "<", "~>", "="));
 
     private final ExternalIdFactory externalIdFactory;
+    private final YAMLFactory yamlFactory = new YAMLFactory();
 
     public PodlockParser(final ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
     }
 
     public DependencyGraph extractDependencyGraph(final String podLockText) throws IOException {
-        final LazyExternalIdDependencyGraphBuilder lazyBuilder = new LazyExternalIdDependencyGraphBuilder();
-        final YAMLMapper mapper = new YAMLMapper();
-        final PodfileLock podfileLock = mapper.readValue(podLockText, PodfileLock.class);
+        return extractDependencyGraph(new StringReader(podLockText));
+    }
 
-        final Map<DependencyId, Forge> forgeOverrides = createForgeOverrideMap(podfileLock);
+    public DependencyGraph extractDependencyGraph(final Reader podLock) throws IOException {
+        final LazyExternalIdDependencyGraphBuilder lazyBuilder = new LazyExternalIdDependencyGraphBuilder();
+        // EXTERNAL SOURCES follows PODS, so only the pod names and versions are held until the forge overrides are known.
+        final Map<DependencyId, NameVersion> podNameVersions = new LinkedHashMap<>();
+        final Map<DependencyId, Forge> forgeOverrides = new HashMap<>();
 
-        for (final Pod pod : podfileLock.getPods()) {
-            logger.trace(String.format("Processing pod %s", pod.getName()));
-            processPod(pod, forgeOverrides, lazyBuilder);
+        try (final JsonParser parser = yamlFactory.createParser(podLock)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("The pod lock file does not contain a yaml mapping.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String section = parser.getCurrentName();
+                final JsonToken sectionToken = parser.nextToken();
+                if ("PODS".equals(section) && sectionToken == JsonToken.START_ARRAY) {
+                    readPods(parser, podNameVersions, lazyBuilder);
+                } else if ("DEPENDENCIES".equals(section) && sectionToken == JsonToken.START_ARRAY) {
+                    for (final String podText : readStrings(parser)) {
+                        logger.trace(String.format("Processing pod dependency from pod lock file %s", podText));
+                        final Optional<DependencyId> dependencyId = parseDependencyId(podText);
+                        dependencyId.ifPresent(lazyBuilder::addChildToRoot);
+                    }
+                } else if ("EXTERNAL SOURCES".equals(section) && sectionToken == JsonToken.START_OBJECT) {
+                    readExternalSources(parser, forgeOverrides);
+                } else {
+                    parser.skipChildren();
+                }
+            }
         }
 
-        for (final Pod dependency : podfileLock.getDependencies()) {
-            logger.trace(String.format("Processing pod dependency from pod lock file %s", dependency.getName()));
-            final String podText = dependency.getName();
-            final Optional<DependencyId> dependencyId = parseDependencyId(podText);
-            dependencyId.ifPresent(lazyBuilder::addChildToRoot);
+        for (final Map.Entry<DependencyId, NameVersion> pod : podNameVersions.entrySet()) {
+            final Forge forge = getForge(pod.getKey(), forgeOverrides);
+            final String name = pod.getValue().getName();
+            final String version = pod.getValue().getVersion();
+            final ExternalId externalId = externalIdFactory.createNameVersionExternalId(forge, name, version);
+            lazyBuilder.setDependencyInfo(pod.getKey(), name, version, externalId);
         }
+
         logger.trace("Attempting to build the dependency graph.");
         final DependencyGraph dependencyGraph = lazyBuilder.build();
         logger.trace("Completed the dependency graph.");
         return dependencyGraph;
     }
 
+    private void readPods(final JsonParser parser, final Map<DependencyId, NameVersion> podNameVersions, final LazyExternalIdDependencyGraphBuilder lazyBuilder) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token.isScalarValue()) {
+                processPod(parser.getText(), new ArrayList<>(), podNameVersions, lazyBuilder);
+            } else if (token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String podText = parser.getCurrentName();
+                    final List<String> dependencies = parser.nextToken() == JsonToken.START_ARRAY ? readStrings(parser) : skip(parser);
+                    processPod(podText, dependencies, podNameVersions, lazyBuilder);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
     /*
      * Create an override map because GitHub has better KB support so we should override COCOAPODS forge when we know where it is from.
      */
-    private Map<DependencyId, Forge> createForgeOverrideMap(final PodfileLock podfileLock) {
-        final Map<DependencyId, Forge> forgeOverrideMap = new HashMap<>();
-        if (null != podfileLock.getExternalSources()) {
-            final List<PodSource> podSources = podfileLock.getExternalSources().getSources();
-            for (final PodSource podSource : podSources) {
-                final Optional<DependencyId> dependencyId = parseDependencyId(podSource.getName());
-                if (dependencyId.isPresent()) {
-                    if (null != podSource.getGit() && podSource.getGit().contains("github")) {
-                        forgeOverrideMap.put(dependencyId.get(), Forge.COCOAPODS);
-                    } else if (null != podSource.getPath() && podSource.getPath().contains("node_modules")) {
-                        forgeOverrideMap.put(dependencyId.get(), Forge.NPM);
-                    }
+    private void readExternalSources(final JsonParser parser, final Map<DependencyId, Forge> forgeOverrides) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String podName = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String git = null;
+            String path = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.getCurrentName();
+                final JsonToken valueToken = parser.nextToken();
+                if (":git".equals(field) && valueToken.isScalarValue()) {
+                    git = parser.getText();
+                } else if (":path".equals(field) && valueToken.isScalarValue()) {
+                    path = parser.getText();
+                } else {
+                    parser.skipChildren();
                 }
             }
+
+            final Optional<DependencyId> dependencyId = parseDependencyId(podName);
+            if (dependencyId.isPresent()) {
+                if (null != git && git.contains("github")) {
+                    forgeOverrides.put(dependencyId.get(), Forge.COCOAPODS);
+                } else if (null != path && path.contains("node_modules")) {
+                    forgeOverrides.put(dependencyId.get(), Forge.NPM);
+                }
+            }
+        }
+    }
+
+    private List<String> readStrings(final JsonParser parser) throws IOException {
+        final List<String> values = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token.isScalarValue()) {
+                values.add(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
         }
+        return values;
+    }
 
-        return forgeOverrideMap;
+    private List<String> skip(final JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return new ArrayList<>();
     }
 
     private Forge getForge(final DependencyId dependencyId, final Map<DependencyId, Forge> forgeOverrides) {
@@ -110,20 +185,16 @@ public class PodlockParser {
         return Forge.COCOAPODS;
     }
 
-    private void processPod(final Pod pod, final Map<DependencyId, Forge> forgeOverrides, final LazyExternalIdDependencyGraphBuilder lazyBuilder) {
-        final String podText = pod.getName();
+    private void processPod(final String podText, final List<String> dependencies, final Map<DependencyId, NameVersion> podNameVersions, final LazyExternalIdDependencyGraphBuilder lazyBuilder) {
+        logger.trace(String.format("Processing pod %s", podText));
         final Optional<DependencyId> dependencyIdMaybe = parseDependencyId(podText);
         final String name = parseCorrectPodName(podText).orElse(null);
         final String version = parseVersion(podText).orElse(null);
         if (dependencyIdMaybe.isPresent()) {
             final DependencyId dependencyId = dependencyIdMaybe.get();
+            podNameVersions.put(dependencyId, new NameVersion(name, version));
 
-            final Forge forge = getForge(dependencyId, forgeOverrides);
-            final ExternalId externalId = externalIdFactory.createNameVersionExternalId(forge, name, version);
-
-            lazyBuilder.setDependencyInfo(dependencyId, name, version, externalId);
-
-            for (final String child : pod.getDependencies()) {
+            for (final String child : dependencies) {
                 logger.trace(String.format("Processing pod dependency %s", child));
                 final Optional<DependencyId> childId = parseDependencyId(child);
                 if (childId.isPresent()) {
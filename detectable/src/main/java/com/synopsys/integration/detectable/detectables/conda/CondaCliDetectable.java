@@ -24,6 +24,8 @@ package com.synopsys.integration.detectable.detectables.conda;
 
 import java.io.File;
 
+import org.apache.commons.lang3.StringUtils;
+
 import com.synopsys.integration.detectable.Detectable;
 import com.synopsys.integration.detectable.DetectableEnvironment;
 import com.synopsys.integration.detectable.Extraction;
@@ -35,6 +37,7 @@ import com.synopsys.integration.detectable.detectable.result.DetectableResult;
 import com.synopsys.integration.detectable.detectable.result.ExecutableNotFoundDetectableResult;
 import com.synopsys.integration.detectable.detectable.result.FileNotFoundDetectableResult;
 import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
+import com.synopsys.integration.detectable.detectables.conda.parser.CondaMetaParser;
 
 public class CondaCliDetectable extends Detectable {
     public static final String ENVIRONEMNT_YML = "environment.yml";
@@ -42,14 +45,20 @@ public class CondaCliDetectable extends Detectable {
     private final FileFinder fileFinder;
     private CondaResolver condaResolver;
     private final CondaCliExtractor condaExtractor;
+    private final CondaMetaExtractor condaMetaExtractor;
+    private final CondaCliDetectableOptions condaCliDetectableOptions;
 
     private File condaExe;
+    private File condaMetaDirectory;
 
-    public CondaCliDetectable(final DetectableEnvironment environment, final FileFinder fileFinder, final CondaResolver condaResolver, final CondaCliExtractor condaExtractor) {
+    public CondaCliDetectable(final DetectableEnvironment environment, final FileFinder fileFinder, final CondaResolver condaResolver, final CondaCliExtractor condaExtractor, final CondaMetaExtractor condaMetaExtractor,
+        final CondaCliDetectableOptions condaCliDetectableOptions) {
         super(environment, "Conda Cli", "CONDA");
         this.fileFinder = fileFinder;
         this.condaResolver = condaResolver;
         this.condaExtractor = condaExtractor;
+        this.condaMetaExtractor = condaMetaExtractor;
+        this.condaCliDetectableOptions = condaCliDetectableOptions;
     }
 
     @Override
@@ -64,6 +73,15 @@ public class CondaCliDetectable extends Detectable {
 
     @Override
     public DetectableResult extractable() throws DetectableException {
+        final String condaPrefixPath = condaCliDetectableOptions.getCondaPrefixPath();
+        if (StringUtils.isNotBlank(condaPrefixPath)) {
+            condaMetaDirectory = new File(condaPrefixPath, CondaMetaParser.CONDA_META_DIRECTORY_NAME);
+            if (!condaMetaDirectory.isDirectory()) {
+                return new FileNotFoundDetectableResult(CondaMetaParser.CONDA_META_DIRECTORY_NAME);
+            }
+            return new PassedDetectableResult();
+        }
+
         condaExe = condaResolver.resolveConda();
 
         if (condaExe == null) {
@@ -75,6 +93,9 @@ public class CondaCliDetectable extends Detectable {
 
     @Override
     public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
+        if (condaMetaDirectory != null) {
+            return condaMetaExtractor.extract(condaMetaDirectory);
+        }
         return condaExtractor.extract(environment.getDirectory(), condaExe, extractionEnvironment.getOutputDirectory());
     }
 
@@ -24,12 +24,18 @@ package com.synopsys.integration.detectable.detectables.conda;
 
 public class CondaCliDetectableOptions {
     private final String condaEnvironmentName;
+    private final String condaPrefixPath;
 
-    public CondaCliDetectableOptions(final String condaEnvironmentName) {
+    public CondaCliDetectableOptions(final String condaEnvironmentName, final String condaPrefixPath) {
         this.condaEnvironmentName = condaEnvironmentName;
+        this.condaPrefixPath = condaPrefixPath;
     }
 
     public String getCondaEnvironmentName() {
         return condaEnvironmentName;
     }
+
+    public String getCondaPrefixPath() {
+        return condaPrefixPath;
+    }
 }
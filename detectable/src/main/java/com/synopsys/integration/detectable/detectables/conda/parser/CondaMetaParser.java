@@ -0,0 +1,171 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.conda.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.detectable.detectables.conda.model.CondaListElement;
+import com.synopsys.integration.detectable.detectables.conda.model.CondaMetaRecord;
+
+public class CondaMetaParser {
+    public static final String CONDA_META_DIRECTORY_NAME = "conda-meta";
+    public static final String NOARCH_SUBDIR = "noarch";
+
+    private final CondaListParser condaListParser;
+
+    public CondaMetaParser(final CondaListParser condaListParser) {
+        this.condaListParser = condaListParser;
+    }
+
+    public DependencyGraph parse(final File condaMetaDirectory) {
+        final File[] recordFiles = condaMetaDirectory.listFiles(file -> file.isFile() && file.getName().endsWith(".json"));
+        if (recordFiles == null) {
+            throw new IllegalStateException(String.format("Unable to list conda-meta records in %s", condaMetaDirectory.getAbsolutePath()));
+        }
+
+        final List<CondaMetaRecord> records = Arrays.stream(recordFiles)
+                                                  .parallel()
+                                                  .sorted(Comparator.comparing(File::getName))
+                                                  .map(this::parseRecordFile)
+                                                  .filter(Optional::isPresent)
+                                                  .map(Optional::get)
+                                                  .collect(Collectors.toList());
+
+        return createGraph(records);
+    }
+
+    // Each record is mostly its files and paths_data listings, which are skipped without being materialized.
+    public Optional<CondaMetaRecord> parseRecord(final Reader recordReader) throws IOException {
+        final CondaMetaRecord record = new CondaMetaRecord();
+
+        final JsonReader reader = new JsonReader(recordReader);
+        reader.setLenient(true);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String field = reader.nextName();
+            if ("name".equals(field)) {
+                record.name = readString(reader);
+            } else if ("version".equals(field)) {
+                record.version = readString(reader);
+            } else if ("build".equals(field)) {
+                record.build = readString(reader);
+            } else if ("subdir".equals(field)) {
+                record.subdir = readString(reader);
+            } else if ("depends".equals(field) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    final String spec = readString(reader);
+                    if (StringUtils.isNotBlank(spec)) {
+                        record.depends.add(spec);
+                    }
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (StringUtils.isAnyBlank(record.name, record.version)) {
+            return Optional.empty();
+        }
+        return Optional.of(record);
+    }
+
+    // A depends entry is a match spec such as "python >=3.7,<3.8.0a0"; an environment holds one version of each name.
+    private DependencyGraph createGraph(final List<CondaMetaRecord> records) {
+        final String platform = records.stream()
+                                    .map(record -> record.subdir)
+                                    .filter(subdir -> StringUtils.isNotBlank(subdir) && !NOARCH_SUBDIR.equals(subdir))
+                                    .findFirst()
+                                    .orElse(NOARCH_SUBDIR);
+
+        final Map<String, Dependency> dependencies = new HashMap<>();
+        for (final CondaMetaRecord record : records) {
+            final CondaListElement element = new CondaListElement();
+            element.name = record.name;
+            element.version = record.version;
+            element.buildString = record.build;
+            dependencies.putIfAbsent(record.name, condaListParser.condaListElementToDependency(platform, element));
+        }
+
+        final MutableMapDependencyGraph graph = new MutableMapDependencyGraph();
+        final Set<String> required = new HashSet<>();
+        for (final CondaMetaRecord record : records) {
+            final Dependency parent = dependencies.get(record.name);
+            for (final String spec : record.depends) {
+                final String childName = StringUtils.substringBefore(spec.trim(), " ");
+                final Dependency child = dependencies.get(childName);
+                if (child != null && !childName.equals(record.name)) {
+                    graph.addChildWithParent(child, parent);
+                    required.add(childName);
+                }
+            }
+        }
+
+        records.stream()
+            .map(record -> record.name)
+            .filter(name -> !required.contains(name))
+            .distinct()
+            .map(dependencies::get)
+            .forEach(graph::addChildToRoot);
+
+        return graph;
+    }
+
+    private Optional<CondaMetaRecord> parseRecordFile(final File recordFile) {
+        try (final Reader reader = Files.newBufferedReader(recordFile.toPath(), StandardCharsets.UTF_8)) {
+            return parseRecord(reader);
+        } catch (final IOException e) {
+            throw new IllegalStateException(String.format("Unable to read conda-meta record %s", recordFile.getAbsolutePath()), e);
+        }
+    }
+
+    private String readString(final JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.cpan;
+
+import java.io.File;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.ExtractionEnvironment;
+import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectable.result.DetectableResult;
+import com.synopsys.integration.detectable.detectable.result.FileNotFoundDetectableResult;
+import com.synopsys.integration.detectable.detectable.result.FilesNotFoundDetectableResult;
+import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
+
+public class CpanMetaDetectable extends Detectable {
+    public static final String MYMETA_JSON = "MYMETA.json";
+    public static final String META_JSON = "META.json";
+    public static final String CPANFILE_SNAPSHOT = "cpanfile.snapshot";
+
+    private final FileFinder fileFinder;
+    private final CpanMetaExtractor cpanMetaExtractor;
+    private final CpanMetaDetectableOptions cpanMetaDetectableOptions;
+
+    private File metaFile;
+    private File snapshotFile;
+    private File localLibDirectory;
+
+    public CpanMetaDetectable(final DetectableEnvironment environment, final FileFinder fileFinder, final CpanMetaExtractor cpanMetaExtractor, final CpanMetaDetectableOptions cpanMetaDetectableOptions) {
+        super(environment, "Cpan Meta", "CPAN");
+        this.fileFinder = fileFinder;
+        this.cpanMetaExtractor = cpanMetaExtractor;
+        this.cpanMetaDetectableOptions = cpanMetaDetectableOptions;
+    }
+
+    // Versions come from the snapshot or the local lib, so META files alone are not enough to apply.
+    @Override
+    public DetectableResult applicable() {
+        metaFile = fileFinder.findFile(environment.getDirectory(), MYMETA_JSON);
+        if (metaFile == null) {
+            metaFile = fileFinder.findFile(environment.getDirectory(), META_JSON);
+        }
+        snapshotFile = fileFinder.findFile(environment.getDirectory(), CPANFILE_SNAPSHOT);
+
+        if (snapshotFile != null) {
+            return new PassedDetectableResult();
+        }
+        if (metaFile != null && StringUtils.isNotBlank(cpanMetaDetectableOptions.getLocalLibPath())) {
+            return new PassedDetectableResult();
+        }
+        return new FilesNotFoundDetectableResult(CPANFILE_SNAPSHOT, MYMETA_JSON, META_JSON);
+    }
+
+    @Override
+    public DetectableResult extractable() {
+        if (snapshotFile == null) {
+            localLibDirectory = new File(cpanMetaDetectableOptions.getLocalLibPath());
+            if (!localLibDirectory.isDirectory()) {
+                return new FileNotFoundDetectableResult(localLibDirectory.getName());
+            }
+        }
+
+        return new PassedDetectableResult();
+    }
+
+    @Override
+    public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
+        return cpanMetaExtractor.extract(metaFile, snapshotFile, localLibDirectory);
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.cpan;
+
+import java.io.File;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.cpan.model.CpanDistribution;
+import com.synopsys.integration.detectable.detectables.cpan.parse.CpanDistributionGraphBuilder;
+import com.synopsys.integration.detectable.detectables.cpan.parse.CpanLocalLibParser;
+import com.synopsys.integration.detectable.detectables.cpan.parse.CpanMetaParser;
+import com.synopsys.integration.detectable.detectables.cpan.parse.CpanfileSnapshotParser;
+
+public class CpanMetaExtractor {
+    private final CpanMetaParser cpanMetaParser;
+    private final CpanfileSnapshotParser cpanfileSnapshotParser;
+    private final CpanLocalLibParser cpanLocalLibParser;
+    private final CpanDistributionGraphBuilder cpanDistributionGraphBuilder;
+
+    public CpanMetaExtractor(final CpanMetaParser cpanMetaParser, final CpanfileSnapshotParser cpanfileSnapshotParser, final CpanLocalLibParser cpanLocalLibParser, final CpanDistributionGraphBuilder cpanDistributionGraphBuilder) {
+        this.cpanMetaParser = cpanMetaParser;
+        this.cpanfileSnapshotParser = cpanfileSnapshotParser;
+        this.cpanLocalLibParser = cpanLocalLibParser;
+        this.cpanDistributionGraphBuilder = cpanDistributionGraphBuilder;
+    }
+
+    // The snapshot pins exactly what carton installs, so it wins over whatever the local lib happens to contain.
+    public Extraction extract(final File metaFile, final File snapshotFile, final File localLibDirectory) {
+        try {
+            List<String> directModules = Collections.emptyList();
+            if (metaFile != null) {
+                try (final Reader reader = Files.newBufferedReader(metaFile.toPath(), StandardCharsets.UTF_8)) {
+                    directModules = cpanMetaParser.parseRequiredModules(reader);
+                }
+            }
+
+            final List<CpanDistribution> distributions;
+            if (snapshotFile != null) {
+                try (final Reader reader = Files.newBufferedReader(snapshotFile.toPath(), StandardCharsets.UTF_8)) {
+                    distributions = cpanfileSnapshotParser.parse(reader);
+                }
+            } else {
+                distributions = cpanLocalLibParser.parse(localLibDirectory);
+            }
+
+            final DependencyGraph dependencyGraph = cpanDistributionGraphBuilder.build(directModules, distributions);
+            final CodeLocation codeLocation = new CodeLocation(dependencyGraph);
+            return new Extraction.Builder().success(codeLocation).build();
+        } catch (final Exception e) {
+            return new Extraction.Builder().exception(e).build();
+        }
+    }
+}
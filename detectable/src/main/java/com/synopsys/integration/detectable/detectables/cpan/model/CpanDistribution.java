@@ -0,0 +1,55 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.cpan.model;
+
+import java.util.List;
+
+public class CpanDistribution {
+    private final String name;
+    private final String version;
+    private final List<String> providedModules;
+    private final List<String> requiredModules;
+
+    public CpanDistribution(final String name, final String version, final List<String> providedModules, final List<String> requiredModules) {
+        this.name = name;
+        this.version = version;
+        this.providedModules = providedModules;
+        this.requiredModules = requiredModules;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public List<String> getProvidedModules() {
+        return providedModules;
+    }
+
+    public List<String> getRequiredModules() {
+        return requiredModules;
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.cpan.parse;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.cpan.model.CpanDistribution;
+
+public class CpanDistributionGraphBuilder {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ExternalIdFactory externalIdFactory;
+
+    public CpanDistributionGraphBuilder(final ExternalIdFactory externalIdFactory) {
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    // Without direct modules, every distribution no other distribution requires becomes a root.
+    public DependencyGraph build(final List<String> directModules, final List<CpanDistribution> distributions) {
+        final Map<String, CpanDistribution> modules = new HashMap<>();
+        for (final CpanDistribution distribution : distributions) {
+            modules.putIfAbsent(distribution.getName().replace("-", "::"), distribution);
+            distribution.getProvidedModules().forEach(module -> modules.putIfAbsent(module, distribution));
+        }
+
+        final MutableMapDependencyGraph graph = new MutableMapDependencyGraph();
+        final Map<CpanDistribution, Dependency> dependencies = new HashMap<>();
+        final Set<CpanDistribution> visited = new HashSet<>();
+        final Queue<CpanDistribution> toVisit = new ArrayDeque<>();
+
+        final Set<CpanDistribution> roots = new LinkedHashSet<>();
+        if (directModules.isEmpty()) {
+            roots.addAll(distributions);
+            distributions.forEach(distribution -> distribution.getRequiredModules().stream()
+                                                      .map(modules::get)
+                                                      .filter(required -> required != null && required != distribution)
+                                                      .forEach(roots::remove));
+        } else {
+            for (final String module : directModules) {
+                final CpanDistribution distribution = modules.get(module);
+                if (distribution != null) {
+                    roots.add(distribution);
+                } else {
+                    logger.debug(String.format("Could not find resolved version for module: %s", module));
+                }
+            }
+        }
+
+        for (final CpanDistribution root : roots) {
+            graph.addChildToRoot(dependencies.computeIfAbsent(root, this::createDependency));
+            visited.add(root);
+            toVisit.add(root);
+        }
+
+        while (!toVisit.isEmpty()) {
+            final CpanDistribution parent = toVisit.poll();
+            for (final String module : parent.getRequiredModules()) {
+                final CpanDistribution child = modules.get(module);
+                if (child == null || child == parent) {
+                    continue;
+                }
+                graph.addChildWithParent(dependencies.computeIfAbsent(child, this::createDependency), dependencies.get(parent));
+                if (visited.add(child)) {
+                    toVisit.add(child);
+                }
+            }
+        }
+
+        return graph;
+    }
+
+    private Dependency createDependency(final CpanDistribution distribution) {
+        final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.CPAN, distribution.getName(), distribution.getVersion());
+        return new Dependency(distribution.getName(), distribution.getVersion(), externalId);
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.cpan.parse;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.synopsys.integration.detectable.detectables.cpan.model.CpanDistribution;
+
+public class CpanLocalLibParser {
+    public static final String META_DIRECTORY_NAME = ".meta";
+    public static final String INSTALL_FILE_NAME = "install.json";
+    public static final String MYMETA_FILE_NAME = "MYMETA.json";
+
+    private final CpanMetaParser cpanMetaParser;
+
+    public CpanLocalLibParser(final CpanMetaParser cpanMetaParser) {
+        this.cpanMetaParser = cpanMetaParser;
+    }
+
+    // cpanm records every install under lib/perl5/<archname>/.meta/<distribution>, with the MYMETA.json it was built from.
+    public List<CpanDistribution> parse(final File localLibDirectory) {
+        final List<File> installDirectories = new ArrayList<>();
+        for (final File metaDirectory : findMetaDirectories(localLibDirectory)) {
+            final File[] distributionDirectories = metaDirectory.listFiles(File::isDirectory);
+            if (distributionDirectories != null) {
+                installDirectories.addAll(Arrays.asList(distributionDirectories));
+            }
+        }
+
+        return installDirectories.parallelStream()
+                   .sorted(Comparator.comparing(File::getName))
+                   .map(this::parseInstallDirectory)
+                   .filter(Optional::isPresent)
+                   .map(Optional::get)
+                   .collect(Collectors.toList());
+    }
+
+    public Optional<CpanDistribution> parseInstall(final Reader installReader, final List<String> requiredModules) throws IOException {
+        String distribution = null;
+        final List<String> provides = new ArrayList<>();
+
+        final JsonReader reader = new JsonReader(installReader);
+        reader.setLenient(true);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String field = reader.nextName();
+            if ("dist".equals(field) && reader.peek() == JsonToken.STRING) {
+                distribution = reader.nextString();
+            } else if ("provides".equals(field) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    provides.add(reader.nextName());
+                    reader.skipValue();
+                }
+                reader.endObject();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (distribution == null) {
+            return Optional.empty();
+        }
+        return Optional.of(CpanfileSnapshotParser.createDistribution(distribution, provides, requiredModules));
+    }
+
+    private List<File> findMetaDirectories(final File localLibDirectory) {
+        final List<File> metaDirectories = new ArrayList<>();
+        final File directMetaDirectory = new File(localLibDirectory, META_DIRECTORY_NAME);
+        if (directMetaDirectory.isDirectory()) {
+            metaDirectories.add(directMetaDirectory);
+        }
+
+        final File[] archDirectories = new File(new File(localLibDirectory, "lib"), "perl5").listFiles(File::isDirectory);
+        for (final File archDirectory : archDirectories != null ? archDirectories : new File[0]) {
+            final File metaDirectory = new File(archDirectory, META_DIRECTORY_NAME);
+            if (metaDirectory.isDirectory()) {
+                metaDirectories.add(metaDirectory);
+            }
+        }
+        return metaDirectories;
+    }
+
+    private Optional<CpanDistribution> parseInstallDirectory(final File installDirectory) {
+        final File installFile = new File(installDirectory, INSTALL_FILE_NAME);
+        if (!installFile.isFile()) {
+            return Optional.empty();
+        }
+
+        try {
+            List<String> requiredModules = Collections.emptyList();
+            final File mymetaFile = new File(installDirectory, MYMETA_FILE_NAME);
+            if (mymetaFile.isFile()) {
+                try (final Reader reader = Files.newBufferedReader(mymetaFile.toPath(), StandardCharsets.UTF_8)) {
+                    requiredModules = cpanMetaParser.parseRequiredModules(reader);
+                }
+            }
+
+            try (final Reader reader = Files.newBufferedReader(installFile.toPath(), StandardCharsets.UTF_8)) {
+                return parseInstall(reader, requiredModules);
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException(String.format("Unable to read local lib install record %s", installDirectory.getAbsolutePath()), e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.cpan.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+public class CpanMetaParser {
+    public static final String PERL_MODULE_NAME = "perl";
+    // Mirrors cpanm --showdeps, which reports everything needed to configure, build, test and run.
+    public static final List<String> PREREQ_PHASES = Arrays.asList("configure", "build", "test", "runtime");
+    public static final List<String> LEGACY_REQUIRES_FIELDS = Arrays.asList("requires", "build_requires", "configure_requires");
+
+    // Reads CPAN::Meta::Spec version 2 prereqs, or the version 1.x requires fields.
+    public List<String> parseRequiredModules(final Reader metaReader) throws IOException {
+        final Set<String> modules = new LinkedHashSet<>();
+
+        final JsonReader reader = new JsonReader(metaReader);
+        reader.setLenient(true);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String field = reader.nextName();
+            if ("prereqs".equals(field) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (PREREQ_PHASES.contains(reader.nextName()) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            if ("requires".equals(reader.nextName())) {
+                                readModuleNames(reader, modules);
+                            } else {
+                                reader.skipValue();
+                            }
+                        }
+                        reader.endObject();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            } else if (LEGACY_REQUIRES_FIELDS.contains(field)) {
+                readModuleNames(reader, modules);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        modules.remove(PERL_MODULE_NAME);
+        return Arrays.asList(modules.toArray(new String[0]));
+    }
+
+    private void readModuleNames(final JsonReader reader, final Set<String> modules) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            modules.add(reader.nextName());
+            reader.skipValue();
+        }
+        reader.endObject();
+    }
+}
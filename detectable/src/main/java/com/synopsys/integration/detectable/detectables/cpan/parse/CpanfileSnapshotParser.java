@@ -0,0 +1,101 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.cpan.parse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.synopsys.integration.detectable.detectables.cpan.model.CpanDistribution;
+
+public class CpanfileSnapshotParser {
+    private static final String DISTRIBUTIONS_SECTION = "DISTRIBUTIONS";
+    private static final String PROVIDES_KEY = "provides:";
+    private static final String REQUIREMENTS_KEY = "requirements:";
+    private static final int DISTRIBUTION_INDENTATION = 2;
+    private static final int ENTRY_INDENTATION = 6;
+
+    // Carton lists each distribution at two spaces, its keys at four and their entries at six.
+    public List<CpanDistribution> parse(final Reader snapshotReader) throws IOException {
+        final BufferedReader reader = new BufferedReader(snapshotReader);
+        final List<CpanDistribution> distributions = new ArrayList<>();
+
+        boolean inDistributions = false;
+        String distribution = null;
+        List<String> provides = null;
+        List<String> requirements = null;
+        List<String> currentList = null;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (StringUtils.isBlank(line) || line.startsWith("#")) {
+                continue;
+            }
+
+            final int indentation = line.length() - StringUtils.stripStart(line, " ").length();
+            final String trimmedLine = line.trim();
+            if (indentation == 0) {
+                inDistributions = DISTRIBUTIONS_SECTION.equals(trimmedLine);
+            } else if (!inDistributions) {
+                continue;
+            } else if (indentation == DISTRIBUTION_INDENTATION) {
+                if (distribution != null) {
+                    distributions.add(createDistribution(distribution, provides, requirements));
+                }
+                distribution = trimmedLine;
+                provides = new ArrayList<>();
+                requirements = new ArrayList<>();
+                currentList = null;
+            } else if (indentation < ENTRY_INDENTATION) {
+                if (PROVIDES_KEY.equals(trimmedLine)) {
+                    currentList = provides;
+                } else if (REQUIREMENTS_KEY.equals(trimmedLine)) {
+                    currentList = requirements;
+                } else {
+                    currentList = null;
+                }
+            } else if (currentList != null) {
+                currentList.add(StringUtils.substringBefore(trimmedLine, " "));
+            }
+        }
+
+        if (distribution != null) {
+            distributions.add(createDistribution(distribution, provides, requirements));
+        }
+
+        return distributions;
+    }
+
+    // A distribution is written as Name-Version, and names may themselves contain dashes.
+    public static CpanDistribution createDistribution(final String distribution, final List<String> provides, final List<String> requirements) {
+        final int versionIndex = distribution.lastIndexOf('-');
+        if (versionIndex <= 0) {
+            return new CpanDistribution(distribution, null, provides, requirements);
+        }
+        return new CpanDistribution(distribution.substring(0, versionIndex), distribution.substring(versionIndex + 1), provides, requirements);
+    }
+}
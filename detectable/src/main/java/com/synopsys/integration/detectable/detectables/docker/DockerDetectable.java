@@ -23,7 +23,9 @@
 package com.synopsys.integration.detectable.detectables.docker;
 
 import java.io.File;
+import java.util.List;
 
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -113,8 +115,18 @@ public class DockerDetectable extends Detectable {
 
     @Override
     public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
-        final String image = dockerDetectableOptions.getSuppliedDockerImage();
-        final String tar = dockerDetectableOptions.getSuppliedDockerTar();
-        return dockerExtractor.extract(environment.getDirectory(), extractionEnvironment.getOutputDirectory(), bashExe, javaExe, image, tar, dockerInspectorInfo);
+        File cacheDirectory = null;
+        if (StringUtils.isNotBlank(dockerDetectableOptions.getDockerInspectorCachePath())) {
+            cacheDirectory = new File(dockerDetectableOptions.getDockerInspectorCachePath());
+        }
+
+        final List<DockerTarget> targets = dockerDetectableOptions.getDockerTargets();
+        if (targets.size() > 1) {
+            return dockerExtractor.extract(environment.getDirectory(), extractionEnvironment.getOutputDirectory(), bashExe, javaExe, targets, dockerInspectorInfo, cacheDirectory,
+                dockerDetectableOptions.getParallelInspections());
+        }
+
+        final DockerTarget target = targets.get(0);
+        return dockerExtractor.extract(environment.getDirectory(), extractionEnvironment.getOutputDirectory(), bashExe, javaExe, target.getImage(), target.getTar(), dockerInspectorInfo, cacheDirectory);
     }
 }
\ No newline at end of file
@@ -22,6 +22,9 @@
  */
 package com.synopsys.integration.detectable.detectables.docker;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
@@ -35,9 +38,14 @@ public class DockerDetectableOptions {
     private final String dockerInspectorVersion;
     private final Map<String, String> additionalDockerProperties;
     private final String dockerInspectorPath;
+    private final String dockerInspectorCachePath;
+    private final String[] additionalDockerImages;
+    private final String[] additionalDockerTars;
+    private final int parallelInspections;
 
     public DockerDetectableOptions(final boolean dockerPathRequired, final String suppliedDockerImage, final String suppliedDockerTar, final String dockerInspectorLoggingLevel, final String dockerInspectorVersion,
-        final Map<String, String> additionalDockerProperties, final String dockerInspectorPath) {
+        final Map<String, String> additionalDockerProperties, final String dockerInspectorPath, final String dockerInspectorCachePath, final String[] additionalDockerImages, final String[] additionalDockerTars,
+        final int parallelInspections) {
         this.dockerPathRequired = dockerPathRequired;
         this.suppliedDockerImage = suppliedDockerImage;
         this.suppliedDockerTar = suppliedDockerTar;
@@ -45,6 +53,10 @@ public class DockerDetectableOptions {
         this.dockerInspectorVersion = dockerInspectorVersion;
         this.additionalDockerProperties = additionalDockerProperties;
         this.dockerInspectorPath = dockerInspectorPath;
+        this.dockerInspectorCachePath = dockerInspectorCachePath;
+        this.additionalDockerImages = additionalDockerImages;
+        this.additionalDockerTars = additionalDockerTars;
+        this.parallelInspections = parallelInspections;
     }
 
     public boolean isDockerPathRequired() {
@@ -60,7 +72,30 @@ public class DockerDetectableOptions {
     }
 
     public boolean hasDockerImageOrTag() {
-        return StringUtils.isNotBlank(getSuppliedDockerImage()) || StringUtils.isNotBlank(getSuppliedDockerTar());
+        return !getDockerTargets().isEmpty();
+    }
+
+    public List<DockerTarget> getDockerTargets() {
+        final List<DockerTarget> targets = new ArrayList<>();
+        // A supplied tar takes precedence over a supplied image name, so only one of the two is inspected.
+        if (StringUtils.isNotBlank(suppliedDockerTar)) {
+            addTarget(targets, DockerTarget.forTar(suppliedDockerTar), suppliedDockerTar);
+        } else {
+            addTarget(targets, DockerTarget.forImage(suppliedDockerImage), suppliedDockerImage);
+        }
+        if (additionalDockerImages != null) {
+            Arrays.stream(additionalDockerImages).map(String::trim).forEach(image -> addTarget(targets, DockerTarget.forImage(image), image));
+        }
+        if (additionalDockerTars != null) {
+            Arrays.stream(additionalDockerTars).map(String::trim).forEach(tar -> addTarget(targets, DockerTarget.forTar(tar), tar));
+        }
+        return targets;
+    }
+
+    private void addTarget(final List<DockerTarget> targets, final DockerTarget target, final String value) {
+        if (StringUtils.isNotBlank(value) && !targets.contains(target)) {
+            targets.add(target);
+        }
     }
 
     public String getDockerInspectorLoggingLevel() {
@@ -78,4 +113,12 @@ public class DockerDetectableOptions {
     public String getDockerInspectorPath() {
         return dockerInspectorPath;
     }
+
+    public String getDockerInspectorCachePath() {
+        return dockerInspectorCachePath;
+    }
+
+    public int getParallelInspections() {
+        return parallelInspections;
+    }
 }
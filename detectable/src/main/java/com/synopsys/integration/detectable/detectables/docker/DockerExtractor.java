@@ -31,6 +31,11 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -49,6 +54,7 @@ import com.synopsys.integration.detectable.Extraction;
 import com.synopsys.integration.detectable.ExtractionMetadata;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.executable.Executable;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunnerException;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
@@ -56,6 +62,7 @@ import com.synopsys.integration.detectable.detectable.file.FileFinder;
 public class DockerExtractor {
     public static final ExtractionMetadata<File> DOCKER_TAR_META_DATA = new ExtractionMetadata<>("dockerTar", File.class);
     public static final ExtractionMetadata<String> DOCKER_IMAGE_NAME_META_DATA = new ExtractionMetadata<>("dockerImage", String.class);
+    public static final ExtractionMetadata<DockerInspectionResults> DOCKER_INSPECTION_RESULTS_META_DATA = new ExtractionMetadata<>("dockerInspectionResults", DockerInspectionResults.class);
 
     public static final String TAR_FILENAME_PATTERN = "*.tar.gz";
     public static final String DEPENDENCIES_PATTERN = "*bdio.jsonld";
@@ -78,7 +85,8 @@ public class DockerExtractor {
         this.gson = gson;
     }
 
-    public Extraction extract(final File directory, final File outputDirectory, final File bashExe, final File javaExe, final String image, final String tar, final DockerInspectorInfo dockerInspectorInfo) {
+    public Extraction extract(final File directory, final File outputDirectory, final File bashExe, final File javaExe, final String image, final String tar, final DockerInspectorInfo dockerInspectorInfo,
+        final File cacheDirectory) {
         try {
             String imageArgument = null;
             String imagePiece = null;
@@ -94,13 +102,138 @@ public class DockerExtractor {
             if (StringUtils.isBlank(imageArgument) || StringUtils.isBlank(imagePiece)) {
                 return new Extraction.Builder().failure("No docker image found.").build();
             } else {
-                return executeDocker(outputDirectory, imageArgument, imagePiece, tar, directory, javaExe, bashExe, dockerInspectorInfo);
+                return extractWithCache(outputDirectory, imageArgument, imagePiece, image, tar, directory, javaExe, bashExe, dockerInspectorInfo, cacheDirectory);
             }
         } catch (final Exception e) {
             return new Extraction.Builder().exception(e).build();
         }
     }
 
+    // Each image is inspected into its own output directory, at most parallelInspections at a time; an image that fails does not fail the others but is listed in the results.
+    public Extraction extract(final File directory, final File outputDirectory, final File bashExe, final File javaExe, final List<DockerTarget> targets, final DockerInspectorInfo dockerInspectorInfo,
+        final File cacheDirectory, final int parallelInspections) {
+        final int inspectionThreads = Math.max(1, Math.min(parallelInspections, targets.size()));
+        if (inspectionThreads > 1) {
+            logger.warn(String.format("Inspecting up to %d docker images at the same time. Concurrent Docker Inspector runs share the image inspector service ports and containers unless the docker properties separate them.", inspectionThreads));
+        }
+        final ExecutorService executorService = Executors.newFixedThreadPool(inspectionThreads);
+        try {
+            final List<Future<Extraction>> inspections = new ArrayList<>();
+            for (int i = 0; i < targets.size(); i++) {
+                final DockerTarget target = targets.get(i);
+                final File targetOutputDirectory = new File(outputDirectory, String.format("image-%d", i));
+                inspections.add(executorService.submit(() -> {
+                    targetOutputDirectory.mkdirs();
+                    return extract(directory, targetOutputDirectory, bashExe, javaExe, target.getImage(), target.getTar(), dockerInspectorInfo, cacheDirectory);
+                }));
+            }
+
+            final List<CodeLocation> codeLocations = new ArrayList<>();
+            final Map<CodeLocation, String> imageNames = new HashMap<>();
+            final List<File> scanFiles = new ArrayList<>();
+            final List<String> failedImages = new ArrayList<>();
+            for (int i = 0; i < targets.size(); i++) {
+                final Extraction extraction = inspections.get(i).get();
+                if (!extraction.isSuccess()) {
+                    logger.error(String.format("Docker inspection of %s was not successful: %s", targets.get(i).getDescription(), extraction.getDescription()));
+                    failedImages.add(targets.get(i).getDescription());
+                    continue;
+                }
+                final String imageName = extraction.getMetaData(DOCKER_IMAGE_NAME_META_DATA).orElse(targets.get(i).getDescription());
+                for (final CodeLocation codeLocation : extraction.getCodeLocations()) {
+                    codeLocations.add(codeLocation);
+                    imageNames.put(codeLocation, imageName);
+                }
+                extraction.getMetaData(DOCKER_TAR_META_DATA).ifPresent(scanFiles::add);
+            }
+
+            if (codeLocations.isEmpty()) {
+                return new Extraction.Builder().failure(String.format("None of the docker images could be inspected: %s", String.join(", ", failedImages))).build();
+            }
+            return new Extraction.Builder().success(codeLocations).metaData(DOCKER_INSPECTION_RESULTS_META_DATA, new DockerInspectionResults(imageNames, scanFiles, failedImages)).build();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Extraction.Builder().exception(e).build();
+        } catch (final ExecutionException e) {
+            return new Extraction.Builder().exception(e).build();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Extraction extractWithCache(final File outputDirectory, final String imageArgument, final String imagePiece, final String image, final String tar, final File directory, final File javaExe,
+        final File bashExe, final DockerInspectorInfo dockerInspectorInfo, final File cacheDirectory) throws IOException, ExecutableRunnerException {
+        if (cacheDirectory == null) {
+            return executeDocker(outputDirectory, imageArgument, imagePiece, tar, directory, javaExe, bashExe, dockerInspectorInfo, false);
+        }
+
+        final DockerInspectorCache cache = new DockerInspectorCache(cacheDirectory);
+        final Optional<String> imageDigest = resolveImageDigest(directory, bashExe, image, tar);
+        if (imageDigest.isPresent()) {
+            final String key = createKey(cache, imagePiece, imageDigest.get(), dockerInspectorInfo);
+            final Optional<File> cachedResults = cache.find(key);
+            if (cachedResults.isPresent()) {
+                logger.info(String.format("Using cached docker inspector results for %s (%s).", imagePiece, imageDigest.get()));
+                final Extraction.Builder extractionBuilder = findCodeLocations(cachedResults.get(), directory);
+                extractionBuilder.metaData(DOCKER_TAR_META_DATA, findScanFile(cachedResults.get(), tar)).metaData(DOCKER_IMAGE_NAME_META_DATA, imagePiece);
+                return extractionBuilder.build();
+            }
+        }
+
+        // An image that is not local yet is pulled by the inspector, which removes it again afterwards unless told otherwise; keeping it lets its digest be resolved below and on later runs.
+        final boolean keepInspectedImage = !imageDigest.isPresent() && StringUtils.isBlank(tar);
+        final Extraction extraction = executeDocker(outputDirectory, imageArgument, imagePiece, tar, directory, javaExe, bashExe, dockerInspectorInfo, keepInspectedImage);
+        if (!extraction.isSuccess()) {
+            return extraction;
+        }
+
+        final Optional<String> inspectedImageDigest = imageDigest.isPresent() ? imageDigest : resolveImageDigest(directory, bashExe, image, tar);
+        if (!inspectedImageDigest.isPresent()) {
+            logger.debug(String.format("Could not determine the digest of %s, the docker inspector results will not be cached.", imagePiece));
+            return extraction;
+        }
+
+        final List<File> artifacts = new ArrayList<>();
+        final File bdioFile = fileFinder.findFile(outputDirectory, DEPENDENCIES_PATTERN);
+        final File producedTarFile = fileFinder.findFile(outputDirectory, TAR_FILENAME_PATTERN);
+        if (bdioFile != null) {
+            artifacts.add(bdioFile);
+        }
+        if (producedTarFile != null && producedTarFile.isFile()) {
+            artifacts.add(producedTarFile);
+        }
+        cache.store(createKey(cache, imagePiece, inspectedImageDigest.get(), dockerInspectorInfo), artifacts);
+        return extraction;
+    }
+
+    private String createKey(final DockerInspectorCache cache, final String imagePiece, final String imageDigest, final DockerInspectorInfo dockerInspectorInfo) {
+        return cache.createKey(imagePiece, imageDigest, dockerInspectorInfo, dockerProperties.getAdditionalDockerProperties());
+    }
+
+    // A saved image is hashed as is; for an image name the local image id is used, which is the digest of its configuration.
+    private Optional<String> resolveImageDigest(final File directory, final File bashExe, final String image, final String tar) {
+        try {
+            if (StringUtils.isNotBlank(tar)) {
+                try (final InputStream tarInputStream = new FileInputStream(tar)) {
+                    return Optional.of("sha256:" + DockerInspectorCache.sha256(tarInputStream));
+                }
+            }
+
+            // The -c is a bash option, the following String is the command we want to run
+            final List<String> dockerInspectArguments = Arrays.asList(
+                "-c",
+                "docker image inspect --format '{{.Id}}' \"" + image + "\"");
+            final ExecutableOutput output = executableRunner.execute(new Executable(directory, new HashMap<>(0), bashExe.toString(), dockerInspectArguments));
+            final String imageId = output.getStandardOutput().trim();
+            if (output.getReturnCode() == 0 && imageId.startsWith("sha256:")) {
+                return Optional.of(imageId);
+            }
+        } catch (final Exception e) {
+            logger.debug(String.format("Failed to determine the image digest: %s", e.getMessage()));
+        }
+        return Optional.empty();
+    }
+
     private void importTars(final List<File> importTars, final File directory, final Map<String, String> environmentVariables, final File bashExe) {
         try {
             for (final File imageToImport : importTars) {
@@ -119,11 +252,11 @@ public class DockerExtractor {
     }
 
     private Extraction executeDocker(final File outputDirectory, final String imageArgument, final String imagePiece, final String dockerTarFilePath, final File directory, final File javaExe, final File bashExe,
-        final DockerInspectorInfo dockerInspectorInfo)
+        final DockerInspectorInfo dockerInspectorInfo, final boolean keepInspectedImage)
         throws IOException, ExecutableRunnerException {
 
         final File dockerPropertiesFile = new File(outputDirectory, "application.properties");
-        dockerProperties.populatePropertiesFile(dockerPropertiesFile, outputDirectory);
+        dockerProperties.populatePropertiesFile(dockerPropertiesFile, outputDirectory, keepInspectedImage);
         final Map<String, String> environmentVariables = new HashMap<>(0);
         final List<String> dockerArguments = new ArrayList<>();
         dockerArguments.add("-jar");
@@ -137,12 +270,19 @@ public class DockerExtractor {
         final Executable dockerExecutable = new Executable(outputDirectory, environmentVariables, javaExe.getAbsolutePath(), dockerArguments);
         executableRunner.execute(dockerExecutable);
 
-        final File producedTarFile = fileFinder.findFile(outputDirectory, TAR_FILENAME_PATTERN);
+        final File scanFile = findScanFile(outputDirectory, dockerTarFilePath);
+        final Extraction.Builder extractionBuilder = findCodeLocations(outputDirectory, directory);
+        extractionBuilder.metaData(DOCKER_TAR_META_DATA, scanFile).metaData(DOCKER_IMAGE_NAME_META_DATA, imagePiece);
+        return extractionBuilder.build();
+    }
+
+    private File findScanFile(final File resultsDirectory, final String dockerTarFilePath) throws IOException {
+        final File producedTarFile = fileFinder.findFile(resultsDirectory, TAR_FILENAME_PATTERN);
         File scanFile = null;
         if (null != producedTarFile && producedTarFile.isFile()) {
             scanFile = producedTarFile;
         } else {
-            logger.debug(String.format("No files found matching pattern [%s]. Expected docker-inspector to produce file in %s", TAR_FILENAME_PATTERN, outputDirectory.getCanonicalPath()));
+            logger.debug(String.format("No files found matching pattern [%s]. Expected docker-inspector to produce file in %s", TAR_FILENAME_PATTERN, resultsDirectory.getCanonicalPath()));
             if (StringUtils.isNotBlank(dockerTarFilePath)) {
                 final File dockerTarFile = new File(dockerTarFilePath);
                 if (dockerTarFile.isFile()) {
@@ -151,10 +291,7 @@ public class DockerExtractor {
                 }
             }
         }
-
-        final Extraction.Builder extractionBuilder = findCodeLocations(outputDirectory, directory);
-        extractionBuilder.metaData(DOCKER_TAR_META_DATA, scanFile).metaData(DOCKER_IMAGE_NAME_META_DATA, imagePiece);
-        return extractionBuilder.build();
+        return scanFile;
     }
 
     private Extraction.Builder findCodeLocations(final File directoryToSearch, final File directory) {
@@ -0,0 +1,55 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.docker;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+
+// When several images are inspected in one extraction, each code location keeps the name of the image it came from and the images that could not be inspected are listed.
+public class DockerInspectionResults {
+    private final Map<CodeLocation, String> imageNames;
+    private final List<File> scanFiles;
+    private final List<String> failedImages;
+
+    public DockerInspectionResults(final Map<CodeLocation, String> imageNames, final List<File> scanFiles, final List<String> failedImages) {
+        this.imageNames = imageNames;
+        this.scanFiles = scanFiles;
+        this.failedImages = failedImages;
+    }
+
+    public Optional<String> getImageName(final CodeLocation codeLocation) {
+        return Optional.ofNullable(imageNames.get(codeLocation));
+    }
+
+    public List<File> getScanFiles() {
+        return scanFiles;
+    }
+
+    public List<String> getFailedImages() {
+        return failedImages;
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.docker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+  Keeps the docker inspector results of an image between runs. Entries are content addressed by the image digest together with everything else that
+  changes what the inspector produces, and are only visible once completely written so concurrent scans never read a partial entry.
+  Entries hold the squashed image file system and are never evicted, keeping the directory within bounds is left to whoever configured it.
+ */
+public class DockerInspectorCache {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final String COMPLETE_MARKER_FILENAME = ".complete";
+
+    private final File cacheDirectory;
+
+    public DockerInspectorCache(final File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    // The image reference is part of the key because the inspector derives the project name and version from it, so tags sharing a digest get their own entries.
+    // The inspector jar name carries its version; the additional properties are sorted so their order does not matter.
+    public String createKey(final String imageReference, final String imageDigest, final DockerInspectorInfo dockerInspectorInfo, final Map<String, String> additionalDockerProperties) {
+        final MessageDigest digest = newDigest();
+        digest.update(imageReference.getBytes(StandardCharsets.UTF_8));
+        digest.update(("\n" + imageDigest).getBytes(StandardCharsets.UTF_8));
+        digest.update(("\n" + dockerInspectorInfo.getDockerInspectorJar().getName()).getBytes(StandardCharsets.UTF_8));
+        new TreeMap<>(additionalDockerProperties).forEach((key, value) -> digest.update(("\n" + key + "=" + value).getBytes(StandardCharsets.UTF_8)));
+        return toHex(digest.digest());
+    }
+
+    public Optional<File> find(final String key) {
+        final File entryDirectory = new File(cacheDirectory, key);
+        if (new File(entryDirectory, COMPLETE_MARKER_FILENAME).isFile()) {
+            return Optional.of(entryDirectory);
+        }
+        return Optional.empty();
+    }
+
+    public void store(final String key, final List<File> artifacts) {
+        final File entryDirectory = new File(cacheDirectory, key);
+        final File stagingDirectory = new File(cacheDirectory, key + "-" + UUID.randomUUID().toString());
+        try {
+            for (final File artifact : artifacts) {
+                FileUtils.copyFileToDirectory(artifact, stagingDirectory);
+            }
+            Files.createFile(new File(stagingDirectory, COMPLETE_MARKER_FILENAME).toPath());
+            Files.move(stagingDirectory.toPath(), entryDirectory.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            // Most likely another scan stored the same image first, which is just as good.
+            logger.debug(String.format("Did not store the docker inspector results in the cache: %s", e.getMessage()));
+        } finally {
+            FileUtils.deleteQuietly(stagingDirectory);
+        }
+    }
+
+    public static String sha256(final InputStream inputStream) throws IOException {
+        final MessageDigest digest = newDigest();
+        final byte[] buffer = new byte[64 * 1024];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String toHex(final byte[] bytes) {
+        return String.format("%064x", new BigInteger(1, bytes));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
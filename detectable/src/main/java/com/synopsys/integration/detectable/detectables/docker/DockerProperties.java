@@ -35,7 +35,14 @@ public class DockerProperties {
         this.dockerDetectableOptions = dockerDetectableOptions;
     }
 
+    public static final String CLEANUP_INSPECTED_IMAGE_PROPERTY = "cleanup.inspected.image";
+
     public void populatePropertiesFile(final File dockerPropertiesFile, final File outputDirectory) throws IOException {
+        populatePropertiesFile(dockerPropertiesFile, outputDirectory, false);
+    }
+
+    // Keeping the inspected image is only a default, an explicit cleanup.inspected.image in the additional properties still wins.
+    public void populatePropertiesFile(final File dockerPropertiesFile, final File outputDirectory, final boolean keepInspectedImage) throws IOException {
         final Properties dockerProperties = new Properties();
 
         dockerProperties.setProperty("logging.level.com.synopsys", dockerDetectableOptions.getDockerInspectorLoggingLevel());
@@ -44,10 +51,17 @@ public class DockerProperties {
         dockerProperties.setProperty("output.include.containerfilesystem", "true");
         dockerProperties.setProperty("phone.home", "false");
         dockerProperties.setProperty("caller.name", "Detect");
+        if (keepInspectedImage) {
+            dockerProperties.setProperty(CLEANUP_INSPECTED_IMAGE_PROPERTY, "false");
+        }
 
         final Map<String, String> additionalDockerProperties = dockerDetectableOptions.getAdditionalDockerProperties();
         dockerProperties.putAll(additionalDockerProperties);
 
         dockerProperties.store(new FileOutputStream(dockerPropertiesFile), "");
     }
+
+    public Map<String, String> getAdditionalDockerProperties() {
+        return dockerDetectableOptions.getAdditionalDockerProperties();
+    }
 }
@@ -0,0 +1,72 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.docker;
+
+import java.util.Objects;
+
+public class DockerTarget {
+    private final String image;
+    private final String tar;
+
+    private DockerTarget(final String image, final String tar) {
+        this.image = image;
+        this.tar = tar;
+    }
+
+    public static DockerTarget forImage(final String image) {
+        return new DockerTarget(image, null);
+    }
+
+    public static DockerTarget forTar(final String tar) {
+        return new DockerTarget(null, tar);
+    }
+
+    public String getImage() {
+        return image;
+    }
+
+    public String getTar() {
+        return tar;
+    }
+
+    public String getDescription() {
+        return image != null ? image : tar;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        final DockerTarget that = (DockerTarget) other;
+        return Objects.equals(image, that.image) && Objects.equals(tar, that.tar);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(image, tar);
+    }
+}
@@ -87,6 +87,6 @@ public class GoDepCliDetectable extends Detectable {
 
     @Override
     public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
-        return goDepExtractor.extract(environment.getDirectory(), goDepInspector, goDepCliDetectableOptions.isAllowingRunInit());
+        return goDepExtractor.extract(environment.getDirectory(), goDepInspector, goDepCliDetectableOptions.isAllowingRunInit(), extractionEnvironment.getOutputDirectory());
     }
 }
@@ -46,9 +46,9 @@ public class GoDepExtractor {
         this.externalIdFactory = externalIdFactory;
     }
 
-    public Extraction extract(final File directory, final File goDepInspector, final boolean allowsRunInit) {
+    public Extraction extract(final File directory, final File goDepInspector, final boolean allowsRunInit, final File outputDirectory) {
         try {
-            final Optional<File> lockFile = goDepLockFileGenerator.findOrMakeLockFile(directory, goDepInspector, allowsRunInit);
+            final Optional<File> lockFile = goDepLockFileGenerator.findOrMakeLockFile(directory, goDepInspector, allowsRunInit, new File(outputDirectory, "gopath"));
 
             if (lockFile.isPresent()) {
                 try (final InputStream lockInputStream = new FileInputStream(lockFile.get())) {
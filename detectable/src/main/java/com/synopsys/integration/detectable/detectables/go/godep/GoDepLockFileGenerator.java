@@ -24,17 +24,32 @@ package com.synopsys.integration.detectable.detectables.go.godep;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.detectable.detectable.executable.Executable;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunnerException;
 
 public class GoDepLockFileGenerator {
+    public static final String GOPKG_LOCK_FILENAME = "Gopkg.lock";
+    public static final String GOPKG_TOML_FILENAME = "Gopkg.toml";
+    public static final String VENDOR_DIRNAME = "vendor";
+
     private final Logger logger = LoggerFactory.getLogger(GoDepLockFileGenerator.class);
 
     private final ExecutableRunner executableRunner;
@@ -43,60 +58,121 @@ public class GoDepLockFileGenerator {
         this.executableRunner = executableRunner;
     }
 
-    public Optional<File> findOrMakeLockFile(final File location, final File goDepExecutable, boolean allowsRunInit) throws IOException {
-        final File lockFile = new File(location, "Gopkg.lock");
+    public Optional<File> findOrMakeLockFile(final File location, final File goDepExecutable, final boolean allowsRunInit, final File workspaceDirectory) throws IOException {
+        final File lockFile = new File(location, GOPKG_LOCK_FILENAME);
 
         if (lockFile.exists()) {
             return Optional.of(lockFile);
         }
 
-        if (allowsRunInit){
-            createGoPkgLockWithInitAndEnsure(location, goDepExecutable);
-        } else {
+        if (!allowsRunInit) {
             logger.info("Will not attempt Dep commands 'init' and 'ensure'");
+            return Optional.empty();
         }
 
-        if (lockFile.exists()){
-            return Optional.of(lockFile);
+        final File workspaceProject = createGoPkgLockInWorkspace(location, goDepExecutable, workspaceDirectory);
+        final File generatedLockFile = new File(workspaceProject, GOPKG_LOCK_FILENAME);
+        if (generatedLockFile.exists()) {
+            return Optional.of(generatedLockFile);
         } else {
             return Optional.empty();
         }
     }
 
-    private void createGoPkgLockWithInitAndEnsure(File location, File goDepExecutable) throws IOException {
-        final File gopkgTomlFile = new File(location, "Gopkg.toml");
-        final File vendorDirectory = new File(location, "vendor");
-        final boolean vendorDirectoryExistedBefore = vendorDirectory.exists();
-        final File vendorDirectoryBackup = new File(location, "vendor_old");
-        if (vendorDirectoryExistedBefore) {
-            logger.info(String.format("Backing up %s to %s", vendorDirectory.getAbsolutePath(), vendorDirectoryBackup.getAbsolutePath()));
-            FileUtils.moveDirectory(vendorDirectory, vendorDirectoryBackup);
+    // dep writes Gopkg.toml, Gopkg.lock and vendor into the project it runs on, so it runs on a GOPATH of our own that mirrors the sources.
+    private File createGoPkgLockInWorkspace(final File location, final File goDepExecutable, final File workspaceDirectory) throws IOException {
+        final File workspaceProject = new File(new File(workspaceDirectory, "src"), determineImportPath(location));
+        Files.createDirectories(workspaceProject.toPath());
+
+        final List<File> mirrored = new ArrayList<>();
+        try {
+            final File[] children = location.listFiles();
+            for (final File child : children == null ? new File[0] : children) {
+                if (VENDOR_DIRNAME.equals(child.getName())) {
+                    continue;
+                }
+                final File target = new File(workspaceProject, child.getName());
+                if (GOPKG_TOML_FILENAME.equals(child.getName())) {
+                    // dep may rewrite the manifest, so it gets a copy rather than a link to the user's file.
+                    FileUtils.copyFile(child, target);
+                } else {
+                    mirror(child.toPath(), target.toPath());
+                    mirrored.add(target);
+                }
+            }
+
+            final Map<String, String> environment = new HashMap<>();
+            final String gopath = System.getenv("GOPATH");
+            environment.put("GOPATH", StringUtils.isBlank(gopath) ? workspaceDirectory.getAbsolutePath() : workspaceDirectory.getAbsolutePath() + File.pathSeparator + gopath);
+
+            runGoDep(workspaceProject, goDepExecutable, environment, "init");
+            runGoDep(workspaceProject, goDepExecutable, environment, "ensure", "-update");
+        } finally {
+            for (final File file : mirrored) {
+                FileUtils.deleteQuietly(file);
+            }
         }
 
-        final String goDepInitString = String.format("%s 'init' on path %s", goDepExecutable, location.getAbsolutePath());
+        return workspaceProject;
+    }
+
+    // dep's package walk does not descend into symlinked directories, so the tree is rebuilt from real directories with the files hard linked into them.
+    private void mirror(final Path source, final Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path directory, final BasicFileAttributes attributes) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(directory)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) throws IOException {
+                final Path mirroredFile = target.resolve(source.relativize(file));
+                if (attributes.isSymbolicLink()) {
+                    try {
+                        Files.createSymbolicLink(mirroredFile, Files.readSymbolicLink(file));
+                    } catch (final UnsupportedOperationException | IOException e) {
+                        logger.debug(String.format("Could not recreate the link %s, leaving it out: %s", file, e.getMessage()));
+                    }
+                } else {
+                    link(mirroredFile, file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void link(final Path link, final Path target) throws IOException {
         try {
-            logger.info("Running " + goDepInitString);
-            executableRunner.execute(location, goDepExecutable, Arrays.asList("init"));
-        } catch (final ExecutableRunnerException e) {
-            logger.error(String.format("Failed to run %s: %s", goDepInitString, e.getMessage()));
+            Files.createLink(link, target);
+        } catch (final UnsupportedOperationException | IOException e) {
+            logger.debug(String.format("Could not link %s, copying it instead: %s", target, e.getMessage()));
+            Files.copy(target, link);
         }
+    }
 
-        final String goDepEnsureUpdateString = String.format("%s 'ensure -update' on path %s", goDepExecutable, location.getAbsolutePath());
+    private void runGoDep(final File workspaceProject, final File goDepExecutable, final Map<String, String> environment, final String... arguments) {
+        final String description = String.format("%s '%s' on path %s", goDepExecutable, String.join(" ", arguments), workspaceProject.getAbsolutePath());
         try {
-            logger.info("Running " + goDepEnsureUpdateString);
-            executableRunner.execute(location, goDepExecutable, Arrays.asList("ensure", "-update"));
+            logger.info("Running " + description);
+            executableRunner.execute(new Executable(workspaceProject, environment, goDepExecutable.toString(), Arrays.asList(arguments)));
         } catch (final ExecutableRunnerException e) {
-            logger.error(String.format("Failed to run %s: %s", goDepEnsureUpdateString, e.getMessage()));
+            logger.error(String.format("Failed to run %s: %s", description, e.getMessage()));
         }
+    }
 
-
-        gopkgTomlFile.delete();
-        FileUtils.deleteDirectory(vendorDirectory);
-        if (vendorDirectoryExistedBefore) {
-            logger.info(String.format("Restoring back up %s from %s", vendorDirectory.getAbsolutePath(), vendorDirectoryBackup.getAbsolutePath()));
-            FileUtils.moveDirectory(vendorDirectoryBackup, vendorDirectory);
+    // dep derives the project root from the location within GOPATH, so keep the import path the sources already have when they live in one.
+    private String determineImportPath(final File location) {
+        final String gopath = System.getenv("GOPATH");
+        if (StringUtils.isNotBlank(gopath)) {
+            final Path sourcePath = location.getAbsoluteFile().toPath().normalize();
+            for (final String gopathEntry : gopath.split(File.pathSeparator)) {
+                final Path gopathSource = new File(gopathEntry, "src").getAbsoluteFile().toPath().normalize();
+                if (sourcePath.startsWith(gopathSource) && !sourcePath.equals(gopathSource)) {
+                    return gopathSource.relativize(sourcePath).toString();
+                }
+            }
         }
+        return location.getAbsoluteFile().toPath().normalize().getFileName().toString();
     }
-
-
 }
@@ -0,0 +1,75 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod;
+
+import java.io.File;
+
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.ExtractionEnvironment;
+import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectable.result.DetectableResult;
+import com.synopsys.integration.detectable.detectable.result.FileNotFoundDetectableResult;
+import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
+
+public class GoModDetectable extends Detectable {
+    public static final String GO_MOD_FILENAME = "go.mod";
+    public static final String GO_SUM_FILENAME = "go.sum";
+    public static final String VENDOR_DIRNAME = "vendor";
+    public static final String MODULES_TXT_FILENAME = "modules.txt";
+
+    private final FileFinder fileFinder;
+    private final GoModExtractor goModExtractor;
+
+    private File goMod;
+
+    public GoModDetectable(final DetectableEnvironment environment, final FileFinder fileFinder, final GoModExtractor goModExtractor) {
+        super(environment, "Go Mod", "Go Mod");
+        this.fileFinder = fileFinder;
+        this.goModExtractor = goModExtractor;
+    }
+
+    @Override
+    public DetectableResult applicable() {
+        goMod = fileFinder.findFile(environment.getDirectory(), GO_MOD_FILENAME);
+        if (goMod == null) {
+            return new FileNotFoundDetectableResult(GO_MOD_FILENAME);
+        }
+
+        return new PassedDetectableResult();
+    }
+
+    @Override
+    public DetectableResult extractable() {
+        return new PassedDetectableResult();
+    }
+
+    @Override
+    public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
+        final File goSum = fileFinder.findFile(environment.getDirectory(), GO_SUM_FILENAME);
+        final File vendorDirectory = fileFinder.findFile(environment.getDirectory(), VENDOR_DIRNAME);
+        final File modulesTxt = vendorDirectory == null ? null : fileFinder.findFile(vendorDirectory, MODULES_TXT_FILENAME);
+        return goModExtractor.extract(goMod, goSum, modulesTxt);
+    }
+}
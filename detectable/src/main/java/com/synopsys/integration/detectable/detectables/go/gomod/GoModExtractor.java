@@ -0,0 +1,75 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModFile;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModule;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoModGraphTransformer;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoModParser;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoModulesTxtParser;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoSumParser;
+
+public class GoModExtractor {
+    private final GoModParser goModParser;
+    private final GoSumParser goSumParser;
+    private final GoModulesTxtParser goModulesTxtParser;
+    private final GoModGraphTransformer goModGraphTransformer;
+
+    public GoModExtractor(final GoModParser goModParser, final GoSumParser goSumParser, final GoModulesTxtParser goModulesTxtParser, final GoModGraphTransformer goModGraphTransformer) {
+        this.goModParser = goModParser;
+        this.goSumParser = goSumParser;
+        this.goModulesTxtParser = goModulesTxtParser;
+        this.goModGraphTransformer = goModGraphTransformer;
+    }
+
+    // goSum and modulesTxt may be null; a vendored modules.txt is the exact build list, so it is preferred over go.sum.
+    public Extraction extract(final File goMod, final File goSum, final File modulesTxt) {
+        try {
+            final GoModFile goModFile = goModParser.parse(Files.readAllLines(goMod.toPath(), StandardCharsets.UTF_8));
+
+            final List<GoModule> buildList;
+            if (modulesTxt != null) {
+                buildList = goModulesTxtParser.parse(Files.readAllLines(modulesTxt.toPath(), StandardCharsets.UTF_8));
+            } else if (goSum != null) {
+                buildList = goSumParser.parse(Files.readAllLines(goSum.toPath(), StandardCharsets.UTF_8));
+            } else {
+                buildList = new ArrayList<>();
+            }
+
+            final DependencyGraph dependencyGraph = goModGraphTransformer.transform(goModFile, buildList);
+            final CodeLocation codeLocation = new CodeLocation(dependencyGraph);
+            return new Extraction.Builder().success(codeLocation).projectName(goModFile.getModulePath()).build();
+        } catch (final Exception e) {
+            return new Extraction.Builder().exception(e).build();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod.model;
+
+import java.util.List;
+
+public class GoModFile {
+    private final String modulePath;
+    private final List<GoModule> requires;
+    private final List<GoModReplace> replaces;
+    private final List<GoModule> excludes;
+
+    public GoModFile(final String modulePath, final List<GoModule> requires, final List<GoModReplace> replaces, final List<GoModule> excludes) {
+        this.modulePath = modulePath;
+        this.requires = requires;
+        this.replaces = replaces;
+        this.excludes = excludes;
+    }
+
+    public String getModulePath() {
+        return modulePath;
+    }
+
+    public List<GoModule> getRequires() {
+        return requires;
+    }
+
+    public List<GoModReplace> getReplaces() {
+        return replaces;
+    }
+
+    public List<GoModule> getExcludes() {
+        return excludes;
+    }
+}
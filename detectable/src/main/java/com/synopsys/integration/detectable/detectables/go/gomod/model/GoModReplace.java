@@ -20,33 +20,26 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-package com.synopsys.integration.detectable.detectables.cocoapods.model;
+package com.synopsys.integration.detectable.detectables.go.gomod.model;
 
-import java.util.List;
+public class GoModReplace {
+    private final GoModule original;
+    private final GoModule replacement;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.annotation.JsonProperty;
-
-@JsonIgnoreProperties(ignoreUnknown = true)
-public class PodfileLock {
-    @JsonProperty("PODS")
-    private List<Pod> pods;
-
-    @JsonProperty("DEPENDENCIES")
-    private List<Pod> dependencies;
-
-    @JsonProperty("EXTERNAL SOURCES")
-    private ExternalSources externalSources;
+    public GoModReplace(final GoModule original, final GoModule replacement) {
+        this.original = original;
+        this.replacement = replacement;
+    }
 
-    public List<Pod> getPods() {
-        return pods;
+    public GoModule getOriginal() {
+        return original;
     }
 
-    public List<Pod> getDependencies() {
-        return dependencies;
+    public GoModule getReplacement() {
+        return replacement;
     }
 
-    public ExternalSources getExternalSources() {
-        return externalSources;
+    public boolean isLocalReplacement() {
+        return !replacement.getVersion().isPresent();
     }
 }
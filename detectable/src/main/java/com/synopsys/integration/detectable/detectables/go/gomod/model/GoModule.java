@@ -0,0 +1,44 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod.model;
+
+import java.util.Optional;
+
+public class GoModule {
+    private final String path;
+    private final String version;
+
+    public GoModule(final String path, final String version) {
+        this.path = path;
+        this.version = version;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    // Absent for local directory replacements and path-wide replace directives.
+    public Optional<String> getVersion() {
+        return Optional.ofNullable(version);
+    }
+}
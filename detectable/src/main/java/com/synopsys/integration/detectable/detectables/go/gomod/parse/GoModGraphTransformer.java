@@ -0,0 +1,109 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod.parse;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModFile;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModReplace;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModule;
+
+public class GoModGraphTransformer {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ExternalIdFactory externalIdFactory;
+    private final GoModuleVersionComparator versionComparator = new GoModuleVersionComparator();
+
+    public GoModGraphTransformer(final ExternalIdFactory externalIdFactory) {
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    // Neither go.sum nor modules.txt records which module required which, so the selected modules are all direct children of the root.
+    public DependencyGraph transform(final GoModFile goModFile, final List<GoModule> buildList) {
+        final Set<String> excluded = goModFile.getExcludes().stream()
+                                         .map(this::key)
+                                         .collect(Collectors.toSet());
+
+        // Keep the highest version of each module path, as minimal version selection would.
+        final Map<String, String> selected = new TreeMap<>();
+        Stream.concat(goModFile.getRequires().stream(), buildList.stream())
+            .filter(module -> module.getVersion().isPresent())
+            .filter(module -> !module.getPath().equals(goModFile.getModulePath()))
+            .filter(module -> !excluded.contains(key(module)))
+            .forEach(module -> selected.merge(module.getPath(), module.getVersion().get(), (current, candidate) -> versionComparator.compare(current, candidate) >= 0 ? current : candidate));
+
+        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        final Set<ExternalId> added = new HashSet<>();
+        selected.forEach((path, version) -> {
+            final GoModule module = replace(new GoModule(path, version), goModFile.getReplaces());
+            final String moduleVersion = module.getVersion().orElse(version);
+            final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.GOLANG, module.getPath(), moduleVersion);
+            if (added.add(externalId)) {
+                graph.addChildToRoot(new Dependency(module.getPath(), moduleVersion, externalId));
+            }
+        });
+
+        return graph;
+    }
+
+    private GoModule replace(final GoModule module, final List<GoModReplace> replaces) {
+        final Optional<GoModReplace> exactReplace = replaces.stream()
+                                                        .filter(replace -> replace.getOriginal().getVersion().isPresent())
+                                                        .filter(replace -> key(replace.getOriginal()).equals(key(module)))
+                                                        .findFirst();
+        final Optional<GoModReplace> matchingReplace = exactReplace.isPresent() ? exactReplace : replaces.stream()
+                                                                                                       .filter(replace -> !replace.getOriginal().getVersion().isPresent())
+                                                                                                       .filter(replace -> replace.getOriginal().getPath().equals(module.getPath()))
+                                                                                                       .findFirst();
+
+        if (!matchingReplace.isPresent()) {
+            return module;
+        }
+        if (matchingReplace.get().isLocalReplacement()) {
+            // A directory on disk has no identity of its own, so report the module it stands in for.
+            logger.debug(String.format("Module %s is replaced by local directory %s.", module.getPath(), matchingReplace.get().getReplacement().getPath()));
+            return module;
+        }
+        return matchingReplace.get().getReplacement();
+    }
+
+    private String key(final GoModule module) {
+        return module.getPath() + "@" + module.getVersion().orElse("");
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod.parse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModFile;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModReplace;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModule;
+
+public class GoModParser {
+    private static final String MODULE = "module";
+    private static final String REQUIRE = "require";
+    private static final String REPLACE = "replace";
+    private static final String EXCLUDE = "exclude";
+    private static final String REPLACE_ARROW = "=>";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    public GoModFile parse(final List<String> goModContents) {
+        String modulePath = null;
+        final List<GoModule> requires = new ArrayList<>();
+        final List<GoModReplace> replaces = new ArrayList<>();
+        final List<GoModule> excludes = new ArrayList<>();
+
+        String block = null;
+        for (final String rawLine : goModContents) {
+            final List<String> tokens = tokenize(rawLine);
+            if (tokens.isEmpty()) {
+                continue;
+            }
+
+            final String directive;
+            final List<String> arguments;
+            if (block != null) {
+                if (")".equals(tokens.get(0))) {
+                    block = null;
+                    continue;
+                }
+                directive = block;
+                arguments = tokens;
+            } else if (tokens.size() == 2 && "(".equals(tokens.get(1))) {
+                block = tokens.get(0);
+                continue;
+            } else {
+                directive = tokens.get(0);
+                arguments = tokens.subList(1, tokens.size());
+            }
+
+            if (MODULE.equals(directive) && !arguments.isEmpty()) {
+                modulePath = arguments.get(0);
+            } else if (REQUIRE.equals(directive) && arguments.size() >= 2) {
+                requires.add(new GoModule(arguments.get(0), arguments.get(1)));
+            } else if (EXCLUDE.equals(directive) && arguments.size() >= 2) {
+                excludes.add(new GoModule(arguments.get(0), arguments.get(1)));
+            } else if (REPLACE.equals(directive)) {
+                parseReplace(arguments, replaces);
+            }
+        }
+
+        return new GoModFile(modulePath, requires, replaces, excludes);
+    }
+
+    private void parseReplace(final List<String> arguments, final List<GoModReplace> replaces) {
+        final int arrow = arguments.indexOf(REPLACE_ARROW);
+        if (arrow < 1 || arrow > 2 || arrow == arguments.size() - 1) {
+            logger.debug(String.format("Skipping malformed replace directive: %s", String.join(" ", arguments)));
+            return;
+        }
+
+        final GoModule original = new GoModule(arguments.get(0), arrow == 2 ? arguments.get(1) : null);
+        final List<String> target = arguments.subList(arrow + 1, arguments.size());
+        final GoModule replacement = new GoModule(target.get(0), target.size() > 1 ? target.get(1) : null);
+        replaces.add(new GoModReplace(original, replacement));
+    }
+
+    private List<String> tokenize(final String line) {
+        final String withoutComment = StringUtils.substringBefore(line, "//").trim();
+        if (StringUtils.isBlank(withoutComment)) {
+            return new ArrayList<>();
+        }
+
+        return Arrays.stream(withoutComment.split("\\s+"))
+                   .map(token -> StringUtils.strip(token, "\"`"))
+                   .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod.parse;
+
+import java.util.Comparator;
+
+import org.apache.commons.lang3.StringUtils;
+
+// Orders module versions the way minimal version selection does: semantic versions with pseudo-versions as prereleases.
+public class GoModuleVersionComparator implements Comparator<String> {
+    @Override
+    public int compare(final String left, final String right) {
+        final String leftVersion = StringUtils.substringBefore(StringUtils.removeStart(left, "v"), "+");
+        final String rightVersion = StringUtils.substringBefore(StringUtils.removeStart(right, "v"), "+");
+
+        final int release = compareIdentifiers(StringUtils.substringBefore(leftVersion, "-"), StringUtils.substringBefore(rightVersion, "-"), "\\.");
+        if (release != 0) {
+            return release;
+        }
+
+        final String leftPrerelease = StringUtils.substringAfter(leftVersion, "-");
+        final String rightPrerelease = StringUtils.substringAfter(rightVersion, "-");
+        if (leftPrerelease.isEmpty() || rightPrerelease.isEmpty()) {
+            // A release sorts after any of its prereleases.
+            return Boolean.compare(leftPrerelease.isEmpty(), rightPrerelease.isEmpty());
+        }
+        return compareIdentifiers(leftPrerelease, rightPrerelease, "[.-]");
+    }
+
+    private int compareIdentifiers(final String left, final String right, final String separator) {
+        final String[] leftPieces = left.split(separator);
+        final String[] rightPieces = right.split(separator);
+        for (int i = 0; i < Math.min(leftPieces.length, rightPieces.length); i++) {
+            final int comparison = compareIdentifier(leftPieces[i], rightPieces[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(leftPieces.length, rightPieces.length);
+    }
+
+    private int compareIdentifier(final String left, final String right) {
+        final boolean leftNumeric = StringUtils.isNumeric(left);
+        final boolean rightNumeric = StringUtils.isNumeric(right);
+        if (leftNumeric && rightNumeric) {
+            final int length = Integer.compare(StringUtils.stripStart(left, "0").length(), StringUtils.stripStart(right, "0").length());
+            return length != 0 ? length : StringUtils.stripStart(left, "0").compareTo(StringUtils.stripStart(right, "0"));
+        } else if (leftNumeric != rightNumeric) {
+            return leftNumeric ? -1 : 1;
+        }
+        return left.compareTo(right);
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod.parse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModule;
+
+public class GoModulesTxtParser {
+    private static final String MODULE_PREFIX = "# ";
+    private static final String REPLACE_ARROW = "=>";
+
+    // Lines look like "# path version" or "# path [version] => replacement [version]"; package lines and "## " markers are skipped.
+    public List<GoModule> parse(final List<String> modulesTxtContents) {
+        final List<GoModule> modules = new ArrayList<>();
+        for (final String line : modulesTxtContents) {
+            if (!line.startsWith(MODULE_PREFIX)) {
+                continue;
+            }
+
+            final String[] parts = StringUtils.split(StringUtils.substringBefore(line.substring(MODULE_PREFIX.length()), REPLACE_ARROW));
+            if (parts == null || parts.length == 0) {
+                continue;
+            }
+            modules.add(new GoModule(parts[0], parts.length > 1 ? parts[1] : null));
+        }
+        return modules;
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod.parse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModule;
+
+public class GoSumParser {
+    private static final String GO_MOD_SUFFIX = "/go.mod";
+
+    // Modules whose source was downloaded have a content hash; "/go.mod" lines only record that their go.mod was read.
+    public List<GoModule> parse(final List<String> goSumContents) {
+        final List<GoModule> modules = new ArrayList<>();
+        for (final String line : goSumContents) {
+            final String[] parts = StringUtils.split(line);
+            if (parts == null || parts.length < 3 || parts[1].endsWith(GO_MOD_SUFFIX)) {
+                continue;
+            }
+            modules.add(new GoModule(parts[0], parts[1]));
+        }
+        return modules;
+    }
+}
@@ -24,6 +24,7 @@ package com.synopsys.integration.detectable.detectables.gradle.inspection;
 
 import java.io.File;
 
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -92,7 +93,11 @@ public class GradleInspectorDetectable extends Detectable {
 
     @Override
     public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
-        return gradleInspectorExtractor.extract(environment.getDirectory(), gradleExe, gradleInspectorOptions.getGradleBuildCommand(), gradleInspector, extractionEnvironment.getOutputDirectory());
+        File reportCacheDirectory = null;
+        if (StringUtils.isNotBlank(gradleInspectorOptions.getReportCachePath())) {
+            reportCacheDirectory = new File(gradleInspectorOptions.getReportCachePath());
+        }
+        return gradleInspectorExtractor.extract(environment.getDirectory(), gradleExe, gradleInspectorOptions.getGradleBuildCommand(), gradleInspector, extractionEnvironment.getOutputDirectory(), reportCacheDirectory);
     }
 
 }
@@ -23,11 +23,17 @@
 package com.synopsys.integration.detectable.detectables.gradle.inspection;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +43,8 @@ import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleGraphReportParser;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleGraphReportTransformer;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportTransformer;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleRootMetadataParser;
@@ -50,18 +58,29 @@ public class GradleInspectorExtractor {
     private final GradleReportParser gradleReportParser;
     private final GradleReportTransformer gradleReportTransformer;
     private final GradleRootMetadataParser gradleRootMetadataParser;
+    private final GradleGraphReportParser gradleGraphReportParser;
+    private final GradleGraphReportTransformer gradleGraphReportTransformer;
 
     public GradleInspectorExtractor(final ExecutableRunner executableRunner, final FileFinder fileFinder, final GradleReportParser gradleReportParser, final GradleReportTransformer gradleReportTransformer,
-        final GradleRootMetadataParser gradleRootMetadataParser) {
+        final GradleRootMetadataParser gradleRootMetadataParser, final GradleGraphReportParser gradleGraphReportParser, final GradleGraphReportTransformer gradleGraphReportTransformer) {
         this.executableRunner = executableRunner;
         this.fileFinder = fileFinder;
         this.gradleReportParser = gradleReportParser;
         this.gradleReportTransformer = gradleReportTransformer;
         this.gradleRootMetadataParser = gradleRootMetadataParser;
+        this.gradleGraphReportParser = gradleGraphReportParser;
+        this.gradleGraphReportTransformer = gradleGraphReportTransformer;
     }
 
-    public Extraction extract(final File directory, final File gradleExe, String gradleCommand, final File gradleInspector, final File outputDirectory) {
+    public Extraction extract(final File directory, final File gradleExe, String gradleCommand, final File gradleInspector, final File outputDirectory, final File reportCacheDirectory) {
         try {
+            GradleReportCache reportCache = null;
+            Map<String, File> cachedReports = new HashMap<>();
+            if (reportCacheDirectory != null) {
+                final String inspectionSettings = StringUtils.defaultString(gradleCommand) + FileUtils.readFileToString(gradleInspector, StandardCharsets.UTF_8);
+                reportCache = new GradleReportCache(reportCacheDirectory, directory, inspectionSettings);
+                cachedReports = reportCache.findReusableReports();
+            }
 
             final List<String> arguments = new ArrayList<>();
             if (StringUtils.isNotBlank(gradleCommand)) {
@@ -71,25 +90,58 @@ public class GradleInspectorExtractor {
             arguments.add("dependencies");
             arguments.add(String.format("--init-script=%s", gradleInspector));
             arguments.add(String.format("-DGRADLEEXTRACTIONDIR=%s", outputDirectory.getCanonicalPath()));
+            if (!cachedReports.isEmpty()) {
+                logger.info(String.format("Reusing cached gradle reports for unchanged projects: %s", String.join(", ", cachedReports.keySet())));
+                arguments.add(String.format("-DGRADLEEXTRACTIONCACHEDPROJECTS=%s", String.join(",", cachedReports.keySet())));
+            }
             arguments.add("--info");
 
             final ExecutableOutput output = executableRunner.execute(directory, gradleExe, arguments);
 
             if (output.getReturnCode() == 0) {
                 final File rootProjectMetadataFile = fileFinder.findFile(outputDirectory, "rootProjectMetadata.txt");
-                final List<File> reportFiles = fileFinder.findFiles(outputDirectory, "*_dependencyGraph.txt");
+                final List<File> reportFiles = new ArrayList<>();
+                final List<File> graphReportFiles = new ArrayList<>();
+                Optional.ofNullable(fileFinder.findFiles(outputDirectory, "*_dependencyGraph.txt")).ifPresent(reportFiles::addAll);
+                Optional.ofNullable(fileFinder.findFiles(outputDirectory, "*_detectGraph.txt")).ifPresent(graphReportFiles::addAll);
+                if (reportCache != null) {
+                    final List<File> inspectedReportFiles = new ArrayList<>(reportFiles);
+                    inspectedReportFiles.addAll(graphReportFiles);
+                    reportCache.store(inspectedReportFiles);
+                }
+                for (final File cachedReport : cachedReports.values()) {
+                    if (cachedReport.getName().endsWith("_detectGraph.txt")) {
+                        graphReportFiles.add(cachedReport);
+                    } else {
+                        reportFiles.add(cachedReport);
+                    }
+                }
 
                 final List<CodeLocation> codeLocations = new ArrayList<>();
                 String projectName = null;
                 String projectVersion = null;
-                if (reportFiles != null) {
-                    reportFiles.stream()
-                        .map(gradleReportParser::parseReport)
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .map(gradleReportTransformer::transform)
-                        .forEach(codeLocations::add);
-
+                if (!reportFiles.isEmpty()) {
+                    // Reports are independent so they are parsed concurrently, sorting keeps the code location order stable between runs.
+                    final List<CodeLocation> reportCodeLocations = reportFiles.parallelStream()
+                                                                       .sorted(Comparator.comparing(File::getName))
+                                                                       .map(gradleReportParser::parseReport)
+                                                                       .filter(Optional::isPresent)
+                                                                       .map(Optional::get)
+                                                                       .map(gradleReportTransformer::transform)
+                                                                       .collect(Collectors.toList());
+                    codeLocations.addAll(reportCodeLocations);
+                }
+                if (!graphReportFiles.isEmpty()) {
+                    final List<CodeLocation> graphCodeLocations = graphReportFiles.parallelStream()
+                                                                      .sorted(Comparator.comparing(File::getName))
+                                                                      .map(gradleGraphReportParser::parseReport)
+                                                                      .filter(Optional::isPresent)
+                                                                      .map(Optional::get)
+                                                                      .map(gradleGraphReportTransformer::transform)
+                                                                      .collect(Collectors.toList());
+                    codeLocations.addAll(graphCodeLocations);
+                }
+                if (!reportFiles.isEmpty() || !graphReportFiles.isEmpty()) {
                     if (rootProjectMetadataFile != null) {
                         final Optional<NameVersion> projectNameVersion = gradleRootMetadataParser.parseRootProjectNameVersion(rootProjectMetadataFile);
                         if (projectNameVersion.isPresent()) {
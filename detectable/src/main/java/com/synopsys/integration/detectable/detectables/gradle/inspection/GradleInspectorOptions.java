@@ -27,10 +27,12 @@ import com.synopsys.integration.detectable.detectables.gradle.inspection.inspect
 public class GradleInspectorOptions {
     private final String gradleBuildCommand;
     private final GradleInspectorScriptOptions gradleInspectorScriptOptions;
+    private final String reportCachePath;
 
-    public GradleInspectorOptions(final String gradleBuildCommand, final GradleInspectorScriptOptions gradleInspectorScriptOptions) {
+    public GradleInspectorOptions(final String gradleBuildCommand, final GradleInspectorScriptOptions gradleInspectorScriptOptions, final String reportCachePath) {
         this.gradleBuildCommand = gradleBuildCommand;
         this.gradleInspectorScriptOptions = gradleInspectorScriptOptions;
+        this.reportCachePath = reportCachePath;
     }
 
     public String getGradleBuildCommand() {
@@ -40,4 +42,8 @@ public class GradleInspectorOptions {
     public GradleInspectorScriptOptions getGradleInspectorScriptOptions() {
         return gradleInspectorScriptOptions;
     }
+
+    public String getReportCachePath() {
+        return reportCachePath;
+    }
 }
@@ -0,0 +1,312 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.inspection;
+
+import static com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser.PROJECT_NAME_PREFIX;
+import static com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser.PROJECT_PATH_PREFIX;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+  Keeps the inspector reports of a source directory between runs. Each project report is stored with a fingerprint of the build files that can change
+  its dependencies, so unchanged projects can be excluded from the next Gradle run and their cached report used instead. Inputs that can not be
+  fingerprinted from files (buildSrc, applied scripts, dynamic and snapshot versions) make a project uncacheable, and a project that depends on
+  other projects of the build is fingerprinted against the build files of the whole build.
+ */
+public class GradleReportCache {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final String INDEX_FILENAME = "index.properties";
+    private static final String FINGERPRINT_SUFFIX = ".fingerprint";
+    private static final String PATH_SUFFIX = ".path";
+    private static final String REPORT_SUFFIX = ".report";
+    private static final String DYNAMIC_VERSION_KEY = "dynamicVersion";
+
+    private static final List<String> ROOT_FINGERPRINT_FILES = Arrays.asList("settings.gradle", "settings.gradle.kts", "gradle.properties", "build.gradle", "build.gradle.kts", "gradle/libs.versions.toml",
+        "gradle/wrapper/gradle-wrapper.properties");
+    private static final List<String> PROJECT_FINGERPRINT_FILES = Arrays.asList("build.gradle", "build.gradle.kts", "gradle.properties", "gradle.lockfile", "buildscript-gradle.lockfile");
+    private static final String DEPENDENCY_LOCKS_DIRECTORY = "gradle/dependency-locks";
+    private static final List<String> BUILD_FILES = Arrays.asList("build.gradle", "build.gradle.kts");
+    private static final String BUILD_SRC_DIRECTORY = "buildSrc";
+    private static final List<String> SKIPPED_DIRECTORIES = Arrays.asList("build", ".gradle", ".git", "node_modules");
+
+    private static final Pattern APPLIED_SCRIPT = Pattern.compile("apply\\s*\\(?\\s*from\\b");
+    private static final Pattern PROJECT_DEPENDENCY = Pattern.compile("\\bproject\\s*\\(");
+    // Matches dependency coordinates such as 'group:name:1.+', 'group:name:latest.release', 'group:name:1.0-SNAPSHOT' and 'group:name:[1.0,2.0)'.
+    private static final Pattern DYNAMIC_VERSION = Pattern.compile("[\\w.\\-]+:[\\w.\\-]+:[^\\s'\"]*(\\+|latest\\.|-SNAPSHOT|[\\[(])");
+
+    private final File cacheDirectory;
+    private final File sourceDirectory;
+    private final String inspectionSettings;
+    private String buildDigest;
+
+    // The inspection settings (build command and init script) are part of every fingerprint since they change what a report contains.
+    public GradleReportCache(final File cacheRootDirectory, final File sourceDirectory, final String inspectionSettings) throws IOException {
+        this.sourceDirectory = sourceDirectory;
+        this.inspectionSettings = inspectionSettings;
+        this.cacheDirectory = new File(cacheRootDirectory, sha256(sourceDirectory.getCanonicalPath()));
+    }
+
+    public Map<String, File> findReusableReports() {
+        final Map<String, File> reusableReports = new HashMap<>();
+        if (hasBuildSrc()) {
+            return reusableReports;
+        }
+        final Properties index = readIndex();
+        for (final String key : index.stringPropertyNames()) {
+            if (!key.endsWith(FINGERPRINT_SUFFIX)) {
+                continue;
+            }
+            final String projectName = StringUtils.removeEnd(key, FINGERPRINT_SUFFIX);
+            final String projectPath = index.getProperty(projectName + PATH_SUFFIX);
+            final File report = new File(cacheDirectory, index.getProperty(projectName + REPORT_SUFFIX, ""));
+            if (projectPath == null || !report.isFile()) {
+                continue;
+            }
+
+            try {
+                final Optional<String> fingerprint = fingerprint(new File(projectPath));
+                if (fingerprint.isPresent() && index.getProperty(key).equals(fingerprint.get())) {
+                    reusableReports.put(projectName, report);
+                }
+            } catch (final IOException e) {
+                logger.debug(String.format("Could not fingerprint the gradle project %s, it will be inspected.", projectName), e);
+            }
+        }
+        return reusableReports;
+    }
+
+    public void store(final List<File> reportFiles) {
+        if (hasBuildSrc()) {
+            logger.debug("The gradle build has a buildSrc directory, its reports will not be cached.");
+            return;
+        }
+        final Properties index = readIndex();
+        final Set<String> storedNames = new HashSet<>();
+        final Set<String> duplicateNames = new HashSet<>();
+        try {
+            cacheDirectory.mkdirs();
+            for (final File reportFile : reportFiles) {
+                final Map<String, String> metadata = readProjectMetadata(reportFile);
+                final String projectName = metadata.get(PROJECT_NAME_PREFIX);
+                final String projectPath = metadata.get(PROJECT_PATH_PREFIX);
+                if (StringUtils.isAnyBlank(projectName, projectPath)) {
+                    continue;
+                }
+                if (!storedNames.add(projectName)) {
+                    // Projects are excluded by name, so a name shared by two projects can not be reused safely.
+                    duplicateNames.add(projectName);
+                    continue;
+                }
+
+                final Optional<String> fingerprint = fingerprint(new File(projectPath));
+                if (!fingerprint.isPresent() || metadata.containsKey(DYNAMIC_VERSION_KEY)) {
+                    logger.debug(String.format("The gradle project %s can not be fingerprinted from its build files, its report will not be cached.", projectName));
+                    index.remove(projectName + FINGERPRINT_SUFFIX);
+                    continue;
+                }
+
+                // Report names are only unique within one inspection, so every project gets its own directory keyed by its path.
+                // The report keeps its name there because the extractor orders cached and fresh reports by name.
+                final File projectCacheDirectory = new File(cacheDirectory, sha256(projectPath));
+                FileUtils.deleteDirectory(projectCacheDirectory);
+                final String cachedReportName = projectCacheDirectory.getName() + "/" + reportFile.getName();
+                FileUtils.copyFile(reportFile, new File(projectCacheDirectory, reportFile.getName()));
+                index.setProperty(projectName + FINGERPRINT_SUFFIX, fingerprint.get());
+                index.setProperty(projectName + PATH_SUFFIX, projectPath);
+                index.setProperty(projectName + REPORT_SUFFIX, cachedReportName);
+            }
+            for (final String duplicateName : duplicateNames) {
+                index.remove(duplicateName + FINGERPRINT_SUFFIX);
+            }
+            try (final OutputStream outputStream = new FileOutputStream(new File(cacheDirectory, INDEX_FILENAME))) {
+                index.store(outputStream, "Gradle inspector report cache");
+            }
+        } catch (final IOException e) {
+            logger.warn(String.format("Failed to update the gradle report cache: %s", e.getMessage()));
+        }
+    }
+
+    private Properties readIndex() {
+        final Properties index = new Properties();
+        final File indexFile = new File(cacheDirectory, INDEX_FILENAME);
+        if (indexFile.isFile()) {
+            try (final InputStream inputStream = new FileInputStream(indexFile)) {
+                index.load(inputStream);
+            } catch (final IOException e) {
+                logger.debug("Failed to read the gradle report cache index, all projects will be inspected.", e);
+                index.clear();
+            }
+        }
+        return index;
+    }
+
+    private Map<String, String> readProjectMetadata(final File reportFile) throws IOException {
+        final Map<String, String> metadata = new HashMap<>();
+        try (final BufferedReader reader = Files.newBufferedReader(reportFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(PROJECT_NAME_PREFIX)) {
+                    metadata.put(PROJECT_NAME_PREFIX, line.substring(PROJECT_NAME_PREFIX.length()).trim());
+                } else if (line.startsWith(PROJECT_PATH_PREFIX)) {
+                    metadata.put(PROJECT_PATH_PREFIX, line.substring(PROJECT_PATH_PREFIX.length()).trim());
+                } else if (DYNAMIC_VERSION.matcher(line).find()) {
+                    metadata.put(DYNAMIC_VERSION_KEY, line.trim());
+                }
+            }
+        }
+        return metadata;
+    }
+
+    public Optional<String> fingerprint(final File projectDirectory) throws IOException {
+        boolean dependsOnProjects = false;
+        for (final String filename : BUILD_FILES) {
+            for (final File buildFile : Arrays.asList(new File(sourceDirectory, filename), new File(projectDirectory, filename))) {
+                if (!buildFile.isFile()) {
+                    continue;
+                }
+                final String buildScript = FileUtils.readFileToString(buildFile, StandardCharsets.UTF_8);
+                if (APPLIED_SCRIPT.matcher(buildScript).find() || DYNAMIC_VERSION.matcher(buildScript).find()) {
+                    return Optional.empty();
+                }
+                dependsOnProjects |= PROJECT_DEPENDENCY.matcher(buildScript).find();
+            }
+        }
+
+        final MessageDigest digest = newDigest();
+        digest.update(inspectionSettings.getBytes(StandardCharsets.UTF_8));
+        for (final String filename : ROOT_FINGERPRINT_FILES) {
+            updateDigest(digest, new File(sourceDirectory, filename));
+        }
+        digest.update(projectDirectory.getCanonicalPath().getBytes(StandardCharsets.UTF_8));
+        for (final String filename : PROJECT_FINGERPRINT_FILES) {
+            updateDigest(digest, new File(projectDirectory, filename));
+        }
+        final File[] dependencyLocks = new File(projectDirectory, DEPENDENCY_LOCKS_DIRECTORY).listFiles();
+        if (dependencyLocks != null) {
+            Arrays.sort(dependencyLocks);
+            for (final File dependencyLock : dependencyLocks) {
+                updateDigest(digest, dependencyLock);
+            }
+        }
+        if (dependsOnProjects) {
+            digest.update(buildDigest().getBytes(StandardCharsets.UTF_8));
+        }
+        return Optional.of(toHex(digest.digest()));
+    }
+
+    // A project's report includes what its sibling projects pull in, so a change to any build file of the build must invalidate it.
+    private String buildDigest() throws IOException {
+        if (buildDigest == null) {
+            final List<Path> buildInputs;
+            try (final Stream<Path> paths = Files.walk(sourceDirectory.toPath())) {
+                buildInputs = paths.filter(path -> !isInSkippedDirectory(path))
+                                  .filter(path -> isBuildInput(path.toFile()))
+                                  .sorted()
+                                  .collect(Collectors.toList());
+            }
+            final MessageDigest digest = newDigest();
+            for (final Path buildInput : buildInputs) {
+                digest.update(sourceDirectory.toPath().relativize(buildInput).toString().getBytes(StandardCharsets.UTF_8));
+                updateDigest(digest, buildInput.toFile());
+            }
+            buildDigest = toHex(digest.digest());
+        }
+        return buildDigest;
+    }
+
+    private boolean isInSkippedDirectory(final Path path) {
+        final Path relativePath = sourceDirectory.toPath().relativize(path);
+        for (final Path element : relativePath) {
+            if (SKIPPED_DIRECTORIES.contains(element.toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isBuildInput(final File file) {
+        if (!file.isFile()) {
+            return false;
+        }
+        final File parent = file.getParentFile();
+        return PROJECT_FINGERPRINT_FILES.contains(file.getName()) || (parent != null && parent.getPath().endsWith(new File(DEPENDENCY_LOCKS_DIRECTORY).getPath()));
+    }
+
+    private boolean hasBuildSrc() {
+        return new File(sourceDirectory, BUILD_SRC_DIRECTORY).exists();
+    }
+
+    private void updateDigest(final MessageDigest digest, final File file) throws IOException {
+        digest.update(file.getName().getBytes(StandardCharsets.UTF_8));
+        if (file.isFile()) {
+            digest.update(Files.readAllBytes(file.toPath()));
+        } else {
+            digest.update((byte) 0);
+        }
+    }
+
+    private String sha256(final String value) {
+        return toHex(newDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String toHex(final byte[] bytes) {
+        return String.format("%064x", new BigInteger(1, bytes));
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -73,6 +73,7 @@ public class GradleInspectorScriptCreator {
         gradleScriptData.put("includedConfigurationNames", scriptOptions.getIncludedConfigurationNames());
         final String gradleInspectorRepositoryUrl = scriptOptions.getGradleInspectorRepositoryUrl();
         gradleScriptData.put("customRepositoryUrl", gradleInspectorRepositoryUrl);
+        gradleScriptData.put("structuredOutput", Boolean.toString(scriptOptions.useStructuredOutput()));
 
         try {
             populateGradleScriptWithData(templateFile, gradleScriptData);
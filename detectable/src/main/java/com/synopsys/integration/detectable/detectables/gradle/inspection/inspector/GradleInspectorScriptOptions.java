@@ -31,15 +31,17 @@ public class GradleInspectorScriptOptions {
     private final String includedConfigurationNames;
     private final String gradleInspectorRepositoryUrl;
     private final String providedOnlineInspectorVersion;
+    private final boolean useStructuredOutput;
 
     public GradleInspectorScriptOptions(final String excludedProjectNames, final String includedProjectNames, final String excludedConfigurationNames, final String includedConfigurationNames, final String gradleInspectorRepositoryUrl,
-        final String providedOnlineInspectorVersion) {
+        final String providedOnlineInspectorVersion, final boolean useStructuredOutput) {
         this.excludedProjectNames = excludedProjectNames;
         this.includedProjectNames = includedProjectNames;
         this.excludedConfigurationNames = excludedConfigurationNames;
         this.includedConfigurationNames = includedConfigurationNames;
         this.gradleInspectorRepositoryUrl = gradleInspectorRepositoryUrl;
         this.providedOnlineInspectorVersion = providedOnlineInspectorVersion;
+        this.useStructuredOutput = useStructuredOutput;
     }
 
     public String getGradleInspectorRepositoryUrl() {
@@ -65,4 +67,8 @@ public class GradleInspectorScriptOptions {
     public Optional<String> getProvidedOnlineInspectorVersion() {
         return Optional.ofNullable(providedOnlineInspectorVersion);
     }
+
+    public boolean useStructuredOutput() {
+        return useStructuredOutput;
+    }
 }
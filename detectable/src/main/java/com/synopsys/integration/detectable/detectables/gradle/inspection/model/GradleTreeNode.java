@@ -67,6 +67,10 @@ public class GradleTreeNode {
         return new GradleTreeNode(NodeType.GAV, level, new GradleGav(artifact, version, name), null);
     }
 
+    public static GradleTreeNode newGav(final int level, final GradleGav gav) {
+        return new GradleTreeNode(NodeType.GAV, level, gav, null);
+    }
+
     public static GradleTreeNode newUnknown(final int level) {
         return new GradleTreeNode(NodeType.UNKOWN, level, null, null);
     }
@@ -0,0 +1,105 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.inspection.parse;
+
+import static com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser.PROJECT_GROUP_PREFIX;
+import static com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser.PROJECT_NAME_PREFIX;
+import static com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser.PROJECT_PATH_PREFIX;
+import static com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser.PROJECT_VERSION_PREFIX;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGav;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGraphEdge;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGraphReport;
+
+/*
+  Parses the structured inspector output, one record per line:
+    n <id> <group>:<artifact>:<version>    a node, written before any record that refers to it
+    c <configuration>                      the start of a configuration
+    r <id>                                 a first level dependency of the current configuration
+    e <parentId> <childId>                 a relationship, written once per project
+ */
+public class GradleGraphReportParser {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    public static final String NODE_PREFIX = "n ";
+    public static final String CONFIGURATION_PREFIX = "c ";
+    public static final String ROOT_PREFIX = "r ";
+    public static final String EDGE_PREFIX = "e ";
+
+    public Optional<GradleGraphReport> parseReport(final File reportFile) {
+        final GradleGraphReport gradleGraphReport = new GradleGraphReport();
+        try (final InputStream dependenciesInputStream = new FileInputStream(reportFile); final BufferedReader reader = new BufferedReader(new InputStreamReader(dependenciesInputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(EDGE_PREFIX)) {
+                    final int separator = line.indexOf(' ', EDGE_PREFIX.length());
+                    final int parentId = Integer.parseInt(line.substring(EDGE_PREFIX.length(), separator));
+                    final int childId = Integer.parseInt(line.substring(separator + 1));
+                    gradleGraphReport.edges.add(new GradleGraphEdge(parentId, childId));
+                } else if (line.startsWith(NODE_PREFIX)) {
+                    final int separator = line.indexOf(' ', NODE_PREFIX.length());
+                    final int id = Integer.parseInt(line.substring(NODE_PREFIX.length(), separator));
+                    parseGav(line.substring(separator + 1)).ifPresent(gav -> gradleGraphReport.nodes.put(id, gav));
+                } else if (line.startsWith(ROOT_PREFIX)) {
+                    gradleGraphReport.rootIds.add(Integer.parseInt(line.substring(ROOT_PREFIX.length())));
+                } else if (line.startsWith(CONFIGURATION_PREFIX)) {
+                    gradleGraphReport.configurationNames.add(line.substring(CONFIGURATION_PREFIX.length()));
+                } else if (line.startsWith(PROJECT_PATH_PREFIX)) {
+                    gradleGraphReport.projectSourcePath = line.substring(PROJECT_PATH_PREFIX.length()).trim();
+                } else if (line.startsWith(PROJECT_GROUP_PREFIX)) {
+                    gradleGraphReport.projectGroup = line.substring(PROJECT_GROUP_PREFIX.length()).trim();
+                } else if (line.startsWith(PROJECT_NAME_PREFIX)) {
+                    gradleGraphReport.projectName = line.substring(PROJECT_NAME_PREFIX.length()).trim();
+                } else if (line.startsWith(PROJECT_VERSION_PREFIX)) {
+                    gradleGraphReport.projectVersionName = line.substring(PROJECT_VERSION_PREFIX.length()).trim();
+                }
+            }
+        } catch (final Exception e) {
+            logger.debug(String.format("Failed to read report file: %s", reportFile.getAbsolutePath()), e);
+            return Optional.empty();
+        }
+
+        return Optional.of(gradleGraphReport);
+    }
+
+    private Optional<GradleGav> parseGav(final String gav) {
+        final String[] pieces = StringUtils.split(gav, ':');
+        if (pieces.length != 3) {
+            logger.error(String.format("The node can not be reasonably split in to the necessary parts: %s", gav));
+            return Optional.empty();
+        }
+        return Optional.of(new GradleGav(pieces[1], pieces[2], pieces[0]));
+    }
+}
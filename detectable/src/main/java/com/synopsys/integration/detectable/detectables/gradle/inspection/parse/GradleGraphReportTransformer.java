@@ -0,0 +1,84 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.inspection.parse;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGav;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGraphEdge;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGraphReport;
+
+public class GradleGraphReportTransformer {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ExternalIdFactory externalIdFactory;
+
+    public GradleGraphReportTransformer(final ExternalIdFactory externalIdFactory) {
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    public CodeLocation transform(final GradleGraphReport gradleGraphReport) {
+        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        logger.info(String.format("Adding configurations to the graph: %s", String.join(", ", gradleGraphReport.configurationNames)));
+
+        final Map<Integer, Dependency> dependencies = new HashMap<>();
+        for (final Map.Entry<Integer, GradleGav> node : gradleGraphReport.nodes.entrySet()) {
+            final GradleGav gav = node.getValue();
+            final ExternalId externalId = externalIdFactory.createMavenExternalId(gav.getName(), gav.getArtifact(), gav.getVersion());
+            dependencies.put(node.getKey(), new Dependency(gav.getArtifact(), gav.getVersion(), externalId));
+        }
+
+        for (final Integer rootId : gradleGraphReport.rootIds) {
+            final Dependency root = dependencies.get(rootId);
+            if (root != null) {
+                graph.addChildToRoot(root);
+            }
+        }
+
+        for (final GradleGraphEdge edge : gradleGraphReport.edges) {
+            final Dependency parent = dependencies.get(edge.getParentId());
+            final Dependency child = dependencies.get(edge.getChildId());
+            if (parent != null && child != null) {
+                graph.addChildWithParent(child, parent);
+            }
+        }
+
+        final ExternalId projectId = externalIdFactory.createMavenExternalId(gradleGraphReport.projectGroup, gradleGraphReport.projectName, gradleGraphReport.projectVersionName);
+        if (StringUtils.isNotBlank(gradleGraphReport.projectSourcePath)) {
+            return new CodeLocation(graph, projectId, new File(gradleGraphReport.projectSourcePath));
+        } else {
+            return new CodeLocation(graph, projectId);
+        }
+    }
+}
@@ -22,31 +22,31 @@
  */
 package com.synopsys.integration.detectable.detectables.gradle.inspection.parse;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleConfiguration;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGav;
 
 public class GradleReportConfigurationParser {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final GradleReportLineParser parser = new GradleReportLineParser();
 
-    public GradleConfiguration parse(final String header, final List<String> dependencyLines) {
+    public GradleConfiguration parseHeader(final String header) {
         final GradleConfiguration configuration = new GradleConfiguration();
 
         configuration.name = parseConfigurationName(header);
 
-        configuration.children = dependencyLines.stream()
-                                     .map(parser::parseLine)
-                                     .collect(Collectors.toList());
-
         return configuration;
     }
 
+    public void parseDependencyLine(final GradleConfiguration configuration, final String dependencyLine, final Map<String, GradleGav> gavCache) {
+        configuration.children.add(parser.parseLine(dependencyLine, gavCache));
+    }
+
     private String parseConfigurationName(final String header) {
         if (header.contains(" - ")) {
             return header.substring(0, header.indexOf(" - ")).trim();
@@ -24,13 +24,16 @@ package com.synopsys.integration.detectable.detectables.gradle.inspection.parse;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.detectable.detectable.util.DetectableStringUtils;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGav;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleTreeNode;
 
 public class GradleReportLineParser {
@@ -40,8 +43,14 @@ public class GradleReportLineParser {
     private static final String COMPONENT_PREFIX = "--- ";
     private static final String SEEN_ELSEWHERE_SUFFIX = " (*)";
     private static final String WINNING_INDICATOR = " -> ";
+    private static final int TREE_LEVEL_WIDTH = 5;
 
     public GradleTreeNode parseLine(final String line) {
+        return parseLine(line, new HashMap<>());
+    }
+
+    // Identical GAVs appear many times across configurations, the cache lets every node for the same GAV share one instance.
+    public GradleTreeNode parseLine(final String line, final Map<String, GradleGav> gavCache) {
         final int level = parseTreeLevel(line);
         if (!line.contains(COMPONENT_PREFIX)) {
             return GradleTreeNode.newUnknown(level);
@@ -56,7 +65,8 @@ public class GradleReportLineParser {
                 final String group = gav.get(0);
                 final String artifact = gav.get(1);
                 final String version = gav.get(2);
-                return GradleTreeNode.newGav(level, artifact, version, group);
+                final GradleGav gradleGav = gavCache.computeIfAbsent(group + ":" + artifact + ":" + version, key -> new GradleGav(artifact, version, group));
+                return GradleTreeNode.newGav(level, gradleGav);
             }
         }
     }
@@ -97,6 +107,12 @@ public class GradleReportLineParser {
             return 0;
         }
 
+        // Every level of the tree is indented by exactly five characters, so the position of the terminal gives the level without rewriting the line.
+        final int terminalIndex = StringUtils.indexOfAny(line, TREE_LEVEL_TERMINALS);
+        if (terminalIndex > 0 && terminalIndex % TREE_LEVEL_WIDTH == 0) {
+            return terminalIndex / TREE_LEVEL_WIDTH;
+        }
+
         String modifiedLine = DetectableStringUtils.removeEvery(line, TREE_LEVEL_TERMINALS);
 
         if (!modifiedLine.startsWith("|") && modifiedLine.startsWith(" ")) {
@@ -28,16 +28,16 @@ import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleConfiguration;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGav;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleReport;
 
 public class GradleReportParser {
@@ -56,11 +56,13 @@ public class GradleReportParser {
 
     public Optional<GradleReport> parseReport(final File reportFile) {
         GradleReport gradleReport = new GradleReport();
+        final Map<String, GradleGav> gavCache = new HashMap<>();
         boolean processingMetaData = false;
-        final List<String> configurationLines = new ArrayList<>();
+        boolean startOfBlock = true;
+        GradleConfiguration currentConfiguration = null;
         try (final InputStream dependenciesInputStream = new FileInputStream(reportFile); final BufferedReader reader = new BufferedReader(new InputStreamReader(dependenciesInputStream, StandardCharsets.UTF_8))) {
-            while (reader.ready()) {
-                final String line = reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
                 /*
                   The meta data section will be at the end of the file after all of the "gradle dependencies" output
                  */
@@ -85,16 +87,25 @@ public class GradleReportParser {
                     continue;
                 }
 
+                /*
+                  Every block of lines separated by blank lines is a candidate configuration, the first line of the block tells us if it is one.
+                  The tree is built as the lines are read so the report never has to be held in memory.
+                 */
                 if (StringUtils.isBlank(line)) {
-                    parseConfigurationLines(configurationLines, gradleReport);
-                    configurationLines.clear();
-                } else {
-                    configurationLines.add(line);
+                    addConfiguration(currentConfiguration, gradleReport);
+                    currentConfiguration = null;
+                    startOfBlock = true;
+                } else if (startOfBlock) {
+                    startOfBlock = false;
+                    if (isConfigurationHeader(line)) {
+                        currentConfiguration = gradleReportConfigurationParser.parseHeader(line);
+                    }
+                } else if (currentConfiguration != null) {
+                    gradleReportConfigurationParser.parseDependencyLine(currentConfiguration, line, gavCache);
                 }
-
             }
 
-            parseConfigurationLines(configurationLines, gradleReport);
+            addConfiguration(currentConfiguration, gradleReport);
         } catch (final Exception e) {
             logger.debug(String.format("Failed to read report file: %s", reportFile.getAbsolutePath()), e);
             gradleReport = null;
@@ -103,20 +114,17 @@ public class GradleReportParser {
         return Optional.ofNullable(gradleReport);
     }
 
-    private void parseConfigurationLines(final List<String> configurationLines, final GradleReport gradleReport) {
-        if (configurationLines.size() > 1 && isConfigurationHeader(configurationLines)) {
-            final String header = configurationLines.get(0);
-            final List<String> dependencyTree = configurationLines.stream().skip(1).collect(Collectors.toList());
-            final GradleConfiguration configuration = gradleReportConfigurationParser.parse(header, dependencyTree);
+    private void addConfiguration(final GradleConfiguration configuration, final GradleReport gradleReport) {
+        if (configuration != null && !configuration.children.isEmpty()) {
             gradleReport.configurations.add(configuration);
         }
     }
 
-    private boolean isConfigurationHeader(final List<String> lines) {
-        if (lines.get(0).contains(" - ")) {
+    private boolean isConfigurationHeader(final String line) {
+        if (line.contains(" - ")) {
             return true;
         } else {
-            return StringUtils.isAlphanumeric(lines.get(0));
+            return StringUtils.isAlphanumeric(line);
         }
     }
 }
@@ -0,0 +1,94 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.lockfile;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.ExtractionEnvironment;
+import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectable.result.DetectableResult;
+import com.synopsys.integration.detectable.detectable.result.FileNotFoundDetectableResult;
+import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
+
+public class GradleLockfileDetectable extends Detectable {
+    public static final String GRADLE_LOCKFILE_FILENAME = "gradle.lockfile";
+    public static final String BUILDSCRIPT_LOCKFILE_FILENAME = "buildscript-gradle.lockfile";
+    public static final String DEPENDENCY_LOCKS_DIRECTORY = "gradle/dependency-locks";
+    public static final String LEGACY_LOCKFILE_PATTERN = "*.lockfile";
+
+    private final FileFinder fileFinder;
+    private final GradleLockfileExtractor gradleLockfileExtractor;
+
+    private final List<File> lockfiles = new ArrayList<>();
+
+    public GradleLockfileDetectable(final DetectableEnvironment environment, final FileFinder fileFinder, final GradleLockfileExtractor gradleLockfileExtractor) {
+        super(environment, "Gradle Lockfile", "GRADLE");
+        this.fileFinder = fileFinder;
+        this.gradleLockfileExtractor = gradleLockfileExtractor;
+    }
+
+    @Override
+    public DetectableResult applicable() {
+        lockfiles.clear();
+
+        final File gradleLockfile = fileFinder.findFile(environment.getDirectory(), GRADLE_LOCKFILE_FILENAME);
+        if (gradleLockfile != null) {
+            lockfiles.add(gradleLockfile);
+        }
+
+        final File buildscriptLockfile = fileFinder.findFile(environment.getDirectory(), BUILDSCRIPT_LOCKFILE_FILENAME);
+        if (buildscriptLockfile != null) {
+            lockfiles.add(buildscriptLockfile);
+        }
+
+        // Gradle 4.8 through 5.x keeps one lockfile per configuration in the dependency-locks directory.
+        final File dependencyLocksDirectory = new File(environment.getDirectory(), DEPENDENCY_LOCKS_DIRECTORY);
+        if (dependencyLocksDirectory.isDirectory()) {
+            final List<File> legacyLockfiles = fileFinder.findFiles(dependencyLocksDirectory, LEGACY_LOCKFILE_PATTERN);
+            if (legacyLockfiles != null) {
+                lockfiles.addAll(legacyLockfiles);
+            }
+        }
+
+        if (lockfiles.isEmpty()) {
+            return new FileNotFoundDetectableResult(GRADLE_LOCKFILE_FILENAME);
+        }
+
+        return new PassedDetectableResult();
+    }
+
+    @Override
+    public DetectableResult extractable() {
+        return new PassedDetectableResult();
+    }
+
+    @Override
+    public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
+        return gradleLockfileExtractor.extract(environment.getDirectory(), lockfiles);
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.lockfile;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.gradle.lockfile.parse.GradleLockfileParser;
+
+public class GradleLockfileExtractor {
+    private final GradleLockfileParser gradleLockfileParser;
+
+    public GradleLockfileExtractor(final GradleLockfileParser gradleLockfileParser) {
+        this.gradleLockfileParser = gradleLockfileParser;
+    }
+
+    public Extraction extract(final File directory, final List<File> lockfiles) {
+        try {
+            final List<String> lockfileLines = new ArrayList<>();
+            for (final File lockfile : lockfiles) {
+                lockfileLines.addAll(Files.readAllLines(lockfile.toPath(), StandardCharsets.UTF_8));
+            }
+
+            final DependencyGraph dependencyGraph = gradleLockfileParser.parseLockfile(lockfileLines);
+            final CodeLocation codeLocation = new CodeLocation(dependencyGraph, directory);
+            return new Extraction.Builder().success(codeLocation).build();
+        } catch (final Exception e) {
+            return new Extraction.Builder().exception(e).build();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.lockfile.parse;
+
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+/*
+  Gradle lockfiles only record the resolved versions, not the relationships between them, so every locked module is a root dependency.
+    group:artifact:version=configurationA,configurationB    (gradle.lockfile, Gradle 6+)
+    group:artifact:version                                  (gradle/dependency-locks/<configuration>.lockfile, Gradle 4.8 to 5.x)
+    empty=configurationC                                    (configurations without dependencies)
+ */
+public class GradleLockfileParser {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final String EMPTY_PREFIX = "empty=";
+
+    private final ExternalIdFactory externalIdFactory;
+
+    public GradleLockfileParser(final ExternalIdFactory externalIdFactory) {
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    public DependencyGraph parseLockfile(final List<String> lockfileLines) {
+        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+
+        for (final String rawLine : lockfileLines) {
+            final String line = rawLine.trim();
+            if (StringUtils.isBlank(line) || line.startsWith(COMMENT_PREFIX) || line.startsWith(EMPTY_PREFIX)) {
+                continue;
+            }
+
+            final String gav = StringUtils.substringBefore(line, "=");
+            final String[] pieces = StringUtils.split(gav, ':');
+            if (pieces.length != 3) {
+                logger.debug(String.format("Skipping a lockfile line that is not a module: %s", line));
+                continue;
+            }
+
+            final ExternalId externalId = externalIdFactory.createMavenExternalId(pieces[0], pieces[1], pieces[2]);
+            final Dependency dependency = new Dependency(pieces[1], pieces[2], externalId);
+            graph.addChildToRoot(dependency);
+        }
+
+        return graph;
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.hex;
+
+import java.io.File;
+
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.ExtractionEnvironment;
+import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectable.result.DetectableResult;
+import com.synopsys.integration.detectable.detectable.result.FileNotFoundDetectableResult;
+import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
+
+public class RebarLockDetectable extends Detectable {
+    public static final String REBAR_LOCK = "rebar.lock";
+    // Where rebar3 fetches the default profile's dependencies; only used to recover parents when present.
+    public static final String DEFAULT_PROFILE_LIB_DIRECTORY = "_build/default/lib";
+
+    private final FileFinder fileFinder;
+    private final RebarLockExtractor rebarLockExtractor;
+
+    private File rebarLock;
+
+    public RebarLockDetectable(final DetectableEnvironment environment, final FileFinder fileFinder, final RebarLockExtractor rebarLockExtractor) {
+        super(environment, "Rebar Lock", "HEX");
+        this.fileFinder = fileFinder;
+        this.rebarLockExtractor = rebarLockExtractor;
+    }
+
+    @Override
+    public DetectableResult applicable() {
+        rebarLock = fileFinder.findFile(environment.getDirectory(), REBAR_LOCK);
+        if (rebarLock == null) {
+            return new FileNotFoundDetectableResult(REBAR_LOCK);
+        }
+
+        return new PassedDetectableResult();
+    }
+
+    @Override
+    public DetectableResult extractable() {
+        return new PassedDetectableResult();
+    }
+
+    @Override
+    public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
+        return rebarLockExtractor.extract(rebarLock, new File(environment.getDirectory(), DEFAULT_PROFILE_LIB_DIRECTORY));
+    }
+}
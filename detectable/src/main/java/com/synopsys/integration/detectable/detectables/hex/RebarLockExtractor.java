@@ -0,0 +1,96 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.hex;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.hex.model.RebarLockedDependency;
+import com.synopsys.integration.detectable.detectables.hex.parse.RebarConfigParser;
+import com.synopsys.integration.detectable.detectables.hex.parse.RebarLockDependencyTransformer;
+import com.synopsys.integration.detectable.detectables.hex.parse.RebarLockParser;
+
+public class RebarLockExtractor {
+    public static final String REBAR_CONFIG = "rebar.config";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final RebarLockParser rebarLockParser;
+    private final RebarConfigParser rebarConfigParser;
+    private final RebarLockDependencyTransformer rebarLockDependencyTransformer;
+
+    public RebarLockExtractor(final RebarLockParser rebarLockParser, final RebarConfigParser rebarConfigParser, final RebarLockDependencyTransformer rebarLockDependencyTransformer) {
+        this.rebarLockParser = rebarLockParser;
+        this.rebarConfigParser = rebarConfigParser;
+        this.rebarLockDependencyTransformer = rebarLockDependencyTransformer;
+    }
+
+    public Extraction extract(final File rebarLock, final File dependencyDirectory) {
+        try {
+            final List<RebarLockedDependency> lockedDependencies;
+            try (final Reader reader = Files.newBufferedReader(rebarLock.toPath(), StandardCharsets.UTF_8)) {
+                lockedDependencies = rebarLockParser.parse(reader);
+            }
+
+            final Map<String, List<String>> declaredDependencies = new ConcurrentHashMap<>();
+            lockedDependencies.parallelStream()
+                .map(RebarLockedDependency::getName)
+                .distinct()
+                .forEach(name -> {
+                    final File rebarConfig = new File(new File(dependencyDirectory, name), REBAR_CONFIG);
+                    if (rebarConfig.isFile()) {
+                        parseRebarConfig(rebarConfig).ifPresent(declared -> declaredDependencies.put(name, declared));
+                    }
+                });
+
+            final DependencyGraph dependencyGraph = rebarLockDependencyTransformer.transform(lockedDependencies, declaredDependencies);
+            final CodeLocation codeLocation = new CodeLocation(dependencyGraph);
+            return new Extraction.Builder().success(codeLocation).build();
+        } catch (final Exception e) {
+            return new Extraction.Builder().exception(e).build();
+        }
+    }
+
+    // A config the term parser does not understand only costs that dependency its children, they are reported at the root instead.
+    private Optional<List<String>> parseRebarConfig(final File rebarConfig) {
+        try (final Reader reader = Files.newBufferedReader(rebarConfig.toPath(), StandardCharsets.UTF_8)) {
+            return Optional.of(rebarConfigParser.parseDeclaredDependencies(reader));
+        } catch (final IOException | RuntimeException e) {
+            logger.debug(String.format("Unable to parse %s, its dependencies will be reported at the root: %s", rebarConfig.getAbsolutePath(), e.getMessage()));
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.hex.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public class ErlangTerm {
+    public enum Type {
+        TUPLE,
+        LIST,
+        ATOM,
+        STRING,
+        NUMBER
+    }
+
+    private final Type type;
+    private final String value;
+    private final List<ErlangTerm> elements;
+
+    private ErlangTerm(final Type type, final String value, final List<ErlangTerm> elements) {
+        this.type = type;
+        this.value = value;
+        this.elements = elements;
+    }
+
+    public static ErlangTerm value(final Type type, final String value) {
+        return new ErlangTerm(type, value, Collections.emptyList());
+    }
+
+    public static ErlangTerm container(final Type type, final List<ErlangTerm> elements) {
+        return new ErlangTerm(type, null, elements);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public List<ErlangTerm> getElements() {
+        return elements;
+    }
+
+    public Optional<ErlangTerm> getElement(final int index) {
+        return index < elements.size() ? Optional.of(elements.get(index)) : Optional.empty();
+    }
+
+    public boolean isAtom(final String atom) {
+        return type == Type.ATOM && atom.equals(value);
+    }
+}
@@ -20,40 +20,28 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-package com.synopsys.integration.detectable.detectables.cocoapods.model;
+package com.synopsys.integration.detectable.detectables.hex.model;
 
-import java.util.ArrayList;
-import java.util.List;
+public class RebarLockedDependency {
+    private final String name;
+    private final String version;
+    private final int level;
 
-import com.fasterxml.jackson.annotation.JsonAnySetter;
-
-public class Pod {
-    private String name;
-    private String cleanName;
-    private List<String> dependencies = new ArrayList<>();
-
-    public Pod() {
-    }
-
-    public Pod(final String name) {
-        this.name = name;
-    }
-
-    @JsonAnySetter
-    public void setDynamicProperty(final String name, final List<String> dependencies) {
+    public RebarLockedDependency(final String name, final String version, final int level) {
         this.name = name;
-        this.dependencies = dependencies;
+        this.version = version;
+        this.level = level;
     }
 
     public String getName() {
         return name;
     }
 
-    public String getCleanName() {
-        return cleanName;
+    public String getVersion() {
+        return version;
     }
 
-    public List<String> getDependencies() {
-        return dependencies;
+    public int getLevel() {
+        return level;
     }
 }
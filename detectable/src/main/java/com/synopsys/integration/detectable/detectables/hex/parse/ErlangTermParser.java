@@ -0,0 +1,182 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.hex.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import org.apache.commons.io.IOUtils;
+
+import com.synopsys.integration.detectable.detectables.hex.model.ErlangTerm;
+
+// Reads the consult-style files rebar3 writes: a sequence of terms, each ending with a period. Binaries are read as strings.
+public class ErlangTermParser {
+    public List<ErlangTerm> parse(final Reader reader) throws IOException {
+        return new Cursor(IOUtils.toString(reader)).readTerms();
+    }
+
+    private static class Cursor {
+        private final String text;
+        private int position = 0;
+
+        Cursor(final String text) {
+            this.text = text;
+        }
+
+        List<ErlangTerm> readTerms() {
+            final List<ErlangTerm> terms = new ArrayList<>();
+            skipWhitespace();
+            while (position < text.length()) {
+                terms.add(readTerm());
+                expect('.');
+                skipWhitespace();
+            }
+            return terms;
+        }
+
+        private ErlangTerm readTerm() {
+            skipWhitespace();
+            final char current = peek();
+            if (current == '{') {
+                return ErlangTerm.container(ErlangTerm.Type.TUPLE, readElements('{', '}'));
+            } else if (current == '[') {
+                return ErlangTerm.container(ErlangTerm.Type.LIST, readElements('[', ']'));
+            } else if (text.startsWith("<<", position)) {
+                return readBinary();
+            } else if (current == '"') {
+                return ErlangTerm.value(ErlangTerm.Type.STRING, readQuoted('"'));
+            } else if (current == '\'') {
+                return ErlangTerm.value(ErlangTerm.Type.ATOM, readQuoted('\''));
+            } else if (Character.isDigit(current) || current == '-') {
+                return ErlangTerm.value(ErlangTerm.Type.NUMBER, readWhile(character -> Character.isLetterOrDigit(character) || character == '.' && nextIsDigit() || character == '-' || character == '#'));
+            } else if (Character.isLetter(current)) {
+                return ErlangTerm.value(ErlangTerm.Type.ATOM, readWhile(character -> Character.isLetterOrDigit(character) || character == '_' || character == '@'));
+            }
+            throw error("Unexpected character '" + current + "'");
+        }
+
+        private List<ErlangTerm> readElements(final char open, final char close) {
+            expect(open);
+            final List<ErlangTerm> elements = new ArrayList<>();
+            skipWhitespace();
+            if (peek() == close) {
+                position++;
+                return elements;
+            }
+            while (true) {
+                elements.add(readTerm());
+                skipWhitespace();
+                final char separator = next();
+                if (separator == close) {
+                    return elements;
+                } else if (separator != ',' && separator != '|') {
+                    throw error("Expected ',' or '" + close + "'");
+                }
+            }
+        }
+
+        // Only the string segments of a binary are kept, e.g. <<"cowboy">> or <<"cowboy"/utf8>>.
+        private ErlangTerm readBinary() {
+            position += 2;
+            final StringBuilder value = new StringBuilder();
+            skipWhitespace();
+            while (!text.startsWith(">>", position)) {
+                if (peek() == '"') {
+                    value.append(readQuoted('"'));
+                } else {
+                    position++;
+                }
+                skipWhitespace();
+            }
+            position += 2;
+            return ErlangTerm.value(ErlangTerm.Type.STRING, value.toString());
+        }
+
+        private String readQuoted(final char quote) {
+            expect(quote);
+            final StringBuilder value = new StringBuilder();
+            char current;
+            while ((current = next()) != quote) {
+                if (current == '\\') {
+                    current = next();
+                }
+                value.append(current);
+            }
+            return value.toString();
+        }
+
+        private String readWhile(final IntPredicate predicate) {
+            final int start = position;
+            while (position < text.length() && predicate.test(text.charAt(position))) {
+                position++;
+            }
+            return text.substring(start, position);
+        }
+
+        private boolean nextIsDigit() {
+            return position + 1 < text.length() && Character.isDigit(text.charAt(position + 1));
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length()) {
+                final char current = text.charAt(position);
+                if (current == '%') {
+                    while (position < text.length() && text.charAt(position) != '\n') {
+                        position++;
+                    }
+                } else if (Character.isWhitespace(current)) {
+                    position++;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void expect(final char expected) {
+            skipWhitespace();
+            if (next() != expected) {
+                throw error("Expected '" + expected + "'");
+            }
+        }
+
+        private char peek() {
+            if (position >= text.length()) {
+                throw error("Unexpected end of input");
+            }
+            return text.charAt(position);
+        }
+
+        private char next() {
+            final char current = peek();
+            position++;
+            return current;
+        }
+
+        private IllegalStateException error(final String message) {
+            return new IllegalStateException(String.format("%s at offset %d", message, position));
+        }
+    }
+}
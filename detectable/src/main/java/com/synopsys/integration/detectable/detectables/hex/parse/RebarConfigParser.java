@@ -0,0 +1,57 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.hex.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.synopsys.integration.detectable.detectables.hex.model.ErlangTerm;
+
+public class RebarConfigParser {
+    private final ErlangTermParser erlangTermParser;
+
+    public RebarConfigParser(final ErlangTermParser erlangTermParser) {
+        this.erlangTermParser = erlangTermParser;
+    }
+
+    // A deps entry is either a bare application name or a tuple starting with it.
+    public List<String> parseDeclaredDependencies(final Reader configReader) throws IOException {
+        final List<String> dependencies = new ArrayList<>();
+        for (final ErlangTerm term : erlangTermParser.parse(configReader)) {
+            if (term.getType() != ErlangTerm.Type.TUPLE || !term.getElement(0).filter(key -> key.isAtom("deps")).isPresent()) {
+                continue;
+            }
+
+            term.getElement(1).ifPresent(deps -> deps.getElements().forEach(dep -> {
+                if (dep.getType() == ErlangTerm.Type.ATOM) {
+                    dependencies.add(dep.getValue());
+                } else if (dep.getType() == ErlangTerm.Type.TUPLE) {
+                    dep.getElement(0).map(ErlangTerm::getValue).ifPresent(dependencies::add);
+                }
+            }));
+        }
+        return dependencies;
+    }
+}
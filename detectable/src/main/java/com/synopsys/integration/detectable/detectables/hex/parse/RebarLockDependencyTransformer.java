@@ -0,0 +1,79 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.hex.parse;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.hex.model.RebarLockedDependency;
+
+public class RebarLockDependencyTransformer {
+    private final ExternalIdFactory externalIdFactory;
+
+    public RebarLockDependencyTransformer(final ExternalIdFactory externalIdFactory) {
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    // The lock only records how deep each dependency sits; parents come from the declared deps of fetched dependencies.
+    // Anything deeper than the first level whose parent cannot be found is reported at the root so it is not lost.
+    public DependencyGraph transform(final List<RebarLockedDependency> lockedDependencies, final Map<String, List<String>> declaredDependencies) {
+        final Map<String, RebarLockedDependency> locked = new LinkedHashMap<>();
+        lockedDependencies.forEach(lockedDependency -> locked.putIfAbsent(lockedDependency.getName(), lockedDependency));
+        final Map<String, Dependency> dependencies = new LinkedHashMap<>();
+        locked.forEach((name, lockedDependency) -> dependencies.put(name, createDependency(lockedDependency)));
+
+        final MutableMapDependencyGraph graph = new MutableMapDependencyGraph();
+        final Set<String> attached = new HashSet<>();
+        for (final RebarLockedDependency parent : locked.values()) {
+            for (final String childName : declaredDependencies.getOrDefault(parent.getName(), Collections.emptyList())) {
+                final RebarLockedDependency child = locked.get(childName);
+                if (child != null && child.getLevel() > parent.getLevel()) {
+                    graph.addChildWithParent(dependencies.get(childName), dependencies.get(parent.getName()));
+                    attached.add(childName);
+                }
+            }
+        }
+
+        locked.values().stream()
+            .filter(lockedDependency -> lockedDependency.getLevel() == 0 || !attached.contains(lockedDependency.getName()))
+            .map(lockedDependency -> dependencies.get(lockedDependency.getName()))
+            .forEach(graph::addChildToRoot);
+
+        return graph;
+    }
+
+    private Dependency createDependency(final RebarLockedDependency lockedDependency) {
+        final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.HEX, lockedDependency.getName(), lockedDependency.getVersion());
+        return new Dependency(lockedDependency.getName(), lockedDependency.getVersion(), externalId);
+    }
+}
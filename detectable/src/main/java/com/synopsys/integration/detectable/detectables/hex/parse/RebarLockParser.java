@@ -0,0 +1,99 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.hex.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detectable.detectables.hex.model.ErlangTerm;
+import com.synopsys.integration.detectable.detectables.hex.model.RebarLockedDependency;
+
+public class RebarLockParser {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ErlangTermParser erlangTermParser;
+
+    public RebarLockParser(final ErlangTermParser erlangTermParser) {
+        this.erlangTermParser = erlangTermParser;
+    }
+
+    // Older rebar3 writes the bare list of locks; newer versions wrap it as {"1.1.0", [...]} and follow it with the pkg_hash sections.
+    public List<RebarLockedDependency> parse(final Reader lockReader) throws IOException {
+        final List<ErlangTerm> terms = erlangTermParser.parse(lockReader);
+        final List<RebarLockedDependency> dependencies = new ArrayList<>();
+        if (terms.isEmpty()) {
+            return dependencies;
+        }
+
+        final ErlangTerm lockTerm = terms.get(0);
+        final ErlangTerm locks;
+        if (lockTerm.getType() == ErlangTerm.Type.LIST) {
+            locks = lockTerm;
+        } else if (lockTerm.getType() == ErlangTerm.Type.TUPLE && lockTerm.getElement(1).filter(element -> element.getType() == ErlangTerm.Type.LIST).isPresent()) {
+            locks = lockTerm.getElements().get(1);
+        } else {
+            throw new IllegalStateException("The rebar.lock is not in a recognized format.");
+        }
+
+        for (final ErlangTerm lock : locks.getElements()) {
+            if (lock.getType() != ErlangTerm.Type.TUPLE || lock.getElements().size() < 3) {
+                continue;
+            }
+
+            final String name = lock.getElements().get(0).getValue();
+            final Optional<String> version = parseSourceVersion(lock.getElements().get(1));
+            final int level = NumberUtils.toInt(lock.getElements().get(2).getValue(), 0);
+            if (version.isPresent()) {
+                dependencies.add(new RebarLockedDependency(name, version.get(), level));
+            } else {
+                logger.debug(String.format("Could not determine the locked version of %s.", name));
+            }
+        }
+
+        return dependencies;
+    }
+
+    // {pkg, Name, Version} for hex packages; {git, Url, {ref | tag | branch, Value}} for source dependencies.
+    private Optional<String> parseSourceVersion(final ErlangTerm source) {
+        if (source.getType() != ErlangTerm.Type.TUPLE) {
+            return Optional.empty();
+        }
+
+        final Optional<ErlangTerm> kind = source.getElement(0);
+        if (kind.filter(term -> term.isAtom("pkg")).isPresent()) {
+            return source.getElement(2).map(ErlangTerm::getValue);
+        }
+
+        return source.getElement(2)
+                   .filter(revision -> revision.getType() == ErlangTerm.Type.TUPLE)
+                   .flatMap(revision -> revision.getElement(1))
+                   .map(ErlangTerm::getValue);
+    }
+}
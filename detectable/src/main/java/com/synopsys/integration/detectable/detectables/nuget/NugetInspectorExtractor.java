@@ -23,15 +23,20 @@
 package com.synopsys.integration.detectable.detectables.nuget;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -70,27 +75,26 @@ public class NugetInspectorExtractor {
 
             final List<File> dependencyNodeFiles = fileFinder.findFiles(outputDirectory, INSPECTOR_OUTPUT_PATTERN);
 
-            final List<NugetParseResult> parseResults = new ArrayList<>();
-            for (final File dependencyNodeFile : dependencyNodeFiles) {
-                final String text = FileUtils.readFileToString(dependencyNodeFile, StandardCharsets.UTF_8);
-                final NugetParseResult result = nugetInspectorParser.createCodeLocation(text);
-                parseResults.add(result);
-            }
-
-            final List<CodeLocation> codeLocations = parseResults.stream()
-                                                         .flatMap(it -> it.codeLocations.stream())
-                                                         .collect(Collectors.toList());
+            final List<NugetParseResult> parseResults = dependencyNodeFiles.parallelStream()
+                                                            .sorted(Comparator.comparing(File::getName))
+                                                            .map(this::parseInspection)
+                                                            .collect(Collectors.toList());
 
-            if (codeLocations.size() <= 0) {
+            if (parseResults.stream().allMatch(it -> it.codeLocations.isEmpty())) {
                 logger.warn("Unable to extract any dependencies from nuget");
             }
 
             final Map<File, CodeLocation> codeLocationsBySource = new HashMap<>();
+            final Map<File, Set<String>> contentHashesBySource = new HashMap<>();
             final DependencyGraphCombiner combiner = new DependencyGraphCombiner();
 
-            codeLocations.forEach(codeLocation -> {
+            parseResults.forEach(parseResult -> parseResult.codeLocations.forEach(codeLocation -> {
                 final File sourcePathFile = codeLocation.getSourcePath().orElse(null);
-                if (codeLocationsBySource.containsKey(sourcePathFile)) {
+                final Optional<String> contentHash = parseResult.getContentHash(codeLocation);
+                // The same project in several solutions is inspected once per solution, identical graphs add nothing when combined.
+                if (contentHash.isPresent() && !contentHashesBySource.computeIfAbsent(sourcePathFile, key -> new HashSet<>()).add(contentHash.get())) {
+                    logger.debug(String.format("Skipping an identical code location for: %s", sourcePathFile));
+                } else if (codeLocationsBySource.containsKey(sourcePathFile)) {
                     logger.info("Multiple project code locations were generated for: " + targetDirectory.toString());
                     logger.info("This most likely means the same project exists in multiple solutions.");
                     logger.info("The code location's dependencies will be combined, in the future they will exist seperately for each solution.");
@@ -99,7 +103,7 @@ public class NugetInspectorExtractor {
                 } else {
                     codeLocationsBySource.put(sourcePathFile, codeLocation);
                 }
-            });
+            }));
 
             final List<CodeLocation> uniqueCodeLocations = new ArrayList<>(codeLocationsBySource.values());
 
@@ -115,4 +119,12 @@ public class NugetInspectorExtractor {
         }
     }
 
+    private NugetParseResult parseInspection(final File dependencyNodeFile) {
+        try (final Reader reader = Files.newBufferedReader(dependencyNodeFile.toPath(), StandardCharsets.UTF_8)) {
+            return nugetInspectorParser.createCodeLocation(reader);
+        } catch (final IOException e) {
+            throw new IllegalStateException(String.format("Failed to parse nuget inspection file: %s", dependencyNodeFile.getAbsolutePath()), e);
+        }
+    }
+
 }
@@ -0,0 +1,75 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.nuget.lockfile;
+
+import java.io.File;
+
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.ExtractionEnvironment;
+import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectable.result.DetectableResult;
+import com.synopsys.integration.detectable.detectable.result.FilesNotFoundDetectableResult;
+import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
+
+public class NugetLockfileDetectable extends Detectable {
+    public static final String OBJ_DIRECTORY = "obj";
+    public static final String PROJECT_ASSETS_FILENAME = "project.assets.json";
+    public static final String PACKAGES_LOCK_FILENAME = "packages.lock.json";
+
+    private final FileFinder fileFinder;
+    private final NugetLockfileExtractor nugetLockfileExtractor;
+
+    private File projectAssets;
+    private File packagesLock;
+
+    public NugetLockfileDetectable(final DetectableEnvironment environment, final FileFinder fileFinder, final NugetLockfileExtractor nugetLockfileExtractor) {
+        super(environment, "Nuget Lockfile", "NUGET");
+        this.fileFinder = fileFinder;
+        this.nugetLockfileExtractor = nugetLockfileExtractor;
+    }
+
+    @Override
+    public DetectableResult applicable() {
+        final File objDirectory = new File(environment.getDirectory(), OBJ_DIRECTORY);
+        projectAssets = objDirectory.isDirectory() ? fileFinder.findFile(objDirectory, PROJECT_ASSETS_FILENAME) : null;
+        packagesLock = fileFinder.findFile(environment.getDirectory(), PACKAGES_LOCK_FILENAME);
+
+        if (projectAssets == null && packagesLock == null) {
+            return new FilesNotFoundDetectableResult(OBJ_DIRECTORY + "/" + PROJECT_ASSETS_FILENAME, PACKAGES_LOCK_FILENAME);
+        }
+
+        return new PassedDetectableResult();
+    }
+
+    @Override
+    public DetectableResult extractable() {
+        return new PassedDetectableResult();
+    }
+
+    @Override
+    public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
+        return nugetLockfileExtractor.extract(environment.getDirectory(), projectAssets, packagesLock);
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.nuget.lockfile;
+
+import java.io.File;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.nuget.lockfile.parse.NugetPackagesLockParser;
+import com.synopsys.integration.detectable.detectables.nuget.lockfile.parse.NugetProjectAssetsParser;
+import com.synopsys.integration.detectable.detectables.nuget.parse.NugetParseResult;
+
+public class NugetLockfileExtractor {
+    private final NugetProjectAssetsParser nugetProjectAssetsParser;
+    private final NugetPackagesLockParser nugetPackagesLockParser;
+
+    public NugetLockfileExtractor(final NugetProjectAssetsParser nugetProjectAssetsParser, final NugetPackagesLockParser nugetPackagesLockParser) {
+        this.nugetProjectAssetsParser = nugetProjectAssetsParser;
+        this.nugetPackagesLockParser = nugetPackagesLockParser;
+    }
+
+    // The project assets also name the project, so they are preferred when both files are present.
+    public Extraction extract(final File directory, final File projectAssets, final File packagesLock) {
+        try {
+            if (projectAssets != null) {
+                final NugetParseResult result;
+                try (final Reader reader = Files.newBufferedReader(projectAssets.toPath(), StandardCharsets.UTF_8)) {
+                    result = nugetProjectAssetsParser.parse(reader);
+                }
+                final Extraction.Builder builder = new Extraction.Builder().success(result.codeLocations);
+                if (StringUtils.isNotBlank(result.projectName)) {
+                    builder.projectName(result.projectName);
+                    builder.projectVersion(result.projectVersion);
+                }
+                return builder.build();
+            }
+
+            final DependencyGraph dependencyGraph;
+            try (final Reader reader = Files.newBufferedReader(packagesLock.toPath(), StandardCharsets.UTF_8)) {
+                dependencyGraph = nugetPackagesLockParser.parse(reader);
+            }
+            return new Extraction.Builder().success(new CodeLocation(dependencyGraph, directory)).build();
+        } catch (final Exception e) {
+            return new Extraction.Builder().exception(e).build();
+        }
+    }
+}
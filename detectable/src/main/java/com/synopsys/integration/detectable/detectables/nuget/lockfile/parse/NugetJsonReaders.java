@@ -0,0 +1,76 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.nuget.lockfile.parse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+class NugetJsonReaders {
+    private NugetJsonReaders() {
+    }
+
+    static String readString(final JsonReader reader) throws IOException {
+        final JsonToken token = reader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return reader.nextString();
+        }
+        reader.skipValue();
+        return null;
+    }
+
+    static List<String> readStrings(final JsonReader reader) throws IOException {
+        final List<String> values = new ArrayList<>();
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            reader.skipValue();
+            return values;
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            final String value = readString(reader);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        reader.endArray();
+        return values;
+    }
+
+    static List<String> readNames(final JsonReader reader) throws IOException {
+        final List<String> names = new ArrayList<>();
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return names;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            names.add(reader.nextName());
+            reader.skipValue();
+        }
+        reader.endObject();
+        return names;
+    }
+}
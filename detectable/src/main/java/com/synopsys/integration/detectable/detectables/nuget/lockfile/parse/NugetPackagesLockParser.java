@@ -0,0 +1,121 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.nuget.lockfile.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+// Reads the packages.lock.json written by a NuGet restore with RestorePackagesWithLockFile enabled.
+public class NugetPackagesLockParser {
+    private static final String DIRECT_TYPE = "Direct";
+    private static final String PROJECT_TYPE = "Project";
+
+    private final ExternalIdFactory externalIdFactory;
+
+    public NugetPackagesLockParser(final ExternalIdFactory externalIdFactory) {
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    public DependencyGraph parse(final Reader packagesLock) throws IOException {
+        final NugetTargetGraphBuilder graphBuilder = new NugetTargetGraphBuilder(externalIdFactory);
+
+        final JsonReader reader = new JsonReader(packagesLock);
+        reader.setLenient(true);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if ("dependencies".equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    reader.nextName();
+                    readTarget(reader, graphBuilder);
+                }
+                reader.endObject();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return graphBuilder.build();
+    }
+
+    private void readTarget(final JsonReader reader, final NugetTargetGraphBuilder graphBuilder) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+        final Map<String, String> resolvedVersions = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        final Map<String, List<String>> packageDependencies = new LinkedHashMap<>();
+        final List<String> rootPackageNames = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String packageName = reader.nextName();
+            String type = null;
+            String resolved = null;
+            List<String> dependencies = new ArrayList<>();
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final String field = reader.nextName();
+                if ("type".equals(field)) {
+                    type = NugetJsonReaders.readString(reader);
+                } else if ("resolved".equals(field)) {
+                    resolved = NugetJsonReaders.readString(reader);
+                } else if ("dependencies".equals(field)) {
+                    dependencies = NugetJsonReaders.readNames(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            // Project references have no resolved version and are scanned as projects of their own.
+            if (PROJECT_TYPE.equalsIgnoreCase(type) || resolved == null) {
+                continue;
+            }
+            resolvedVersions.put(packageName, resolved);
+            packageDependencies.put(packageName, dependencies);
+            if (DIRECT_TYPE.equalsIgnoreCase(type)) {
+                rootPackageNames.add(packageName);
+            }
+        }
+        reader.endObject();
+
+        graphBuilder.addTarget(resolvedVersions, packageDependencies, rootPackageNames);
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.nuget.lockfile.parse;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.nuget.parse.NugetParseResult;
+
+// Reads the obj/project.assets.json written by a NuGet restore of an SDK-style project.
+public class NugetProjectAssetsParser {
+    private static final String PACKAGE_TYPE = "package";
+
+    private final ExternalIdFactory externalIdFactory;
+
+    public NugetProjectAssetsParser(final ExternalIdFactory externalIdFactory) {
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    public NugetParseResult parse(final Reader projectAssets) throws IOException {
+        final Map<String, Map<String, String>> resolvedVersionsByTarget = new LinkedHashMap<>();
+        final Map<String, Map<String, List<String>>> packageDependenciesByTarget = new HashMap<>();
+        final Map<String, List<String>> rootPackageNamesByFramework = new HashMap<>();
+        String projectName = null;
+        String projectVersion = null;
+        String projectPath = null;
+
+        final JsonReader reader = new JsonReader(projectAssets);
+        reader.setLenient(true);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if ("targets".equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    final String target = reader.nextName();
+                    final Map<String, String> resolvedVersions = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+                    final Map<String, List<String>> packageDependencies = new LinkedHashMap<>();
+                    readTarget(reader, resolvedVersions, packageDependencies);
+                    resolvedVersionsByTarget.put(target, resolvedVersions);
+                    packageDependenciesByTarget.put(target, packageDependencies);
+                }
+                reader.endObject();
+            } else if ("projectFileDependencyGroups".equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    final String framework = reader.nextName();
+                    final List<String> rootPackageNames = new ArrayList<>();
+                    for (final String dependencyRange : NugetJsonReaders.readStrings(reader)) {
+                        rootPackageNames.add(StringUtils.substringBefore(dependencyRange.trim(), " "));
+                    }
+                    rootPackageNamesByFramework.put(framework, rootPackageNames);
+                }
+                reader.endObject();
+            } else if ("project".equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    final String projectField = reader.nextName();
+                    if ("version".equals(projectField)) {
+                        projectVersion = NugetJsonReaders.readString(reader);
+                    } else if ("restore".equals(projectField) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            final String restoreField = reader.nextName();
+                            if ("projectName".equals(restoreField)) {
+                                projectName = NugetJsonReaders.readString(reader);
+                            } else if ("projectPath".equals(restoreField)) {
+                                projectPath = NugetJsonReaders.readString(reader);
+                            } else {
+                                reader.skipValue();
+                            }
+                        }
+                        reader.endObject();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        final NugetTargetGraphBuilder graphBuilder = new NugetTargetGraphBuilder(externalIdFactory);
+        for (final Map.Entry<String, Map<String, String>> target : resolvedVersionsByTarget.entrySet()) {
+            // Runtime specific targets are named framework/runtime, dependencies shared by every framework are grouped under an empty name.
+            final String framework = StringUtils.substringBefore(target.getKey(), "/");
+            final List<String> rootPackageNames = new ArrayList<>(rootPackageNamesByFramework.getOrDefault(framework, new ArrayList<>()));
+            rootPackageNames.addAll(rootPackageNamesByFramework.getOrDefault("", new ArrayList<>()));
+            graphBuilder.addTarget(target.getValue(), packageDependenciesByTarget.get(target.getKey()), rootPackageNames);
+        }
+
+        final File sourcePath = StringUtils.isNotBlank(projectPath) ? new File(projectPath) : null;
+        final CodeLocation codeLocation;
+        if (StringUtils.isNotBlank(projectName)) {
+            codeLocation = new CodeLocation(graphBuilder.build(), externalIdFactory.createNameVersionExternalId(Forge.NUGET, projectName, projectVersion), sourcePath);
+        } else {
+            codeLocation = new CodeLocation(graphBuilder.build(), sourcePath);
+        }
+        return new NugetParseResult(projectName, projectVersion, codeLocation);
+    }
+
+    private void readTarget(final JsonReader reader, final Map<String, String> resolvedVersions, final Map<String, List<String>> packageDependencies) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String library = reader.nextName();
+            String type = null;
+            List<String> dependencies = new ArrayList<>();
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final String field = reader.nextName();
+                if ("type".equals(field)) {
+                    type = NugetJsonReaders.readString(reader);
+                } else if ("dependencies".equals(field)) {
+                    dependencies = NugetJsonReaders.readNames(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            final String packageName = StringUtils.substringBefore(library, "/");
+            final String packageVersion = StringUtils.substringAfter(library, "/");
+            if (PACKAGE_TYPE.equalsIgnoreCase(type) && StringUtils.isNotBlank(packageVersion)) {
+                resolvedVersions.put(packageName, packageVersion);
+                packageDependencies.put(packageName, dependencies);
+            }
+        }
+        reader.endObject();
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.nuget.lockfile.parse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+// Combines the resolved packages of every restore target (framework and runtime) into one graph.
+public class NugetTargetGraphBuilder {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ExternalIdFactory externalIdFactory;
+    private final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+
+    public NugetTargetGraphBuilder(final ExternalIdFactory externalIdFactory) {
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    // NuGet package ids are case insensitive, every name is written the way the target resolved it so differently cased references share one external id.
+    public void addTarget(final Map<String, String> resolvedVersions, final Map<String, List<String>> packageDependencies, final Collection<String> rootPackageNames) {
+        final Map<String, String> resolvedNames = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        final Map<String, String> versions = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (final Map.Entry<String, String> resolvedVersion : resolvedVersions.entrySet()) {
+            resolvedNames.putIfAbsent(resolvedVersion.getKey(), resolvedVersion.getKey());
+            versions.putIfAbsent(resolvedVersion.getKey(), resolvedVersion.getValue());
+        }
+
+        for (final String rootPackageName : rootPackageNames) {
+            final String version = versions.get(rootPackageName);
+            if (version == null) {
+                logger.debug(String.format("The direct dependency %s was not resolved in the target.", rootPackageName));
+            } else {
+                graph.addChildToRoot(createDependency(resolvedNames.get(rootPackageName), version));
+            }
+        }
+
+        for (final Map.Entry<String, List<String>> packageEntry : packageDependencies.entrySet()) {
+            final String parentName = resolvedNames.getOrDefault(packageEntry.getKey(), packageEntry.getKey());
+            final Dependency parent = createDependency(parentName, versions.get(packageEntry.getKey()));
+            for (final String childName : packageEntry.getValue()) {
+                final String childVersion = versions.get(childName);
+                if (childVersion == null) {
+                    logger.debug(String.format("The dependency %s of %s was not resolved in the target.", childName, packageEntry.getKey()));
+                } else {
+                    graph.addParentWithChild(parent, createDependency(resolvedNames.get(childName), childVersion));
+                }
+            }
+        }
+    }
+
+    public DependencyGraph build() {
+        return graph;
+    }
+
+    private Dependency createDependency(final String name, final String version) {
+        final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.NUGET, name, version);
+        return new Dependency(name, version, externalId);
+    }
+}
@@ -23,8 +23,16 @@
 package com.synopsys.integration.detectable.detectables.nuget.parse;
 
 import java.io.File;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
@@ -48,9 +56,14 @@ public class NugetInspectorParser {
     }
 
     public NugetParseResult createCodeLocation(final String dependencyFileText) {
-        final NugetInspection nugetInspection = gson.fromJson(dependencyFileText, NugetInspection.class);
+        return createCodeLocation(new StringReader(dependencyFileText));
+    }
+
+    public NugetParseResult createCodeLocation(final Reader dependencyFile) {
+        final NugetInspection nugetInspection = gson.fromJson(dependencyFile, NugetInspection.class);
 
         final List<CodeLocation> codeLocations = new ArrayList<>();
+        final Map<CodeLocation, String> contentHashes = new IdentityHashMap<>();
         String projectName = "";
         String projectVersion = "";
         for (final NugetContainer it : nugetInspection.containers) {
@@ -62,10 +75,11 @@ public class NugetInspectorParser {
                     projectVersion = result.projectVersion;
                 }
                 codeLocations.addAll(result.codeLocations);
+                result.codeLocations.forEach(codeLocation -> result.getContentHash(codeLocation).ifPresent(contentHash -> contentHashes.put(codeLocation, contentHash)));
             }
         }
 
-        return new NugetParseResult(projectName, projectVersion, codeLocations);
+        return new NugetParseResult(projectName, projectVersion, codeLocations, contentHashes);
     }
 
     private Optional<NugetParseResult> createDetectCodeLocationFromNugetContainer(final NugetContainer nugetContainer) {
@@ -77,6 +91,7 @@ public class NugetInspectorParser {
             projectName = nugetContainer.name;
             projectVersionName = nugetContainer.version;
             final List<CodeLocation> codeLocations = new ArrayList<>();
+            final Map<CodeLocation, String> contentHashes = new IdentityHashMap<>();
             for (final NugetContainer container : nugetContainer.children) {
                 final NugetDependencyNodeBuilder builder = new NugetDependencyNodeBuilder(externalIdFactory);
                 builder.addPackageSets(container.packages);
@@ -87,8 +102,9 @@ public class NugetInspectorParser {
 
                 final CodeLocation codeLocation = new CodeLocation(children, externalIdFactory.createNameVersionExternalId(Forge.NUGET, projectName, projectVersionName), convertSourcePath(container.sourcePath));
                 codeLocations.add(codeLocation);
+                contentHashes.put(codeLocation, hashContents(container));
             }
-            parseResult = new NugetParseResult(projectName, projectVersionName, codeLocations);
+            parseResult = new NugetParseResult(projectName, projectVersionName, codeLocations, contentHashes);
         } else if (NugetContainerType.PROJECT == nugetContainer.type) {
             projectName = nugetContainer.name;
             projectVersionName = nugetContainer.version;
@@ -97,7 +113,7 @@ public class NugetInspectorParser {
             final DependencyGraph children = builder.createDependencyGraph(nugetContainer.dependencies);
 
             final CodeLocation codeLocation = new CodeLocation(children, externalIdFactory.createNameVersionExternalId(Forge.NUGET, projectName, projectVersionName), convertSourcePath(nugetContainer.sourcePath));
-            parseResult = new NugetParseResult(projectName, projectVersionName, codeLocation);
+            parseResult = new NugetParseResult(projectName, projectVersionName, codeLocation, hashContents(nugetContainer));
         } else {
             parseResult = null;
         }
@@ -105,6 +121,19 @@ public class NugetInspectorParser {
         return Optional.ofNullable(parseResult);
     }
 
+    private String hashContents(final NugetContainer nugetContainer) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(String.valueOf(nugetContainer.sourcePath).getBytes(StandardCharsets.UTF_8));
+        digest.update(gson.toJson(nugetContainer.packages).getBytes(StandardCharsets.UTF_8));
+        digest.update(gson.toJson(nugetContainer.dependencies).getBytes(StandardCharsets.UTF_8));
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+
     private File convertSourcePath(final String sourcePath) {//TODO: Seem to be getting a relative path for nuget... not sure where to look, something like "folder/./project/"
         File fileSourcePath = null;
         if (StringUtils.isNotBlank(sourcePath)) {
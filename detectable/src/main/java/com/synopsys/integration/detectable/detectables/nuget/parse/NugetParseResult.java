@@ -23,7 +23,11 @@
 package com.synopsys.integration.detectable.detectables.nuget.parse;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 
@@ -31,17 +35,36 @@ public class NugetParseResult {
     public String projectName;
     public String projectVersion;
     public List<CodeLocation> codeLocations;
+    // Hash of each code location's source path and inspected packages, identical hashes mean identical graphs.
+    private final Map<CodeLocation, String> contentHashes;
 
     public NugetParseResult(final String projectName, final String projectVersion, final List<CodeLocation> codeLocations) {
+        this(projectName, projectVersion, codeLocations, Collections.emptyMap());
+    }
+
+    public NugetParseResult(final String projectName, final String projectVersion, final List<CodeLocation> codeLocations, final Map<CodeLocation, String> contentHashes) {
         this.projectName = projectName;
         this.projectVersion = projectVersion;
         this.codeLocations = codeLocations;
+        this.contentHashes = new IdentityHashMap<>(contentHashes);
     }
 
     public NugetParseResult(final String projectName, final String projectVersion, final CodeLocation codeLocation) {
+        this(projectName, projectVersion, codeLocation, null);
+    }
+
+    public NugetParseResult(final String projectName, final String projectVersion, final CodeLocation codeLocation, final String contentHash) {
         this.projectName = projectName;
         this.projectVersion = projectVersion;
         this.codeLocations = new ArrayList<>();
         this.codeLocations.add(codeLocation);
+        this.contentHashes = new IdentityHashMap<>();
+        if (contentHash != null) {
+            this.contentHashes.put(codeLocation, contentHash);
+        }
+    }
+
+    public Optional<String> getContentHash(final CodeLocation codeLocation) {
+        return Optional.ofNullable(contentHashes.get(codeLocation));
     }
 }
@@ -23,9 +23,10 @@
 package com.synopsys.integration.detectable.detectables.packagist;
 
 import java.io.File;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,14 +43,11 @@ public class ComposerLockExtractor {
     }
 
     public Extraction extract(final File directory, final File composerJson, final File composerLock) {
-        try {
-            final String composerJsonText = FileUtils.readFileToString(composerJson, StandardCharsets.UTF_8);
-            final String composerLockText = FileUtils.readFileToString(composerLock, StandardCharsets.UTF_8);
+        try (final Reader composerJsonReader = Files.newBufferedReader(composerJson.toPath(), StandardCharsets.UTF_8);
+             final Reader composerLockReader = Files.newBufferedReader(composerLock.toPath(), StandardCharsets.UTF_8)) {
+            logger.debug(String.format("Reading %s and %s", composerJson.getAbsolutePath(), composerLock.getAbsolutePath()));
 
-            logger.debug(composerJsonText);
-            logger.debug(composerLockText);
-
-            final PackagistParseResult result = packagistParser.getDependencyGraphFromProject(directory.toString(), composerJsonText, composerLockText);
+            final PackagistParseResult result = packagistParser.getDependencyGraphFromProject(directory.toString(), composerJsonReader, composerLockReader);
 
             return new Extraction.Builder()
                        .success(result.getCodeLocation())
@@ -22,16 +22,20 @@
  */
 package com.synopsys.integration.detectable.detectables.packagist.parse;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.graph.builder.LazyExternalIdDependencyGraphBuilder;
 import com.synopsys.integration.bdio.model.Forge;
@@ -55,25 +59,38 @@ public class PackagistParser {
         this.composerLockDetectableOptions = composerLockDetectableOptions;
     }
 
-    public PackagistParseResult getDependencyGraphFromProject(final String sourcePath, final String composerJsonText, final String composerLockText) {
-        final LazyExternalIdDependencyGraphBuilder builder = new LazyExternalIdDependencyGraphBuilder();
-
-        final JsonObject composerJsonObject = new JsonParser().parse(composerJsonText).getAsJsonObject();
-        final NameVersion projectNameVersion = parseNameVersionFromJson(composerJsonObject);
+    public PackagistParseResult getDependencyGraphFromProject(final String sourcePath, final String composerJsonText, final String composerLockText) throws IOException {
+        return getDependencyGraphFromProject(sourcePath, new StringReader(composerJsonText), new StringReader(composerLockText));
+    }
 
-        final JsonObject composerLockObject = new JsonParser().parse(composerLockText).getAsJsonObject();
-        final List<PackagistPackage> models = convertJsonToModel(composerLockObject, composerLockDetectableOptions.shouldIncludeDevDependencies());
-        final List<NameVersion> rootPackages = parseDependencies(composerJsonObject, composerLockDetectableOptions.shouldIncludeDevDependencies());
+    public PackagistParseResult getDependencyGraphFromProject(final String sourcePath, final Reader composerJson, final Reader composerLock) throws IOException {
+        final boolean checkDev = composerLockDetectableOptions.shouldIncludeDevDependencies();
+        final LazyExternalIdDependencyGraphBuilder builder = new LazyExternalIdDependencyGraphBuilder();
 
-        models.forEach(it -> {
-            final ExternalId id = externalIdFactory.createNameVersionExternalId(Forge.PACKAGIST, it.getNameVersion().getName(), it.getNameVersion().getVersion());
-            final NameDependencyId dependencyId = new NameDependencyId(it.getNameVersion().getName());
-            builder.setDependencyInfo(dependencyId, it.getNameVersion().getName(), it.getNameVersion().getVersion(), id);
-            if (isRootPackage(it.getNameVersion(), rootPackages)) {
+        final PackagistPackage project = readComposerJson(composerJson, checkDev);
+        final NameVersion projectNameVersion = project.getNameVersion();
+        final Set<String> rootPackageNames = new HashSet<>();
+        project.getDependencies().forEach(it -> rootPackageNames.add(it.getName()));
+
+        // Packages are added to the graph as they are read, only their require names are held until every locked package is known.
+        final List<PackagistPackage> lockedPackages = new ArrayList<>();
+        final Set<String> lockedPackageNames = new HashSet<>();
+        readComposerLock(composerLock, checkDev, lockedPackage -> {
+            final NameVersion nameVersion = lockedPackage.getNameVersion();
+            final ExternalId id = externalIdFactory.createNameVersionExternalId(Forge.PACKAGIST, nameVersion.getName(), nameVersion.getVersion());
+            final NameDependencyId dependencyId = new NameDependencyId(nameVersion.getName());
+            builder.setDependencyInfo(dependencyId, nameVersion.getName(), nameVersion.getVersion(), id);
+            if (rootPackageNames.contains(nameVersion.getName())) {
                 builder.addChildToRoot(dependencyId);
             }
+            lockedPackages.add(lockedPackage);
+            lockedPackageNames.add(nameVersion.getName());
+        });
+
+        lockedPackages.forEach(it -> {
+            final NameDependencyId dependencyId = new NameDependencyId(it.getNameVersion().getName());
             it.getDependencies().forEach(child -> {
-                if (existsInPackages(child, models)) {
+                if (lockedPackageNames.contains(child.getName())) {
                     final NameDependencyId childId = new NameDependencyId(child.getName());
                     builder.addChildWithParent(childId, dependencyId);
                 } else {
@@ -92,81 +109,82 @@ public class PackagistParser {
         return new PackagistParseResult(projectNameVersion.getName(), projectNameVersion.getVersion(), codeLocation);
     }
 
-    private NameVersion parseNameVersionFromJson(final JsonObject json) {
-        final JsonElement nameElement = json.get("name");
-        final JsonElement versionElement = json.get("version");
-
-        String name = null;
-        String version = null;
-
-        if (nameElement != null) {
-            name = nameElement.toString().replace("\"", "");
-        }
-        if (versionElement != null) {
-            version = versionElement.toString().replace("\"", "");
-        }
-
-        return new NameVersion(name, version);
-    }
-
-    private boolean isRootPackage(final NameVersion nameVersion, final List<NameVersion> rootPackages) {
-        return rootPackages.stream().anyMatch(it -> it.getName().equals(nameVersion.getName()));
-    }
-
-    private boolean existsInPackages(final NameVersion nameVersion, final List<PackagistPackage> models) {
-        return models.stream().anyMatch(it -> it.getNameVersion().getName().equals(nameVersion.getName()));
-    }
-
-    private List<PackagistPackage> convertJsonToModel(final JsonObject lockfile, final boolean checkDev) {
-        final List<PackagistPackage> packages = new ArrayList<>();
-        packages.addAll(convertJsonToModel(lockfile.get("packages").getAsJsonArray(), checkDev));
-        if (checkDev) {
-            packages.addAll(convertJsonToModel(lockfile.get("packages-dev").getAsJsonArray(), checkDev));
-        }
-        return packages;
+    private PackagistPackage readComposerJson(final Reader composerJson, final boolean checkDev) throws IOException {
+        final JsonReader reader = new JsonReader(composerJson);
+        reader.setLenient(true);
+        return readPackage(reader, checkDev);
     }
 
-    private List<PackagistPackage> convertJsonToModel(final JsonArray packagesProperty, final boolean checkDev) {
-        final List<PackagistPackage> packages = new ArrayList<>();
-        packagesProperty.forEach(it -> {
-            if (it.isJsonObject()) {
-                final JsonObject itObject = it.getAsJsonObject();
-                final NameVersion nameVersion = parseNameVersionFromJson(itObject);
-                final List<NameVersion> dependencies = parseDependencies(itObject, checkDev);
-                packages.add(new PackagistPackage(nameVersion, dependencies));
+    private void readComposerLock(final Reader composerLock, final boolean checkDev, final Consumer<PackagistPackage> packageConsumer) throws IOException {
+        final JsonReader reader = new JsonReader(composerLock);
+        reader.setLenient(true);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            final boolean isPackages = "packages".equals(name) || (checkDev && "packages-dev".equals(name));
+            if (isPackages && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                        packageConsumer.accept(readPackage(reader, checkDev));
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
             }
-        });
-        return packages;
+        }
+        reader.endObject();
     }
 
-    private List<NameVersion> parseDependencies(final JsonObject packageJson, final boolean checkDev) {
+    private PackagistPackage readPackage(final JsonReader reader, final boolean checkDev) throws IOException {
+        String packageName = null;
+        String packageVersion = null;
         final List<NameVersion> dependencies = new ArrayList<>();
 
-        final JsonElement require = packageJson.get("require");
-        if (require != null && require.isJsonObject()) {
-            dependencies.addAll(parseDependenciesFromRequire(require.getAsJsonObject()));
-        }
-
-        if (checkDev) {
-            final JsonElement devRequire = packageJson.get("require-dev");
-            if (devRequire != null && devRequire.isJsonObject()) {
-                dependencies.addAll(parseDependenciesFromRequire(devRequire.getAsJsonObject()));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if ("name".equals(name)) {
+                packageName = readString(reader);
+            } else if ("version".equals(name)) {
+                packageVersion = readString(reader);
+            } else if (("require".equals(name) || (checkDev && "require-dev".equals(name))) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                dependencies.addAll(readRequire(reader));
+            } else {
+                reader.skipValue();
             }
-
         }
+        reader.endObject();
 
-        return dependencies;
+        return new PackagistPackage(new NameVersion(packageName, packageVersion), dependencies);
     }
 
-    private List<NameVersion> parseDependenciesFromRequire(final JsonObject requireObject) {
+    private List<NameVersion> readRequire(final JsonReader reader) throws IOException {
         final List<NameVersion> dependencies = new ArrayList<>();
-        requireObject.entrySet().forEach(it -> {
-            if (!it.getKey().equalsIgnoreCase("php")) {
-                final NameVersion nameVersion = new NameVersion(it.getKey().toString(), it.getValue().toString());
-                dependencies.add(nameVersion);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            final String version = readString(reader);
+            if (!name.equalsIgnoreCase("php")) {
+                dependencies.add(new NameVersion(name, version));
             }
-        });
+        }
+        reader.endObject();
         return dependencies;
     }
 
+    private String readString(final JsonReader reader) throws IOException {
+        final JsonToken token = reader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return reader.nextString();
+        } else if (token == JsonToken.BOOLEAN) {
+            return String.valueOf(reader.nextBoolean());
+        }
+        reader.skipValue();
+        return null;
+    }
+
 }
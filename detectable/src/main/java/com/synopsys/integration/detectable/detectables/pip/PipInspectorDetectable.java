@@ -23,6 +23,7 @@
 package com.synopsys.integration.detectable.detectables.pip;
 
 import java.io.File;
+import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -40,8 +41,10 @@ import com.synopsys.integration.detectable.detectable.inspector.PipInspectorReso
 import com.synopsys.integration.detectable.detectable.result.DetectableResult;
 import com.synopsys.integration.detectable.detectable.result.ExecutableNotFoundDetectableResult;
 import com.synopsys.integration.detectable.detectable.result.FileNotFoundDetectableResult;
+import com.synopsys.integration.detectable.detectable.result.FilesNotFoundDetectableResult;
 import com.synopsys.integration.detectable.detectable.result.InspectorNotFoundDetectableResult;
 import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
+import com.synopsys.integration.detectable.detectable.result.PropertyInsufficientDetectableResult;
 
 public class PipInspectorDetectable extends Detectable {
     public static final String SETUPTOOLS_DEFAULT_FILE_NAME = "setup.py";
@@ -54,13 +57,17 @@ public class PipInspectorDetectable extends Detectable {
     private final PipInspectorResolver pipInspectorResolver;
     private final PipInspectorExtractor pipInspectorExtractor;
     private final PipInspectorDetectableOptions pipInspectorDetectableOptions;
+    private final PythonSitePackagesFinder pythonSitePackagesFinder;
+    private final PipSitePackagesExtractor pipSitePackagesExtractor;
 
     private File pythonExe;
     private File pipInspector;
     private File setupFile;
+    private List<File> sitePackagesDirectories;
 
     public PipInspectorDetectable(final DetectableEnvironment environment, final FileFinder fileFinder, final PythonResolver pythonResolver, final PipResolver pipResolver,
-        final PipInspectorResolver pipInspectorResolver, final PipInspectorExtractor pipInspectorExtractor, final PipInspectorDetectableOptions pipInspectorDetectableOptions) {
+        final PipInspectorResolver pipInspectorResolver, final PipInspectorExtractor pipInspectorExtractor, final PipInspectorDetectableOptions pipInspectorDetectableOptions,
+        final PythonSitePackagesFinder pythonSitePackagesFinder, final PipSitePackagesExtractor pipSitePackagesExtractor) {
         super(environment, "Pip Inspector", "PIP");
         this.fileFinder = fileFinder;
         this.pythonResolver = pythonResolver;
@@ -68,6 +75,8 @@ public class PipInspectorDetectable extends Detectable {
         this.pipInspectorResolver = pipInspectorResolver;
         this.pipInspectorExtractor = pipInspectorExtractor;
         this.pipInspectorDetectableOptions = pipInspectorDetectableOptions;
+        this.pythonSitePackagesFinder = pythonSitePackagesFinder;
+        this.pipSitePackagesExtractor = pipSitePackagesExtractor;
     }
 
     @Override
@@ -87,6 +96,18 @@ public class PipInspectorDetectable extends Detectable {
 
     @Override
     public DetectableResult extractable() throws DetectableException {
+        final String sitePackagesPath = pipInspectorDetectableOptions.getSitePackagesPath();
+        if (StringUtils.isNotBlank(sitePackagesPath)) {
+            sitePackagesDirectories = pythonSitePackagesFinder.findSitePackages(new File(sitePackagesPath));
+            if (sitePackagesDirectories.isEmpty()) {
+                return new FilesNotFoundDetectableResult(PythonSitePackagesFinder.SITE_PACKAGES_DIRECTORY_NAME);
+            }
+            if (StringUtils.isBlank(pipInspectorDetectableOptions.getPipProjectName()) && StringUtils.isBlank(pipInspectorDetectableOptions.getRequirementsFilePath())) {
+                return new PropertyInsufficientDetectableResult("Reading a site-packages directory requires either a project name (detect.pip.project.name) or a requirements file (detect.pip.requirements.path).");
+            }
+            return new PassedDetectableResult();
+        }
+
         pythonExe = pythonResolver.resolvePython();
         if (pythonExe == null) {
             return new ExecutableNotFoundDetectableResult("python");
@@ -108,6 +129,9 @@ public class PipInspectorDetectable extends Detectable {
 
     @Override
     public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
+        if (sitePackagesDirectories != null) {
+            return pipSitePackagesExtractor.extract(sitePackagesDirectories, pipInspectorDetectableOptions.getRequirementsFilePath(), pipInspectorDetectableOptions.getPipProjectName());
+        }
         return pipInspectorExtractor.extract(environment.getDirectory(), pythonExe, pipInspector, setupFile, pipInspectorDetectableOptions.getRequirementsFilePath(), pipInspectorDetectableOptions.getPipProjectName());
     }
 }
@@ -25,10 +25,12 @@ package com.synopsys.integration.detectable.detectables.pip;
 public class PipInspectorDetectableOptions {
     private final String pipProjectName;
     private final String requirementsFilePath;
+    private final String sitePackagesPath;
 
-    public PipInspectorDetectableOptions(final String pipProjectName, final String requirementsFilePath) {
+    public PipInspectorDetectableOptions(final String pipProjectName, final String requirementsFilePath, final String sitePackagesPath) {
         this.pipProjectName = pipProjectName;
         this.requirementsFilePath = requirementsFilePath;
+        this.sitePackagesPath = sitePackagesPath;
     }
 
     public String getPipProjectName() {
@@ -38,4 +40,8 @@ public class PipInspectorDetectableOptions {
     public String getRequirementsFilePath() {
         return requirementsFilePath;
     }
+
+    public String getSitePackagesPath() {
+        return sitePackagesPath;
+    }
 }
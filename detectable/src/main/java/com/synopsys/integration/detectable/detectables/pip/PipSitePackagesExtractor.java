@@ -0,0 +1,117 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.pip;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.pip.model.PythonDistribution;
+import com.synopsys.integration.detectable.detectables.pip.parser.PythonDistributionGraphBuilder;
+import com.synopsys.integration.detectable.detectables.pip.parser.PythonDistributionMetadataParser;
+
+public class PipSitePackagesExtractor {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final PythonDistributionMetadataParser pythonDistributionMetadataParser;
+    private final PythonDistributionGraphBuilder pythonDistributionGraphBuilder;
+    private final ExternalIdFactory externalIdFactory;
+
+    public PipSitePackagesExtractor(final PythonDistributionMetadataParser pythonDistributionMetadataParser, final PythonDistributionGraphBuilder pythonDistributionGraphBuilder, final ExternalIdFactory externalIdFactory) {
+        this.pythonDistributionMetadataParser = pythonDistributionMetadataParser;
+        this.pythonDistributionGraphBuilder = pythonDistributionGraphBuilder;
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    public Extraction extract(final List<File> sitePackagesDirectories, final String requirementsFilePath, final String providedProjectName) {
+        try {
+            final List<PythonDistribution> installedDistributions = new ArrayList<>();
+            for (final File sitePackages : sitePackagesDirectories) {
+                installedDistributions.addAll(pythonDistributionMetadataParser.parseSitePackages(sitePackages));
+            }
+
+            final Optional<PythonDistribution> project = installedDistributions.stream()
+                                                             .filter(distribution -> StringUtils.isNotBlank(providedProjectName))
+                                                             .filter(distribution -> PythonDistribution.normalizeName(distribution.getName()).equals(PythonDistribution.normalizeName(providedProjectName)))
+                                                             .findFirst();
+
+            // Mirrors the inspector: an explicit requirements file wins, then the installed project's own requirements.
+            final List<String> rootRequirements;
+            if (StringUtils.isNotBlank(requirementsFilePath)) {
+                rootRequirements = parseRequirementsFile(new File(requirementsFilePath));
+            } else if (project.isPresent()) {
+                rootRequirements = project.get().getRequirements();
+            } else {
+                logger.warn(String.format("The project %s is not installed in the site-packages directory, so every top level distribution will be reported as a dependency.", providedProjectName));
+                rootRequirements = pythonDistributionGraphBuilder.findTopLevelRequirements(installedDistributions);
+            }
+
+            final DependencyGraph dependencyGraph = pythonDistributionGraphBuilder.build(installedDistributions, rootRequirements);
+
+            final String projectName = project.map(PythonDistribution::getName).orElse(providedProjectName);
+            final String projectVersion = project.map(PythonDistribution::getVersion).orElse(null);
+            final CodeLocation codeLocation;
+            if (StringUtils.isNotBlank(projectName)) {
+                final ExternalId projectExternalId = externalIdFactory.createNameVersionExternalId(Forge.PYPI, projectName, projectVersion);
+                codeLocation = new CodeLocation(dependencyGraph, projectExternalId);
+            } else {
+                codeLocation = new CodeLocation(dependencyGraph);
+            }
+
+            return new Extraction.Builder().success(codeLocation).projectName(projectName).projectVersion(projectVersion).build();
+        } catch (final Exception e) {
+            return new Extraction.Builder().exception(e).build();
+        }
+    }
+
+    // Options, includes and direct URLs cannot be matched against installed metadata by name.
+    private List<String> parseRequirementsFile(final File requirementsFile) throws IOException {
+        final List<String> requirements = new ArrayList<>();
+        try (final BufferedReader reader = Files.newBufferedReader(requirementsFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String requirement = StringUtils.substringBefore(line, " #").trim();
+                if (requirement.isEmpty() || requirement.startsWith("#") || requirement.startsWith("-") || requirement.contains("://")) {
+                    continue;
+                }
+                pythonDistributionMetadataParser.parseRequirementName(requirement).ifPresent(requirements::add);
+            }
+        }
+        return requirements;
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.pip;
+
+import java.io.File;
+
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.ExtractionEnvironment;
+import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectable.result.DetectableResult;
+import com.synopsys.integration.detectable.detectable.result.FilesNotFoundDetectableResult;
+import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
+
+public class PipfileLockDetectable extends Detectable {
+    public static final String PIPFILE_DOT_LOCK_FILE_NAME = "Pipfile.lock";
+    public static final String IN_PROJECT_VIRTUALENV_DIRECTORY_NAME = ".venv";
+
+    private final PipenvDetectableOptions pipenvDetectableOptions;
+    private final FileFinder fileFinder;
+    private final PythonSitePackagesFinder pythonSitePackagesFinder;
+    private final PipfileLockExtractor pipfileLockExtractor;
+
+    private File pipfileLock;
+
+    public PipfileLockDetectable(final DetectableEnvironment environment, final PipenvDetectableOptions pipenvDetectableOptions, final FileFinder fileFinder, final PythonSitePackagesFinder pythonSitePackagesFinder,
+        final PipfileLockExtractor pipfileLockExtractor) {
+        super(environment, "Pipfile Lock", "PIP");
+        this.pipenvDetectableOptions = pipenvDetectableOptions;
+        this.fileFinder = fileFinder;
+        this.pythonSitePackagesFinder = pythonSitePackagesFinder;
+        this.pipfileLockExtractor = pipfileLockExtractor;
+    }
+
+    @Override
+    public DetectableResult applicable() {
+        pipfileLock = fileFinder.findFile(environment.getDirectory(), PIPFILE_DOT_LOCK_FILE_NAME);
+
+        if (pipfileLock == null) {
+            return new FilesNotFoundDetectableResult(PIPFILE_DOT_LOCK_FILE_NAME);
+        }
+
+        return new PassedDetectableResult();
+    }
+
+    @Override
+    public DetectableResult extractable() {
+        return new PassedDetectableResult();
+    }
+
+    @Override
+    public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
+        // An in-project virtualenv (PIPENV_VENV_IN_PROJECT) holds the installed metadata.
+        final File virtualenv = fileFinder.findFile(environment.getDirectory(), IN_PROJECT_VIRTUALENV_DIRECTORY_NAME);
+        return pipfileLockExtractor.extract(pipfileLock, pythonSitePackagesFinder.findSitePackages(virtualenv), pipenvDetectableOptions.getPipProjectName(), pipenvDetectableOptions.getPipProjectVersionName());
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.pip;
+
+import java.io.File;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.pip.model.PythonDistribution;
+import com.synopsys.integration.detectable.detectables.pip.parser.PipfileLockDependencyTransformer;
+import com.synopsys.integration.detectable.detectables.pip.parser.PipfileLockParser;
+import com.synopsys.integration.detectable.detectables.pip.parser.PythonDistributionMetadataParser;
+import com.synopsys.integration.util.NameVersion;
+
+public class PipfileLockExtractor {
+    private final PipfileLockParser pipfileLockParser;
+    private final PythonDistributionMetadataParser pythonDistributionMetadataParser;
+    private final PipfileLockDependencyTransformer pipfileLockDependencyTransformer;
+    private final ExternalIdFactory externalIdFactory;
+
+    public PipfileLockExtractor(final PipfileLockParser pipfileLockParser, final PythonDistributionMetadataParser pythonDistributionMetadataParser, final PipfileLockDependencyTransformer pipfileLockDependencyTransformer,
+        final ExternalIdFactory externalIdFactory) {
+        this.pipfileLockParser = pipfileLockParser;
+        this.pythonDistributionMetadataParser = pythonDistributionMetadataParser;
+        this.pipfileLockDependencyTransformer = pipfileLockDependencyTransformer;
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    public Extraction extract(final File pipfileLock, final List<File> sitePackagesDirectories, final String providedProjectName, final String providedProjectVersionName) {
+        try {
+            final Map<String, NameVersion> lockedPackages;
+            try (final Reader reader = Files.newBufferedReader(pipfileLock.toPath(), StandardCharsets.UTF_8)) {
+                lockedPackages = pipfileLockParser.parse(reader);
+            }
+
+            final List<PythonDistribution> installedDistributions = new ArrayList<>();
+            for (final File sitePackages : sitePackagesDirectories) {
+                installedDistributions.addAll(pythonDistributionMetadataParser.parseSitePackages(sitePackages));
+            }
+
+            final DependencyGraph dependencyGraph = pipfileLockDependencyTransformer.transform(lockedPackages, installedDistributions);
+
+            final CodeLocation codeLocation;
+            if (StringUtils.isNotBlank(providedProjectName)) {
+                final ExternalId projectExternalId = externalIdFactory.createNameVersionExternalId(Forge.PYPI, providedProjectName, providedProjectVersionName);
+                codeLocation = new CodeLocation(dependencyGraph, projectExternalId);
+            } else {
+                codeLocation = new CodeLocation(dependencyGraph);
+            }
+
+            return new Extraction.Builder().success(codeLocation).projectName(providedProjectName).projectVersion(providedProjectVersionName).build();
+        } catch (final Exception e) {
+            return new Extraction.Builder().exception(e).build();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.pip;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.synopsys.integration.detectable.detectable.file.FileFinder;
+
+public class PythonSitePackagesFinder {
+    public static final String SITE_PACKAGES_DIRECTORY_NAME = "site-packages";
+
+    private final FileFinder fileFinder;
+
+    public PythonSitePackagesFinder(final FileFinder fileFinder) {
+        this.fileFinder = fileFinder;
+    }
+
+    // Accepts either a site-packages directory or a virtualenv, which lays out lib/pythonX.Y/site-packages, or Lib/site-packages on Windows.
+    public List<File> findSitePackages(final File directory) {
+        final List<File> sitePackagesDirectories = new ArrayList<>();
+        if (directory == null || !directory.isDirectory()) {
+            return sitePackagesDirectories;
+        }
+
+        if (SITE_PACKAGES_DIRECTORY_NAME.equals(directory.getName())) {
+            sitePackagesDirectories.add(directory);
+            return sitePackagesDirectories;
+        }
+
+        for (final File pythonDirectory : fileFinder.findFiles(new File(directory, "lib"), "python*")) {
+            addIfDirectory(sitePackagesDirectories, new File(pythonDirectory, SITE_PACKAGES_DIRECTORY_NAME));
+        }
+        if (sitePackagesDirectories.isEmpty()) {
+            addIfDirectory(sitePackagesDirectories, new File(new File(directory, "Lib"), SITE_PACKAGES_DIRECTORY_NAME));
+        }
+
+        return sitePackagesDirectories;
+    }
+
+    private void addIfDirectory(final List<File> directories, final File candidate) {
+        if (candidate.isDirectory()) {
+            directories.add(candidate);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.pip.parser;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.pip.model.PythonDistribution;
+import com.synopsys.integration.util.NameVersion;
+
+public class PipfileLockDependencyTransformer {
+    private final ExternalIdFactory externalIdFactory;
+
+    public PipfileLockDependencyTransformer(final ExternalIdFactory externalIdFactory) {
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    // Without installed metadata every locked package is reported as a root.
+    public DependencyGraph transform(final Map<String, NameVersion> lockedPackages, final List<PythonDistribution> installedDistributions) {
+        final MutableMapDependencyGraph graph = new MutableMapDependencyGraph();
+        final Map<String, Dependency> dependencies = new HashMap<>();
+        lockedPackages.forEach((key, nameVersion) -> dependencies.put(key, createDependency(nameVersion)));
+
+        final Set<String> requiredPackages = new HashSet<>();
+        for (final PythonDistribution distribution : installedDistributions) {
+            final String parentKey = PythonDistribution.normalizeName(distribution.getName());
+            final Dependency parent = dependencies.get(parentKey);
+            if (parent == null) {
+                continue;
+            }
+            for (final String requirement : distribution.getRequirements()) {
+                final String childKey = PythonDistribution.normalizeName(requirement);
+                final Dependency child = dependencies.get(childKey);
+                if (child != null && !childKey.equals(parentKey)) {
+                    graph.addChildWithParent(child, parent);
+                    requiredPackages.add(childKey);
+                }
+            }
+        }
+
+        lockedPackages.keySet().stream()
+            .filter(key -> !requiredPackages.contains(key))
+            .map(dependencies::get)
+            .forEach(graph::addChildToRoot);
+
+        if (graph.getRootDependencies().isEmpty()) {
+            dependencies.values().forEach(graph::addChildToRoot);
+        }
+
+        return graph;
+    }
+
+    private Dependency createDependency(final NameVersion nameVersion) {
+        final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.PYPI, nameVersion.getName(), nameVersion.getVersion());
+        return new Dependency(nameVersion.getName(), nameVersion.getVersion(), externalId);
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.pip.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.synopsys.integration.detectable.detectables.pip.model.PythonDistribution;
+import com.synopsys.integration.util.NameVersion;
+
+public class PipfileLockParser {
+    public static final List<String> PACKAGE_SECTIONS = Arrays.asList("default", "develop");
+    private static final String VERSION_PREFIX = "==";
+
+    // Keyed by normalized package name.
+    public Map<String, NameVersion> parse(final Reader pipfileLockReader) throws IOException {
+        final Map<String, NameVersion> lockedPackages = new LinkedHashMap<>();
+
+        final JsonReader reader = new JsonReader(pipfileLockReader);
+        reader.setLenient(true);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (PACKAGE_SECTIONS.contains(reader.nextName()) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    final String name = reader.nextName();
+                    final String version = readVersion(reader);
+                    if (StringUtils.isNotBlank(version)) {
+                        lockedPackages.putIfAbsent(PythonDistribution.normalizeName(name), new NameVersion(name, version));
+                    }
+                }
+                reader.endObject();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return lockedPackages;
+    }
+
+    // Index packages pin a version, vcs packages pin a ref; local paths such as the project itself pin neither.
+    private String readVersion(final JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return null;
+        }
+
+        String version = null;
+        String ref = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String field = reader.nextName();
+            if ("version".equals(field) && reader.peek() == JsonToken.STRING) {
+                version = StringUtils.removeStart(reader.nextString().trim(), VERSION_PREFIX);
+            } else if ("ref".equals(field) && reader.peek() == JsonToken.STRING) {
+                ref = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return version != null ? version : ref;
+    }
+}
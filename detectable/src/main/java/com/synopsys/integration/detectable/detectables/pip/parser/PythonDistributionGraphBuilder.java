@@ -0,0 +1,116 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.pip.parser;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.pip.model.PythonDistribution;
+
+public class PythonDistributionGraphBuilder {
+    public static final List<String> INSTALLER_DISTRIBUTIONS = Arrays.asList("pip", "setuptools", "wheel", "distribute", "pkg-resources");
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ExternalIdFactory externalIdFactory;
+
+    public PythonDistributionGraphBuilder(final ExternalIdFactory externalIdFactory) {
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    // Walks the installed requirements from the given roots, so distributions unrelated to the project are left out.
+    public DependencyGraph build(final List<PythonDistribution> installedDistributions, final Collection<String> rootRequirements) {
+        final Map<String, PythonDistribution> distributions = new HashMap<>();
+        installedDistributions.forEach(distribution -> distributions.putIfAbsent(PythonDistribution.normalizeName(distribution.getName()), distribution));
+        final Map<String, Dependency> dependencies = new HashMap<>();
+
+        final MutableMapDependencyGraph graph = new MutableMapDependencyGraph();
+        final Set<String> visited = new HashSet<>();
+        final Queue<String> toVisit = new ArrayDeque<>();
+
+        for (final String rootRequirement : rootRequirements) {
+            final String key = PythonDistribution.normalizeName(rootRequirement);
+            if (!distributions.containsKey(key)) {
+                logger.warn(String.format("The requirement %s is not installed and will not be included.", rootRequirement));
+                continue;
+            }
+            graph.addChildToRoot(dependencies.computeIfAbsent(key, ignored -> createDependency(distributions.get(key))));
+            if (visited.add(key)) {
+                toVisit.add(key);
+            }
+        }
+
+        while (!toVisit.isEmpty()) {
+            final String parentKey = toVisit.poll();
+            final Dependency parent = dependencies.get(parentKey);
+            for (final String requirement : distributions.get(parentKey).getRequirements()) {
+                final String childKey = PythonDistribution.normalizeName(requirement);
+                if (childKey.equals(parentKey) || !distributions.containsKey(childKey)) {
+                    continue;
+                }
+                graph.addChildWithParent(dependencies.computeIfAbsent(childKey, ignored -> createDependency(distributions.get(childKey))), parent);
+                if (visited.add(childKey)) {
+                    toVisit.add(childKey);
+                }
+            }
+        }
+
+        return graph;
+    }
+
+    // The distributions no other installed distribution requires, leaving out the tooling every environment ships with.
+    public List<String> findTopLevelRequirements(final List<PythonDistribution> installedDistributions) {
+        final Set<String> required = installedDistributions.stream()
+                                         .flatMap(distribution -> distribution.getRequirements().stream())
+                                         .map(PythonDistribution::normalizeName)
+                                         .collect(Collectors.toSet());
+
+        return installedDistributions.stream()
+                   .map(PythonDistribution::getName)
+                   .filter(name -> !required.contains(PythonDistribution.normalizeName(name)))
+                   .filter(name -> !INSTALLER_DISTRIBUTIONS.contains(PythonDistribution.normalizeName(name)))
+                   .collect(Collectors.toList());
+    }
+
+    private Dependency createDependency(final PythonDistribution distribution) {
+        final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.PYPI, distribution.getName(), distribution.getVersion());
+        return new Dependency(distribution.getName(), distribution.getVersion(), externalId);
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.pip.parser;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.synopsys.integration.detectable.detectables.pip.model.PythonDistribution;
+
+public class PythonDistributionMetadataParser {
+    public static final String DIST_INFO_SUFFIX = ".dist-info";
+    public static final String EGG_INFO_SUFFIX = ".egg-info";
+    public static final String METADATA_FILE_NAME = "METADATA";
+    public static final String PKG_INFO_FILE_NAME = "PKG-INFO";
+    public static final String REQUIRES_FILE_NAME = "requires.txt";
+
+    private static final String NAME_HEADER = "Name:";
+    private static final String VERSION_HEADER = "Version:";
+    private static final String REQUIRES_DIST_HEADER = "Requires-Dist:";
+
+    private static final Pattern REQUIREMENT_NAME_PATTERN = Pattern.compile("^\\s*([A-Za-z0-9][A-Za-z0-9._-]*)");
+    private static final Pattern EXTRA_MARKER_PATTERN = Pattern.compile("\\bextra\\s*==");
+
+    public List<PythonDistribution> parseSitePackages(final File sitePackages) {
+        final File[] metadataEntries = sitePackages.listFiles(file -> file.getName().endsWith(DIST_INFO_SUFFIX) || file.getName().endsWith(EGG_INFO_SUFFIX));
+        if (metadataEntries == null) {
+            return Collections.emptyList();
+        }
+
+        return Arrays.stream(metadataEntries)
+                   .parallel()
+                   .sorted(Comparator.comparing(File::getName))
+                   .map(this::parseMetadataEntry)
+                   .filter(Optional::isPresent)
+                   .map(Optional::get)
+                   .collect(Collectors.toList());
+    }
+
+    public Optional<PythonDistribution> parse(final Reader metadataReader) throws IOException {
+        final BufferedReader reader = new BufferedReader(metadataReader);
+        String name = null;
+        String version = null;
+        final List<String> requirements = new ArrayList<>();
+
+        // Only the header block is of interest; the description body follows the first blank line.
+        String line;
+        while ((line = reader.readLine()) != null && !line.isEmpty()) {
+            if (line.startsWith(NAME_HEADER)) {
+                name = line.substring(NAME_HEADER.length()).trim();
+            } else if (line.startsWith(VERSION_HEADER)) {
+                version = line.substring(VERSION_HEADER.length()).trim();
+            } else if (line.startsWith(REQUIRES_DIST_HEADER)) {
+                parseRequirementName(line.substring(REQUIRES_DIST_HEADER.length())).ifPresent(requirements::add);
+            }
+        }
+
+        if (StringUtils.isBlank(name) || StringUtils.isBlank(version)) {
+            return Optional.empty();
+        }
+        return Optional.of(new PythonDistribution(name, version, requirements));
+    }
+
+    // setuptools writes unconditional requirements first, then one [section] per extra or [:marker] per environment marker.
+    public List<String> parseRequiresTxt(final Reader requiresReader) throws IOException {
+        final BufferedReader reader = new BufferedReader(requiresReader);
+        final List<String> requirements = new ArrayList<>();
+
+        boolean inExtraSection = false;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final String trimmedLine = line.trim();
+            if (trimmedLine.startsWith("[")) {
+                inExtraSection = !trimmedLine.startsWith("[:");
+            } else if (!inExtraSection && !trimmedLine.isEmpty() && !trimmedLine.startsWith("#")) {
+                parseRequirementName(trimmedLine).ifPresent(requirements::add);
+            }
+        }
+
+        return requirements;
+    }
+
+    // Requirements that only apply when an extra is requested are not part of the installed graph.
+    public Optional<String> parseRequirementName(final String requirement) {
+        final int markerIndex = requirement.indexOf(';');
+        if (markerIndex >= 0 && EXTRA_MARKER_PATTERN.matcher(requirement.substring(markerIndex)).find()) {
+            return Optional.empty();
+        }
+
+        final Matcher matcher = REQUIREMENT_NAME_PATTERN.matcher(requirement);
+        if (matcher.find()) {
+            return Optional.of(matcher.group(1));
+        }
+        return Optional.empty();
+    }
+
+    private Optional<PythonDistribution> parseMetadataEntry(final File entry) {
+        if (entry.getName().endsWith(DIST_INFO_SUFFIX)) {
+            return parseMetadataFile(new File(entry, METADATA_FILE_NAME));
+        } else if (entry.isFile()) {
+            // distutils installs write the egg-info as a single PKG-INFO formatted file.
+            return parseMetadataFile(entry);
+        }
+
+        final Optional<PythonDistribution> distribution = parseMetadataFile(new File(entry, PKG_INFO_FILE_NAME));
+        final File requiresFile = new File(entry, REQUIRES_FILE_NAME);
+        if (!distribution.isPresent() || !requiresFile.isFile()) {
+            return distribution;
+        }
+
+        final List<String> requirements = new ArrayList<>(distribution.get().getRequirements());
+        try (final Reader reader = Files.newBufferedReader(requiresFile.toPath(), StandardCharsets.UTF_8)) {
+            requirements.addAll(parseRequiresTxt(reader));
+        } catch (final IOException e) {
+            throw new IllegalStateException(String.format("Unable to read distribution requirements %s", requiresFile.getAbsolutePath()), e);
+        }
+        return Optional.of(new PythonDistribution(distribution.get().getName(), distribution.get().getVersion(), requirements));
+    }
+
+    private Optional<PythonDistribution> parseMetadataFile(final File metadataFile) {
+        if (!metadataFile.isFile()) {
+            return Optional.empty();
+        }
+
+        try (final Reader reader = Files.newBufferedReader(metadataFile.toPath(), StandardCharsets.UTF_8)) {
+            return parse(reader);
+        } catch (final IOException e) {
+            throw new IllegalStateException(String.format("Unable to read distribution metadata %s", metadataFile.getAbsolutePath()), e);
+        }
+    }
+}
@@ -27,10 +27,11 @@ import static com.synopsys.integration.detectable.detectables.rubygems.gemlock.p
 import static com.synopsys.integration.detectable.detectables.rubygems.gemlock.parse.GemlockParser.GemfileLockSection.NONE;
 import static com.synopsys.integration.detectable.detectables.rubygems.gemlock.parse.GemlockParser.GemfileLockSection.SPECS;
 
-import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -53,10 +54,10 @@ public class GemlockParser {
 
     public static final String SPEC_RELATIONSHIP_PREFIX = "      ";
     public static final String SPEC_PACKAGE_PREFIX = "    ";
+    public static final String VERSION_PREFIX = " (";
 
     public static final String VERSION_CHARACTERS = "()<>=~";
     public static final String FUZZY_VERSION_CHARACTERS = "<>";
-    public static final String VERSION_PREFIX_PATTERN = " \\(";
     public static final String VERSION_SUFFIX = ")";
 
     private final Logger logger = LoggerFactory.getLogger(GemlockParser.class);
@@ -67,23 +68,24 @@ public class GemlockParser {
 
     private GemfileLockSection currentSection = NONE;
 
-    private List<String> encounteredDependencies = new ArrayList<>();
-    private List<String> resolvedDependencies = new ArrayList<>();
+    private Set<String> encounteredDependencies = new LinkedHashSet<>();
+    private Set<String> resolvedDependencies = new HashSet<>();
 
     public GemlockParser(final ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
     }
 
     public DependencyGraph parseProjectDependencies(final List<String> gemfileLockLines) {
-        encounteredDependencies = new ArrayList<>();
-        resolvedDependencies = new ArrayList<>();
+        encounteredDependencies = new LinkedHashSet<>();
+        resolvedDependencies = new HashSet<>();
         lazyBuilder = new LazyExternalIdDependencyGraphBuilder();
         currentParent = null;
+        currentSection = NONE;
 
         for (final String line : gemfileLockLines) {
             final String trimmedLine = StringUtils.trimToEmpty(line);
 
-            if (StringUtils.isBlank(trimmedLine)) {
+            if (trimmedLine.isEmpty()) {
                 currentSection = NONE;
             } else if (SPECS_HEADER.equals(trimmedLine)) {
                 currentSection = SPECS;
@@ -100,8 +102,8 @@ public class GemlockParser {
             }
         }
 
-        final List<String> missingDependencies = encounteredDependencies.stream().filter(it -> !resolvedDependencies.contains(it)).collect(Collectors.toList());
-        for (final String missingName : missingDependencies) {
+        encounteredDependencies.removeAll(resolvedDependencies);
+        for (final String missingName : encounteredDependencies) {
             final String missingVersion = "";
             final DependencyId dependencyId = new NameDependencyId(missingName);
             final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.RUBYGEMS, missingName, missingVersion);
@@ -111,10 +113,6 @@ public class GemlockParser {
         return lazyBuilder.build();
     }
 
-    private void encounteredDependency(final String name) {
-        encounteredDependencies.add(name);
-    }
-
     private void discoveredDependencyInfo(final NameVersionDependencyId id) {
         final NameDependencyId nameOnlyId = new NameDependencyId(id.name);
 
@@ -122,8 +120,7 @@ public class GemlockParser {
         final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.RUBYGEMS, id.name, id.version);
         lazyBuilder.setDependencyInfo(id, id.name, id.version, externalId);
 
-        if (!resolvedDependencies.contains(id.name)) { //if this is our first time encountering a dependency of this name, we become the 'version-less'
-            resolvedDependencies.add(id.name);
+        if (resolvedDependencies.add(id.name)) { //if this is our first time encountering a dependency of this name, we become the 'version-less'
             lazyBuilder.setDependencyInfo(nameOnlyId, id.name, id.version, externalId);
         } else {//otherwise, add us as a child to the version-less
             lazyBuilder.addChildWithParent(id, nameOnlyId);
@@ -138,9 +135,9 @@ public class GemlockParser {
 
     private void parseSpecsSectionLine(final String untrimmedLine) {
         if (untrimmedLine.startsWith(SPEC_RELATIONSHIP_PREFIX)) {
-            parseSpecRelationshipLine(untrimmedLine.trim());
+            parseSpecRelationshipLine(StringUtils.trimToEmpty(untrimmedLine));
         } else if (untrimmedLine.startsWith(SPEC_PACKAGE_PREFIX)) {
-            parseSpecPackageLine(untrimmedLine.trim());
+            parseSpecPackageLine(StringUtils.trimToEmpty(untrimmedLine));
         } else {
             logger.error(String.format("Line in specs section can't be parsed: %s", untrimmedLine));
         }
@@ -189,13 +186,16 @@ public class GemlockParser {
         }
     }
 
+    // Tokenizes "name (version)" with index lookups on VERSION_PREFIX rather than a regex split per line.
     private NameVersion parseNameVersion(final String trimmedLine) {
-        final String[] pieces = trimmedLine.split(VERSION_PREFIX_PATTERN);
-        String name = pieces[0].trim();
+        final int versionStart = trimmedLine.indexOf(VERSION_PREFIX);
+        String name = versionStart < 0 ? trimmedLine : trimmedLine.substring(0, versionStart).trim();
         String version = "";
 
-        if (pieces.length > 1) {
-            final Optional<String> validVersion = parseValidVersion(pieces[1].trim());
+        if (versionStart >= 0) {
+            final int versionEnd = trimmedLine.indexOf(VERSION_PREFIX, versionStart + VERSION_PREFIX.length());
+            final String versionPiece = versionEnd < 0 ? trimmedLine.substring(versionStart + VERSION_PREFIX.length()) : trimmedLine.substring(versionStart + VERSION_PREFIX.length(), versionEnd);
+            final Optional<String> validVersion = parseValidVersion(versionPiece.trim());
             version = validVersion.orElse("");
         }
 
@@ -22,22 +22,22 @@
  */
 package com.synopsys.integration.detectable.detectables.sbt;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
@@ -109,7 +109,7 @@ public class SbtResolutionCacheExtractor {
         }
     }
 
-    private SbtProject extractProject(final File path, final int depth, final String included, final String excluded) throws IOException, SAXException, ParserConfigurationException {
+    private SbtProject extractProject(final File path, final int depth, final String included, final String excluded) throws IOException {
         final List<SbtDependencyModule> rawModules = extractModules(path, depth, included, excluded);
         final List<SbtDependencyModule> modules = rawModules.stream().filter(it -> it.graph != null).collect(Collectors.toList());
         final int skipped = rawModules.size() - modules.size();
@@ -154,7 +154,7 @@ public class SbtResolutionCacheExtractor {
         return version;
     }
 
-    private List<SbtDependencyModule> extractModules(final File path, final int depth, final String included, final String excluded) throws IOException, SAXException, ParserConfigurationException {
+    private List<SbtDependencyModule> extractModules(final File path, final int depth, final String included, final String excluded) throws IOException {
         final List<File> sbtFiles = fileFinder.findFiles(path, BUILD_SBT_FILENAME, depth);
         final List<File> resolutionCaches = fileFinder.findFiles(path, RESOLUTION_CACHE_DIRECTORY, depth); // TODO: ensure this does what the old method did. findDirectoriesContainingDirectoriesToDepth
 
@@ -209,7 +209,7 @@ public class SbtResolutionCacheExtractor {
     }
 
     private List<SbtDependencyModule> extractReportModules(final File path, final File reportPath, final File source, final String included, final String excluded, final List<String> usedReports)
-        throws IOException, SAXException, ParserConfigurationException {
+        throws IOException {
         final List<SbtDependencyModule> modules = new ArrayList<>();
         final String canonical = reportPath.getCanonicalPath();
         if (usedReports.contains(canonical)) {
@@ -242,23 +242,17 @@ public class SbtResolutionCacheExtractor {
         return modules;
     }
 
-    private List<SbtDependencyModule> makeModuleAggregate(final List<File> reportFiles, final String include, final String exclude) throws SAXException, IOException, ParserConfigurationException {
-        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        final DocumentBuilder builder = factory.newDocumentBuilder();
-
+    private List<SbtDependencyModule> makeModuleAggregate(final List<File> reportFiles, final String include, final String exclude) {
         final SbtReportParser parser = new SbtReportParser();
         final SbtDependencyResolver resolver = new SbtDependencyResolver(externalIdFactory);
         final ExcludedIncludedFilter filter = new ExcludedIncludedFilter(exclude, include);
         final SbtModuleAggregator aggregator = new SbtModuleAggregator();
 
-        final List<SbtDependencyModule> modules = new ArrayList<>();
-        for (final File reportFile : reportFiles) {
-            final Document xml = builder.parse(reportFile);
-            logger.debug(String.format("Parsing SBT report file: %s", reportFile.getCanonicalPath()));
-            final SbtReport report = parser.parseReportFromXml(xml);
-            final SbtDependencyModule tree = resolver.resolveReport(report);
-            modules.add(tree);
-        }
+        // Reports are independent so they are parsed concurrently, sorting keeps the aggregation order stable between runs.
+        final List<SbtDependencyModule> modules = reportFiles.parallelStream()
+                                                      .sorted(Comparator.comparing(File::getName))
+                                                      .map(reportFile -> parseReportModule(parser, resolver, reportFile))
+                                                      .collect(Collectors.toList());
 
         final List<SbtDependencyModule> includedModules = modules.stream().filter(module -> filter.shouldInclude(module.configuration)).collect(Collectors.toList());
 
@@ -272,4 +266,14 @@ public class SbtResolutionCacheExtractor {
 
         return aggregator.aggregateModules(includedModules);
     }
+
+    private SbtDependencyModule parseReportModule(final SbtReportParser parser, final SbtDependencyResolver resolver, final File reportFile) {
+        logger.debug(String.format("Parsing SBT report file: %s", reportFile.getAbsolutePath()));
+        try (final InputStream reportInputStream = new BufferedInputStream(new FileInputStream(reportFile))) {
+            final SbtReport report = parser.parseReportFromXml(reportInputStream);
+            return resolver.resolveReport(report);
+        } catch (final IOException | XMLStreamException e) {
+            throw new IllegalStateException(String.format("Failed to parse SBT report file: %s", reportFile.getAbsolutePath()), e);
+        }
+    }
 }
@@ -22,20 +22,22 @@
  */
 package com.synopsys.integration.detectable.detectables.sbt.parse;
 
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import com.synopsys.integration.detectable.detectables.sbt.model.SbtCaller;
 import com.synopsys.integration.detectable.detectables.sbt.model.SbtModule;
 import com.synopsys.integration.detectable.detectables.sbt.model.SbtReport;
 import com.synopsys.integration.detectable.detectables.sbt.model.SbtRevision;
-import com.synopsys.integration.detectable.util.XmlUtil;
 
+// Streams the ivy report so only the modules, revisions and callers are kept in memory rather than the whole document.
 public class SbtReportParser {
-    private static final String IVY_REPORT_NODE_KEY = "ivy-report";
     private static final String INFO_NODE_KEY = "info";
     private static final String ORGANISATION_NODE_KEY = "organisation";
     private static final String MODULE_NODE_KEY = "module";
@@ -46,46 +48,83 @@ public class SbtReportParser {
     private static final String CALLER_NODE_KEY = "caller";
     private static final String CALLER_REVISION_NODE_KEY = "callerrev";
 
-    public SbtReport parseReportFromXml(final Document xmlReport) {
-        final Node ivyReport = XmlUtil.getNode(IVY_REPORT_NODE_KEY, xmlReport);
-        final Node infoNode = XmlUtil.getNode(INFO_NODE_KEY, ivyReport);
-        final Node dependenciesNode = XmlUtil.getNode(DEPENDENCIES_NODE_KEY, ivyReport);
-        final List<Node> xmlModules = XmlUtil.getNodeList(MODULE_NODE_KEY, dependenciesNode);
+    private final XMLInputFactory xmlInputFactory;
 
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, infoNode);
-        final String module = XmlUtil.getAttribute(MODULE_NODE_KEY, infoNode);
-        final String revision = XmlUtil.getAttribute(REVISION_NODE_KEY, infoNode);
-        final String configuration = XmlUtil.getAttribute(CONFIGURATION_NODE_KEY, infoNode);
-        final List<SbtModule> dependencies = xmlModules.stream().map(this::createModule).collect(Collectors.toList());
-
-        return new SbtReport(organisation, module, revision, configuration, dependencies);
+    public SbtReportParser() {
+        xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
     }
 
-    private SbtModule createModule(final Node xmlModule) {
-        final List<Node> xmlRevisions = XmlUtil.getNodeList(REVISION_NODE_KEY, xmlModule);
-
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlModule);
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, xmlModule);
-        final List<SbtRevision> revisions = xmlRevisions.stream().map(this::createRevision).collect(Collectors.toList());
-
-        return new SbtModule(organisation, name, revisions);
+    public SbtReport parseReportFromXml(final InputStream xmlReport) throws XMLStreamException {
+        final XMLStreamReader reader = createReader(xmlReport);
+        try {
+            String organisation = null;
+            String module = null;
+            String revision = null;
+            String configuration = null;
+            final List<SbtModule> dependencies = new ArrayList<>();
+
+            boolean infoFound = false;
+            boolean inDependencies = false;
+            String moduleOrganisation = null;
+            String moduleName = null;
+            List<SbtRevision> moduleRevisions = null;
+            String revisionName = null;
+            List<SbtCaller> revisionCallers = null;
+
+            while (reader.hasNext()) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    final String element = reader.getLocalName();
+                    if (!inDependencies) {
+                        if (!infoFound && INFO_NODE_KEY.equals(element)) {
+                            infoFound = true;
+                            organisation = attribute(reader, ORGANISATION_NODE_KEY);
+                            module = attribute(reader, MODULE_NODE_KEY);
+                            revision = attribute(reader, REVISION_NODE_KEY);
+                            configuration = attribute(reader, CONFIGURATION_NODE_KEY);
+                        } else if (DEPENDENCIES_NODE_KEY.equals(element)) {
+                            inDependencies = true;
+                        }
+                    } else if (MODULE_NODE_KEY.equals(element)) {
+                        moduleOrganisation = attribute(reader, ORGANISATION_NODE_KEY);
+                        moduleName = attribute(reader, NAME_NODE_KEY);
+                        moduleRevisions = new ArrayList<>();
+                    } else if (REVISION_NODE_KEY.equals(element) && moduleRevisions != null) {
+                        revisionName = attribute(reader, NAME_NODE_KEY);
+                        revisionCallers = new ArrayList<>();
+                    } else if (CALLER_NODE_KEY.equals(element) && revisionCallers != null) {
+                        revisionCallers.add(new SbtCaller(attribute(reader, ORGANISATION_NODE_KEY), attribute(reader, NAME_NODE_KEY), attribute(reader, CALLER_REVISION_NODE_KEY)));
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && inDependencies) {
+                    final String element = reader.getLocalName();
+                    if (REVISION_NODE_KEY.equals(element) && revisionCallers != null) {
+                        moduleRevisions.add(new SbtRevision(revisionName, revisionCallers));
+                        revisionCallers = null;
+                    } else if (MODULE_NODE_KEY.equals(element) && moduleRevisions != null) {
+                        dependencies.add(new SbtModule(moduleOrganisation, moduleName, moduleRevisions));
+                        moduleRevisions = null;
+                    } else if (DEPENDENCIES_NODE_KEY.equals(element)) {
+                        inDependencies = false;
+                    }
+                }
+            }
+
+            return new SbtReport(organisation, module, revision, configuration, dependencies);
+        } finally {
+            reader.close();
+        }
     }
 
-    private SbtRevision createRevision(final Node xmlRevision) {
-        final List<Node> xmlCallers = XmlUtil.getNodeList(CALLER_NODE_KEY, xmlRevision);
-
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlRevision);
-        final List<SbtCaller> callers = xmlCallers.stream().map(this::createCaller).collect(Collectors.toList());
-
-        return new SbtRevision(name, callers);
+    // Readers are cheap but the factory is not guaranteed to be thread safe, so only reader creation is guarded.
+    private XMLStreamReader createReader(final InputStream xmlReport) throws XMLStreamException {
+        synchronized (xmlInputFactory) {
+            return xmlInputFactory.createXMLStreamReader(xmlReport);
+        }
     }
 
-    private SbtCaller createCaller(final Node xmlCaller) {
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, xmlCaller);
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlCaller);
-        final String revision = XmlUtil.getAttribute(CALLER_REVISION_NODE_KEY, xmlCaller);
-
-        return new SbtCaller(organisation, name, revision);
+    private String attribute(final XMLStreamReader reader, final String name) {
+        return reader.getAttributeValue(null, name);
     }
-
 }
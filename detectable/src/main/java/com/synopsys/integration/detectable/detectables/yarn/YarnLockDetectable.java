@@ -38,19 +38,23 @@ import com.synopsys.integration.detectable.detectable.result.PassedDetectableRes
 
 public class YarnLockDetectable extends Detectable {
     private static final String YARN_LOCK_FILENAME = "yarn.lock";
+    private static final String PACKAGE_JSON_FILENAME = "package.json";
 
     private final FileFinder fileFinder;
     private final YarnResolver yarnResolver;
     private final YarnLockExtractor yarnLockExtractor;
+    private final YarnLockOptions yarnLockOptions;
 
     private File yarnLock;
+    private File packageJson;
     private File yarnExe;
 
-    public YarnLockDetectable(final DetectableEnvironment environment, final FileFinder fileFinder, final YarnResolver yarnResolver, final YarnLockExtractor yarnLockExtractor) {
+    public YarnLockDetectable(final DetectableEnvironment environment, final FileFinder fileFinder, final YarnResolver yarnResolver, final YarnLockExtractor yarnLockExtractor, final YarnLockOptions yarnLockOptions) {
         super(environment, "Yarn Lock", "YARN");
         this.fileFinder = fileFinder;
         this.yarnLockExtractor = yarnLockExtractor;
         this.yarnResolver = yarnResolver;
+        this.yarnLockOptions = yarnLockOptions;
     }
 
     @Override
@@ -65,6 +69,14 @@ public class YarnLockDetectable extends Detectable {
 
     @Override
     public DetectableResult extractable() throws DetectableException {
+        if (yarnLockOptions.useLockfileOnly()) {
+            packageJson = fileFinder.findFile(environment.getDirectory(), PACKAGE_JSON_FILENAME);
+            if (packageJson == null) {
+                return new FileNotFoundDetectableResult(PACKAGE_JSON_FILENAME);
+            }
+            return new PassedDetectableResult();
+        }
+
         yarnExe = yarnResolver.resolveYarn();
 
         if (yarnExe == null) {
@@ -76,6 +88,9 @@ public class YarnLockDetectable extends Detectable {
 
     @Override
     public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
+        if (yarnLockOptions.useLockfileOnly()) {
+            return yarnLockExtractor.extractFromLockfile(yarnLock, packageJson);
+        }
         return yarnLockExtractor.extract(environment.getDirectory(), yarnLock, yarnExe);
     }
 
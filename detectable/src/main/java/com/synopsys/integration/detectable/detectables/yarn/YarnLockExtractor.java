@@ -22,7 +22,10 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
@@ -30,6 +33,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.gson.Gson;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
@@ -38,6 +44,7 @@ import com.synopsys.integration.detectable.Extraction;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
+import com.synopsys.integration.detectable.detectables.npm.packagejson.model.PackageJson;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnListNode;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnListParser;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockParser;
@@ -54,20 +61,21 @@ public class YarnLockExtractor {
     private final YarnLockOptions yarnLockOptions;
     private final ExecutableRunner executableRunner;
     private final YarnTransformer yarnTransformer;
+    private final Gson gson;
 
     public YarnLockExtractor(final ExternalIdFactory externalIdFactory, final YarnListParser yarnListParser, final ExecutableRunner executableRunner,
-        final YarnLockParser yarnLockParser, final YarnLockOptions yarnLockOptions, final YarnTransformer yarnTransformer) {
+        final YarnLockParser yarnLockParser, final YarnLockOptions yarnLockOptions, final YarnTransformer yarnTransformer, final Gson gson) {
         this.externalIdFactory = externalIdFactory;
         this.yarnListParser = yarnListParser;
         this.yarnLockParser = yarnLockParser;
         this.executableRunner = executableRunner;
         this.yarnLockOptions = yarnLockOptions;
         this.yarnTransformer = yarnTransformer;
+        this.gson = gson;
     }
 
     public Extraction extract(final File directory, final File yarnlock, final File yarnExe) {
         try {
-            final List<String> yarnLockText = Files.readAllLines(yarnlock.toPath(), StandardCharsets.UTF_8);
             final List<String> exeArgs = Stream.of("list", "--emoji", "false").collect(Collectors.toCollection(ArrayList::new));
 
             if (yarnLockOptions.useProductionOnly()) {
@@ -81,7 +89,7 @@ public class YarnLockExtractor {
                 return builder.build();
             }
 
-            YarnLock yarnLock = yarnLockParser.parseYarnLock(yarnLockText);
+            final YarnLock yarnLock = parseYarnLock(yarnlock);
             List<YarnListNode> yarnList = yarnListParser.parseYarnList(executableOutput.getStandardOutputAsList());
 
             final DependencyGraph dependencyGraph = yarnTransformer.transform(yarnList, yarnLock);
@@ -94,4 +102,30 @@ public class YarnLockExtractor {
         }
     }
 
+    //Builds the full graph from the yarn.lock and the root package.json without running yarn.
+    public Extraction extractFromLockfile(final File yarnlock, final File packageJsonFile) {
+        try (final Reader packageJsonReader = Files.newBufferedReader(packageJsonFile.toPath(), StandardCharsets.UTF_8)) {
+            final PackageJson packageJson = gson.fromJson(packageJsonReader, PackageJson.class);
+            final YarnLock yarnLock = parseYarnLock(yarnlock);
+
+            final DependencyGraph dependencyGraph = yarnTransformer.transform(packageJson, yarnLock, yarnLockOptions.useProductionOnly());
+
+            final CodeLocation detectCodeLocation = new CodeLocation(dependencyGraph);
+
+            return new Extraction.Builder()
+                       .success(detectCodeLocation)
+                       .projectName(StringUtils.stripToNull(packageJson.name))
+                       .projectVersion(StringUtils.stripToNull(packageJson.version))
+                       .build();
+        } catch (final Exception e) {
+            return new Extraction.Builder().exception(e).build();
+        }
+    }
+
+    private YarnLock parseYarnLock(final File yarnlock) throws IOException {
+        try (final BufferedReader yarnLockReader = Files.newBufferedReader(yarnlock.toPath(), StandardCharsets.UTF_8)) {
+            return yarnLockParser.parseYarnLock(yarnLockReader);
+        }
+    }
+
 }
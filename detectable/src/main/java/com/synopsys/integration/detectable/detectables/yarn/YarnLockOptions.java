@@ -24,12 +24,18 @@ package com.synopsys.integration.detectable.detectables.yarn;
 
 public class YarnLockOptions {
     private final boolean useProductionOnly;
+    private final boolean useLockfileOnly;
 
-    public YarnLockOptions(final boolean useProductionOnly) {
+    public YarnLockOptions(final boolean useProductionOnly, final boolean useLockfileOnly) {
         this.useProductionOnly = useProductionOnly;
+        this.useLockfileOnly = useLockfileOnly;
     }
 
     public boolean useProductionOnly() {
         return useProductionOnly;
     }
+
+    public boolean useLockfileOnly() {
+        return useLockfileOnly;
+    }
 }
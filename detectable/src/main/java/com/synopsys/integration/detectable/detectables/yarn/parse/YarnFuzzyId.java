@@ -0,0 +1,77 @@
+/**
+ * detectable
+ *
+ * Copyright (c) 2019 Synopsys, Inc.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.synopsys.integration.detectable.detectables.yarn.parse;
+
+//A fuzzy id is a package name and the range it was requested with, e.g. 'debug@^2.6.4' or '@babel/core@^7.0.0'.
+//An npm alias such as 'my-debug@npm:debug@^2.6.4' installs another package under a local name, the real name and range follow the 'npm:'.
+public class YarnFuzzyId {
+    private static final String NPM_PROTOCOL = "npm:";
+
+    private final String name;
+    private final String range;
+
+    private YarnFuzzyId(final String name, final String range) {
+        this.name = name;
+        this.range = range;
+    }
+
+    public static YarnFuzzyId parse(final String fuzzyId) {
+        final int versionSeparator = versionSeparator(fuzzyId);
+        if (versionSeparator < 0) {
+            return new YarnFuzzyId(fuzzyId, "");
+        }
+
+        final String range = fuzzyId.substring(versionSeparator + 1);
+        if (range.startsWith(NPM_PROTOCOL)) {
+            final String target = range.substring(NPM_PROTOCOL.length());
+            final int targetVersionSeparator = versionSeparator(target);
+            if (targetVersionSeparator > 0) {
+                return new YarnFuzzyId(target.substring(0, targetVersionSeparator), target.substring(targetVersionSeparator + 1));
+            }
+            return new YarnFuzzyId(fuzzyId.substring(0, versionSeparator), target);
+        }
+        return new YarnFuzzyId(fuzzyId.substring(0, versionSeparator), range);
+    }
+
+    //Newer locks write registry ranges as 'name@npm:^1.0.0' while package.json says 'name@^1.0.0', so that 'npm:' is ignored. Aliases are kept as written.
+    public static String normalize(final String fuzzyId) {
+        final int versionSeparator = versionSeparator(fuzzyId);
+        if (versionSeparator > 0 && fuzzyId.startsWith(NPM_PROTOCOL, versionSeparator + 1) && versionSeparator(fuzzyId.substring(versionSeparator + 1 + NPM_PROTOCOL.length())) < 0) {
+            return fuzzyId.substring(0, versionSeparator + 1) + fuzzyId.substring(versionSeparator + 1 + NPM_PROTOCOL.length());
+        }
+        return fuzzyId;
+    }
+
+    //Scoped names start with '@', so the separator is the first '@' after the first character.
+    private static int versionSeparator(final String fuzzyId) {
+        return fuzzyId.indexOf('@', 1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getRange() {
+        return range;
+    }
+}
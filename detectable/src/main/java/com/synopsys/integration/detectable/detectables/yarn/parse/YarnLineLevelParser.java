@@ -46,21 +46,17 @@ public class YarnLineLevelParser {
 
     private String replaceCharsWithSpaces(String line, String... charsSets){
         for (String chars : charsSets){
-            line = line.replaceAll(chars, StringUtils.repeat(" ", chars.length()));
+            line = StringUtils.replace(line, chars, StringUtils.repeat(" ", chars.length()));
         }
         return line;
     }
 
     private int countSpaceBlocks(String line, int spaceBlockSize){
-        String spaceBlock = StringUtils.repeat(" ", spaceBlockSize);
-        int level = 0;
-        String tmpLine = line;
-        while (tmpLine.startsWith(spaceBlock)) {
-            tmpLine = tmpLine.replaceFirst(spaceBlock, "");
-            level++;
+        int leadingSpaces = 0;
+        while (leadingSpaces < line.length() && line.charAt(leadingSpaces) == ' ') {
+            leadingSpaces++;
         }
 
-        return level;
-
+        return leadingSpaces / spaceBlockSize;
     }
 }
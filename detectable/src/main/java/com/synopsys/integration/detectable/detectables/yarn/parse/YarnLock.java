@@ -22,22 +22,29 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn.parse;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-//All we need from a 'Yarn Lock' is the ability to resolve a real version from a fuzzy version.
+//A 'Yarn Lock' can resolve a real version from a fuzzy version, and knows the fuzzy dependencies of every resolved package.
 public class YarnLock {
-    private Map<String, String> fuzzyIdToResolvedVersionMap;
+    private final Map<String, YarnLockEntry> fuzzyIdToEntryMap;
+    private final List<YarnLockEntry> entries;
 
-    public YarnLock(final Map<String, String> fuzzyIdToResolvedVersionMap) {
-        this.fuzzyIdToResolvedVersionMap = fuzzyIdToResolvedVersionMap;
+    public YarnLock(final Map<String, YarnLockEntry> fuzzyIdToEntryMap, final List<YarnLockEntry> entries) {
+        this.fuzzyIdToEntryMap = fuzzyIdToEntryMap;
+        this.entries = entries;
     }
 
-    public Optional<String> versionForFuzzyId(String fuzzyId) {
-        if (fuzzyIdToResolvedVersionMap.containsKey(fuzzyId)){
-            return Optional.of(fuzzyIdToResolvedVersionMap.get(fuzzyId));
-        } else {
-            return Optional.empty();
-        }
+    public Optional<String> versionForFuzzyId(final String fuzzyId) {
+        return entryForFuzzyId(fuzzyId).map(YarnLockEntry::getVersion);
+    }
+
+    public Optional<YarnLockEntry> entryForFuzzyId(final String fuzzyId) {
+        return Optional.ofNullable(fuzzyIdToEntryMap.get(YarnFuzzyId.normalize(fuzzyId)));
+    }
+
+    public List<YarnLockEntry> getEntries() {
+        return entries;
     }
 }
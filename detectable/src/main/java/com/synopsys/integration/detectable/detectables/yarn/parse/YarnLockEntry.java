@@ -20,36 +20,30 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-package com.synopsys.integration.detectable.detectables.cocoapods.model;
+package com.synopsys.integration.detectable.detectables.yarn.parse;
 
-import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
 
-@JsonIgnoreProperties(ignoreUnknown = true)
-public class PodSource {
-    @JsonIgnore
-    private String name;
+public class YarnLockEntry {
+    private final String name;
+    private final String version;
+    private final List<String> dependencyFuzzyIds;
 
-    @JsonProperty(":git")
-    private String git;
-
-    @JsonProperty(":path")
-    private String path;
+    public YarnLockEntry(final String name, final String version, final List<String> dependencyFuzzyIds) {
+        this.name = name;
+        this.version = version;
+        this.dependencyFuzzyIds = dependencyFuzzyIds;
+    }
 
     public String getName() {
         return name;
     }
 
-    public void setName(final String name) {
-        this.name = name;
-    }
-
-    public String getGit() {
-        return git;
+    public String getVersion() {
+        return version;
     }
 
-    public String getPath() {
-        return path;
+    public List<String> getDependencyFuzzyIds() {
+        return dependencyFuzzyIds;
     }
 }
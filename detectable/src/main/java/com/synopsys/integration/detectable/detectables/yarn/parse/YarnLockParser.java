@@ -22,12 +22,12 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn.parse;
 
+import java.io.BufferedReader;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -35,6 +35,8 @@ public class YarnLockParser {
     public static final String COMMENT_PREFIX = "#";
     public static final String VERSION_PREFIX = "version \"";
     public static final String VERSION_SUFFIX = "\"";
+    public static final String DEPENDENCIES_PREFIX = "dependencies:";
+    public static final String OPTIONAL_DEPENDENCIES_PREFIX = "optionalDependencies:";
 
     private final YarnLineLevelParser lineLevelParser;
 
@@ -43,32 +45,103 @@ public class YarnLockParser {
     }
 
     public YarnLock parseYarnLock(final List<String> yarnLockFileAsList) {
-        final Map<String, String> yarnLockResolvedVersions = new HashMap<>();
+        return parseYarnLock(yarnLockFileAsList.iterator());
+    }
+
+    //Reads the lock line by line so the whole file never has to be held in memory.
+    public YarnLock parseYarnLock(final BufferedReader yarnLockReader) {
+        return parseYarnLock(yarnLockReader.lines().iterator());
+    }
+
+    private YarnLock parseYarnLock(final Iterator<String> lines) {
+        final Map<String, String> internedStrings = new HashMap<>();
+        final Map<String, YarnLockEntry> fuzzyIdToEntryMap = new HashMap<>();
+        final List<YarnLockEntry> entries = new ArrayList<>();
 
         final List<String> fuzzyIds = new ArrayList<>();
-        for (final String line : yarnLockFileAsList) {
-            if (StringUtils.isBlank(line) || line.trim().startsWith(COMMENT_PREFIX)) {
+        String resolvedVersion = null;
+        List<String> dependencyFuzzyIds = new ArrayList<>();
+        boolean inDependencies = false;
+        while (lines.hasNext()) {
+            final String line = lines.next();
+            final String trimmedLine = line.trim();
+            if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_PREFIX)) {
                 continue;
             }
 
-            final String trimmedLine = line.trim();
             final int level = lineLevelParser.parseIndentLevel(line);
             if (level == 0) {
-                fuzzyIds.addAll(getFuzzyIdsFromLine(line));
-            } else if (level == 1 && trimmedLine.startsWith(VERSION_PREFIX)) {
-                final String resolvedVersion = trimmedLine.substring(VERSION_PREFIX.length(), trimmedLine.lastIndexOf(VERSION_SUFFIX));
-                fuzzyIds.stream().forEach(fuzzyId -> yarnLockResolvedVersions.put(fuzzyId, resolvedVersion));
+                addEntry(fuzzyIds, resolvedVersion, dependencyFuzzyIds, fuzzyIdToEntryMap, entries, internedStrings);
                 fuzzyIds.clear();
+                addFuzzyIdsFromLine(trimmedLine, fuzzyIds, internedStrings);
+                resolvedVersion = null;
+                dependencyFuzzyIds = new ArrayList<>();
+                inDependencies = false;
+            } else if (level == 1) {
+                inDependencies = trimmedLine.equals(DEPENDENCIES_PREFIX) || trimmedLine.equals(OPTIONAL_DEPENDENCIES_PREFIX);
+                if (trimmedLine.startsWith(VERSION_PREFIX)) {
+                    resolvedVersion = intern(trimmedLine.substring(VERSION_PREFIX.length(), trimmedLine.lastIndexOf(VERSION_SUFFIX)), internedStrings);
+                }
+            } else if (level == 2 && inDependencies) {
+                dependencyFuzzyIds.add(intern(getFuzzyIdFromDependencyLine(trimmedLine), internedStrings));
             }
         }
+        addEntry(fuzzyIds, resolvedVersion, dependencyFuzzyIds, fuzzyIdToEntryMap, entries, internedStrings);
+
+        return new YarnLock(fuzzyIdToEntryMap, entries);
+    }
+
+    private void addEntry(final List<String> fuzzyIds, final String resolvedVersion, final List<String> dependencyFuzzyIds, final Map<String, YarnLockEntry> fuzzyIdToEntryMap, final List<YarnLockEntry> entries,
+        final Map<String, String> internedStrings) {
+        if (fuzzyIds.isEmpty() || resolvedVersion == null) {
+            return;
+        }
+
+        final String name = intern(YarnFuzzyId.parse(fuzzyIds.get(0)).getName(), internedStrings);
+        final YarnLockEntry entry = new YarnLockEntry(name, resolvedVersion, dependencyFuzzyIds);
+        for (final String fuzzyId : fuzzyIds) {
+            fuzzyIdToEntryMap.put(fuzzyId, entry);
+        }
+        entries.add(entry);
+    }
+
+    //Entry lines look like 'debug@2, "debug@>= 2.6.4":' so the ids are comma separated and may be quoted.
+    //Only the trailing ':' is dropped, ranges such as 'npm:other@^1.0.0' or 'git+ssh://...' keep theirs.
+    private void addFuzzyIdsFromLine(final String entryLine, final List<String> fuzzyIds, final Map<String, String> internedStrings) {
+        final String trimmedLine = StringUtils.removeEnd(entryLine, ":");
+        int start = 0;
+        while (start < trimmedLine.length()) {
+            int end = trimmedLine.indexOf(',', start);
+            if (end < 0) {
+                end = trimmedLine.length();
+            }
+            final String fuzzyId = YarnFuzzyId.normalize(StringUtils.remove(trimmedLine.substring(start, end).trim(), '"'));
+            fuzzyIds.add(intern(fuzzyId, internedStrings));
+            start = end + 1;
+        }
+    }
+
+    //Dependency lines look like 'name "range"' where scoped names are quoted as well, e.g. '"@babel/core" "^7.0.0"'.
+    private String getFuzzyIdFromDependencyLine(final String trimmedLine) {
+        final int nameEnd;
+        if (trimmedLine.startsWith("\"")) {
+            nameEnd = trimmedLine.indexOf('"', 1) + 1;
+        } else {
+            nameEnd = trimmedLine.indexOf(' ');
+        }
+
+        if (nameEnd <= 0) {
+            return StringUtils.remove(trimmedLine, '"');
+        }
 
-        return new YarnLock(yarnLockResolvedVersions);
+        final String name = StringUtils.remove(trimmedLine.substring(0, nameEnd), '"');
+        final String range = StringUtils.remove(trimmedLine.substring(nameEnd).trim(), '"');
+        return YarnFuzzyId.normalize(name + "@" + range);
     }
 
-    private List<String> getFuzzyIdsFromLine(final String s) {
-        final String[] lines = s.split(",");
-        return Arrays.stream(lines)
-                   .map(line -> line.trim().replaceAll("\"", "").replaceAll(":", ""))
-                   .collect(Collectors.toList());
+    //The same names, versions and fuzzy ids repeat throughout a lock, so only one copy of each is kept.
+    private String intern(final String value, final Map<String, String> internedStrings) {
+        final String existing = internedStrings.putIfAbsent(value, value);
+        return existing == null ? value : existing;
     }
 }
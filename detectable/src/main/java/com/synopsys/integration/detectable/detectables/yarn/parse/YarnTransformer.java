@@ -22,8 +22,14 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn.parse;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +42,7 @@ import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.detectable.util.DependencyHistory;
+import com.synopsys.integration.detectable.detectables.npm.packagejson.model.PackageJson;
 
 public class YarnTransformer {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
@@ -76,4 +83,52 @@ public class YarnTransformer {
 
         return graph;
     }
+
+    public DependencyGraph transform(final PackageJson packageJson, final YarnLock yarnLock, final boolean productionOnly) {
+        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+
+        final Map<String, String> rootDependencies = new HashMap<>(packageJson.dependencies);
+        if (!productionOnly) {
+            rootDependencies.putAll(packageJson.devDependencies);
+        }
+
+        final Deque<YarnLockEntry> unvisited = new ArrayDeque<>();
+        for (final Map.Entry<String, String> rootDependency : rootDependencies.entrySet()) {
+            final String fuzzyId = rootDependency.getKey() + "@" + rootDependency.getValue();
+            graph.addChildToRoot(dependencyForFuzzyId(fuzzyId, yarnLock));
+            yarnLock.entryForFuzzyId(fuzzyId).ifPresent(unvisited::add);
+        }
+
+        //Only entries reachable from the included roots are added, so dev-only transitives stay out of a production graph.
+        final Set<YarnLockEntry> visited = new HashSet<>();
+        while (!unvisited.isEmpty()) {
+            final YarnLockEntry entry = unvisited.pop();
+            if (!visited.add(entry)) {
+                continue;
+            }
+            final Dependency parent = createDependency(entry.getName(), entry.getVersion());
+            for (final String dependencyFuzzyId : entry.getDependencyFuzzyIds()) {
+                graph.addChildWithParent(dependencyForFuzzyId(dependencyFuzzyId, yarnLock), parent);
+                yarnLock.entryForFuzzyId(dependencyFuzzyId).ifPresent(unvisited::add);
+            }
+        }
+
+        return graph;
+    }
+
+    private Dependency dependencyForFuzzyId(final String fuzzyId, final YarnLock yarnLock) {
+        final Optional<YarnLockEntry> entry = yarnLock.entryForFuzzyId(fuzzyId);
+        if (entry.isPresent()) {
+            return createDependency(entry.get().getName(), entry.get().getVersion());
+        }
+
+        logger.debug(String.format("Could not resolve '%s' from the yarn.lock, using the fuzzy version.", fuzzyId));
+        final YarnFuzzyId parsedFuzzyId = YarnFuzzyId.parse(fuzzyId);
+        return createDependency(parsedFuzzyId.getName(), parsedFuzzyId.getRange());
+    }
+
+    private Dependency createDependency(final String name, final String version) {
+        final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.NPM, name, version);
+        return new Dependency(name, version, externalId);
+    }
 }
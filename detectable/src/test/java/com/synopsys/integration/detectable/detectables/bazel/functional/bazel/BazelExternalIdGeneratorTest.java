@@ -18,6 +18,7 @@ import com.synopsys.integration.detectable.detectables.bazel.parse.BazelExternal
 import com.synopsys.integration.detectable.detectables.bazel.parse.BazelQueryXmlOutputParser;
 import com.synopsys.integration.detectable.detectables.bazel.parse.BazelVariableSubstitutor;
 import com.synopsys.integration.detectable.detectables.bazel.parse.RuleConverter;
+import com.synopsys.integration.detectable.detectables.bazel.parse.StreamingXPathParser;
 import com.synopsys.integration.detectable.detectables.bazel.parse.XPathParser;
 
 public class BazelExternalIdGeneratorTest {
@@ -36,13 +37,26 @@ public class BazelExternalIdGeneratorTest {
                                                + "    </rule> "
                                                + "</query>";
 
+    private static final String batchXml = "<?xml version=\"1.1\" encoding=\"UTF-8\" standalone=\"no\"?> "
+                                               + "<query version=\"2\"> "
+                                               + "    <rule class=\"maven_jar\" location=\"/root/home/steve/examples/java-tutorial/WORKSPACE:6:1\" name=\"//external:org_apache_commons_commons_io\"> "
+                                               + "        <string name=\"name\" value=\"org_apache_commons_commons_io\"/> "
+                                               + "        <string name=\"artifact\" value=\"org.apache.commons:commons-io:1.3.2\"/> "
+                                               + "    </rule> "
+                                               + "    <rule class=\"maven_jar\" location=\"/root/home/steve/examples/java-tutorial/WORKSPACE:1:1\" name=\"//external:com_google_guava_guava\"> "
+                                               + "        <string name=\"name\" value=\"com_google_guava_guava\"/> "
+                                               + "        <string name=\"artifact\" value=\"com.google.guava:guava:18.0\"/> "
+                                               + "    </rule> "
+                                               + "</query>";
+    private static final String batchTarget = "set(//external:org_apache_commons_commons_io //external:com_google_guava_guava)";
+
     @Test
     public void test() throws ExecutableRunnerException {
 
         final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
         final String bazelExe = "notUsed";
         final XPathParser xPathParser = new XPathParser();
-        final BazelQueryXmlOutputParser parser = new BazelQueryXmlOutputParser(xPathParser);
+        final BazelQueryXmlOutputParser parser = new BazelQueryXmlOutputParser(xPathParser, new StreamingXPathParser());
         final File workspaceDir = new File("notUsed");
         final String bazelTarget = "//testproject:ProjectRunner";
 
@@ -65,6 +79,96 @@ public class BazelExternalIdGeneratorTest {
         Mockito.when(executableRunner.execute(workspaceDir, bazelExe, dependencyVariableSubstitutorCommonsIo.substitute(xPathRule.getDependencyDetailsXmlQueryBazelCmdArguments()))).thenReturn(executableOutputQueryCommonsIo);
         Mockito.when(executableRunner.execute(workspaceDir, bazelExe, dependencyVariableSubstitutorGuava.substitute(xPathRule.getDependencyDetailsXmlQueryBazelCmdArguments()))).thenReturn(executableOutputQueryGuava);
 
+        final BazelVariableSubstitutor batchVariableSubstitutor = new BazelVariableSubstitutor(bazelTarget, batchTarget);
+        Mockito.when(executableRunner.execute(workspaceDir, bazelExe, batchVariableSubstitutor.substitute(xPathRule.getDependencyDetailsXmlQueryBazelCmdArguments()))).thenReturn(new ExecutableOutput(0, batchXml, ""));
+
+        List<BazelExternalId> bazelExternalIds = generator.generate(xPathRule);
+        assertEquals(2, bazelExternalIds.size());
+        assertEquals("org.apache.commons", bazelExternalIds.get(0).getGroup());
+        assertEquals("commons-io", bazelExternalIds.get(0).getArtifact());
+        assertEquals("1.3.2", bazelExternalIds.get(0).getVersion());
+
+        assertEquals("com.google.guava", bazelExternalIds.get(1).getGroup());
+        assertEquals("guava", bazelExternalIds.get(1).getArtifact());
+        assertEquals("18.0", bazelExternalIds.get(1).getVersion());
+        Mockito.verify(executableRunner, Mockito.times(2)).execute(Mockito.any(File.class), Mockito.anyString(), Mockito.anyList());
+    }
+
+    @Test
+    public void failedBatchFallsBackToIndividualQueries() throws ExecutableRunnerException {
+
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        final String bazelExe = "notUsed";
+        final XPathParser xPathParser = new XPathParser();
+        final BazelQueryXmlOutputParser parser = new BazelQueryXmlOutputParser(xPathParser, new StreamingXPathParser());
+        final File workspaceDir = new File("notUsed");
+        final String bazelTarget = "//testproject:ProjectRunner";
+
+        BazelExternalIdGenerator generator = new BazelExternalIdGenerator(executableRunner, bazelExe, parser, workspaceDir, bazelTarget);
+
+        BazelExternalIdExtractionSimpleRule simpleRule = new BazelExternalIdExtractionSimpleRule("@.*:jar", "maven_jar",
+            "artifact", ":");
+        BazelExternalIdExtractionFullRule xPathRule = RuleConverter.simpleToFull(simpleRule);
+
+        // executableRunner.executeQuietly(workspaceDir, bazelExe, targetOnlyVariableSubstitutor.substitute(xPathRule.getTargetDependenciesQueryBazelCmdArguments()));
+        final BazelVariableSubstitutor targetOnlyVariableSubstitutor = new BazelVariableSubstitutor(bazelTarget);
+        ExecutableOutput executableOutputQueryForDependencies = new ExecutableOutput(0, "@org_apache_commons_commons_io//jar:jar\n@com_google_guava_guava//jar:jar", "");
+        Mockito.when(executableRunner.execute(workspaceDir, bazelExe, targetOnlyVariableSubstitutor.substitute(xPathRule.getTargetDependenciesQueryBazelCmdArguments()))).thenReturn(executableOutputQueryForDependencies);
+
+        // executableRunner.executeQuietly(workspaceDir, bazelExe, dependencyVariableSubstitutor.substitute(xPathRule.getDependencyDetailsXmlQueryBazelCmdArguments()));
+        final BazelVariableSubstitutor dependencyVariableSubstitutorCommonsIo = new BazelVariableSubstitutor(bazelTarget, "//external:org_apache_commons_commons_io");
+        final BazelVariableSubstitutor dependencyVariableSubstitutorGuava = new BazelVariableSubstitutor(bazelTarget, "//external:com_google_guava_guava");
+        ExecutableOutput executableOutputQueryCommonsIo = new ExecutableOutput(0, commonsIoXml, "");
+        ExecutableOutput executableOutputQueryGuava = new ExecutableOutput(0, guavaXml, "");
+        Mockito.when(executableRunner.execute(workspaceDir, bazelExe, dependencyVariableSubstitutorCommonsIo.substitute(xPathRule.getDependencyDetailsXmlQueryBazelCmdArguments()))).thenReturn(executableOutputQueryCommonsIo);
+        Mockito.when(executableRunner.execute(workspaceDir, bazelExe, dependencyVariableSubstitutorGuava.substitute(xPathRule.getDependencyDetailsXmlQueryBazelCmdArguments()))).thenReturn(executableOutputQueryGuava);
+
+        final BazelVariableSubstitutor batchVariableSubstitutor = new BazelVariableSubstitutor(bazelTarget, batchTarget);
+        Mockito.when(executableRunner.execute(workspaceDir, bazelExe, batchVariableSubstitutor.substitute(xPathRule.getDependencyDetailsXmlQueryBazelCmdArguments()))).thenReturn(new ExecutableOutput(7, "", "ERROR: no such target"));
+
+        List<BazelExternalId> bazelExternalIds = generator.generate(xPathRule);
+        assertEquals(2, bazelExternalIds.size());
+        assertEquals("org.apache.commons", bazelExternalIds.get(0).getGroup());
+        assertEquals("commons-io", bazelExternalIds.get(0).getArtifact());
+        assertEquals("1.3.2", bazelExternalIds.get(0).getVersion());
+
+        assertEquals("com.google.guava", bazelExternalIds.get(1).getGroup());
+        assertEquals("guava", bazelExternalIds.get(1).getArtifact());
+        assertEquals("18.0", bazelExternalIds.get(1).getVersion());
+    }
+
+    @Test
+    public void failedBatchOnlyRetriesMissingDependencies() throws ExecutableRunnerException {
+
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        final String bazelExe = "notUsed";
+        final XPathParser xPathParser = new XPathParser();
+        final BazelQueryXmlOutputParser parser = new BazelQueryXmlOutputParser(xPathParser, new StreamingXPathParser());
+        final File workspaceDir = new File("notUsed");
+        final String bazelTarget = "//testproject:ProjectRunner";
+
+        BazelExternalIdGenerator generator = new BazelExternalIdGenerator(executableRunner, bazelExe, parser, workspaceDir, bazelTarget);
+
+        BazelExternalIdExtractionSimpleRule simpleRule = new BazelExternalIdExtractionSimpleRule("@.*:jar", "maven_jar",
+            "artifact", ":");
+        BazelExternalIdExtractionFullRule xPathRule = RuleConverter.simpleToFull(simpleRule);
+
+        // executableRunner.executeQuietly(workspaceDir, bazelExe, targetOnlyVariableSubstitutor.substitute(xPathRule.getTargetDependenciesQueryBazelCmdArguments()));
+        final BazelVariableSubstitutor targetOnlyVariableSubstitutor = new BazelVariableSubstitutor(bazelTarget);
+        ExecutableOutput executableOutputQueryForDependencies = new ExecutableOutput(0, "@org_apache_commons_commons_io//jar:jar\n@com_google_guava_guava//jar:jar", "");
+        Mockito.when(executableRunner.execute(workspaceDir, bazelExe, targetOnlyVariableSubstitutor.substitute(xPathRule.getTargetDependenciesQueryBazelCmdArguments()))).thenReturn(executableOutputQueryForDependencies);
+
+        // executableRunner.executeQuietly(workspaceDir, bazelExe, dependencyVariableSubstitutor.substitute(xPathRule.getDependencyDetailsXmlQueryBazelCmdArguments()));
+        final BazelVariableSubstitutor dependencyVariableSubstitutorCommonsIo = new BazelVariableSubstitutor(bazelTarget, "//external:org_apache_commons_commons_io");
+        final BazelVariableSubstitutor dependencyVariableSubstitutorGuava = new BazelVariableSubstitutor(bazelTarget, "//external:com_google_guava_guava");
+        ExecutableOutput executableOutputQueryCommonsIo = new ExecutableOutput(0, commonsIoXml, "");
+        ExecutableOutput executableOutputQueryGuava = new ExecutableOutput(0, guavaXml, "");
+        Mockito.when(executableRunner.execute(workspaceDir, bazelExe, dependencyVariableSubstitutorCommonsIo.substitute(xPathRule.getDependencyDetailsXmlQueryBazelCmdArguments()))).thenReturn(executableOutputQueryCommonsIo);
+        Mockito.when(executableRunner.execute(workspaceDir, bazelExe, dependencyVariableSubstitutorGuava.substitute(xPathRule.getDependencyDetailsXmlQueryBazelCmdArguments()))).thenReturn(executableOutputQueryGuava);
+
+        final BazelVariableSubstitutor batchVariableSubstitutor = new BazelVariableSubstitutor(bazelTarget, batchTarget);
+        Mockito.when(executableRunner.execute(workspaceDir, bazelExe, batchVariableSubstitutor.substitute(xPathRule.getDependencyDetailsXmlQueryBazelCmdArguments()))).thenReturn(new ExecutableOutput(3, commonsIoXml, "ERROR: no such target '//external:com_google_guava_guava'"));
+
         List<BazelExternalId> bazelExternalIds = generator.generate(xPathRule);
         assertEquals(2, bazelExternalIds.size());
         assertEquals("org.apache.commons", bazelExternalIds.get(0).getGroup());
@@ -74,5 +178,6 @@ public class BazelExternalIdGeneratorTest {
         assertEquals("com.google.guava", bazelExternalIds.get(1).getGroup());
         assertEquals("guava", bazelExternalIds.get(1).getArtifact());
         assertEquals("18.0", bazelExternalIds.get(1).getVersion());
+        Mockito.verify(executableRunner, Mockito.never()).execute(workspaceDir, bazelExe, dependencyVariableSubstitutorCommonsIo.substitute(xPathRule.getDependencyDetailsXmlQueryBazelCmdArguments()));
     }
 }
@@ -16,6 +16,7 @@ import org.junit.Test;
 import org.xml.sax.SAXException;
 
 import com.synopsys.integration.detectable.detectables.bazel.parse.BazelQueryXmlOutputParser;
+import com.synopsys.integration.detectable.detectables.bazel.parse.StreamingXPathParser;
 import com.synopsys.integration.detectable.detectables.bazel.parse.XPathParser;
 import com.synopsys.integration.detectable.util.FunctionalTestFiles;
 
@@ -40,7 +41,7 @@ public class BazelQueryXmlOutputParserTest {
 
     private List<String> getExternalIdsFromXmlFile(final String xml) throws IOException, XPathExpressionException, ParserConfigurationException, SAXException {
         final XPathParser xPathParser = new XPathParser();
-        BazelQueryXmlOutputParser parser = new BazelQueryXmlOutputParser(xPathParser);
+        BazelQueryXmlOutputParser parser = new BazelQueryXmlOutputParser(xPathParser, new StreamingXPathParser());
         String xPathQuery = "/query/rule[@class='maven_jar']/string[@name='artifact']";
         return parser.parseStringValuesWithXPath(xml, xPathQuery, "value");
     }
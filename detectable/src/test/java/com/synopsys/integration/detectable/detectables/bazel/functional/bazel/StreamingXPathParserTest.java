@@ -0,0 +1,79 @@
+package com.synopsys.integration.detectable.detectables.bazel.functional.bazel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import com.synopsys.integration.detectable.detectables.bazel.parse.StreamingXPathParser;
+import com.synopsys.integration.detectable.detectables.bazel.parse.XPathParser;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+
+public class StreamingXPathParserTest {
+    private static final String ARTIFACT_QUERY = "/query/rule[@class='maven_jar']/string[@name='artifact']";
+
+    @Test
+    public void matchesXPathParserOnSampleOutput() throws Exception {
+        final String xml = FunctionalTestFiles.asString("/bazel/sample2.xml");
+
+        final Optional<List<String>> streamed = new StreamingXPathParser().parseAttributeValuesWithGivenXPathQuery(xml, ARTIFACT_QUERY, "value");
+        final List<String> parsed = new XPathParser().parseAttributeValuesWithGivenXPathQuery(xml, ARTIFACT_QUERY, "value");
+
+        assertTrue(streamed.isPresent());
+        assertEquals(2, streamed.get().size());
+        assertEquals(parsed, streamed.get());
+    }
+
+    @Test
+    public void matchesConjunctionsAndWildcards() throws Exception {
+        final String xml = "<query><rule class=\"maven_jar\" name=\"//external:a\"><string name=\"artifact\" value=\"g:a:1\"/></rule>"
+                               + "<rule class=\"maven_jar\" name=\"//external:b\"><string name=\"artifact\" value=\"g:b:1\"/><list name=\"artifact\"><string name=\"artifact\" value=\"nested\"/></list></rule>"
+                               + "<rule class=\"java_library\" name=\"//external:c\"><string name=\"artifact\" value=\"g:c:1\"/></rule></query>";
+        final String xPathQuery = "/query/rule[@class='maven_jar' and @name=\"//external:b\"]/*[@name='artifact']";
+
+        final Optional<List<String>> streamed = new StreamingXPathParser().parseAttributeValuesWithGivenXPathQuery(xml, xPathQuery, "value");
+        final List<String> parsed = new XPathParser().parseAttributeValuesWithGivenXPathQuery(xml, "/query/rule[@class='maven_jar' and @name=\"//external:b\"]/string[@name='artifact']", "value");
+
+        assertTrue(streamed.isPresent());
+        assertEquals(parsed, streamed.get());
+    }
+
+    @Test
+    public void unsupportedExpressions() throws Exception {
+        final StreamingXPathParser parser = new StreamingXPathParser();
+        final String xml = FunctionalTestFiles.asString("/bazel/sample2.xml");
+        assertTrue(parser.parseAttributeValuesWithGivenXPathQuery(xml, ARTIFACT_QUERY, "value").isPresent());
+        assertFalse(parser.parseAttributeValuesWithGivenXPathQuery(xml, "//rule[@class='maven_jar']/string", "value").isPresent());
+        assertFalse(parser.parseAttributeValuesWithGivenXPathQuery(xml, "/query/rule[1]/string", "value").isPresent());
+        assertFalse(parser.parseAttributeValuesWithGivenXPathQuery(xml, "/query/rule[@class='maven_jar' or @class='java_import']", "value").isPresent());
+        assertFalse(parser.parseAttributeValuesWithGivenXPathQuery(xml, "/query/rule[contains(@name, 'guava')]", "value").isPresent());
+    }
+
+    @Test
+    public void matchesXPathParserOnLargeOutput() throws Exception {
+        final String xml = createSyntheticQueryOutput(20000);
+
+        final Optional<List<String>> streamed = new StreamingXPathParser().parseAttributeValuesWithGivenXPathQuery(xml, ARTIFACT_QUERY, "value");
+        final List<String> parsed = new XPathParser().parseAttributeValuesWithGivenXPathQuery(xml, ARTIFACT_QUERY, "value");
+
+        assertEquals(20000, parsed.size());
+        assertTrue(streamed.isPresent());
+        assertEquals(parsed, streamed.get());
+    }
+
+    private String createSyntheticQueryOutput(final int ruleCount) {
+        final StringBuilder builder = new StringBuilder("<?xml version=\"1.1\" encoding=\"UTF-8\" standalone=\"no\"?>\n<query version=\"2\">\n");
+        for (int rule = 0; rule < ruleCount; rule++) {
+            builder.append(String.format("    <rule class=\"maven_jar\" location=\"/workspace/WORKSPACE:%s:1\" name=\"//external:artifact_%s\">\n", rule, rule));
+            builder.append(String.format("        <string name=\"name\" value=\"artifact_%s\"/>\n", rule));
+            builder.append(String.format("        <string name=\"artifact\" value=\"com.example:artifact-%s:1.%s\"/>\n", rule, rule));
+            builder.append("        <string name=\"sha1\" value=\"0123456789abcdef0123456789abcdef01234567\"/>\n");
+            builder.append("    </rule>\n");
+        }
+        return builder.append("</query>\n").toString();
+    }
+}
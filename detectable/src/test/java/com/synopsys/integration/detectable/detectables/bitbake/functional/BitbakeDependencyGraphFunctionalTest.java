@@ -1,11 +1,11 @@
 package com.synopsys.integration.detectable.detectables.bitbake.functional;
 
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.StringReader;
 
 import org.junit.jupiter.api.Test;
 
-import com.paypal.digraph.parser.GraphParser;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
@@ -13,7 +13,7 @@ import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.annotations.FunctionalTest;
 import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGraph;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeGraphTransformer;
-import com.synopsys.integration.detectable.detectables.bitbake.parse.GraphParserTransformer;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeRecipeDependsParser;
 import com.synopsys.integration.detectable.util.FunctionalTestFiles;
 import com.synopsys.integration.detectable.util.graph.ArchitectureGraphAssert;
 
@@ -21,12 +21,11 @@ import com.synopsys.integration.detectable.util.graph.ArchitectureGraphAssert;
 public class BitbakeDependencyGraphFunctionalTest {
     @Test
     public void found480RootInOutput() throws IOException {
-        final GraphParserTransformer graphParserTransformer = new GraphParserTransformer();
-        final InputStream inputStream = FunctionalTestFiles.asInputStream("/bitbake/Bitbake_RecipeDepends_Full.dot");
-        final GraphParser graphParser = new GraphParser(inputStream);
+        final BitbakeRecipeDependsParser recipeDependsParser = new BitbakeRecipeDependsParser();
+        final String recipeDepends = FunctionalTestFiles.asString("/bitbake/Bitbake_RecipeDepends_Full.dot");
         final BitbakeGraphTransformer bitbakeGraphTransformer = new BitbakeGraphTransformer(new ExternalIdFactory());
 
-        final BitbakeGraph bitbakeGraph = graphParserTransformer.transform(graphParser);
+        final BitbakeGraph bitbakeGraph = recipeDependsParser.parse(new BufferedReader(new StringReader(recipeDepends)));
         final DependencyGraph dependencyGraph = bitbakeGraphTransformer.transform(bitbakeGraph, "i586-poky-linux");
 
         assert dependencyGraph.getRootDependencies().size() == 480;
@@ -34,11 +33,10 @@ public class BitbakeDependencyGraphFunctionalTest {
 
     @Test
     public void foundAttrAndAcl() throws IOException {
-        final GraphParserTransformer graphParserTransformer = new GraphParserTransformer();
-        final InputStream inputStream = FunctionalTestFiles.asInputStream("/bitbake/Bitbake_RecipeDepends_Simple.dot");
-        final GraphParser graphParser = new GraphParser(inputStream);
+        final BitbakeRecipeDependsParser recipeDependsParser = new BitbakeRecipeDependsParser();
+        final String recipeDepends = FunctionalTestFiles.asString("/bitbake/Bitbake_RecipeDepends_Simple.dot");
         final BitbakeGraphTransformer bitbakeGraphTransformer = new BitbakeGraphTransformer(new ExternalIdFactory());
-        final BitbakeGraph bitbakeGraph = graphParserTransformer.transform(graphParser);
+        final BitbakeGraph bitbakeGraph = recipeDependsParser.parse(new BufferedReader(new StringReader(recipeDepends)));
         final DependencyGraph dependencyGraph = bitbakeGraphTransformer.transform(bitbakeGraph, "i586-poky-linux");
 
         ArchitectureGraphAssert graphAssert = new ArchitectureGraphAssert(Forge.YOCTO, dependencyGraph);
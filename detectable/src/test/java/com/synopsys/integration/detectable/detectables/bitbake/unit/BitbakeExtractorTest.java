@@ -0,0 +1,138 @@
+package com.synopsys.integration.detectable.detectables.bitbake.unit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.ExtractionEnvironment;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
+import com.synopsys.integration.detectable.detectables.bitbake.BitbakeExtractor;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeArchitectureParser;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeGraphTransformer;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeRecipeDependsParser;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+
+@UnitTest
+public class BitbakeExtractorTest {
+    private static final Pattern COPY_PATTERN = Pattern.compile("cp '[^']*' '([^']*)'");
+    private static final Pattern EXIT_CODE_PATTERN = Pattern.compile("echo \"(DETECT BITBAKE COMMAND (.+?) EXIT CODE )\\$\\?\"");
+
+    private final List<String> scripts = new ArrayList<>();
+    private final List<String> failingPackages = new ArrayList<>();
+    private File workingDirectory;
+    private File buildEnvScript;
+    private File recipe;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        workingDirectory = Files.createTempDirectory("BitbakeExtractorTest").toFile();
+        buildEnvScript = new File(workingDirectory, "oe-init-build-env");
+        FileUtils.writeStringToFile(buildEnvScript, "# init", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(new File(workingDirectory, "meta-poky/conf/bblayers.conf.sample"), "BBLAYERS ?= \" \\\n  ##OEROOT##/meta \\\n  \"", StandardCharsets.UTF_8);
+        recipe = new File(workingDirectory, "meta/recipes-core/images/core-image-minimal.bb");
+        FileUtils.writeStringToFile(recipe, "IMAGE_INSTALL = \"packagegroup-core-boot\"", StandardCharsets.UTF_8);
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(workingDirectory);
+    }
+
+    @Test
+    public void allPackagesShareOneSession() {
+        final Extraction extraction = extract("first-output", null);
+
+        Assert.assertTrue(extraction.isSuccess());
+        Assert.assertEquals(2, extraction.getCodeLocations().size());
+        Assert.assertEquals(1, scripts.size());
+        Assert.assertTrue(scripts.get(0).contains("bitbake -g core-image-minimal"));
+        Assert.assertTrue(scripts.get(0).contains("bitbake -g core-image-sato"));
+    }
+
+    @Test
+    public void cachedRecipeDependsAreReused() {
+        final File cacheDirectory = new File(workingDirectory, "cache");
+        Assert.assertTrue(extract("first-output", cacheDirectory).isSuccess());
+        scripts.clear();
+
+        final Extraction extraction = extract("second-output", cacheDirectory);
+
+        Assert.assertTrue(extraction.isSuccess());
+        Assert.assertEquals(2, extraction.getCodeLocations().size());
+        Assert.assertTrue(scripts.isEmpty());
+    }
+
+    @Test
+    public void changedRecipeInvalidatesCache() {
+        final File cacheDirectory = new File(workingDirectory, "cache");
+        Assert.assertTrue(extract("first-output", cacheDirectory).isSuccess());
+        scripts.clear();
+        Assert.assertTrue(recipe.setLastModified(recipe.lastModified() - 60000));
+
+        final Extraction extraction = extract("second-output", cacheDirectory);
+
+        Assert.assertTrue(extraction.isSuccess());
+        Assert.assertEquals(1, scripts.size());
+        Assert.assertTrue(scripts.get(0).contains("bitbake -g core-image-minimal"));
+    }
+
+    @Test
+    public void failedPackageDoesNotFailOthers() {
+        failingPackages.add("core-image-sato");
+        final File cacheDirectory = new File(workingDirectory, "cache");
+
+        final Extraction extraction = extract("first-output", cacheDirectory);
+
+        Assert.assertTrue(extraction.isSuccess());
+        Assert.assertEquals(1, extraction.getCodeLocations().size());
+        scripts.clear();
+        failingPackages.clear();
+        Assert.assertTrue(extract("second-output", cacheDirectory).isSuccess());
+        Assert.assertEquals(1, scripts.size());
+        Assert.assertFalse(scripts.get(0).contains("bitbake -g core-image-minimal"));
+        Assert.assertTrue(scripts.get(0).contains("bitbake -g core-image-sato"));
+    }
+
+    private Extraction extract(final String outputName, final File cacheDirectory) {
+        final File outputDirectory = new File(workingDirectory, outputName);
+        outputDirectory.mkdirs();
+        final ExecutableRunner executableRunner = executable -> {
+            final List<String> command = executable.createProcessBuilder().command();
+            final String script = command.get(command.size() - 1);
+            scripts.add(script);
+            final StringBuilder standardOutput = new StringBuilder("TARGET_SYS           = \"i586-poky-linux\"");
+            final Matcher exitCode = EXIT_CODE_PATTERN.matcher(script);
+            while (exitCode.find()) {
+                standardOutput.append(System.lineSeparator()).append(exitCode.group(1)).append(failingPackages.contains(exitCode.group(2)) ? 1 : 0);
+            }
+            try {
+                final Matcher copy = COPY_PATTERN.matcher(script);
+                while (copy.find()) {
+                    FileUtils.writeStringToFile(new File(copy.group(1)), FunctionalTestFiles.asString("/bitbake/Bitbake_RecipeDepends_Simple.dot"), StandardCharsets.UTF_8);
+                }
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+            return new ExecutableOutput(0, standardOutput.toString(), "");
+        };
+
+        final BitbakeExtractor bitbakeExtractor = new BitbakeExtractor(executableRunner, new BitbakeRecipeDependsParser(), new BitbakeGraphTransformer(new ExternalIdFactory()), new BitbakeArchitectureParser());
+        return bitbakeExtractor.extract(new ExtractionEnvironment(outputDirectory), buildEnvScript, workingDirectory, new String[] { "core-image-minimal", "core-image-sato" }, new File("bash"), "_poky_linux",
+            cacheDirectory);
+    }
+}
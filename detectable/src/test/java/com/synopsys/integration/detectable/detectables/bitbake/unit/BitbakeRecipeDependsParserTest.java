@@ -0,0 +1,60 @@
+package com.synopsys.integration.detectable.detectables.bitbake.unit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGraph;
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeNode;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeRecipeDependsParser;
+
+@UnitTest
+public class BitbakeRecipeDependsParserTest {
+    @Test
+    public void parsedVersionFromLabel() throws IOException {
+        final BitbakeGraph bitbakeGraph = parse("digraph depends {",
+            "\"name\" [label=\"name\\n:version\\n/some/path/to.bb\"]",
+            "}");
+
+        Assert.assertEquals(1, bitbakeGraph.getNodes().size());
+        Assert.assertEquals("version", bitbakeGraph.getNodes().get(0).getVersion().get());
+    }
+
+    @Test
+    public void parsedRelationship() throws IOException {
+        final BitbakeGraph bitbakeGraph = parse("digraph depends {",
+            "\"parent\" [label=\"parent\\n:parent.version\\n/some/path/to.bb\"]",
+            "\"parent\" -> \"child\"",
+            "\"child\" [label=\"child\\n:child.version\\n/some/path/to.bb\"]",
+            "}");
+
+        Assert.assertEquals(2, bitbakeGraph.getNodes().size());
+        final BitbakeNode parent = bitbakeGraph.getNodes().get(0);
+        Assert.assertEquals("parent", parent.getName());
+        Assert.assertEquals(1, parent.getChildren().size());
+        Assert.assertTrue("Parent node children must contain child", parent.getChildren().contains("child"));
+        Assert.assertEquals("child.version", bitbakeGraph.getNodes().get(1).getVersion().get());
+    }
+
+    @Test
+    public void ignoresGraphAttributesAndEdgeAttributes() throws IOException {
+        final BitbakeGraph bitbakeGraph = parse("digraph depends {",
+            "node [shape=box];",
+            "\"a\" -> \"b\" [style=dashed];",
+            "\"b\" [label=\"b\\n:1.0\\n/path/b.bb\"];",
+            "}");
+
+        Assert.assertEquals(2, bitbakeGraph.getNodes().size());
+        Assert.assertTrue(bitbakeGraph.getNodes().get(0).getChildren().contains("b"));
+        Assert.assertEquals("1.0", bitbakeGraph.getNodes().get(1).getVersion().get());
+    }
+
+    private BitbakeGraph parse(final String... lines) throws IOException {
+        final BufferedReader reader = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return new BitbakeRecipeDependsParser().parse(reader);
+    }
+}
@@ -12,10 +12,13 @@
 package com.synopsys.integration.detectable.detectables.cocoapods.functional;
 
 import java.io.IOException;
+import java.io.StringReader;
 
+import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 
 import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.annotations.FunctionalTest;
 import com.synopsys.integration.detectable.detectables.cocoapods.parser.PodlockParser;
@@ -39,4 +42,17 @@ public class CocoapodsPackagerTest {
         final DependencyGraph projectDependencies = podlockParser.extractDependencyGraph(podlockText);
         GraphCompare.assertEqualsResource("/cocoapods/complexExpected_graph.json", projectDependencies);
     }
+
+    @Test
+    public void externalSourcesTest() throws IOException {
+        final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        final String podlockText = FunctionalTestFiles.asString("/cocoapods/externalSourcesFile.lock");
+        final DependencyGraph projectDependencies = podlockParser.extractDependencyGraph(new StringReader(podlockText));
+
+        Assert.assertEquals(36, projectDependencies.getRootDependencies().size());
+        Assert.assertTrue(projectDependencies.hasDependency(externalIdFactory.createNameVersionExternalId(Forge.NPM, "React", "0.46.0")));
+        Assert.assertTrue(projectDependencies.hasDependency(externalIdFactory.createNameVersionExternalId(Forge.NPM, "Yoga", "0.46.0.React")));
+        Assert.assertTrue(projectDependencies.hasDependency(externalIdFactory.createNameVersionExternalId(Forge.COCOAPODS, "AlamofireHandlers", "1.0.1")));
+        Assert.assertTrue(projectDependencies.hasDependency(externalIdFactory.createNameVersionExternalId(Forge.COCOAPODS, "RxSwift", "3.0.1")));
+    }
 }
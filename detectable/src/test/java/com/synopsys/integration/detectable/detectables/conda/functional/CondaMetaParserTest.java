@@ -0,0 +1,39 @@
+package com.synopsys.integration.detectable.detectables.conda.functional;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.FunctionalTest;
+import com.synopsys.integration.detectable.detectables.conda.parser.CondaListParser;
+import com.synopsys.integration.detectable.detectables.conda.parser.CondaMetaParser;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+import com.synopsys.integration.detectable.util.graph.GraphAssert;
+
+@FunctionalTest
+public class CondaMetaParserTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void condaMetaGraph() {
+        final CondaMetaParser condaMetaParser = new CondaMetaParser(new CondaListParser(new Gson(), externalIdFactory));
+        final DependencyGraph graph = condaMetaParser.parse(FunctionalTestFiles.asFile("/conda/meta/env/conda-meta"));
+
+        final GraphAssert graphAssert = new GraphAssert(Forge.ANACONDA, graph);
+        graphAssert.hasRootSize(2);
+        graphAssert.hasRootDependency(anaconda("numpy", "1.17.4-py37hc1035e2_0-linux-64"));
+        graphAssert.hasRootDependency(anaconda("requests", "2.22.0-py37_1-linux-64"));
+        graphAssert.hasParentChildRelationship(anaconda("requests", "2.22.0-py37_1-linux-64"), anaconda("urllib3", "1.25.7-py_0-linux-64"));
+        graphAssert.hasParentChildRelationship(anaconda("urllib3", "1.25.7-py_0-linux-64"), anaconda("python", "3.7.5-h0371630_0-linux-64"));
+        graphAssert.hasParentChildRelationship(anaconda("python", "3.7.5-h0371630_0-linux-64"), anaconda("openssl", "1.1.1d-h7b6447c_3-linux-64"));
+        graphAssert.hasParentChildRelationship(anaconda("openssl", "1.1.1d-h7b6447c_3-linux-64"), anaconda("libgcc-ng", "9.1.0-hdf63c60_0-linux-64"));
+        graphAssert.hasRelationshipCount(anaconda("openssl", "1.1.1d-h7b6447c_3-linux-64"), 1);
+    }
+
+    private ExternalId anaconda(final String name, final String version) {
+        return externalIdFactory.createNameVersionExternalId(Forge.ANACONDA, name, version);
+    }
+}
@@ -28,7 +28,7 @@ public class CondaCliDetectableTest {
 
         final CondaResolver condaResolver = null;
         final CondaCliExtractor condaExtractor = null;
-        final CondaCliDetectable detectable = new CondaCliDetectable(environment, fileFinder, condaResolver, condaExtractor);
+        final CondaCliDetectable detectable = new CondaCliDetectable(environment, fileFinder, condaResolver, condaExtractor, null, null);
 
         assertTrue(detectable.applicable().getPassed());
     }
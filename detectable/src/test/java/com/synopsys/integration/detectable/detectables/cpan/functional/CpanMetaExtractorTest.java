@@ -0,0 +1,73 @@
+package com.synopsys.integration.detectable.detectables.cpan.functional;
+
+import java.io.File;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.annotations.FunctionalTest;
+import com.synopsys.integration.detectable.detectables.cpan.CpanMetaExtractor;
+import com.synopsys.integration.detectable.detectables.cpan.parse.CpanDistributionGraphBuilder;
+import com.synopsys.integration.detectable.detectables.cpan.parse.CpanLocalLibParser;
+import com.synopsys.integration.detectable.detectables.cpan.parse.CpanMetaParser;
+import com.synopsys.integration.detectable.detectables.cpan.parse.CpanfileSnapshotParser;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+import com.synopsys.integration.detectable.util.graph.GraphAssert;
+
+@FunctionalTest
+public class CpanMetaExtractorTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final CpanMetaParser cpanMetaParser = new CpanMetaParser();
+    private final CpanMetaExtractor extractor = new CpanMetaExtractor(cpanMetaParser, new CpanfileSnapshotParser(), new CpanLocalLibParser(cpanMetaParser), new CpanDistributionGraphBuilder(externalIdFactory));
+    private final File mymeta = FunctionalTestFiles.asFile("/cpan/meta/MYMETA.json");
+
+    @Test
+    public void snapshotResolvesMetaRequirements() {
+        final Extraction extraction = extractor.extract(mymeta, FunctionalTestFiles.asFile("/cpan/meta/cpanfile.snapshot"), null);
+
+        Assert.assertTrue(extraction.isSuccess());
+        final GraphAssert graphAssert = new GraphAssert(Forge.CPAN, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(4);
+        graphAssert.hasRootDependency(cpan("Moo", "2.003006"));
+        graphAssert.hasRootDependency(cpan("Try-Tiny", "0.30"));
+        graphAssert.hasRootDependency(cpan("ExtUtils-MakeMaker", "7.44"));
+        graphAssert.hasRootDependency(cpan("Test-Simple", "1.302171"));
+        graphAssert.hasParentChildRelationship(cpan("Moo", "2.003006"), cpan("Role-Tiny", "2.001004"));
+        graphAssert.hasParentChildRelationship(cpan("Moo", "2.003006"), cpan("Sub-Quote", "2.006006"));
+        graphAssert.hasParentChildRelationship(cpan("Moo", "2.003006"), cpan("Class-Method-Modifiers", "2.13"));
+        graphAssert.hasParentChildRelationship(cpan("Sub-Quote", "2.006006"), cpan("ExtUtils-MakeMaker", "7.44"));
+    }
+
+    @Test
+    public void snapshotWithoutMeta() {
+        final Extraction extraction = extractor.extract(null, FunctionalTestFiles.asFile("/cpan/meta/cpanfile.snapshot"), null);
+
+        Assert.assertTrue(extraction.isSuccess());
+        final GraphAssert graphAssert = new GraphAssert(Forge.CPAN, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(3);
+        graphAssert.hasRootDependency(cpan("Moo", "2.003006"));
+        graphAssert.hasRootDependency(cpan("Try-Tiny", "0.30"));
+        graphAssert.hasRootDependency(cpan("Test-Simple", "1.302171"));
+    }
+
+    @Test
+    public void localLibResolvesMetaRequirements() {
+        final Extraction extraction = extractor.extract(mymeta, null, FunctionalTestFiles.asFile("/cpan/meta/local"));
+
+        Assert.assertTrue(extraction.isSuccess());
+        final GraphAssert graphAssert = new GraphAssert(Forge.CPAN, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(3);
+        graphAssert.hasRootDependency(cpan("Moo", "2.003006"));
+        graphAssert.hasRootDependency(cpan("Try-Tiny", "0.30"));
+        graphAssert.hasRootDependency(cpan("Test-Simple", "1.302171"));
+        graphAssert.hasParentChildRelationship(cpan("Moo", "2.003006"), cpan("Role-Tiny", "2.001004"));
+    }
+
+    private ExternalId cpan(final String name, final String version) {
+        return externalIdFactory.createNameVersionExternalId(Forge.CPAN, name, version);
+    }
+}
@@ -0,0 +1,47 @@
+package com.synopsys.integration.detectable.detectables.cpan.unit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectables.cpan.CpanMetaDetectable;
+import com.synopsys.integration.detectable.detectables.cpan.CpanMetaDetectableOptions;
+
+@UnitTest
+public class CpanMetaDetectableTest {
+    @Test
+    public void testApplicableWithSnapshot() {
+        final CpanMetaDetectable detectable = constructDetectable(CpanMetaDetectable.CPANFILE_SNAPSHOT, null);
+        assertTrue(detectable.applicable().getPassed());
+    }
+
+    @Test
+    public void testApplicableWithMetaAndLocalLib() {
+        final CpanMetaDetectable detectable = constructDetectable(CpanMetaDetectable.MYMETA_JSON, "local");
+        assertTrue(detectable.applicable().getPassed());
+    }
+
+    @Test
+    public void testNotApplicableWithMetaOnly() {
+        final CpanMetaDetectable detectable = constructDetectable(CpanMetaDetectable.META_JSON, null);
+        assertFalse(detectable.applicable().getPassed());
+    }
+
+    private CpanMetaDetectable constructDetectable(final String targetFilename, final String localLibPath) {
+        final DetectableEnvironment environment = Mockito.mock(DetectableEnvironment.class);
+        final FileFinder fileFinder = Mockito.mock(FileFinder.class);
+
+        final File dir = new File(".");
+        Mockito.when(environment.getDirectory()).thenReturn(dir);
+        Mockito.when(fileFinder.findFile(dir, targetFilename)).thenReturn(new File(targetFilename));
+
+        return new CpanMetaDetectable(environment, fileFinder, null, new CpanMetaDetectableOptions(localLibPath));
+    }
+}
@@ -0,0 +1,40 @@
+package com.synopsys.integration.detectable.detectables.docker.unit;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.docker.DockerDetectableOptions;
+import com.synopsys.integration.detectable.detectables.docker.DockerTarget;
+
+@UnitTest
+public class DockerDetectableOptionsTest {
+    @Test
+    public void suppliedTarTakesPrecedenceOverSuppliedImage() {
+        final DockerDetectableOptions options = createOptions("ubuntu:latest", "/tmp/ubuntu.tar", null, null);
+
+        Assert.assertEquals(Arrays.asList(DockerTarget.forTar("/tmp/ubuntu.tar")), options.getDockerTargets());
+    }
+
+    @Test
+    public void listsAreMergedWithoutDuplicates() {
+        final DockerDetectableOptions options = createOptions("ubuntu:latest", null, new String[] { "alpine:3.10", " ubuntu:latest", "" }, new String[] { "/tmp/centos.tar" });
+
+        final List<DockerTarget> targets = options.getDockerTargets();
+        Assert.assertEquals(Arrays.asList(DockerTarget.forImage("ubuntu:latest"), DockerTarget.forImage("alpine:3.10"), DockerTarget.forTar("/tmp/centos.tar")), targets);
+        Assert.assertTrue(options.hasDockerImageOrTag());
+    }
+
+    @Test
+    public void nothingSupplied() {
+        Assert.assertFalse(createOptions(null, "", new String[0], null).hasDockerImageOrTag());
+    }
+
+    private DockerDetectableOptions createOptions(final String image, final String tar, final String[] images, final String[] tars) {
+        return new DockerDetectableOptions(true, image, tar, "INFO", "", new HashMap<>(), null, null, images, tars, 1);
+    }
+}
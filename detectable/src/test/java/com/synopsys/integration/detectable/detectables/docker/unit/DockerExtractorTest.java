@@ -0,0 +1,250 @@
+package com.synopsys.integration.detectable.detectables.docker.unit;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.BdioTransformer;
+import com.synopsys.integration.bdio.SimpleBdioFactory;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.SimpleBdioDocument;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.executable.Executable;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
+import com.synopsys.integration.detectable.detectable.file.impl.SimpleFileFinder;
+import com.synopsys.integration.detectable.detectables.docker.DockerDetectableOptions;
+import com.synopsys.integration.detectable.detectables.docker.DockerExtractor;
+import com.synopsys.integration.detectable.detectables.docker.DockerInspectionResults;
+import com.synopsys.integration.detectable.detectables.docker.DockerInspectorInfo;
+import com.synopsys.integration.detectable.detectables.docker.DockerProperties;
+import com.synopsys.integration.detectable.detectables.docker.DockerTarget;
+
+@UnitTest
+public class DockerExtractorTest {
+    private static final String FAILING_IMAGE = "broken:1.0";
+    private static final String UBUNTU_DIGEST = "sha256:4c2a1cd7a9c2c8e9fbe1e3a1f5c4b2d6e7f8091a2b3c4d5e6f708192a3b4c5d6";
+
+    private File workingDirectory;
+    private File outputDirectory;
+    private File cacheDirectory;
+    private DockerExtractor dockerExtractor;
+    private final Map<String, String> localImages = new ConcurrentHashMap<>();
+    private final AtomicInteger inspectorRuns = new AtomicInteger();
+    private boolean daemonAvailable = true;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        workingDirectory = Files.createTempDirectory("DockerExtractorTest").toFile();
+        outputDirectory = new File(workingDirectory, "output");
+        cacheDirectory = new File(workingDirectory, "cache");
+
+        final DockerDetectableOptions options = new DockerDetectableOptions(true, null, null, "INFO", "", new HashMap<>(), null, null, null, null, 1);
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenAnswer(invocation -> run(invocation.getArgument(0)));
+        dockerExtractor = new DockerExtractor(new SimpleFileFinder(), new DockerProperties(options), executableRunner, new BdioTransformer(), new ExternalIdFactory(), new Gson());
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(workingDirectory);
+    }
+
+    @Test
+    public void eachImageIsInspectedIntoItsOwnDirectory() throws IOException {
+        final File savedImage = new File(workingDirectory, "alpine.tar");
+        FileUtils.writeStringToFile(savedImage, "image", StandardCharsets.UTF_8);
+        final List<DockerTarget> targets = Arrays.asList(DockerTarget.forImage("ubuntu:18.04"), DockerTarget.forTar(savedImage.getAbsolutePath()), DockerTarget.forImage("centos:7"));
+
+        final Extraction extraction = extract(targets, 2);
+
+        Assert.assertTrue(extraction.isSuccess());
+        final DockerInspectionResults results = extraction.getMetaData(DockerExtractor.DOCKER_INSPECTION_RESULTS_META_DATA).get();
+        final List<String> imageNames = extraction.getCodeLocations().stream()
+                                            .map(results::getImageName)
+                                            .map(Optional::get)
+                                            .collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList("ubuntu:18.04", "alpine.tar", "centos:7"), imageNames);
+        Assert.assertEquals(Arrays.asList(new File(outputDirectory, "image-0"), new File(outputDirectory, "image-1"), new File(outputDirectory, "image-2")),
+            results.getScanFiles().stream().map(File::getParentFile).collect(Collectors.toList()));
+        Assert.assertTrue(results.getFailedImages().isEmpty());
+    }
+
+    @Test
+    public void failedImageIsListedAndOthersAreKept() {
+        final List<DockerTarget> targets = Arrays.asList(DockerTarget.forImage("ubuntu:18.04"), DockerTarget.forImage(FAILING_IMAGE), DockerTarget.forImage("centos:7"));
+
+        final Extraction extraction = extract(targets, 1);
+
+        Assert.assertTrue(extraction.isSuccess());
+        Assert.assertEquals(2, extraction.getCodeLocations().size());
+        final DockerInspectionResults results = extraction.getMetaData(DockerExtractor.DOCKER_INSPECTION_RESULTS_META_DATA).get();
+        Assert.assertEquals(Collections.singletonList(FAILING_IMAGE), results.getFailedImages());
+        Assert.assertEquals(2, results.getScanFiles().size());
+        for (final CodeLocation codeLocation : extraction.getCodeLocations()) {
+            Assert.assertNotEquals(FAILING_IMAGE, results.getImageName(codeLocation).get());
+        }
+    }
+
+    @Test
+    public void allImagesFailing() {
+        final Extraction extraction = extract(Collections.singletonList(DockerTarget.forImage(FAILING_IMAGE)), 1);
+
+        Assert.assertFalse(extraction.isSuccess());
+        Assert.assertTrue(extraction.getDescription().contains(FAILING_IMAGE));
+    }
+
+    @Test
+    public void cacheMissRunsInspectorAndStoresResults() throws IOException {
+        localImages.put("ubuntu:18.04", UBUNTU_DIGEST);
+
+        final Extraction extraction = extractWithCache("ubuntu:18.04", new File(outputDirectory, "first"));
+
+        Assert.assertTrue(extraction.isSuccess());
+        Assert.assertEquals(1, inspectorRuns.get());
+        final File cacheEntry = findOnlyCacheEntry();
+        Assert.assertTrue(new File(cacheEntry, "ubuntu_bdio.jsonld").isFile());
+        Assert.assertTrue(new File(cacheEntry, "ubuntu_containerfilesystem.tar.gz").isFile());
+    }
+
+    @Test
+    public void cacheHitDoesNotRunInspector() throws IOException {
+        localImages.put("ubuntu:18.04", UBUNTU_DIGEST);
+        extractWithCache("ubuntu:18.04", new File(outputDirectory, "first"));
+
+        final Extraction extraction = extractWithCache("ubuntu:18.04", new File(outputDirectory, "second"));
+
+        Assert.assertTrue(extraction.isSuccess());
+        Assert.assertEquals(1, inspectorRuns.get());
+        final File cacheEntry = findOnlyCacheEntry();
+        Assert.assertEquals(new File(cacheEntry, "ubuntu_containerfilesystem.tar.gz"), extraction.getMetaData(DockerExtractor.DOCKER_TAR_META_DATA).get());
+        Assert.assertEquals("ubuntu", extraction.getProjectName());
+        Assert.assertEquals(1, extraction.getCodeLocations().size());
+        Assert.assertFalse(new File(outputDirectory, "second/application.properties").exists());
+    }
+
+    @Test
+    public void pulledImageIsKeptAndCachedUnderItsDigest() throws IOException {
+        final Extraction first = extractWithCache("ubuntu:18.04", new File(outputDirectory, "first"));
+        final Extraction second = extractWithCache("ubuntu:18.04", new File(outputDirectory, "second"));
+
+        Assert.assertTrue(first.isSuccess());
+        Assert.assertTrue(second.isSuccess());
+        Assert.assertEquals(1, inspectorRuns.get());
+        Assert.assertTrue(localImages.containsKey("ubuntu:18.04"));
+        findOnlyCacheEntry();
+    }
+
+    @Test
+    public void unresolvableDigestRunsInspectorWithoutCaching() throws IOException {
+        daemonAvailable = false;
+
+        final Extraction first = extractWithCache("ubuntu:18.04", new File(outputDirectory, "first"));
+        final Extraction second = extractWithCache("ubuntu:18.04", new File(outputDirectory, "second"));
+
+        Assert.assertTrue(first.isSuccess());
+        Assert.assertTrue(second.isSuccess());
+        Assert.assertEquals(2, inspectorRuns.get());
+        final File[] cacheEntries = cacheDirectory.listFiles();
+        Assert.assertTrue(cacheEntries == null || cacheEntries.length == 0);
+    }
+
+    private Extraction extractWithCache(final String image, final File targetOutputDirectory) {
+        targetOutputDirectory.mkdirs();
+        return dockerExtractor.extract(workingDirectory, targetOutputDirectory, new File("bash"), new File("java"), image, null, new DockerInspectorInfo(new File("blackduck-docker-inspector.jar")),
+            cacheDirectory);
+    }
+
+    private File findOnlyCacheEntry() {
+        final File[] cacheEntries = cacheDirectory.listFiles();
+        Assert.assertNotNull(cacheEntries);
+        Assert.assertEquals(1, cacheEntries.length);
+        return cacheEntries[0];
+    }
+
+    private Extraction extract(final List<DockerTarget> targets, final int parallelInspections) {
+        return dockerExtractor.extract(workingDirectory, outputDirectory, new File("bash"), new File("java"), targets, new DockerInspectorInfo(new File("blackduck-docker-inspector.jar")), null,
+            parallelInspections);
+    }
+
+    private ExecutableOutput run(final Executable executable) throws IOException {
+        final String description = executable.getExecutableDescription();
+        if (description.contains("docker image inspect")) {
+            return inspectLocalImage(description);
+        }
+        return runInspector(executable);
+    }
+
+    // Stands in for the docker daemon: only images in the local store have an id.
+    private ExecutableOutput inspectLocalImage(final String description) {
+        final String image = StringUtils.substringBetween(description, "\"");
+        if (daemonAvailable && localImages.containsKey(image)) {
+            return new ExecutableOutput(0, localImages.get(image), "");
+        }
+        return new ExecutableOutput(1, "", "Error: No such image: " + image);
+    }
+
+    // Stands in for the inspector: writes a BDIO document and a squashed image into the output directory named in its properties file.
+    // Like the inspector it pulls an image that is not local and removes it again afterwards unless its properties say otherwise.
+    private ExecutableOutput runInspector(final Executable executable) throws IOException {
+        inspectorRuns.incrementAndGet();
+        final List<String> arguments = Arrays.asList(executable.getExecutableDescription().split(" "));
+        final File propertiesFile = arguments.stream()
+                                        .filter(argument -> argument.startsWith("file:"))
+                                        .map(argument -> new File(StringUtils.removeStart(argument, "file:")))
+                                        .findFirst()
+                                        .get();
+        final File inspectorOutputDirectory = propertiesFile.getParentFile();
+        final String image = arguments.stream()
+                                 .filter(argument -> argument.startsWith("--docker.image=") || argument.startsWith("--docker.tar="))
+                                 .map(argument -> new File(StringUtils.substringAfter(argument, "=")).getName())
+                                 .findFirst()
+                                 .get();
+        if (FAILING_IMAGE.equals(image)) {
+            return new ExecutableOutput(1, "", "inspection failed");
+        }
+
+        final String imageArgument = arguments.stream().filter(argument -> argument.startsWith("--docker.image=")).map(argument -> StringUtils.substringAfter(argument, "=")).findFirst().orElse(null);
+        if (imageArgument != null && !localImages.containsKey(imageArgument)) {
+            final Properties properties = new Properties();
+            try (final InputStream propertiesStream = new FileInputStream(propertiesFile)) {
+                properties.load(propertiesStream);
+            }
+            if ("false".equals(properties.getProperty(DockerProperties.CLEANUP_INSPECTED_IMAGE_PROPERTY))) {
+                localImages.put(imageArgument, UBUNTU_DIGEST);
+            }
+        }
+
+        final String imageName = StringUtils.substringBefore(image, ":");
+        final SimpleBdioFactory simpleBdioFactory = new SimpleBdioFactory();
+        final SimpleBdioDocument bdioDocument = simpleBdioFactory.createSimpleBdioDocument(imageName, imageName, "1.0", simpleBdioFactory.createPathExternalId(new Forge("/", "/", "docker"), imageName));
+        simpleBdioFactory.writeSimpleBdioDocumentToFile(new File(inspectorOutputDirectory, imageName + "_bdio.jsonld"), bdioDocument);
+        FileUtils.writeStringToFile(new File(inspectorOutputDirectory, imageName + "_containerfilesystem.tar.gz"), "layers", StandardCharsets.UTF_8);
+        return new ExecutableOutput(0, "", "");
+    }
+}
@@ -0,0 +1,78 @@
+package com.synopsys.integration.detectable.detectables.docker.unit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.docker.DockerInspectorCache;
+import com.synopsys.integration.detectable.detectables.docker.DockerInspectorInfo;
+
+@UnitTest
+public class DockerInspectorCacheTest {
+    private static final String IMAGE = "ubuntu:18.04";
+    private static final String DIGEST = "sha256:4e5021d210f65ebe915670c7089120120bc0a303b90208592851708c1b8c04bd";
+
+    private File workingDirectory;
+    private DockerInspectorCache cache;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        workingDirectory = Files.createTempDirectory("DockerInspectorCacheTest").toFile();
+        cache = new DockerInspectorCache(new File(workingDirectory, "cache"));
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(workingDirectory);
+    }
+
+    @Test
+    public void keyCoversImageDigestInspectorVersionAndProperties() {
+        final DockerInspectorInfo inspector = new DockerInspectorInfo(new File("blackduck-docker-inspector-8.1.0.jar"));
+        final Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("docker.platform", "linux/amd64");
+        properties.put("bdio.organize.components.by.layer", "true");
+        final Map<String, String> reordered = new LinkedHashMap<>();
+        reordered.put("bdio.organize.components.by.layer", "true");
+        reordered.put("docker.platform", "linux/amd64");
+
+        final String key = cache.createKey(IMAGE, DIGEST, inspector, properties);
+        Assert.assertEquals(key, cache.createKey(IMAGE, DIGEST, inspector, reordered));
+        Assert.assertNotEquals(key, cache.createKey(IMAGE, DIGEST, new DockerInspectorInfo(new File("blackduck-docker-inspector-8.2.0.jar")), properties));
+        Assert.assertNotEquals(key, cache.createKey(IMAGE, DIGEST, inspector, new HashMap<>()));
+        Assert.assertNotEquals(key, cache.createKey(IMAGE, DIGEST.replace('4', '5'), inspector, properties));
+        Assert.assertNotEquals(key, cache.createKey("ubuntu:latest", DIGEST, inspector, properties));
+    }
+
+    @Test
+    public void storedResultsAreFound() throws IOException {
+        final File bdio = new File(workingDirectory, "ubuntu_latest_bdio.jsonld");
+        final File squashedImage = new File(workingDirectory, "ubuntu_latest_containerfilesystem.tar.gz");
+        FileUtils.writeStringToFile(bdio, "[]", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(squashedImage, "layers", StandardCharsets.UTF_8);
+        final String key = cache.createKey(IMAGE, DIGEST, new DockerInspectorInfo(new File("blackduck-docker-inspector-8.1.0.jar")), new HashMap<>());
+
+        Assert.assertFalse(cache.find(key).isPresent());
+        cache.store(key, Arrays.asList(bdio, squashedImage));
+        cache.store(key, Arrays.asList(bdio, squashedImage));
+
+        final Optional<File> entry = cache.find(key);
+        Assert.assertTrue(entry.isPresent());
+        Assert.assertTrue(new File(entry.get(), bdio.getName()).isFile());
+        Assert.assertTrue(new File(entry.get(), squashedImage.getName()).isFile());
+        Assert.assertEquals(1, new File(workingDirectory, "cache").listFiles().length);
+    }
+}
@@ -0,0 +1,96 @@
+package com.synopsys.integration.detectable.detectables.go.functional;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detectable.annotations.FunctionalTest;
+import com.synopsys.integration.detectable.detectable.executable.Executable;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
+import com.synopsys.integration.detectable.detectables.go.godep.GoDepLockFileGenerator;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+
+@FunctionalTest
+public class GoDepLockFileGeneratorWorkspaceTest {
+    private static final Pattern IMPORT_PATTERN = Pattern.compile("^\\s*(?:import\\s+)?\"([^\"]+)\"\\s*$");
+
+    private File workingDirectory;
+    private File sourceDirectory;
+    private File workspaceDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        workingDirectory = Files.createTempDirectory("GoDepLockFileGeneratorWorkspaceTest").toFile();
+        sourceDirectory = new File(workingDirectory, "dep-subpackage");
+        workspaceDirectory = new File(workingDirectory, "gopath");
+        FileUtils.copyDirectory(FunctionalTestFiles.asFile("/go/dep-subpackage"), sourceDirectory);
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(workingDirectory);
+    }
+
+    @Test
+    public void subPackageImportsReachTheGeneratedLock() throws Exception {
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenAnswer(invocation -> runDep(invocation.getArgument(0, Executable.class)));
+
+        final Optional<File> lockFile = new GoDepLockFileGenerator(executableRunner).findOrMakeLockFile(sourceDirectory, new File("dep"), true, workspaceDirectory);
+
+        Assert.assertTrue(lockFile.isPresent());
+        Assert.assertEquals(new File(workspaceDirectory, "src/dep-subpackage/Gopkg.lock"), lockFile.get());
+        Assert.assertTrue(FileUtils.readFileToString(lockFile.get(), StandardCharsets.UTF_8).contains("name = \"github.com/pkg/errors\""));
+
+        Assert.assertFalse(new File(workspaceDirectory, "src/dep-subpackage/store").exists());
+        Assert.assertFalse(new File(sourceDirectory, "Gopkg.lock").exists());
+        Assert.assertTrue(new File(sourceDirectory, "store/store.go").isFile());
+        Assert.assertTrue(new File(sourceDirectory, "main.go").isFile());
+    }
+
+    // Stands in for dep: like dep's package walk it does not follow symlinked directories, and it records every external import it finds.
+    private ExecutableOutput runDep(final Executable executable) throws IOException {
+        final File projectDirectory = executable.createProcessBuilder().directory();
+        if (!executable.getExecutableDescription().contains("init")) {
+            return new ExecutableOutput(0, "", "");
+        }
+
+        final Path subPackage = new File(projectDirectory, "store").toPath();
+        Assert.assertTrue(Files.isDirectory(subPackage));
+        Assert.assertFalse(Files.isSymbolicLink(subPackage));
+
+        final TreeSet<String> imports = new TreeSet<>();
+        try (final Stream<Path> paths = Files.walk(projectDirectory.toPath())) {
+            final List<Path> goFiles = paths.filter(path -> path.toString().endsWith(".go")).collect(Collectors.toList());
+            for (final Path goFile : goFiles) {
+                for (final String line : Files.readAllLines(goFile, StandardCharsets.UTF_8)) {
+                    final Matcher matcher = IMPORT_PATTERN.matcher(line);
+                    if (matcher.matches() && matcher.group(1).contains(".")) {
+                        imports.add(matcher.group(1));
+                    }
+                }
+            }
+        }
+
+        final String lock = imports.stream().map(name -> String.format("[[projects]]%n  name = \"%s\"%n", name)).collect(Collectors.joining());
+        FileUtils.writeStringToFile(new File(projectDirectory, GoDepLockFileGenerator.GOPKG_LOCK_FILENAME), lock, StandardCharsets.UTF_8);
+        return new ExecutableOutput(0, "", "");
+    }
+}
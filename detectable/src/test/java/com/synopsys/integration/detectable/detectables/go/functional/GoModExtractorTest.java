@@ -0,0 +1,62 @@
+package com.synopsys.integration.detectable.detectables.go.functional;
+
+import java.io.File;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.annotations.FunctionalTest;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoModExtractor;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoModGraphTransformer;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoModParser;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoModulesTxtParser;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoSumParser;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+import com.synopsys.integration.detectable.util.graph.GraphAssert;
+
+@FunctionalTest
+public class GoModExtractorTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final GoModExtractor extractor = new GoModExtractor(new GoModParser(), new GoSumParser(), new GoModulesTxtParser(), new GoModGraphTransformer(externalIdFactory));
+
+    @Test
+    public void goSumSelectsHighestVersions() {
+        final Extraction extraction = extractor.extract(FunctionalTestFiles.asFile("/go/mod/sum/go.mod"), FunctionalTestFiles.asFile("/go/mod/sum/go.sum"), null);
+
+        Assert.assertTrue(extraction.isSuccess());
+        Assert.assertEquals("github.com/example/service", extraction.getProjectName());
+
+        final GraphAssert graphAssert = new GraphAssert(Forge.GOLANG, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(6);
+        graphAssert.hasRootDependency(golang("github.com/davecgh/go-spew", "v1.1.1"));
+        graphAssert.hasRootDependency(golang("github.com/example/internal", "v0.0.0-00010101000000-000000000000"));
+        graphAssert.hasRootDependency(golang("github.com/example/mux", "v1.7.3-fork.1"));
+        graphAssert.hasRootDependency(golang("github.com/sirupsen/logrus", "v1.4.2"));
+        graphAssert.hasRootDependency(golang("golang.org/x/sys", "v0.0.0-20190422165155-953cdadca894"));
+        graphAssert.hasRootDependency(golang("gopkg.in/yaml.v2", "v2.2.2"));
+        graphAssert.hasNoDependency(golang("github.com/gorilla/mux", "v1.7.3"));
+        graphAssert.hasNoDependency(golang("github.com/konsorten/go-windows-terminal-sequences", "v1.0.1"));
+    }
+
+    @Test
+    public void vendoredModulesTxtIsTheBuildList() {
+        final Extraction extraction = extractor.extract(FunctionalTestFiles.asFile("/go/mod/vendored/go.mod"), null, FunctionalTestFiles.asFile("/go/mod/vendored/vendor/modules.txt"));
+
+        Assert.assertTrue(extraction.isSuccess());
+        Assert.assertEquals("github.com/example/cli", extraction.getProjectName());
+
+        final GraphAssert graphAssert = new GraphAssert(Forge.GOLANG, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(6);
+        graphAssert.hasRootDependency(golang("github.com/pkg/errors", "v0.8.1"));
+        graphAssert.hasRootDependency(golang("github.com/pmezard/go-difflib", "v1.0.0"));
+        graphAssert.hasRootDependency(golang("github.com/stretchr/testify", "v1.4.0"));
+    }
+
+    private ExternalId golang(final String name, final String version) {
+        return externalIdFactory.createNameVersionExternalId(Forge.GOLANG, name, version);
+    }
+}
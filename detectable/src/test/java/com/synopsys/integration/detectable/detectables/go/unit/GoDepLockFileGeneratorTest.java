@@ -0,0 +1,77 @@
+package com.synopsys.integration.detectable.detectables.go.unit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.executable.Executable;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableRunner;
+import com.synopsys.integration.detectable.detectables.go.godep.GoDepLockFileGenerator;
+
+@UnitTest
+public class GoDepLockFileGeneratorTest {
+    private File workingDirectory;
+    private File sourceDirectory;
+    private File workspaceDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        workingDirectory = Files.createTempDirectory("GoDepLockFileGeneratorTest").toFile();
+        sourceDirectory = new File(workingDirectory, "project");
+        workspaceDirectory = new File(workingDirectory, "gopath");
+        FileUtils.writeStringToFile(new File(sourceDirectory, "main.go"), "package main", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(new File(sourceDirectory, "vendor/github.com/pkg/errors/errors.go"), "package errors", StandardCharsets.UTF_8);
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(workingDirectory);
+    }
+
+    @Test
+    public void generatesLockInWorkspaceWithoutTouchingSources() throws Exception {
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenAnswer(invocation -> {
+            final File projectDirectory = invocation.getArgument(0, Executable.class).createProcessBuilder().directory();
+            Assert.assertTrue(new File(projectDirectory, "main.go").exists());
+            if (!new File(projectDirectory, "Gopkg.lock").exists()) {
+                Assert.assertFalse(new File(projectDirectory, "vendor").exists());
+            }
+            FileUtils.writeStringToFile(new File(projectDirectory, "Gopkg.lock"), "[[projects]]", StandardCharsets.UTF_8);
+            FileUtils.writeStringToFile(new File(projectDirectory, "vendor/generated.go"), "package generated", StandardCharsets.UTF_8);
+            return new ExecutableOutput(0, "", "");
+        });
+
+        final Optional<File> lockFile = new GoDepLockFileGenerator(executableRunner).findOrMakeLockFile(sourceDirectory, new File("dep"), true, workspaceDirectory);
+
+        Assert.assertTrue(lockFile.isPresent());
+        Assert.assertTrue(lockFile.get().getAbsolutePath().startsWith(workspaceDirectory.getAbsolutePath()));
+        Assert.assertFalse(new File(sourceDirectory, "Gopkg.lock").exists());
+        Assert.assertFalse(new File(sourceDirectory, "vendor/generated.go").exists());
+        Assert.assertTrue(new File(sourceDirectory, "vendor/github.com/pkg/errors/errors.go").exists());
+        Assert.assertTrue(new File(sourceDirectory, "main.go").exists());
+    }
+
+    @Test
+    public void existingLockIsUsedInPlace() throws Exception {
+        final File existingLock = new File(sourceDirectory, "Gopkg.lock");
+        FileUtils.writeStringToFile(existingLock, "[[projects]]", StandardCharsets.UTF_8);
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+
+        final Optional<File> lockFile = new GoDepLockFileGenerator(executableRunner).findOrMakeLockFile(sourceDirectory, new File("dep"), true, workspaceDirectory);
+
+        Assert.assertEquals(Optional.of(existingLock), lockFile);
+        Mockito.verifyNoMoreInteractions(executableRunner);
+    }
+}
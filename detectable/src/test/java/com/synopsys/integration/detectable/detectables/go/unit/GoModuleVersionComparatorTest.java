@@ -0,0 +1,28 @@
+package com.synopsys.integration.detectable.detectables.go.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoModuleVersionComparator;
+
+@UnitTest
+public class GoModuleVersionComparatorTest {
+    private final GoModuleVersionComparator comparator = new GoModuleVersionComparator();
+
+    @Test
+    public void comparesReleasesNumerically() {
+        assertTrue(comparator.compare("v1.10.0", "v1.9.3") > 0);
+        assertTrue(comparator.compare("v2.0.0+incompatible", "v1.9.3") > 0);
+        assertEquals(0, comparator.compare("v1.2.3", "v1.2.3"));
+    }
+
+    @Test
+    public void releasesSortAfterPrereleasesAndPseudoVersions() {
+        assertTrue(comparator.compare("v1.0.0", "v1.0.0-rc.1") > 0);
+        assertTrue(comparator.compare("v0.0.1", "v0.0.0-20190422165155-953cdadca894") > 0);
+        assertTrue(comparator.compare("v0.0.0-20190422165155-953cdadca894", "v0.0.0-20190215142949-d0b11bdaac8a") > 0);
+    }
+}
@@ -12,7 +12,9 @@
 package com.synopsys.integration.detectable.detectables.gradle.functional;
 
 import java.io.File;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
@@ -25,7 +27,11 @@ import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.annotations.UnitTest;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGav;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGraphReport;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleReport;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleGraphReportParser;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleGraphReportTransformer;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportTransformer;
 import com.synopsys.integration.detectable.util.FunctionalTestFiles;
@@ -86,6 +92,49 @@ public class GradleReportParserFunctionalTest {
         graphAssert.hasParentChildRelationship(parent, child);
     }
 
+    @Test
+    void identicalGavsAreSharedAcrossConfigurations() {
+        final GradleReportParser gradleReportParser = new GradleReportParser();
+        final Optional<GradleReport> gradleReport = gradleReportParser.parseReport(FunctionalTestFiles.asFile("/gradle/dependencyGraph.txt"));
+        Assert.assertTrue(gradleReport.isPresent());
+
+        final List<GradleGav> junitGavs = gradleReport.get().configurations.stream()
+                                              .flatMap(configuration -> configuration.children.stream())
+                                              .map(node -> node.getGav())
+                                              .filter(Optional::isPresent)
+                                              .map(Optional::get)
+                                              .filter(gav -> "junit".equals(gav.getArtifact()))
+                                              .collect(Collectors.toList());
+
+        Assert.assertTrue(junitGavs.size() > 1);
+        junitGavs.forEach(gav -> Assert.assertSame(junitGavs.get(0), gav));
+    }
+
+    @Test
+    void structuredGraphTest() {
+        final GradleGraphReportParser gradleGraphReportParser = new GradleGraphReportParser();
+        final Optional<GradleGraphReport> gradleGraphReport = gradleGraphReportParser.parseReport(FunctionalTestFiles.asFile("/gradle/parse-tests/simple_detectGraph.txt"));
+        Assert.assertTrue(gradleGraphReport.isPresent());
+        Assert.assertEquals("sample", gradleGraphReport.get().projectName);
+        Assert.assertEquals("1.0.0", gradleGraphReport.get().projectVersionName);
+        Assert.assertEquals(2, gradleGraphReport.get().configurationNames.size());
+
+        final CodeLocation codeLocation = new GradleGraphReportTransformer(new ExternalIdFactory()).transform(gradleGraphReport.get());
+        Assert.assertEquals("com.example", codeLocation.getExternalId().get().group);
+        Assert.assertEquals(new File("/home/user/sample"), codeLocation.getSourcePath().get());
+
+        final MavenGraphAssert graphAssert = new MavenGraphAssert(codeLocation.getDependencyGraph());
+        graphAssert.hasRootSize(2);
+        graphAssert.hasRootDependency("some.group:parent:5.0.0");
+        graphAssert.hasRootDependency("junit:junit:4.12");
+        final ExternalId parent = graphAssert.hasDependency("some.group:parent:5.0.0");
+        final ExternalId child = graphAssert.hasDependency("some.group:child:2.2.2");
+        graphAssert.hasParentChildRelationship(parent, child);
+        final ExternalId junit = graphAssert.hasDependency("junit:junit:4.12");
+        final ExternalId hamcrest = graphAssert.hasDependency("org.hamcrest:hamcrest-core:1.3");
+        graphAssert.hasParentChildRelationship(junit, hamcrest);
+    }
+
     private Optional<CodeLocation> buildCodeLocation(final String resource) {
         final File file = FunctionalTestFiles.asFile(resource);
         final GradleReportParser gradleReportParser = new GradleReportParser();
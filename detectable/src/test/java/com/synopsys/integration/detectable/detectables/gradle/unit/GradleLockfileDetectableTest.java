@@ -0,0 +1,42 @@
+package com.synopsys.integration.detectable.detectables.gradle.unit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectables.gradle.lockfile.GradleLockfileDetectable;
+
+@UnitTest
+public class GradleLockfileDetectableTest {
+    @Test
+    public void testApplicable() {
+        final DetectableEnvironment environment = Mockito.mock(DetectableEnvironment.class);
+        final FileFinder fileFinder = Mockito.mock(FileFinder.class);
+
+        final File dir = new File(".");
+        Mockito.when(environment.getDirectory()).thenReturn(dir);
+        Mockito.when(fileFinder.findFile(dir, GradleLockfileDetectable.GRADLE_LOCKFILE_FILENAME)).thenReturn(new File(GradleLockfileDetectable.GRADLE_LOCKFILE_FILENAME));
+
+        final GradleLockfileDetectable detectable = new GradleLockfileDetectable(environment, fileFinder, null);
+
+        assertTrue(detectable.applicable().getPassed());
+    }
+
+    @Test
+    public void testNotApplicableWithoutLockfile() {
+        final DetectableEnvironment environment = Mockito.mock(DetectableEnvironment.class);
+        final FileFinder fileFinder = Mockito.mock(FileFinder.class);
+        Mockito.when(environment.getDirectory()).thenReturn(new File("does-not-exist"));
+
+        final GradleLockfileDetectable detectable = new GradleLockfileDetectable(environment, fileFinder, null);
+
+        assertFalse(detectable.applicable().getPassed());
+    }
+}
@@ -0,0 +1,51 @@
+package com.synopsys.integration.detectable.detectables.gradle.unit;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.gradle.lockfile.parse.GradleLockfileParser;
+import com.synopsys.integration.detectable.util.graph.MavenGraphAssert;
+
+@UnitTest
+public class GradleLockfileParserTest {
+    @Test
+    public void parsesGradleLockfile() {
+        final List<String> lines = Arrays.asList(
+            "# This is a Gradle generated file for dependency locking.",
+            "# Manual edits can break the build and are not advised.",
+            "# This file is expected to be part of source control.",
+            "com.google.guava:guava:28.1-jre=compileClasspath,runtimeClasspath",
+            "junit:junit:4.12=testCompileClasspath,testRuntimeClasspath",
+            "empty=annotationProcessor"
+        );
+
+        final DependencyGraph graph = new GradleLockfileParser(new ExternalIdFactory()).parseLockfile(lines);
+
+        final MavenGraphAssert graphAssert = new MavenGraphAssert(graph);
+        graphAssert.hasRootSize(2);
+        graphAssert.hasRootDependency("com.google.guava:guava:28.1-jre");
+        graphAssert.hasRootDependency("junit:junit:4.12");
+    }
+
+    @Test
+    public void parsesLegacyDependencyLocks() {
+        final List<String> lines = Arrays.asList(
+            "# This is a Gradle generated file for dependency locking.",
+            "org.slf4j:slf4j-api:1.7.25",
+            "",
+            "org.slf4j:slf4j-api:1.7.25",
+            "not-a-module"
+        );
+
+        final DependencyGraph graph = new GradleLockfileParser(new ExternalIdFactory()).parseLockfile(lines);
+
+        final MavenGraphAssert graphAssert = new MavenGraphAssert(graph);
+        graphAssert.hasRootSize(1);
+        graphAssert.hasRootDependency("org.slf4j:slf4j-api:1.7.25");
+    }
+}
@@ -0,0 +1,170 @@
+package com.synopsys.integration.detectable.detectables.gradle.unit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleReportCache;
+
+@UnitTest
+public class GradleReportCacheTest {
+    private File workingDirectory;
+    private File sourceDirectory;
+    private File cacheDirectory;
+    private File subprojectDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        workingDirectory = Files.createTempDirectory("GradleReportCacheTest").toFile();
+        sourceDirectory = new File(workingDirectory, "source");
+        cacheDirectory = new File(workingDirectory, "cache");
+        subprojectDirectory = new File(sourceDirectory, "child");
+        subprojectDirectory.mkdirs();
+        FileUtils.writeStringToFile(new File(sourceDirectory, "settings.gradle"), "include 'child'", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(new File(subprojectDirectory, "build.gradle"), "dependencies { compile 'junit:junit:4.12' }", StandardCharsets.UTF_8);
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(workingDirectory);
+    }
+
+    @Test
+    public void unchangedProjectIsReused() throws IOException {
+        new GradleReportCache(cacheDirectory, sourceDirectory, "settings").store(Collections.singletonList(createReport()));
+
+        final Map<String, File> reusableReports = new GradleReportCache(cacheDirectory, sourceDirectory, "settings").findReusableReports();
+
+        Assert.assertEquals(1, reusableReports.size());
+        Assert.assertTrue(reusableReports.get("child").isFile());
+        Assert.assertEquals("1_dependencyGraph.txt", reusableReports.get("child").getName());
+    }
+
+    @Test
+    public void changedBuildFileInvalidatesProject() throws IOException {
+        new GradleReportCache(cacheDirectory, sourceDirectory, "settings").store(Collections.singletonList(createReport()));
+        FileUtils.writeStringToFile(new File(subprojectDirectory, "build.gradle"), "dependencies { compile 'junit:junit:4.13' }", StandardCharsets.UTF_8);
+
+        Assert.assertTrue(new GradleReportCache(cacheDirectory, sourceDirectory, "settings").findReusableReports().isEmpty());
+    }
+
+    @Test
+    public void changedSettingsInvalidatesProject() throws IOException {
+        new GradleReportCache(cacheDirectory, sourceDirectory, "settings").store(Collections.singletonList(createReport()));
+
+        Assert.assertTrue(new GradleReportCache(cacheDirectory, sourceDirectory, "other settings").findReusableReports().isEmpty());
+    }
+
+    @Test
+    public void dynamicVersionIsNotCached() throws IOException {
+        FileUtils.writeStringToFile(new File(subprojectDirectory, "build.gradle"), "dependencies { compile 'junit:junit:4.+' }", StandardCharsets.UTF_8);
+        new GradleReportCache(cacheDirectory, sourceDirectory, "settings").store(Collections.singletonList(createReport()));
+
+        Assert.assertTrue(new GradleReportCache(cacheDirectory, sourceDirectory, "settings").findReusableReports().isEmpty());
+    }
+
+    @Test
+    public void snapshotInReportIsNotCached() throws IOException {
+        new GradleReportCache(cacheDirectory, sourceDirectory, "settings").store(Collections.singletonList(createReport("+--- com.example:library:1.0-SNAPSHOT")));
+
+        Assert.assertTrue(new GradleReportCache(cacheDirectory, sourceDirectory, "settings").findReusableReports().isEmpty());
+    }
+
+    @Test
+    public void appliedScriptIsNotCached() throws IOException {
+        FileUtils.writeStringToFile(new File(subprojectDirectory, "build.gradle"), "apply from: 'dependencies.gradle'", StandardCharsets.UTF_8);
+        new GradleReportCache(cacheDirectory, sourceDirectory, "settings").store(Collections.singletonList(createReport()));
+
+        Assert.assertTrue(new GradleReportCache(cacheDirectory, sourceDirectory, "settings").findReusableReports().isEmpty());
+    }
+
+    @Test
+    public void buildSrcDisablesCache() throws IOException {
+        new GradleReportCache(cacheDirectory, sourceDirectory, "settings").store(Collections.singletonList(createReport()));
+        new File(sourceDirectory, "buildSrc").mkdirs();
+
+        Assert.assertTrue(new GradleReportCache(cacheDirectory, sourceDirectory, "settings").findReusableReports().isEmpty());
+    }
+
+    @Test
+    public void changedSiblingProjectInvalidatesDependentProject() throws IOException {
+        final File siblingDirectory = new File(sourceDirectory, "sibling");
+        siblingDirectory.mkdirs();
+        FileUtils.writeStringToFile(new File(siblingDirectory, "build.gradle"), "dependencies { compile 'junit:junit:4.12' }", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(new File(subprojectDirectory, "build.gradle"), "dependencies { compile project(':sibling') }", StandardCharsets.UTF_8);
+        new GradleReportCache(cacheDirectory, sourceDirectory, "settings").store(Collections.singletonList(createReport()));
+        Assert.assertEquals(1, new GradleReportCache(cacheDirectory, sourceDirectory, "settings").findReusableReports().size());
+
+        FileUtils.writeStringToFile(new File(siblingDirectory, "build.gradle"), "dependencies { compile 'junit:junit:4.13' }", StandardCharsets.UTF_8);
+
+        Assert.assertTrue(new GradleReportCache(cacheDirectory, sourceDirectory, "settings").findReusableReports().isEmpty());
+    }
+
+    @Test
+    public void addedProjectDoesNotReplaceCachedReportOfAnotherProject() throws IOException {
+        final File otherDirectory = createProject("other");
+        new GradleReportCache(cacheDirectory, sourceDirectory, "settings").store(Arrays.asList(createReport(), createReport("2_dependencyGraph.txt", "other", otherDirectory, "+--- com.example:other:1.0")));
+
+        // The next inspection only covers the new project, which the inspector numbers like the cached one.
+        final File addedDirectory = createProject("added");
+        new GradleReportCache(cacheDirectory, sourceDirectory, "settings").store(Collections.singletonList(createReport("2_dependencyGraph.txt", "added", addedDirectory, "+--- com.example:added:1.0")));
+
+        final Map<String, File> reusableReports = new GradleReportCache(cacheDirectory, sourceDirectory, "settings").findReusableReports();
+        Assert.assertEquals(3, reusableReports.size());
+        Assert.assertTrue(FileUtils.readFileToString(reusableReports.get("other"), StandardCharsets.UTF_8).contains("com.example:other:1.0"));
+        Assert.assertTrue(FileUtils.readFileToString(reusableReports.get("added"), StandardCharsets.UTF_8).contains("com.example:added:1.0"));
+        Assert.assertEquals("2_dependencyGraph.txt", reusableReports.get("other").getName());
+    }
+
+    @Test
+    public void removedProjectLeavesOtherProjectsUnchanged() throws IOException {
+        final File otherDirectory = createProject("other");
+        new GradleReportCache(cacheDirectory, sourceDirectory, "settings").store(Arrays.asList(createReport(), createReport("2_dependencyGraph.txt", "other", otherDirectory, "+--- com.example:other:1.0")));
+
+        FileUtils.deleteDirectory(subprojectDirectory);
+        new GradleReportCache(cacheDirectory, sourceDirectory, "settings").store(Collections.emptyList());
+
+        final Map<String, File> reusableReports = new GradleReportCache(cacheDirectory, sourceDirectory, "settings").findReusableReports();
+        Assert.assertEquals(1, reusableReports.size());
+        Assert.assertTrue(FileUtils.readFileToString(reusableReports.get("other"), StandardCharsets.UTF_8).contains("com.example:other:1.0"));
+    }
+
+    private File createProject(final String name) throws IOException {
+        final File projectDirectory = new File(sourceDirectory, name);
+        projectDirectory.mkdirs();
+        FileUtils.writeStringToFile(new File(projectDirectory, "build.gradle"), "dependencies { compile 'com.example:" + name + ":1.0' }", StandardCharsets.UTF_8);
+        return projectDirectory;
+    }
+
+    private File createReport(final String... dependencyLines) throws IOException {
+        return createReport("1_dependencyGraph.txt", "child", subprojectDirectory, dependencyLines);
+    }
+
+    private File createReport(final String reportName, final String projectName, final File projectDirectory, final String... dependencyLines) throws IOException {
+        final File report = new File(new File(workingDirectory, "reports-" + projectName), reportName);
+        final List<String> lines = new ArrayList<>(Arrays.asList(
+            "DETECT META DATA START",
+            "projectPath:" + projectDirectory.getCanonicalPath(),
+            "projectGroup:com.example",
+            "projectName:" + projectName,
+            "projectVersion:1.0.0-SNAPSHOT",
+            "DETECT META DATA END"
+        ));
+        lines.addAll(Arrays.asList(dependencyLines));
+        FileUtils.writeLines(report, "UTF-8", lines);
+        return report;
+    }
+}
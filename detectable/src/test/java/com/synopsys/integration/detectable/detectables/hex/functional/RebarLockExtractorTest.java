@@ -0,0 +1,75 @@
+package com.synopsys.integration.detectable.detectables.hex.functional;
+
+import java.io.File;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.annotations.FunctionalTest;
+import com.synopsys.integration.detectable.detectables.hex.RebarLockDetectable;
+import com.synopsys.integration.detectable.detectables.hex.RebarLockExtractor;
+import com.synopsys.integration.detectable.detectables.hex.parse.ErlangTermParser;
+import com.synopsys.integration.detectable.detectables.hex.parse.RebarConfigParser;
+import com.synopsys.integration.detectable.detectables.hex.parse.RebarLockDependencyTransformer;
+import com.synopsys.integration.detectable.detectables.hex.parse.RebarLockParser;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+import com.synopsys.integration.detectable.util.graph.GraphAssert;
+
+@FunctionalTest
+public class RebarLockExtractorTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final ErlangTermParser erlangTermParser = new ErlangTermParser();
+    private final RebarLockExtractor extractor = new RebarLockExtractor(new RebarLockParser(erlangTermParser), new RebarConfigParser(erlangTermParser), new RebarLockDependencyTransformer(externalIdFactory));
+
+    @Test
+    public void versionedLockWithFetchedDependencies() {
+        final File directory = FunctionalTestFiles.asFile("/hex/lock/versioned");
+        final Extraction extraction = extractor.extract(new File(directory, RebarLockDetectable.REBAR_LOCK), new File(directory, RebarLockDetectable.DEFAULT_PROFILE_LIB_DIRECTORY));
+
+        Assert.assertTrue(extraction.isSuccess());
+        final GraphAssert graphAssert = new GraphAssert(Forge.HEX, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(3);
+        graphAssert.hasRootDependency(hex("cowboy", "2.6.1"));
+        graphAssert.hasRootDependency(hex("jsx", "2.9.0"));
+        graphAssert.hasRootDependency(hex("lager", "22e62f1e3e3d2a86e35a36c1d0a1d1b0bdf5bcd1"));
+        graphAssert.hasParentChildRelationship(hex("cowboy", "2.6.1"), hex("cowlib", "2.7.0"));
+        graphAssert.hasParentChildRelationship(hex("cowboy", "2.6.1"), hex("ranch", "1.7.1"));
+        graphAssert.hasParentChildRelationship(hex("lager", "22e62f1e3e3d2a86e35a36c1d0a1d1b0bdf5bcd1"), hex("goldrush", "0.1.9"));
+    }
+
+    @Test
+    public void legacyLockWithoutFetchedDependencies() {
+        final File directory = FunctionalTestFiles.asFile("/hex/lock/legacy");
+        final Extraction extraction = extractor.extract(new File(directory, RebarLockDetectable.REBAR_LOCK), new File(directory, RebarLockDetectable.DEFAULT_PROFILE_LIB_DIRECTORY));
+
+        Assert.assertTrue(extraction.isSuccess());
+        final GraphAssert graphAssert = new GraphAssert(Forge.HEX, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(4);
+        graphAssert.hasRootDependency(hex("hackney", "1.12.1"));
+        graphAssert.hasRootDependency(hex("meck", "0.8.9"));
+        graphAssert.hasRootDependency(hex("certifi", "2.3.1"));
+        graphAssert.hasRootDependency(hex("idna", "5.1.1"));
+    }
+
+    @Test
+    public void unparsableConfigLeavesItsDependenciesAtTheRoot() {
+        final File directory = FunctionalTestFiles.asFile("/hex/lock/unparsable");
+        final Extraction extraction = extractor.extract(new File(directory, RebarLockDetectable.REBAR_LOCK), new File(directory, RebarLockDetectable.DEFAULT_PROFILE_LIB_DIRECTORY));
+
+        Assert.assertTrue(extraction.isSuccess());
+        final GraphAssert graphAssert = new GraphAssert(Forge.HEX, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(5);
+        graphAssert.hasRootDependency(hex("cowboy", "2.6.1"));
+        graphAssert.hasRootDependency(hex("cowlib", "2.7.0"));
+        graphAssert.hasRootDependency(hex("ranch", "1.7.1"));
+        graphAssert.hasParentChildRelationship(hex("lager", "22e62f1e3e3d2a86e35a36c1d0a1d1b0bdf5bcd1"), hex("goldrush", "0.1.9"));
+    }
+
+    private ExternalId hex(final String name, final String version) {
+        return externalIdFactory.createNameVersionExternalId(Forge.HEX, name, version);
+    }
+}
@@ -0,0 +1,46 @@
+package com.synopsys.integration.detectable.detectables.hex.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.hex.model.ErlangTerm;
+import com.synopsys.integration.detectable.detectables.hex.parse.ErlangTermParser;
+
+@UnitTest
+public class ErlangTermParserTest {
+    private final ErlangTermParser parser = new ErlangTermParser();
+
+    @Test
+    public void parsesNestedTerms() throws IOException {
+        final List<ErlangTerm> terms = parser.parse(new StringReader("%% comment\n{deps, [cowlib, {'ranch', \"1.7.1\"}, <<\"bin\"/utf8>>, -12, 1.5e3]}.\n{empty, {}, []}."));
+
+        assertEquals(2, terms.size());
+        final ErlangTerm deps = terms.get(0);
+        assertTrue(deps.getElements().get(0).isAtom("deps"));
+
+        final List<ErlangTerm> elements = deps.getElements().get(1).getElements();
+        assertEquals(5, elements.size());
+        assertTrue(elements.get(0).isAtom("cowlib"));
+        assertTrue(elements.get(1).getElements().get(0).isAtom("ranch"));
+        assertEquals("1.7.1", elements.get(1).getElements().get(1).getValue());
+        assertEquals(ErlangTerm.Type.STRING, elements.get(2).getType());
+        assertEquals("bin", elements.get(2).getValue());
+        assertEquals("-12", elements.get(3).getValue());
+        assertEquals("1.5e3", elements.get(4).getValue());
+
+        assertEquals(0, terms.get(1).getElements().get(1).getElements().size());
+    }
+
+    @Test
+    public void rejectsUnterminatedTerm() {
+        assertThrows(IllegalStateException.class, () -> parser.parse(new StringReader("{deps, [cowlib]")));
+    }
+}
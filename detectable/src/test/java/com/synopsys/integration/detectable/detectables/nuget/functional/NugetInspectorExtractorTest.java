@@ -0,0 +1,120 @@
+package com.synopsys.integration.detectable.detectables.nuget.functional;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.annotations.FunctionalTest;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableOutput;
+import com.synopsys.integration.detectable.detectable.file.impl.SimpleFileFinder;
+import com.synopsys.integration.detectable.detectables.nuget.NugetInspectorExtractor;
+import com.synopsys.integration.detectable.detectables.nuget.parse.NugetInspectorParser;
+import com.synopsys.integration.detectable.detectables.nuget.parse.NugetParseResult;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+
+@FunctionalTest
+public class NugetInspectorExtractorTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final NugetInspectorParser nugetInspectorParser = new NugetInspectorParser(new Gson(), externalIdFactory);
+    private File outputDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        outputDirectory = Files.createTempDirectory("NugetInspectorExtractorTest").toFile();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @Test
+    public void identicalProjectsAreCombinedOnce() throws IOException {
+        final File solution = FunctionalTestFiles.asFile("/nuget/LDService_inspection.json");
+        final File dashboard = FunctionalTestFiles.asFile("/nuget/LDService.Dashboard_inspection.json");
+        FileUtils.copyFile(solution, new File(outputDirectory, "LDService_inspection.json"));
+        FileUtils.copyFile(solution, new File(outputDirectory, "LDService.Copy_inspection.json"));
+        FileUtils.copyFile(dashboard, new File(outputDirectory, "LDService.Dashboard_inspection.json"));
+
+        final NugetInspectorExtractor extractor = new NugetInspectorExtractor(nugetInspectorParser, new SimpleFileFinder());
+        final Extraction extraction = extractor.extract(outputDirectory, outputDirectory, (workingDirectory, sourcePath, output, options) -> new ExecutableOutput(0, "", ""), null);
+
+        Assert.assertTrue(extraction.isSuccess());
+        Assert.assertEquals(countSourcePaths(solution, dashboard), extraction.getCodeLocations().size());
+        Assert.assertEquals("LDService", extraction.getProjectName());
+
+        final NugetParseResult single = nugetInspectorParser.createCodeLocation(FileUtils.readFileToString(solution, "UTF-8"));
+        final CodeLocation expected = single.codeLocations.get(0);
+        final CodeLocation actual = extraction.getCodeLocations().stream()
+                                        .filter(it -> it.getSourcePath().equals(expected.getSourcePath()))
+                                        .findFirst()
+                                        .orElseThrow(AssertionError::new);
+        Assert.assertEquals(expected.getDependencyGraph().getRootDependencies(), actual.getDependencyGraph().getRootDependencies());
+    }
+
+    @Test
+    public void identicalContainersHashAlike() {
+        final String inspection = FunctionalTestFiles.asString("/nuget/LDService_inspection.json");
+        final NugetParseResult first = nugetInspectorParser.createCodeLocation(inspection);
+        final NugetParseResult second = nugetInspectorParser.createCodeLocation(inspection);
+
+        final Set<String> distinctHashes = new HashSet<>();
+        for (int i = 0; i < first.codeLocations.size(); i++) {
+            Assert.assertTrue(first.getContentHash(first.codeLocations.get(i)).isPresent());
+            Assert.assertEquals(first.getContentHash(first.codeLocations.get(i)), second.getContentHash(second.codeLocations.get(i)));
+            distinctHashes.add(first.getContentHash(first.codeLocations.get(i)).get());
+        }
+        Assert.assertEquals(first.codeLocations.size(), distinctHashes.size());
+    }
+
+    @Test
+    public void codeLocationsWithoutHashesAreCombined() throws IOException {
+        FileUtils.writeStringToFile(new File(outputDirectory, "First_inspection.json"), "first", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(new File(outputDirectory, "Second_inspection.json"), "second", StandardCharsets.UTF_8);
+        final NugetInspectorParser unhashedParser = new NugetInspectorParser(new Gson(), externalIdFactory) {
+            @Override
+            public NugetParseResult createCodeLocation(final Reader dependencyFile) {
+                final String packageName = new BufferedReader(dependencyFile).lines().collect(Collectors.joining());
+                final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+                graph.addChildToRoot(new Dependency(packageName, "1.0.0", externalIdFactory.createNameVersionExternalId(Forge.NUGET, packageName, "1.0.0")));
+                return new NugetParseResult("project", "1.0.0", new CodeLocation(graph, outputDirectory));
+            }
+        };
+
+        final NugetInspectorExtractor extractor = new NugetInspectorExtractor(unhashedParser, new SimpleFileFinder());
+        final Extraction extraction = extractor.extract(outputDirectory, outputDirectory, (workingDirectory, sourcePath, output, options) -> new ExecutableOutput(0, "", ""), null);
+
+        Assert.assertEquals(1, extraction.getCodeLocations().size());
+        Assert.assertEquals(2, extraction.getCodeLocations().get(0).getDependencyGraph().getRootDependencies().size());
+    }
+
+    private int countSourcePaths(final File... inspectionFiles) throws IOException {
+        final Set<File> sourcePaths = new HashSet<>();
+        for (final File inspectionFile : inspectionFiles) {
+            final List<CodeLocation> codeLocations = nugetInspectorParser.createCodeLocation(FileUtils.readFileToString(inspectionFile, "UTF-8")).codeLocations;
+            codeLocations.forEach(it -> sourcePaths.add(it.getSourcePath().orElse(null)));
+        }
+        return sourcePaths.size();
+    }
+}
@@ -0,0 +1,77 @@
+package com.synopsys.integration.detectable.detectables.nuget.functional;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.FunctionalTest;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.nuget.lockfile.parse.NugetPackagesLockParser;
+import com.synopsys.integration.detectable.detectables.nuget.lockfile.parse.NugetProjectAssetsParser;
+import com.synopsys.integration.detectable.detectables.nuget.parse.NugetParseResult;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+import com.synopsys.integration.detectable.util.graph.GraphAssert;
+
+@FunctionalTest
+public class NugetLockfileParserTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void parseProjectAssets() throws IOException {
+        final NugetParseResult result;
+        try (final Reader reader = open("/nuget/lockfile/project.assets.json")) {
+            result = new NugetProjectAssetsParser(externalIdFactory).parse(reader);
+        }
+
+        Assert.assertEquals("App", result.projectName);
+        Assert.assertEquals("2.1.0", result.projectVersion);
+        Assert.assertEquals(1, result.codeLocations.size());
+        final CodeLocation codeLocation = result.codeLocations.get(0);
+        Assert.assertEquals(new File("/src/App/App.csproj"), codeLocation.getSourcePath().orElse(null));
+
+        final GraphAssert graphAssert = assertCommonGraph(codeLocation.getDependencyGraph());
+        graphAssert.hasParentChildRelationship(nuget("System.Console", "4.3.0"), nuget("runtime.linux-x64.System.Console", "4.3.0"));
+        graphAssert.hasNoDependency(nuget("Shared.Library", "1.0.0"));
+    }
+
+    @Test
+    public void parsePackagesLock() throws IOException {
+        final DependencyGraph graph;
+        try (final Reader reader = open("/nuget/lockfile/packages.lock.json")) {
+            graph = new NugetPackagesLockParser(externalIdFactory).parse(reader);
+        }
+
+        final GraphAssert graphAssert = assertCommonGraph(graph);
+        graphAssert.hasRelationshipCount(nuget("System.Console", "4.3.0"), 1);
+    }
+
+    private GraphAssert assertCommonGraph(final DependencyGraph graph) {
+        final GraphAssert graphAssert = new GraphAssert(Forge.NUGET, graph);
+        graphAssert.hasRootSize(2);
+        graphAssert.hasRootDependency(nuget("Newtonsoft.Json", "12.0.3"));
+        graphAssert.hasRootDependency(nuget("Serilog.Sinks.Console", "3.1.1"));
+        graphAssert.hasParentChildRelationship(nuget("Serilog.Sinks.Console", "3.1.1"), nuget("Serilog", "2.9.0"));
+        graphAssert.hasParentChildRelationship(nuget("Serilog.Sinks.Console", "3.1.1"), nuget("System.Console", "4.3.0"));
+        graphAssert.hasParentChildRelationship(nuget("System.Console", "4.3.0"), nuget("Microsoft.NETCore.Platforms", "1.1.0"));
+        graphAssert.hasNoDependency(nuget("newtonsoft.json", "12.0.3"));
+        graphAssert.hasNoDependency(nuget("system.console", "4.3.0"));
+        return graphAssert;
+    }
+
+    private ExternalId nuget(final String name, final String version) {
+        return externalIdFactory.createNameVersionExternalId(Forge.NUGET, name, version);
+    }
+
+    private Reader open(final String resource) {
+        return new InputStreamReader(FunctionalTestFiles.asInputStream(resource), StandardCharsets.UTF_8);
+    }
+}
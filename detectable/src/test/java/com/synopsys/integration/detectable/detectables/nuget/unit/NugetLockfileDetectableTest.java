@@ -0,0 +1,42 @@
+package com.synopsys.integration.detectable.detectables.nuget.unit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.file.FileFinder;
+import com.synopsys.integration.detectable.detectables.nuget.lockfile.NugetLockfileDetectable;
+
+@UnitTest
+public class NugetLockfileDetectableTest {
+    @Test
+    public void testApplicable() {
+        final DetectableEnvironment environment = Mockito.mock(DetectableEnvironment.class);
+        final FileFinder fileFinder = Mockito.mock(FileFinder.class);
+
+        final File dir = new File(".");
+        Mockito.when(environment.getDirectory()).thenReturn(dir);
+        Mockito.when(fileFinder.findFile(dir, NugetLockfileDetectable.PACKAGES_LOCK_FILENAME)).thenReturn(new File(NugetLockfileDetectable.PACKAGES_LOCK_FILENAME));
+
+        final NugetLockfileDetectable detectable = new NugetLockfileDetectable(environment, fileFinder, null);
+
+        assertTrue(detectable.applicable().getPassed());
+    }
+
+    @Test
+    public void testNotApplicableWithoutRestoreOutput() {
+        final DetectableEnvironment environment = Mockito.mock(DetectableEnvironment.class);
+        final FileFinder fileFinder = Mockito.mock(FileFinder.class);
+        Mockito.when(environment.getDirectory()).thenReturn(new File("does-not-exist"));
+
+        final NugetLockfileDetectable detectable = new NugetLockfileDetectable(environment, fileFinder, null);
+
+        assertFalse(detectable.applicable().getPassed());
+    }
+}
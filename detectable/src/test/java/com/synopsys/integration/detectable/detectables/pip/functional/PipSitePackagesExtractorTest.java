@@ -0,0 +1,85 @@
+package com.synopsys.integration.detectable.detectables.pip.functional;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.annotations.FunctionalTest;
+import com.synopsys.integration.detectable.detectable.file.impl.SimpleFileFinder;
+import com.synopsys.integration.detectable.detectables.pip.PipSitePackagesExtractor;
+import com.synopsys.integration.detectable.detectables.pip.PythonSitePackagesFinder;
+import com.synopsys.integration.detectable.detectables.pip.parser.PythonDistributionGraphBuilder;
+import com.synopsys.integration.detectable.detectables.pip.parser.PythonDistributionMetadataParser;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+import com.synopsys.integration.detectable.util.graph.GraphAssert;
+
+@FunctionalTest
+public class PipSitePackagesExtractorTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final PipSitePackagesExtractor extractor = new PipSitePackagesExtractor(new PythonDistributionMetadataParser(), new PythonDistributionGraphBuilder(externalIdFactory), externalIdFactory);
+    private final List<File> sitePackages = new PythonSitePackagesFinder(new SimpleFileFinder()).findSitePackages(FunctionalTestFiles.asFile("/pip/sitepackages/venv"));
+
+    @Test
+    public void findsSitePackagesInVirtualenv() {
+        Assert.assertEquals(1, sitePackages.size());
+        Assert.assertEquals("site-packages", sitePackages.get(0).getName());
+    }
+
+    @Test
+    public void installedProjectRequirements() {
+        final Extraction extraction = extractor.extract(sitePackages, null, "My_App");
+
+        Assert.assertTrue(extraction.isSuccess());
+        Assert.assertEquals("my-app", extraction.getProjectName());
+        Assert.assertEquals("0.3.0", extraction.getProjectVersion());
+
+        final GraphAssert graphAssert = new GraphAssert(Forge.PYPI, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(2);
+        graphAssert.hasRootDependency(pypi("Flask", "1.1.1"));
+        graphAssert.hasRootDependency(pypi("requests", "2.22.0"));
+        graphAssert.hasParentChildRelationship(pypi("Flask", "1.1.1"), pypi("Click", "7.0"));
+        graphAssert.hasParentChildRelationship(pypi("Flask", "1.1.1"), pypi("Jinja2", "2.10.3"));
+        graphAssert.hasParentChildRelationship(pypi("Jinja2", "2.10.3"), pypi("MarkupSafe", "1.1.1"));
+        graphAssert.hasParentChildRelationship(pypi("requests", "2.22.0"), pypi("urllib3", "1.25.7"));
+        graphAssert.hasRelationshipCount(pypi("requests", "2.22.0"), 4);
+        graphAssert.hasNoDependency(pypi("six", "1.13.0"));
+        graphAssert.hasNoDependency(pypi("pip", "19.3.1"));
+    }
+
+    @Test
+    public void requirementsFileRoots() {
+        final String requirementsFile = FunctionalTestFiles.asFile("/pip/sitepackages/requirements.txt").getAbsolutePath();
+        final Extraction extraction = extractor.extract(sitePackages, requirementsFile, null);
+
+        Assert.assertTrue(extraction.isSuccess());
+        final GraphAssert graphAssert = new GraphAssert(Forge.PYPI, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(2);
+        graphAssert.hasRootDependency(pypi("requests", "2.22.0"));
+        graphAssert.hasRootDependency(pypi("six", "1.13.0"));
+        graphAssert.hasNoDependency(pypi("Flask", "1.1.1"));
+    }
+
+    @Test
+    public void uninstalledProjectFallsBackToTopLevelDistributionsWithoutInstallerTooling() {
+        final Extraction extraction = extractor.extract(sitePackages, null, "not-installed");
+
+        Assert.assertTrue(extraction.isSuccess());
+        Assert.assertEquals("not-installed", extraction.getProjectName());
+        final GraphAssert graphAssert = new GraphAssert(Forge.PYPI, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(2);
+        graphAssert.hasRootDependency(pypi("my-app", "0.3.0"));
+        graphAssert.hasRootDependency(pypi("six", "1.13.0"));
+        graphAssert.hasNoDependency(pypi("pip", "19.3.1"));
+        graphAssert.hasNoDependency(pypi("setuptools", "42.0.2"));
+    }
+
+    private ExternalId pypi(final String name, final String version) {
+        return externalIdFactory.createNameVersionExternalId(Forge.PYPI, name, version);
+    }
+}
@@ -0,0 +1,62 @@
+package com.synopsys.integration.detectable.detectables.pip.functional;
+
+import java.io.File;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.annotations.FunctionalTest;
+import com.synopsys.integration.detectable.detectables.pip.PipfileLockExtractor;
+import com.synopsys.integration.detectable.detectables.pip.parser.PipfileLockDependencyTransformer;
+import com.synopsys.integration.detectable.detectables.pip.parser.PipfileLockParser;
+import com.synopsys.integration.detectable.detectables.pip.parser.PythonDistributionMetadataParser;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+import com.synopsys.integration.detectable.util.graph.GraphAssert;
+
+@FunctionalTest
+public class PipfileLockExtractorTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final PipfileLockExtractor extractor = new PipfileLockExtractor(new PipfileLockParser(), new PythonDistributionMetadataParser(), new PipfileLockDependencyTransformer(externalIdFactory), externalIdFactory);
+    private final File pipfileLock = FunctionalTestFiles.asFile("/pip/pipfilelock/Pipfile.lock");
+
+    @Test
+    public void lockWithInstalledMetadata() {
+        final File sitePackages = FunctionalTestFiles.asFile("/pip/pipfilelock/site-packages");
+        final Extraction extraction = extractor.extract(pipfileLock, Collections.singletonList(sitePackages), "my-project", "1.0.0");
+
+        Assert.assertTrue(extraction.isSuccess());
+        Assert.assertEquals("my-project", extraction.getProjectName());
+        final DependencyGraph graph = extraction.getCodeLocations().get(0).getDependencyGraph();
+
+        final GraphAssert graphAssert = new GraphAssert(Forge.PYPI, graph);
+        graphAssert.hasRootSize(3);
+        graphAssert.hasRootDependency(pypi("requests", "2.22.0"));
+        graphAssert.hasRootDependency(pypi("pytest", "5.3.2"));
+        graphAssert.hasRootDependency(pypi("vcs-helper", "0d3f1c2b4a5e6f708192a3b4c5d6e7f8091a2b3c"));
+        graphAssert.hasParentChildRelationship(pypi("requests", "2.22.0"), pypi("Urllib3", "1.25.7"));
+        graphAssert.hasParentChildRelationship(pypi("requests", "2.22.0"), pypi("certifi", "2019.11.28"));
+        graphAssert.hasParentChildRelationship(pypi("requests", "2.22.0"), pypi("chardet", "3.0.4"));
+        graphAssert.hasParentChildRelationship(pypi("requests", "2.22.0"), pypi("idna", "2.8"));
+        graphAssert.hasRelationshipCount(pypi("Urllib3", "1.25.7"), 0);
+        graphAssert.hasNoDependency(pypi("my-project", "1.0.0"));
+    }
+
+    @Test
+    public void lockWithoutInstalledMetadata() {
+        final Extraction extraction = extractor.extract(pipfileLock, Collections.emptyList(), null, null);
+
+        Assert.assertTrue(extraction.isSuccess());
+        final GraphAssert graphAssert = new GraphAssert(Forge.PYPI, extraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(7);
+    }
+
+    private ExternalId pypi(final String name, final String version) {
+        return externalIdFactory.createNameVersionExternalId(Forge.PYPI, name, version);
+    }
+}
@@ -1,20 +1,25 @@
 package com.synopsys.integration.detectable.detectables.pip.unit;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectable.executable.resolver.PipResolver;
 import com.synopsys.integration.detectable.detectable.executable.resolver.PythonResolver;
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
 import com.synopsys.integration.detectable.detectable.inspector.PipInspectorResolver;
 import com.synopsys.integration.detectable.detectables.pip.PipInspectorDetectable;
 import com.synopsys.integration.detectable.detectables.pip.PipInspectorDetectableOptions;
+import com.synopsys.integration.detectable.detectable.result.DetectableResult;
 import com.synopsys.integration.detectable.detectables.pip.PipInspectorExtractor;
+import com.synopsys.integration.detectable.detectables.pip.PythonSitePackagesFinder;
 
 public class PipInspectorDetectableTest {
     public static final String SETUPTOOLS_DEFAULT_FILE_NAME = "setup.py";
@@ -35,7 +40,7 @@ public class PipInspectorDetectableTest {
         Mockito.when(environment.getDirectory()).thenReturn(dir);
         Mockito.when(fileFinder.findFile(dir, SETUPTOOLS_DEFAULT_FILE_NAME)).thenReturn(new File(SETUPTOOLS_DEFAULT_FILE_NAME));
 
-        final PipInspectorDetectable detectable = new PipInspectorDetectable(environment, fileFinder, pythonResolver, pipResolver, pipInspectorResolver, pipInspectorExtractor, pipInspectorDetectableOptions);
+        final PipInspectorDetectable detectable = new PipInspectorDetectable(environment, fileFinder, pythonResolver, pipResolver, pipInspectorResolver, pipInspectorExtractor, pipInspectorDetectableOptions, null, null);
 
         assertTrue(detectable.applicable().getPassed());
     }
@@ -56,8 +61,35 @@ public class PipInspectorDetectableTest {
         Mockito.when(environment.getDirectory()).thenReturn(dir);
         Mockito.when(pipInspectorDetectableOptions.getRequirementsFilePath()).thenReturn("testReqtsPath");
 
-        final PipInspectorDetectable detectable = new PipInspectorDetectable(environment, fileFinder, pythonResolver, pipResolver, pipInspectorResolver, pipInspectorExtractor, pipInspectorDetectableOptions);
+        final PipInspectorDetectable detectable = new PipInspectorDetectable(environment, fileFinder, pythonResolver, pipResolver, pipInspectorResolver, pipInspectorExtractor, pipInspectorDetectableOptions, null, null);
 
         assertTrue(detectable.applicable().getPassed());
     }
+
+    @Test
+    public void testSitePackagesRequireProjectNameOrRequirements() throws DetectableException {
+        final PipInspectorDetectableOptions pipInspectorDetectableOptions = Mockito.mock(PipInspectorDetectableOptions.class);
+        Mockito.when(pipInspectorDetectableOptions.getSitePackagesPath()).thenReturn("venv");
+
+        final DetectableResult result = createSitePackagesDetectable(pipInspectorDetectableOptions).extractable();
+
+        assertFalse(result.getPassed());
+        assertTrue(result.toDescription().contains("detect.pip.project.name"));
+    }
+
+    @Test
+    public void testSitePackagesWithProjectName() throws DetectableException {
+        final PipInspectorDetectableOptions pipInspectorDetectableOptions = Mockito.mock(PipInspectorDetectableOptions.class);
+        Mockito.when(pipInspectorDetectableOptions.getSitePackagesPath()).thenReturn("venv");
+        Mockito.when(pipInspectorDetectableOptions.getPipProjectName()).thenReturn("my-app");
+
+        assertTrue(createSitePackagesDetectable(pipInspectorDetectableOptions).extractable().getPassed());
+    }
+
+    private PipInspectorDetectable createSitePackagesDetectable(final PipInspectorDetectableOptions pipInspectorDetectableOptions) {
+        final PythonSitePackagesFinder pythonSitePackagesFinder = Mockito.mock(PythonSitePackagesFinder.class);
+        Mockito.when(pythonSitePackagesFinder.findSitePackages(new File("venv"))).thenReturn(Collections.singletonList(new File("venv/lib/python3.7/site-packages")));
+
+        return new PipInspectorDetectable(Mockito.mock(DetectableEnvironment.class), Mockito.mock(FileFinder.class), null, null, null, null, pipInspectorDetectableOptions, pythonSitePackagesFinder, null);
+    }
 }
@@ -0,0 +1,56 @@
+package com.synopsys.integration.detectable.detectables.pip.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.pip.model.PythonDistribution;
+import com.synopsys.integration.detectable.detectables.pip.parser.PythonDistributionMetadataParser;
+
+@UnitTest
+public class PythonDistributionMetadataParserTest {
+    private final PythonDistributionMetadataParser parser = new PythonDistributionMetadataParser();
+
+    @Test
+    public void parseRequirementNames() {
+        assertEquals(Optional.of("idna"), parser.parseRequirementName("idna<3,>=2.5"));
+        assertEquals(Optional.of("chardet"), parser.parseRequirementName(" chardet (<3.1.0,>=3.0.2)"));
+        assertEquals(Optional.of("zope.interface"), parser.parseRequirementName("zope.interface; python_version < \"3\""));
+        assertEquals(Optional.of("six"), parser.parseRequirementName("six[extras]>=1.0"));
+        assertFalse(parser.parseRequirementName("pyOpenSSL (>=0.14) ; extra == 'security'").isPresent());
+        assertFalse(parser.parseRequirementName("PySocks!=1.5.7,>=1.5.6; python_version < \"3\" and extra==\"socks\"").isPresent());
+    }
+
+    @Test
+    public void parseHeadersOnly() throws IOException {
+        final String metadata = "Metadata-Version: 2.1\nName: Flask\nVersion: 1.1.1\nRequires-Dist: Werkzeug (>=0.15)\nRequires-Dist: click (>=5.1)\n\nRequires-Dist: body-text\n";
+
+        final Optional<PythonDistribution> distribution = parser.parse(new StringReader(metadata));
+
+        assertTrue(distribution.isPresent());
+        assertEquals("Flask", distribution.get().getName());
+        assertEquals("1.1.1", distribution.get().getVersion());
+        assertEquals(Arrays.asList("Werkzeug", "click"), distribution.get().getRequirements());
+    }
+
+    @Test
+    public void parseRequiresTxtSkipsExtras() throws IOException {
+        final String requires = "Flask>=1.0\nrequests\n\n[security]\npyOpenSSL\n\n[:python_version < \"3.4\"]\nenum34\n";
+
+        assertEquals(Arrays.asList("Flask", "requests", "enum34"), parser.parseRequiresTxt(new StringReader(requires)));
+    }
+
+    @Test
+    public void normalizeName() {
+        assertEquals("zope-interface", PythonDistribution.normalizeName("Zope_Interface"));
+        assertEquals("ruamel-yaml", PythonDistribution.normalizeName("ruamel.yaml"));
+    }
+}
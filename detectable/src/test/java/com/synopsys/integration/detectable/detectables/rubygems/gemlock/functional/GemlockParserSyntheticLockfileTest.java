@@ -0,0 +1,70 @@
+package com.synopsys.integration.detectable.detectables.rubygems.gemlock.functional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.FunctionalTest;
+import com.synopsys.integration.detectable.detectables.rubygems.gemlock.parse.GemlockParser;
+
+@FunctionalTest
+public class GemlockParserSyntheticLockfileTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void parsesLargeGemfileLock() {
+        final DependencyGraph dependencyGraph = parse(createSyntheticGemfileLock(20000, 5));
+
+        Assert.assertEquals(20001, dependencyGraph.getRootDependencies().size());
+        Assert.assertNotNull(dependencyGraph.getDependency(externalIdFactory.createNameVersionExternalId(Forge.RUBYGEMS, "gem-19999", "1.19999.0")));
+        Assert.assertNotNull(dependencyGraph.getDependency(externalIdFactory.createNameVersionExternalId(Forge.RUBYGEMS, "unresolved-gem", "")));
+        Assert.assertEquals(5, dependencyGraph.getChildrenExternalIdsForParent(externalIdFactory.createNameVersionExternalId(Forge.RUBYGEMS, "gem-0", "1.0.0")).size());
+    }
+
+    @Test
+    public void parserCanBeReused() {
+        final GemlockParser gemlockParser = new GemlockParser(externalIdFactory);
+        final List<String> gemfileLock = createSyntheticGemfileLock(5000, 5);
+
+        final DependencyGraph first = gemlockParser.parseProjectDependencies(gemfileLock);
+        final DependencyGraph second = gemlockParser.parseProjectDependencies(gemfileLock);
+
+        Assert.assertEquals(5001, first.getRootDependencies().size());
+        Assert.assertEquals(first.getRootDependencies(), second.getRootDependencies());
+    }
+
+    private DependencyGraph parse(final List<String> gemfileLockLines) {
+        return new GemlockParser(externalIdFactory).parseProjectDependencies(gemfileLockLines);
+    }
+
+    private List<String> createSyntheticGemfileLock(final int specCount, final int dependenciesPerSpec) {
+        final List<String> lines = new ArrayList<>();
+        lines.add("GEM");
+        lines.add("  remote: https://rubygems.org/");
+        lines.add("  specs:");
+        for (int spec = 0; spec < specCount; spec++) {
+            lines.add(String.format("    gem-%s (1.%s.0)", spec, spec));
+            for (int dependency = 1; dependency <= dependenciesPerSpec; dependency++) {
+                lines.add(String.format("      gem-%s (>= 1.0)", (spec + dependency) % specCount));
+            }
+        }
+        lines.add("");
+        lines.add("PLATFORMS");
+        lines.add("  ruby");
+        lines.add("");
+        lines.add("DEPENDENCIES");
+        for (int spec = 0; spec < specCount; spec++) {
+            lines.add(String.format("  gem-%s", spec));
+        }
+        lines.add("  unresolved-gem");
+        lines.add("");
+        lines.add("BUNDLED WITH");
+        lines.add("   1.17.3");
+        return lines;
+    }
+}
@@ -0,0 +1,55 @@
+package com.synopsys.integration.detectable.detectables.sbt.functional;
+
+import java.io.InputStream;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.sbt.SbtDependencyResolver;
+import com.synopsys.integration.detectable.detectables.sbt.model.SbtDependencyModule;
+import com.synopsys.integration.detectable.detectables.sbt.model.SbtModule;
+import com.synopsys.integration.detectable.detectables.sbt.model.SbtReport;
+import com.synopsys.integration.detectable.detectables.sbt.parse.SbtReportParser;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+import com.synopsys.integration.detectable.util.graph.MavenGraphAssert;
+
+@UnitTest
+public class SbtReportParserTest {
+    @Test
+    public void parsesIvyReport() throws XMLStreamException {
+        final InputStream xmlReport = FunctionalTestFiles.asInputStream("/sbt/example-compile.xml");
+        final SbtReport report = new SbtReportParser().parseReportFromXml(xmlReport);
+
+        Assert.assertEquals("com.example", report.getOrganisation());
+        Assert.assertEquals("example_2.12", report.getModule());
+        Assert.assertEquals("0.1.0", report.getRevision());
+        Assert.assertEquals("compile", report.getConfiguration());
+        Assert.assertEquals(2, report.getDependencies().size());
+
+        final SbtModule scalaLibrary = report.getDependencies().get(0);
+        Assert.assertEquals("scala-library", scalaLibrary.getName());
+        Assert.assertEquals(1, scalaLibrary.getRevisions().size());
+        Assert.assertEquals("2.12.8", scalaLibrary.getRevisions().get(0).getName());
+        Assert.assertEquals(2, scalaLibrary.getRevisions().get(0).getCallers().size());
+        Assert.assertEquals("1.3.4", scalaLibrary.getRevisions().get(0).getCallers().get(1).getRevision());
+    }
+
+    @Test
+    public void resolvesIvyReportGraph() throws XMLStreamException {
+        final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        final SbtReport report = new SbtReportParser().parseReportFromXml(FunctionalTestFiles.asInputStream("/sbt/example-compile.xml"));
+        final SbtDependencyModule module = new SbtDependencyResolver(externalIdFactory).resolveReport(report);
+
+        final MavenGraphAssert graphAssert = new MavenGraphAssert(module.graph);
+        graphAssert.hasRootDependency("com.typesafe:config:1.3.4");
+        graphAssert.hasRootDependency("org.scala-lang:scala-library:2.12.8");
+        final ExternalId config = graphAssert.hasDependency("com.typesafe:config:1.3.4");
+        final ExternalId scalaLibrary = graphAssert.hasDependency("org.scala-lang:scala-library:2.12.8");
+        graphAssert.hasParentChildRelationship(config, scalaLibrary);
+    }
+}
@@ -0,0 +1,50 @@
+package com.synopsys.integration.detectable.detectables.yarn.functional;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.FunctionalTest;
+import com.synopsys.integration.detectable.detectables.npm.packagejson.model.PackageJson;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLineLevelParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLock;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnTransformer;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+import com.synopsys.integration.detectable.util.graph.GraphAssert;
+
+@FunctionalTest
+public class YarnLockAliasTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void aliasesAreReportedAsTheRealPackage() {
+        final List<String> yarnLockText = FunctionalTestFiles.asListOfStrings("/yarn/alias/yarn.lock");
+        final YarnLock yarnLock = new YarnLockParser(new YarnLineLevelParser()).parseYarnLock(yarnLockText);
+
+        final PackageJson packageJson = new PackageJson();
+        packageJson.dependencies.put("@isaacs/cliui", "^8.0.2");
+        packageJson.dependencies.put("legacy-fetch", "npm:node-fetch@^2.6.7");
+        packageJson.dependencies.put("unlocked-fetch", "npm:node-fetch@^3.0.0");
+
+        final DependencyGraph graph = new YarnTransformer(externalIdFactory).transform(packageJson, yarnLock, true);
+
+        final GraphAssert graphAssert = new GraphAssert(Forge.NPM, graph);
+        graphAssert.hasRootSize(3);
+        graphAssert.hasRootDependency(npm("@isaacs/cliui", "8.0.2"));
+        graphAssert.hasRootDependency(npm("node-fetch", "2.6.7"));
+        graphAssert.hasRootDependency(npm("node-fetch", "^3.0.0"));
+        graphAssert.hasParentChildRelationship(npm("@isaacs/cliui", "8.0.2"), npm("string-width", "5.1.2"));
+        graphAssert.hasParentChildRelationship(npm("@isaacs/cliui", "8.0.2"), npm("string-width", "4.2.3"));
+        graphAssert.hasNoDependency(npm("string-width-cjs", "4.2.3"));
+        graphAssert.hasNoDependency(npm("legacy-fetch", "2.6.7"));
+    }
+
+    private ExternalId npm(final String name, final String version) {
+        return externalIdFactory.createNameVersionExternalId(Forge.NPM, name, version);
+    }
+}
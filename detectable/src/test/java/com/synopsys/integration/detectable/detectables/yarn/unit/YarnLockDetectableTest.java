@@ -12,6 +12,7 @@ import com.synopsys.integration.detectable.detectable.executable.resolver.YarnRe
 import com.synopsys.integration.detectable.detectable.file.FileFinder;
 import com.synopsys.integration.detectable.detectables.yarn.YarnLockDetectable;
 import com.synopsys.integration.detectable.detectables.yarn.YarnLockExtractor;
+import com.synopsys.integration.detectable.detectables.yarn.YarnLockOptions;
 
 public class YarnLockDetectableTest {
     private static final String YARN_LOCK_FILENAME = "yarn.lock";
@@ -29,7 +30,7 @@ public class YarnLockDetectableTest {
         Mockito.when(environment.getDirectory()).thenReturn(dir);
         Mockito.when(fileFinder.findFile(dir, YARN_LOCK_FILENAME)).thenReturn(new File(YARN_LOCK_FILENAME));
 
-        final YarnLockDetectable detectable = new YarnLockDetectable(environment, fileFinder, yarnResolver, yarnLockExtractor);
+        final YarnLockDetectable detectable = new YarnLockDetectable(environment, fileFinder, yarnResolver, yarnLockExtractor, new YarnLockOptions(false, false));
 
         assertTrue(detectable.applicable().getPassed());
     }
@@ -2,6 +2,8 @@ package com.synopsys.integration.detectable.detectables.yarn.unit;
 
 import static org.junit.Assert.assertEquals;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -90,4 +92,66 @@ public class YarnLockParserTest {
         assertEquals("0.2.37", yarnLock.versionForFuzzyId("cssstyle@>= 0.2.37 < 0.3.0").get());
     }
 
+    @Test
+    void testThatYarnLockCanBeStreamedFromReader() {
+        final String yarnLockText = String.join("\n",
+            "# yarn lockfile v1",
+            "",
+            "\"@babel/code-frame@^7.0.0\", \"@babel/code-frame@^7.0.0-beta.35\":",
+            "  version \"7.0.0\"",
+            "  dependencies:",
+            "    \"@babel/highlight\" \"^7.0.0\"",
+            "",
+            "\"@babel/highlight@^7.0.0\":",
+            "  version \"7.0.0\"");
+
+        final YarnLockParser yarnLockParser = new YarnLockParser(new YarnLineLevelParser());
+        final YarnLock yarnLock = yarnLockParser.parseYarnLock(new BufferedReader(new StringReader(yarnLockText)));
+
+        assertEquals("7.0.0", yarnLock.versionForFuzzyId("@babel/code-frame@^7.0.0").get());
+        assertEquals("7.0.0", yarnLock.versionForFuzzyId("@babel/code-frame@^7.0.0-beta.35").get());
+        assertEquals("@babel/code-frame", yarnLock.entryForFuzzyId("@babel/code-frame@^7.0.0").get().getName());
+        assertEquals("@babel/highlight@^7.0.0", yarnLock.entryForFuzzyId("@babel/code-frame@^7.0.0").get().getDependencyFuzzyIds().get(0));
+        assertEquals(2, yarnLock.getEntries().size());
+    }
+
+    @Test
+    void testThatAliasAndUrlRangesKeepTheirColons() {
+        final List<String> yarnLockText = new ArrayList<>();
+        yarnLockText.add("\"string-width-cjs@npm:string-width@^4.2.0\":");
+        yarnLockText.add("  version \"4.2.3\"");
+        yarnLockText.add("");
+        yarnLockText.add("\"private-lib@git+ssh://git@github.com/org/private-lib.git#v1.0.0\":");
+        yarnLockText.add("  version \"1.0.0\"");
+        yarnLockText.add("");
+        yarnLockText.add("\"app@file:../app\":");
+        yarnLockText.add("  version \"0.0.1\"");
+        yarnLockText.add("  dependencies:");
+        yarnLockText.add("    string-width-cjs \"npm:string-width@^4.2.0\"");
+        yarnLockText.add("    private-lib \"git+ssh://git@github.com/org/private-lib.git#v1.0.0\"");
+
+        final YarnLockParser yarnLockParser = new YarnLockParser(new YarnLineLevelParser());
+        final YarnLock yarnLock = yarnLockParser.parseYarnLock(yarnLockText);
+
+        assertEquals("4.2.3", yarnLock.versionForFuzzyId("string-width-cjs@npm:string-width@^4.2.0").get());
+        assertEquals("string-width", yarnLock.entryForFuzzyId("string-width-cjs@npm:string-width@^4.2.0").get().getName());
+        assertEquals("1.0.0", yarnLock.versionForFuzzyId("private-lib@git+ssh://git@github.com/org/private-lib.git#v1.0.0").get());
+        assertEquals("0.0.1", yarnLock.versionForFuzzyId("app@file:../app").get());
+
+        final List<String> appDependencies = yarnLock.entryForFuzzyId("app@file:../app").get().getDependencyFuzzyIds();
+        assertEquals("4.2.3", yarnLock.versionForFuzzyId(appDependencies.get(0)).get());
+        assertEquals("1.0.0", yarnLock.versionForFuzzyId(appDependencies.get(1)).get());
+    }
+
+    @Test
+    void testThatLeadingNpmProtocolIsIgnored() {
+        final List<String> yarnLockText = new ArrayList<>();
+        yarnLockText.add("\"debug@npm:^4.1.0\":");
+        yarnLockText.add("  version \"4.1.1\"");
+
+        final YarnLockParser yarnLockParser = new YarnLockParser(new YarnLineLevelParser());
+        final YarnLock yarnLock = yarnLockParser.parseYarnLock(yarnLockText);
+
+        assertEquals("4.1.1", yarnLock.versionForFuzzyId("debug@^4.1.0").get());
+    }
 }
@@ -0,0 +1,91 @@
+package com.synopsys.integration.detectable.detectables.yarn.unit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectables.npm.packagejson.model.PackageJson;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLineLevelParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLock;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnTransformer;
+import com.synopsys.integration.detectable.util.graph.GraphAssert;
+
+@UnitTest
+public class YarnLockTransformerTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    void testGraphIsBuiltFromLockfileAndPackageJson() {
+        final List<String> yarnLockText = new ArrayList<>();
+        yarnLockText.add("# yarn lockfile v1");
+        yarnLockText.add("");
+        yarnLockText.add("\"@babel/code-frame@^7.0.0\":");
+        yarnLockText.add("  version \"7.0.0\"");
+        yarnLockText.add("  dependencies:");
+        yarnLockText.add("    \"@babel/highlight\" \"^7.0.0\"");
+        yarnLockText.add("");
+        yarnLockText.add("\"@babel/highlight@^7.0.0\":");
+        yarnLockText.add("  version \"7.0.2\"");
+        yarnLockText.add("  dependencies:");
+        yarnLockText.add("    chalk \"^2.0.0\"");
+        yarnLockText.add("  optionalDependencies:");
+        yarnLockText.add("    js-tokens \"^4.0.0\"");
+        yarnLockText.add("");
+        yarnLockText.add("chalk@^2.0.0, chalk@^2.4.1:");
+        yarnLockText.add("  version \"2.4.2\"");
+        yarnLockText.add("");
+        yarnLockText.add("js-tokens@^4.0.0:");
+        yarnLockText.add("  version \"4.0.0\"");
+        yarnLockText.add("");
+        yarnLockText.add("mocha@^6.0.0:");
+        yarnLockText.add("  version \"6.1.4\"");
+        yarnLockText.add("  dependencies:");
+        yarnLockText.add("    diff \"3.5.0\"");
+        yarnLockText.add("");
+        yarnLockText.add("diff@3.5.0:");
+        yarnLockText.add("  version \"3.5.0\"");
+
+        final PackageJson packageJson = new PackageJson();
+        packageJson.dependencies.put("@babel/code-frame", "^7.0.0");
+        packageJson.dependencies.put("chalk", "^2.4.1");
+        packageJson.devDependencies.put("mocha", "^6.0.0");
+
+        final YarnLock yarnLock = new YarnLockParser(new YarnLineLevelParser()).parseYarnLock(yarnLockText);
+        final YarnTransformer yarnTransformer = new YarnTransformer(externalIdFactory);
+
+        final DependencyGraph graph = yarnTransformer.transform(packageJson, yarnLock, false);
+        final GraphAssert graphAssert = new GraphAssert(Forge.NPM, graph);
+
+        final ExternalId codeFrame = npm("@babel/code-frame", "7.0.0");
+        final ExternalId highlight = npm("@babel/highlight", "7.0.2");
+        final ExternalId chalk = npm("chalk", "2.4.2");
+        final ExternalId jsTokens = npm("js-tokens", "4.0.0");
+        final ExternalId mocha = npm("mocha", "6.1.4");
+
+        graphAssert.hasRootSize(3);
+        graphAssert.hasRootDependency(codeFrame);
+        graphAssert.hasRootDependency(chalk);
+        graphAssert.hasRootDependency(mocha);
+        graphAssert.hasParentChildRelationship(codeFrame, highlight);
+        graphAssert.hasParentChildRelationship(highlight, chalk);
+        graphAssert.hasParentChildRelationship(highlight, jsTokens);
+        graphAssert.hasParentChildRelationship(mocha, npm("diff", "3.5.0"));
+
+        final DependencyGraph productionGraph = yarnTransformer.transform(packageJson, yarnLock, true);
+        final GraphAssert productionGraphAssert = new GraphAssert(Forge.NPM, productionGraph);
+        productionGraphAssert.hasRootSize(2);
+        productionGraphAssert.hasNoDependency(mocha);
+        productionGraphAssert.hasNoDependency(npm("diff", "3.5.0"));
+    }
+
+    private ExternalId npm(final String name, final String version) {
+        return externalIdFactory.createNameVersionExternalId(Forge.NPM, name, version);
+    }
+}
@@ -0,0 +1,11 @@
+package main
+
+import (
+	"fmt"
+
+	"dep-subpackage/store"
+)
+
+func main() {
+	fmt.Println(store.Open("data.db"))
+}
@@ -0,0 +1,9 @@
+package store
+
+import (
+	"github.com/pkg/errors"
+)
+
+func Open(path string) error {
+	return errors.Errorf("cannot open %s", path)
+}
@@ -0,0 +1,17 @@
+module github.com/example/service
+
+go 1.12
+
+require (
+	github.com/example/internal v0.0.0-00010101000000-000000000000
+	github.com/gorilla/mux v1.7.3
+	github.com/sirupsen/logrus v1.4.2
+	golang.org/x/sys v0.0.0-20190422165155-953cdadca894 // indirect
+	gopkg.in/yaml.v2 v2.2.2
+)
+
+exclude gopkg.in/yaml.v2 v2.2.4
+
+replace github.com/gorilla/mux => github.com/example/mux v1.7.3-fork.1
+
+replace github.com/example/internal => ../internal
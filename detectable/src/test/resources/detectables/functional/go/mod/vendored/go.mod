@@ -0,0 +1,11 @@
+module "github.com/example/cli"
+
+go 1.14
+
+require (
+	github.com/example/internal v0.0.0-00010101000000-000000000000
+	github.com/pkg/errors v0.8.1
+	github.com/stretchr/testify v1.4.0
+)
+
+replace github.com/example/internal => ./internal
@@ -35,6 +35,7 @@ public enum DetectorType {
     GO_DEP,
     GO_VNDR,
     GO_VENDOR,
+    GO_MOD,
     GRADLE,
     HEX,
     MAVEN,
@@ -67,12 +67,13 @@ import com.synopsys.integration.detectable.detectables.bazel.BazelExtractor;
 import com.synopsys.integration.detectable.detectables.bazel.model.BazelExternalIdExtractionFullRuleJsonProcessor;
 import com.synopsys.integration.detectable.detectables.bazel.parse.BazelCodeLocationBuilder;
 import com.synopsys.integration.detectable.detectables.bazel.parse.BazelQueryXmlOutputParser;
+import com.synopsys.integration.detectable.detectables.bazel.parse.StreamingXPathParser;
 import com.synopsys.integration.detectable.detectables.bazel.parse.XPathParser;
 import com.synopsys.integration.detectable.detectables.bitbake.BitbakeDetectable;
 import com.synopsys.integration.detectable.detectables.bitbake.BitbakeExtractor;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeArchitectureParser;
 import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeGraphTransformer;
-import com.synopsys.integration.detectable.detectables.bitbake.parse.GraphParserTransformer;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeRecipeDependsParser;
 import com.synopsys.integration.detectable.detectables.clang.ClangDetectable;
 import com.synopsys.integration.detectable.detectables.clang.ClangExtractor;
 import com.synopsys.integration.detectable.detectables.clang.compilecommand.CompileCommandDatabaseParser;
@@ -89,10 +90,18 @@ import com.synopsys.integration.detectable.detectables.cocoapods.PodlockExtracto
 import com.synopsys.integration.detectable.detectables.cocoapods.parser.PodlockParser;
 import com.synopsys.integration.detectable.detectables.conda.CondaCliDetectable;
 import com.synopsys.integration.detectable.detectables.conda.CondaCliExtractor;
+import com.synopsys.integration.detectable.detectables.conda.CondaMetaExtractor;
 import com.synopsys.integration.detectable.detectables.conda.parser.CondaListParser;
+import com.synopsys.integration.detectable.detectables.conda.parser.CondaMetaParser;
 import com.synopsys.integration.detectable.detectables.cpan.CpanCliDetectable;
 import com.synopsys.integration.detectable.detectables.cpan.CpanCliExtractor;
+import com.synopsys.integration.detectable.detectables.cpan.CpanMetaDetectable;
+import com.synopsys.integration.detectable.detectables.cpan.CpanMetaExtractor;
+import com.synopsys.integration.detectable.detectables.cpan.parse.CpanDistributionGraphBuilder;
 import com.synopsys.integration.detectable.detectables.cpan.parse.CpanListParser;
+import com.synopsys.integration.detectable.detectables.cpan.parse.CpanLocalLibParser;
+import com.synopsys.integration.detectable.detectables.cpan.parse.CpanMetaParser;
+import com.synopsys.integration.detectable.detectables.cpan.parse.CpanfileSnapshotParser;
 import com.synopsys.integration.detectable.detectables.cran.PackratLockDetectable;
 import com.synopsys.integration.detectable.detectables.cran.PackratLockExtractor;
 import com.synopsys.integration.detectable.detectables.cran.parse.PackratDescriptionFileParser;
@@ -106,6 +115,12 @@ import com.synopsys.integration.detectable.detectables.go.godep.GoDepExtractor;
 import com.synopsys.integration.detectable.detectables.go.godep.GoDepLockDetectable;
 import com.synopsys.integration.detectable.detectables.go.godep.GoDepLockFileGenerator;
 import com.synopsys.integration.detectable.detectables.go.godep.parse.GoLockParser;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoModDetectable;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoModExtractor;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoModGraphTransformer;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoModParser;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoModulesTxtParser;
+import com.synopsys.integration.detectable.detectables.go.gomod.parse.GoSumParser;
 import com.synopsys.integration.detectable.detectables.go.vendor.GoVendorDetectable;
 import com.synopsys.integration.detectable.detectables.go.vendor.GoVendorExtractor;
 import com.synopsys.integration.detectable.detectables.go.vendr.GoVndrDetectable;
@@ -113,15 +128,26 @@ import com.synopsys.integration.detectable.detectables.go.vendr.GoVndrExtractor;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorDetectable;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorExtractor;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.inspector.GradleInspectorScriptCreator;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleGraphReportParser;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleGraphReportTransformer;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportTransformer;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleRootMetadataParser;
+import com.synopsys.integration.detectable.detectables.gradle.lockfile.GradleLockfileDetectable;
+import com.synopsys.integration.detectable.detectables.gradle.lockfile.GradleLockfileExtractor;
+import com.synopsys.integration.detectable.detectables.gradle.lockfile.parse.GradleLockfileParser;
 import com.synopsys.integration.detectable.detectables.gradle.parsing.GradleParseDetectable;
 import com.synopsys.integration.detectable.detectables.gradle.parsing.GradleParseExtractor;
 import com.synopsys.integration.detectable.detectables.gradle.parsing.parse.BuildGradleParser;
 import com.synopsys.integration.detectable.detectables.hex.RebarDetectable;
 import com.synopsys.integration.detectable.detectables.hex.RebarExtractor;
+import com.synopsys.integration.detectable.detectables.hex.RebarLockDetectable;
+import com.synopsys.integration.detectable.detectables.hex.RebarLockExtractor;
+import com.synopsys.integration.detectable.detectables.hex.parse.ErlangTermParser;
 import com.synopsys.integration.detectable.detectables.hex.parse.Rebar3TreeParser;
+import com.synopsys.integration.detectable.detectables.hex.parse.RebarConfigParser;
+import com.synopsys.integration.detectable.detectables.hex.parse.RebarLockDependencyTransformer;
+import com.synopsys.integration.detectable.detectables.hex.parse.RebarLockParser;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenCliExtractor;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenPomDetectable;
@@ -140,6 +166,10 @@ import com.synopsys.integration.detectable.detectables.npm.packagejson.PackageJs
 import com.synopsys.integration.detectable.detectables.nuget.NugetInspectorExtractor;
 import com.synopsys.integration.detectable.detectables.nuget.NugetProjectDetectable;
 import com.synopsys.integration.detectable.detectables.nuget.NugetSolutionDetectable;
+import com.synopsys.integration.detectable.detectables.nuget.lockfile.NugetLockfileDetectable;
+import com.synopsys.integration.detectable.detectables.nuget.lockfile.NugetLockfileExtractor;
+import com.synopsys.integration.detectable.detectables.nuget.lockfile.parse.NugetPackagesLockParser;
+import com.synopsys.integration.detectable.detectables.nuget.lockfile.parse.NugetProjectAssetsParser;
 import com.synopsys.integration.detectable.detectables.nuget.parse.NugetInspectorParser;
 import com.synopsys.integration.detectable.detectables.packagist.ComposerLockDetectable;
 import com.synopsys.integration.detectable.detectables.packagist.ComposerLockExtractor;
@@ -154,8 +184,16 @@ import com.synopsys.integration.detectable.detectables.pip.PipInspectorDetectabl
 import com.synopsys.integration.detectable.detectables.pip.PipInspectorExtractor;
 import com.synopsys.integration.detectable.detectables.pip.PipenvDetectable;
 import com.synopsys.integration.detectable.detectables.pip.PipenvExtractor;
+import com.synopsys.integration.detectable.detectables.pip.PipfileLockDetectable;
+import com.synopsys.integration.detectable.detectables.pip.PipfileLockExtractor;
+import com.synopsys.integration.detectable.detectables.pip.PipSitePackagesExtractor;
+import com.synopsys.integration.detectable.detectables.pip.PythonSitePackagesFinder;
 import com.synopsys.integration.detectable.detectables.pip.parser.PipInspectorTreeParser;
 import com.synopsys.integration.detectable.detectables.pip.parser.PipenvGraphParser;
+import com.synopsys.integration.detectable.detectables.pip.parser.PipfileLockDependencyTransformer;
+import com.synopsys.integration.detectable.detectables.pip.parser.PipfileLockParser;
+import com.synopsys.integration.detectable.detectables.pip.parser.PythonDistributionGraphBuilder;
+import com.synopsys.integration.detectable.detectables.pip.parser.PythonDistributionMetadataParser;
 import com.synopsys.integration.detectable.detectables.rubygems.gemlock.GemlockDetectable;
 import com.synopsys.integration.detectable.detectables.rubygems.gemlock.GemlockExtractor;
 import com.synopsys.integration.detectable.detectables.rubygems.gemspec.GemspecParseDetectable;
@@ -222,7 +260,7 @@ public class DetectableBeanConfiguration {
 
     @Bean
     public BazelExtractor bazelExtractor() {
-        final BazelQueryXmlOutputParser parser = new BazelQueryXmlOutputParser(new XPathParser());
+        final BazelQueryXmlOutputParser parser = new BazelQueryXmlOutputParser(new XPathParser(), new StreamingXPathParser());
         final BazelCodeLocationBuilder codeLocationGenerator = new BazelCodeLocationBuilder(externalIdFactory);
         final BazelExternalIdExtractionFullRuleJsonProcessor bazelExternalIdExtractionFullRuleJsonProcessor = new BazelExternalIdExtractionFullRuleJsonProcessor(gson);
         return new BazelExtractor(executableRunner, parser, codeLocationGenerator, bazelExternalIdExtractionFullRuleJsonProcessor);
@@ -277,6 +315,16 @@ public class DetectableBeanConfiguration {
         return new CondaCliExtractor(condaListParser(), externalIdFactory, executableRunner, detectableOptionFactory.createCondaOptions());
     }
 
+    @Bean
+    public CondaMetaParser condaMetaParser() {
+        return new CondaMetaParser(condaListParser());
+    }
+
+    @Bean
+    public CondaMetaExtractor condaMetaExtractor() {
+        return new CondaMetaExtractor(condaMetaParser());
+    }
+
     @Bean
     public CpanListParser cpanListParser() {
         return new CpanListParser(externalIdFactory);
@@ -287,6 +335,31 @@ public class DetectableBeanConfiguration {
         return new CpanCliExtractor(cpanListParser(), externalIdFactory, executableRunner);
     }
 
+    @Bean
+    public CpanMetaParser cpanMetaParser() {
+        return new CpanMetaParser();
+    }
+
+    @Bean
+    public CpanfileSnapshotParser cpanfileSnapshotParser() {
+        return new CpanfileSnapshotParser();
+    }
+
+    @Bean
+    public CpanLocalLibParser cpanLocalLibParser() {
+        return new CpanLocalLibParser(cpanMetaParser());
+    }
+
+    @Bean
+    public CpanDistributionGraphBuilder cpanDistributionGraphBuilder() {
+        return new CpanDistributionGraphBuilder(externalIdFactory);
+    }
+
+    @Bean
+    public CpanMetaExtractor cpanMetaExtractor() {
+        return new CpanMetaExtractor(cpanMetaParser(), cpanfileSnapshotParser(), cpanLocalLibParser(), cpanDistributionGraphBuilder());
+    }
+
     public DockerInspectorResolver dockerInspectorResolver() {
         return new ArtifactoryDockerInspectorResolver(directoryManager, airGapManager, fileFinder, artifactResolver, detectableOptionFactory.createDockerDetectableOptions());
     }
@@ -331,6 +404,31 @@ public class DetectableBeanConfiguration {
         return new GoVendorExtractor(gson, externalIdFactory);
     }
 
+    @Bean
+    public GoModParser goModParser() {
+        return new GoModParser();
+    }
+
+    @Bean
+    public GoSumParser goSumParser() {
+        return new GoSumParser();
+    }
+
+    @Bean
+    public GoModulesTxtParser goModulesTxtParser() {
+        return new GoModulesTxtParser();
+    }
+
+    @Bean
+    public GoModGraphTransformer goModGraphTransformer() {
+        return new GoModGraphTransformer(externalIdFactory);
+    }
+
+    @Bean
+    public GoModExtractor goModExtractor() {
+        return new GoModExtractor(goModParser(), goSumParser(), goModulesTxtParser(), goModGraphTransformer());
+    }
+
     @Bean
     public GradleReportParser gradleReportParser() {
         return new GradleReportParser();
@@ -341,6 +439,16 @@ public class DetectableBeanConfiguration {
         return new GradleReportTransformer(externalIdFactory);
     }
 
+    @Bean
+    public GradleGraphReportParser gradleGraphReportParser() {
+        return new GradleGraphReportParser();
+    }
+
+    @Bean
+    public GradleGraphReportTransformer gradleGraphReportTransformer() {
+        return new GradleGraphReportTransformer(externalIdFactory);
+    }
+
     @Bean
     public GradleRootMetadataParser gradleRootMetadataParser() {
         return new GradleRootMetadataParser();
@@ -361,6 +469,31 @@ public class DetectableBeanConfiguration {
         return new RebarExtractor(executableRunner, rebar3TreeParser());
     }
 
+    @Bean
+    public ErlangTermParser erlangTermParser() {
+        return new ErlangTermParser();
+    }
+
+    @Bean
+    public RebarLockParser rebarLockParser() {
+        return new RebarLockParser(erlangTermParser());
+    }
+
+    @Bean
+    public RebarConfigParser rebarConfigParser() {
+        return new RebarConfigParser(erlangTermParser());
+    }
+
+    @Bean
+    public RebarLockDependencyTransformer rebarLockDependencyTransformer() {
+        return new RebarLockDependencyTransformer(externalIdFactory);
+    }
+
+    @Bean
+    public RebarLockExtractor rebarLockExtractor() {
+        return new RebarLockExtractor(rebarLockParser(), rebarConfigParser(), rebarLockDependencyTransformer());
+    }
+
     @Bean
     public MavenCodeLocationPackager mavenCodeLocationPackager() {
         return new MavenCodeLocationPackager(externalIdFactory);
@@ -414,6 +547,21 @@ public class DetectableBeanConfiguration {
         return new NugetInspectorExtractor(nugetInspectorParser(), fileFinder);
     }
 
+    @Bean
+    public NugetProjectAssetsParser nugetProjectAssetsParser() {
+        return new NugetProjectAssetsParser(externalIdFactory);
+    }
+
+    @Bean
+    public NugetPackagesLockParser nugetPackagesLockParser() {
+        return new NugetPackagesLockParser(externalIdFactory);
+    }
+
+    @Bean
+    public NugetLockfileExtractor nugetLockfileExtractor() {
+        return new NugetLockfileExtractor(nugetProjectAssetsParser(), nugetPackagesLockParser());
+    }
+
     @Bean
     public PackagistParser packagistParser() {
         return new PackagistParser(externalIdFactory, detectableOptionFactory.createComposerLockDetectableOptions());
@@ -459,6 +607,41 @@ public class DetectableBeanConfiguration {
         return new PipenvExtractor(executableRunner, pipenvGraphParser(), detectableOptionFactory.createPipenvDetectableOptions());
     }
 
+    @Bean
+    public PipfileLockParser pipfileLockParser() {
+        return new PipfileLockParser();
+    }
+
+    @Bean
+    public PythonDistributionMetadataParser pythonDistributionMetadataParser() {
+        return new PythonDistributionMetadataParser();
+    }
+
+    @Bean
+    public PipfileLockDependencyTransformer pipfileLockDependencyTransformer() {
+        return new PipfileLockDependencyTransformer(externalIdFactory);
+    }
+
+    @Bean
+    public PipfileLockExtractor pipfileLockExtractor() {
+        return new PipfileLockExtractor(pipfileLockParser(), pythonDistributionMetadataParser(), pipfileLockDependencyTransformer(), externalIdFactory);
+    }
+
+    @Bean
+    public PythonSitePackagesFinder pythonSitePackagesFinder() {
+        return new PythonSitePackagesFinder(fileFinder);
+    }
+
+    @Bean
+    public PythonDistributionGraphBuilder pythonDistributionGraphBuilder() {
+        return new PythonDistributionGraphBuilder(externalIdFactory);
+    }
+
+    @Bean
+    public PipSitePackagesExtractor pipSitePackagesExtractor() {
+        return new PipSitePackagesExtractor(pythonDistributionMetadataParser(), pythonDistributionGraphBuilder(), externalIdFactory);
+    }
+
     @Bean
     public PipInspectorResolver pipInspectorResolver() {
         final File outputDirectory = directoryManager.getSharedDirectory("pip");
@@ -507,17 +690,17 @@ public class DetectableBeanConfiguration {
 
     @Bean
     public YarnLockExtractor yarnLockExtractor() {
-        return new YarnLockExtractor(externalIdFactory, yarnListParser(), executableRunner, yarnLockParser(), detectableOptionFactory.createYarnLockOptions(), yarnTransformer());
+        return new YarnLockExtractor(externalIdFactory, yarnListParser(), executableRunner, yarnLockParser(), detectableOptionFactory.createYarnLockOptions(), yarnTransformer(), gson);
     }
 
     @Bean
     public BitbakeExtractor bitbakeExtractor() {
-        return new BitbakeExtractor(executableRunner, fileFinder, graphParserTransformer(), bitbakeGraphTransformer(), bitbakeArchitectureParser());
+        return new BitbakeExtractor(executableRunner, bitbakeRecipeDependsParser(), bitbakeGraphTransformer(), bitbakeArchitectureParser());
     }
 
     @Bean
-    public GraphParserTransformer graphParserTransformer() {
-        return new GraphParserTransformer();
+    public BitbakeRecipeDependsParser bitbakeRecipeDependsParser() {
+        return new BitbakeRecipeDependsParser();
     }
 
     @Bean
@@ -547,7 +730,8 @@ public class DetectableBeanConfiguration {
 
     @Bean
     public GradleInspectorExtractor gradleInspectorExtractor() {
-        return new GradleInspectorExtractor(executableRunner, fileFinder, gradleReportParser(), gradleReportTransformer(), gradleRootMetadataParser());
+        return new GradleInspectorExtractor(executableRunner, fileFinder, gradleReportParser(), gradleReportTransformer(), gradleRootMetadataParser(), gradleGraphReportParser(),
+            gradleGraphReportTransformer());
     }
 
     @Bean
@@ -600,6 +784,16 @@ public class DetectableBeanConfiguration {
         return new GradleParseExtractor(buildGradleParser());
     }
 
+    @Bean
+    public GradleLockfileParser gradleLockfileParser() {
+        return new GradleLockfileParser(externalIdFactory);
+    }
+
+    @Bean
+    public GradleLockfileExtractor gradleLockfileExtractor() {
+        return new GradleLockfileExtractor(gradleLockfileParser());
+    }
+
     //Detectables
     //Should be scoped to Prototype so a new Detectable is created every time one is needed.
     //Should only be accessed through the DetectableFactory.
@@ -637,7 +831,7 @@ public class DetectableBeanConfiguration {
     @Bean
     @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
     public CondaCliDetectable condaBomTool(final DetectableEnvironment environment) {
-        return new CondaCliDetectable(environment, fileFinder, detectExecutableResolver, condaCliExtractor());
+        return new CondaCliDetectable(environment, fileFinder, detectExecutableResolver, condaCliExtractor(), condaMetaExtractor(), detectableOptionFactory.createCondaOptions());
     }
 
     @Bean
@@ -646,6 +840,12 @@ public class DetectableBeanConfiguration {
         return new CpanCliDetectable(environment, fileFinder, detectExecutableResolver, detectExecutableResolver, cpanCliExtractor());
     }
 
+    @Bean
+    @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
+    public CpanMetaDetectable cpanMetaBomTool(final DetectableEnvironment environment) {
+        return new CpanMetaDetectable(environment, fileFinder, cpanMetaExtractor(), detectableOptionFactory.createCpanMetaDetectableOptions());
+    }
+
     @Bean
     @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
     public GemlockDetectable gemlockBomTool(final DetectableEnvironment environment) {
@@ -676,6 +876,12 @@ public class DetectableBeanConfiguration {
         return new GoVendorDetectable(environment, fileFinder, goVendorExtractor());
     }
 
+    @Bean
+    @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
+    public GoModDetectable goModBomTool(final DetectableEnvironment environment) {
+        return new GoModDetectable(environment, fileFinder, goModExtractor());
+    }
+
     @Bean
     @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
     public GradleInspectorDetectable gradleInspectorBomTool(final DetectableEnvironment environment) {
@@ -688,6 +894,12 @@ public class DetectableBeanConfiguration {
         return new GradleParseDetectable(environment, fileFinder, gradleParseExtractor());
     }
 
+    @Bean
+    @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
+    public GradleLockfileDetectable gradleLockfileDetectable(final DetectableEnvironment environment) {
+        return new GradleLockfileDetectable(environment, fileFinder, gradleLockfileExtractor());
+    }
+
     @Bean
     @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
     public GemspecParseDetectable gemspecParseDetectable(final DetectableEnvironment environment) {
@@ -748,6 +960,12 @@ public class DetectableBeanConfiguration {
         return new NugetSolutionDetectable(environment, fileFinder, nugetInspectorResolver(), nugetInspectorExtractor(), detectableOptionFactory.createNugetInspectorOptions());
     }
 
+    @Bean
+    @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
+    public NugetLockfileDetectable nugetLockfileDetectable(final DetectableEnvironment environment) {
+        return new NugetLockfileDetectable(environment, fileFinder, nugetLockfileExtractor());
+    }
+
     @Bean
     @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
     public PackratLockDetectable packratLockBomTool(final DetectableEnvironment environment) {
@@ -766,10 +984,17 @@ public class DetectableBeanConfiguration {
         return new PipenvDetectable(environment, detectableOptionFactory.createPipenvDetectableOptions(), fileFinder, detectExecutableResolver, detectExecutableResolver, pipenvExtractor());
     }
 
+    @Bean
+    @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
+    public PipfileLockDetectable pipfileLockBomTool(final DetectableEnvironment environment) {
+        return new PipfileLockDetectable(environment, detectableOptionFactory.createPipenvDetectableOptions(), fileFinder, pythonSitePackagesFinder(), pipfileLockExtractor());
+    }
+
     @Bean
     @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
     public PipInspectorDetectable pipInspectorBomTool(final DetectableEnvironment environment) {
-        return new PipInspectorDetectable(environment, fileFinder, detectExecutableResolver, detectExecutableResolver, pipInspectorResolver(), pipInspectorExtractor(), detectableOptionFactory.createPipInspectorDetectableOptions());
+        return new PipInspectorDetectable(environment, fileFinder, detectExecutableResolver, detectExecutableResolver, pipInspectorResolver(), pipInspectorExtractor(), detectableOptionFactory.createPipInspectorDetectableOptions(),
+            pythonSitePackagesFinder(), pipSitePackagesExtractor());
     }
 
     @Bean
@@ -784,6 +1009,12 @@ public class DetectableBeanConfiguration {
         return new RebarDetectable(environment, fileFinder, detectExecutableResolver, rebarExtractor());
     }
 
+    @Bean
+    @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
+    public RebarLockDetectable rebarLockBomTool(final DetectableEnvironment environment) {
+        return new RebarLockDetectable(environment, fileFinder, rebarLockExtractor());
+    }
+
     @Bean
     @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
     public SbtResolutionCacheDetectable sbtResolutionCacheBomTool(final DetectableEnvironment environment) {
@@ -793,6 +1024,6 @@ public class DetectableBeanConfiguration {
     @Bean
     @Scope(scopeName = BeanDefinition.SCOPE_PROTOTYPE)
     public YarnLockDetectable yarnLockBomTool(final DetectableEnvironment environment) {
-        return new YarnLockDetectable(environment, fileFinder, detectExecutableResolver, yarnLockExtractor());
+        return new YarnLockDetectable(environment, fileFinder, detectExecutableResolver, yarnLockExtractor(), detectableOptionFactory.createYarnLockOptions());
     }
 }
\ No newline at end of file
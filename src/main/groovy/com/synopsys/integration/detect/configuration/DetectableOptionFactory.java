@@ -36,6 +36,7 @@ import com.synopsys.integration.detectable.detectables.bazel.BazelDetectableOpti
 import com.synopsys.integration.detectable.detectables.bitbake.BitbakeDetectableOptions;
 import com.synopsys.integration.detectable.detectables.clang.ClangDetectableOptions;
 import com.synopsys.integration.detectable.detectables.conda.CondaCliDetectableOptions;
+import com.synopsys.integration.detectable.detectables.cpan.CpanMetaDetectableOptions;
 import com.synopsys.integration.detectable.detectables.docker.DockerDetectableOptions;
 import com.synopsys.integration.detectable.detectables.go.godep.GoDepCliDetectableOptions;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorOptions;
@@ -71,7 +72,8 @@ public class DetectableOptionFactory {
         final String buildEnvName = detectConfiguration.getProperty(DetectProperty.DETECT_BITBAKE_BUILD_ENV_NAME, PropertyAuthority.None);
         final String[] packageNames = detectConfiguration.getStringArrayProperty(DetectProperty.DETECT_BITBAKE_PACKAGE_NAMES, PropertyAuthority.None);
         final String referenceImplementation = detectConfiguration.getProperty(DetectProperty.DETECT_BITBAKE_REFERENCE_IMPL, PropertyAuthority.None);
-        return new BitbakeDetectableOptions(buildEnvName, packageNames, referenceImplementation);
+        final String cachePath = detectConfiguration.getProperty(DetectProperty.DETECT_BITBAKE_CACHE_PATH, PropertyAuthority.None);
+        return new BitbakeDetectableOptions(buildEnvName, packageNames, referenceImplementation, cachePath);
     }
 
     public ClangDetectableOptions createClangDetectableOptions() {
@@ -86,7 +88,13 @@ public class DetectableOptionFactory {
 
     public CondaCliDetectableOptions createCondaOptions() {
         final String environmentName = detectConfiguration.getProperty(DetectProperty.DETECT_CONDA_ENVIRONMENT_NAME, PropertyAuthority.None);
-        return new CondaCliDetectableOptions(environmentName);
+        final String prefixPath = detectConfiguration.getProperty(DetectProperty.DETECT_CONDA_PREFIX_PATH, PropertyAuthority.None);
+        return new CondaCliDetectableOptions(environmentName, prefixPath);
+    }
+
+    public CpanMetaDetectableOptions createCpanMetaDetectableOptions() {
+        final String localLibPath = detectConfiguration.getProperty(DetectProperty.DETECT_CPAN_LOCAL_LIB_PATH, PropertyAuthority.None);
+        return new CpanMetaDetectableOptions(localLibPath);
     }
 
     public DockerDetectableOptions createDockerDetectableOptions() {
@@ -97,7 +105,12 @@ public class DetectableOptionFactory {
         final String dockerInspectorVersion = detectConfiguration.getProperty(DetectProperty.DETECT_DOCKER_INSPECTOR_VERSION, PropertyAuthority.None);
         final Map<String, String> additionalDockerProperties = detectConfiguration.getDockerProperties();
         final String dockerInspectorPath = detectConfiguration.getProperty(DetectProperty.DETECT_DOCKER_INSPECTOR_PATH, PropertyAuthority.None);
-        return new DockerDetectableOptions(dockerPathRequired, suppliedDockerImage, suppliedDockerTar, dockerInspectorLoggingLevel, dockerInspectorVersion, additionalDockerProperties, dockerInspectorPath);
+        final String dockerInspectorCachePath = detectConfiguration.getProperty(DetectProperty.DETECT_DOCKER_INSPECTOR_CACHE_PATH, PropertyAuthority.None);
+        final String[] additionalDockerImages = detectConfiguration.getStringArrayProperty(DetectProperty.DETECT_DOCKER_IMAGES, PropertyAuthority.None);
+        final String[] additionalDockerTars = detectConfiguration.getStringArrayProperty(DetectProperty.DETECT_DOCKER_TARS, PropertyAuthority.None);
+        final int parallelInspections = detectConfiguration.getIntegerProperty(DetectProperty.DETECT_DOCKER_PARALLEL_INSPECTIONS, PropertyAuthority.None);
+        return new DockerDetectableOptions(dockerPathRequired, suppliedDockerImage, suppliedDockerTar, dockerInspectorLoggingLevel, dockerInspectorVersion, additionalDockerProperties, dockerInspectorPath,
+            dockerInspectorCachePath, additionalDockerImages, additionalDockerTars, parallelInspections);
     }
 
     public GradleInspectorOptions createGradleInspectorOptions() {
@@ -113,9 +126,12 @@ public class DetectableOptionFactory {
         }
 
         final String onlineInspectorVersion = detectConfiguration.getProperty(DetectProperty.DETECT_GRADLE_INSPECTOR_VERSION, PropertyAuthority.None);
-        final GradleInspectorScriptOptions scriptOptions = new GradleInspectorScriptOptions(excludedProjectNames, includedProjectNames, excludedConfigurationNames, includedConfigurationNames, customRepository, onlineInspectorVersion);
+        final boolean useStructuredOutput = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_GRADLE_INSPECTOR_STRUCTURED_OUTPUT, PropertyAuthority.None);
+        final GradleInspectorScriptOptions scriptOptions = new GradleInspectorScriptOptions(excludedProjectNames, includedProjectNames, excludedConfigurationNames, includedConfigurationNames, customRepository, onlineInspectorVersion,
+            useStructuredOutput);
         final String gradleBuildCommand = detectConfiguration.getProperty(DetectProperty.DETECT_GRADLE_BUILD_COMMAND, PropertyAuthority.None);
-        return new GradleInspectorOptions(gradleBuildCommand, scriptOptions);
+        final String reportCachePath = detectConfiguration.getProperty(DetectProperty.DETECT_GRADLE_INSPECTOR_CACHE_PATH, PropertyAuthority.None);
+        return new GradleInspectorOptions(gradleBuildCommand, scriptOptions, reportCachePath);
     }
 
     public GoDepCliDetectableOptions createGoDepCliDetectableOptions() {
@@ -161,7 +177,8 @@ public class DetectableOptionFactory {
     public PipInspectorDetectableOptions createPipInspectorDetectableOptions() {
         final String pipProjectName = detectConfiguration.getProperty(DetectProperty.DETECT_PIP_PROJECT_NAME, PropertyAuthority.None);
         final String requirementsFilePath = detectConfiguration.getProperty(DetectProperty.DETECT_PIP_REQUIREMENTS_PATH, PropertyAuthority.None);
-        return new PipInspectorDetectableOptions(pipProjectName, requirementsFilePath);
+        final String sitePackagesPath = detectConfiguration.getProperty(DetectProperty.DETECT_PIP_SITE_PACKAGES_PATH, PropertyAuthority.None);
+        return new PipInspectorDetectableOptions(pipProjectName, requirementsFilePath, sitePackagesPath);
     }
 
     public GemspecParseDetectableOptions createGemspecParseDetectableOptions() {
@@ -179,7 +196,9 @@ public class DetectableOptionFactory {
 
     public YarnLockOptions createYarnLockOptions() {
         final boolean useProductionOnly = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_YARN_PROD_ONLY, PropertyAuthority.None);
-        return new YarnLockOptions(useProductionOnly);
+        final boolean buildless = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_BUILDLESS, PropertyAuthority.None);
+        final boolean useLockfileOnly = buildless || detectConfiguration.getBooleanProperty(DetectProperty.DETECT_YARN_LOCKFILE_ONLY, PropertyAuthority.None);
+        return new YarnLockOptions(useProductionOnly, useLockfileOnly);
     }
 
     public NugetInspectorOptions createNugetInspectorOptions() {
@@ -38,7 +38,7 @@ import com.synopsys.integration.util.NameVersion;
 
 public class RunResult {
 
-    private Optional<File> dockerTar = Optional.empty();
+    private final List<File> dockerTars = new ArrayList<>();
     private final List<DetectToolProjectInfo> detectToolProjectInfo = new ArrayList<>();
     private final List<DetectCodeLocation> detectCodeLocations = new ArrayList<>();
     private final Set<DetectorType> applicableDetectors = new HashSet<>();
@@ -56,16 +56,12 @@ public class RunResult {
 
     public void addDetectableToolResult(DetectableToolResult detectableToolResult) {
         detectableToolResult.getDetectToolProjectInfo().ifPresent(detectToolProjectInfo1 -> addToolNameVersionIfPresent(detectToolProjectInfo1.getDetectTool(), Optional.of(detectToolProjectInfo1.getSuggestedNameVersion())));
-        detectableToolResult.getDockerTar().ifPresent(dockerTar -> addDockerFile(Optional.of(dockerTar)));
+        dockerTars.addAll(detectableToolResult.getDockerTars());
         detectCodeLocations.addAll(detectableToolResult.getDetectCodeLocations());
     }
 
-    public void addDockerFile(Optional<File> dockerFile) {
-        dockerTar = dockerFile;
-    }
-
-    public Optional<File> getDockerTar() {
-        return dockerTar;
+    public List<File> getDockerTars() {
+        return dockerTars;
     }
 
     public List<DetectToolProjectInfo> getDetectToolProjectInfo() {
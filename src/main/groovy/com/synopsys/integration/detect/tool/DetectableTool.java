@@ -24,6 +24,7 @@ package com.synopsys.integration.detect.tool;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -51,6 +52,7 @@ import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectable.result.DetectableResult;
 import com.synopsys.integration.detectable.detectables.docker.DockerExtractor;
+import com.synopsys.integration.detectable.detectables.docker.DockerInspectionResults;
 import com.synopsys.integration.detector.base.DetectableCreatable;
 import com.synopsys.integration.util.NameVersion;
 
@@ -117,7 +119,16 @@ public class DetectableTool {
             return DetectableToolResult.skip();
         } else {
             logger.info("Extraction success.");
-            eventSystem.publishEvent(Event.StatusSummary, new Status(name, StatusType.SUCCESS));
+            final List<String> failedImages = extraction.getMetaData(DockerExtractor.DOCKER_INSPECTION_RESULTS_META_DATA)
+                                                  .map(DockerInspectionResults::getFailedImages)
+                                                  .orElse(Collections.emptyList());
+            if (failedImages.isEmpty()) {
+                eventSystem.publishEvent(Event.StatusSummary, new Status(name, StatusType.SUCCESS));
+            } else {
+                // Images that could not be inspected fail the run so a scan of many images never silently drops one.
+                failedImages.forEach(failedImage -> eventSystem.publishEvent(Event.StatusSummary, new Status(String.format("%s (%s)", name, failedImage), StatusType.FAILURE)));
+                eventSystem.publishEvent(Event.ExitCode, new ExitCodeRequest(ExitCodeType.FAILURE_GENERAL_ERROR, String.format("Docker inspection failed for: %s", String.join(", ", failedImages))));
+            }
         }
 
         final Map<CodeLocation, DetectCodeLocation> detectCodeLocationMap = codeLocationConverter.toDetectCodeLocation(sourcePath, extraction, sourcePath, name);
@@ -129,10 +140,12 @@ public class DetectableTool {
             detectToolProjectInfo = Optional.of(new DetectToolProjectInfo(detectTool, nameVersion));
         }
 
-        final Optional<File> dockerTar = extraction.getMetaData(DockerExtractor.DOCKER_TAR_META_DATA);
+        final List<File> dockerTars = new ArrayList<>();
+        extraction.getMetaData(DockerExtractor.DOCKER_TAR_META_DATA).ifPresent(dockerTars::add);
+        extraction.getMetaData(DockerExtractor.DOCKER_INSPECTION_RESULTS_META_DATA).ifPresent(results -> dockerTars.addAll(results.getScanFiles()));
 
         logger.info("Tool finished.");
 
-        return new DetectableToolResult(detectToolProjectInfo, detectCodeLocations, dockerTar);
+        return new DetectableToolResult(detectToolProjectInfo, detectCodeLocations, dockerTars);
     }
 }
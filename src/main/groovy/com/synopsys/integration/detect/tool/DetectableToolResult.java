@@ -33,26 +33,26 @@ import com.synopsys.integration.detect.workflow.project.DetectToolProjectInfo;
 import com.synopsys.integration.detect.workflow.project.DetectorProjectInfo;
 
 public class DetectableToolResult {
-    private Optional<File> dockerTar = Optional.empty();
+    private final List<File> dockerTars;
     private final Optional<DetectToolProjectInfo> detectToolProjectInfo;
     private final List<DetectCodeLocation> detectCodeLocations;
 
-    public DetectableToolResult(final Optional<DetectToolProjectInfo> detectToolProjectInfo, final List<DetectCodeLocation> detectCodeLocations, Optional<File> dockerTar) {
+    public DetectableToolResult(final Optional<DetectToolProjectInfo> detectToolProjectInfo, final List<DetectCodeLocation> detectCodeLocations, final List<File> dockerTars) {
         this.detectToolProjectInfo = detectToolProjectInfo;
         this.detectCodeLocations = detectCodeLocations;
-        this.dockerTar = dockerTar;
+        this.dockerTars = dockerTars;
     }
 
     public static DetectableToolResult skip() {
-        return new DetectableToolResult(Optional.empty(), Collections.emptyList(), Optional.empty());
+        return new DetectableToolResult(Optional.empty(), Collections.emptyList(), Collections.emptyList());
     }
 
     public static DetectableToolResult complete(List<DetectCodeLocation> codeLocations, DetectToolProjectInfo projectInfo, File dockerTar) {
-        return new DetectableToolResult(Optional.of(projectInfo), codeLocations, Optional.of(dockerTar));
+        return new DetectableToolResult(Optional.of(projectInfo), codeLocations, Collections.singletonList(dockerTar));
     }
 
-    public Optional<File> getDockerTar() {
-        return dockerTar;
+    public List<File> getDockerTars() {
+        return dockerTars;
     }
 
     public Optional<DetectToolProjectInfo> getDetectToolProjectInfo() {
@@ -73,7 +73,11 @@ public class CodeLocationConverter {
             } else {
                 externalId = codeLocation.getExternalId().get();
             }
-            Optional<String> dockerImageName = extraction.getMetaData(DockerExtractor.DOCKER_IMAGE_NAME_META_DATA);
+            Optional<String> dockerImageName = extraction.getMetaData(DockerExtractor.DOCKER_INSPECTION_RESULTS_META_DATA)
+                                                   .flatMap(results -> results.getImageName(codeLocation));
+            if (!dockerImageName.isPresent()) {
+                dockerImageName = extraction.getMetaData(DockerExtractor.DOCKER_IMAGE_NAME_META_DATA);
+            }
             DetectCodeLocation detectCodeLocation;
             if (dockerImageName.isPresent()){
                  detectCodeLocation = DetectCodeLocation.forDocker(codeLocation.getDependencyGraph(), sourcePath, externalId, dockerImageName.get());
@@ -33,15 +33,19 @@ import com.synopsys.integration.detectable.detectables.clang.ClangDetectable;
 import com.synopsys.integration.detectable.detectables.cocoapods.PodlockDetectable;
 import com.synopsys.integration.detectable.detectables.conda.CondaCliDetectable;
 import com.synopsys.integration.detectable.detectables.cpan.CpanCliDetectable;
+import com.synopsys.integration.detectable.detectables.cpan.CpanMetaDetectable;
 import com.synopsys.integration.detectable.detectables.cran.PackratLockDetectable;
 import com.synopsys.integration.detectable.detectables.docker.DockerDetectable;
 import com.synopsys.integration.detectable.detectables.go.godep.GoDepCliDetectable;
 import com.synopsys.integration.detectable.detectables.go.godep.GoDepLockDetectable;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoModDetectable;
 import com.synopsys.integration.detectable.detectables.go.vendor.GoVendorDetectable;
 import com.synopsys.integration.detectable.detectables.go.vendr.GoVndrDetectable;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorDetectable;
+import com.synopsys.integration.detectable.detectables.gradle.lockfile.GradleLockfileDetectable;
 import com.synopsys.integration.detectable.detectables.gradle.parsing.GradleParseDetectable;
 import com.synopsys.integration.detectable.detectables.hex.RebarDetectable;
+import com.synopsys.integration.detectable.detectables.hex.RebarLockDetectable;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenPomDetectable;
 import com.synopsys.integration.detectable.detectables.maven.cli.MavenPomWrapperDetectable;
 import com.synopsys.integration.detectable.detectables.maven.parsing.MavenParseDetectable;
@@ -51,10 +55,12 @@ import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmShrinkwra
 import com.synopsys.integration.detectable.detectables.npm.packagejson.NpmPackageJsonParseDetectable;
 import com.synopsys.integration.detectable.detectables.nuget.NugetProjectDetectable;
 import com.synopsys.integration.detectable.detectables.nuget.NugetSolutionDetectable;
+import com.synopsys.integration.detectable.detectables.nuget.lockfile.NugetLockfileDetectable;
 import com.synopsys.integration.detectable.detectables.packagist.ComposerLockDetectable;
 import com.synopsys.integration.detectable.detectables.pear.PearCliDetectable;
 import com.synopsys.integration.detectable.detectables.pip.PipInspectorDetectable;
 import com.synopsys.integration.detectable.detectables.pip.PipenvDetectable;
+import com.synopsys.integration.detectable.detectables.pip.PipfileLockDetectable;
 import com.synopsys.integration.detectable.detectables.rubygems.gemlock.GemlockDetectable;
 import com.synopsys.integration.detectable.detectables.rubygems.gemspec.GemspecParseDetectable;
 import com.synopsys.integration.detectable.detectables.sbt.SbtResolutionCacheDetectable;
@@ -97,6 +103,10 @@ public class DetectableFactory implements BeanFactoryAware {
         return beanFactory.getBean(CpanCliDetectable.class, environment);
     }
 
+    public CpanMetaDetectable createCpanMetaDetectable(final DetectableEnvironment environment) {
+        return beanFactory.getBean(CpanMetaDetectable.class, environment);
+    }
+
     public GemlockDetectable createGemlockDetectable(final DetectableEnvironment environment) {
         return beanFactory.getBean(GemlockDetectable.class, environment);
     }
@@ -121,10 +131,18 @@ public class DetectableFactory implements BeanFactoryAware {
         return beanFactory.getBean(GoVendorDetectable.class, environment);
     }
 
+    public GoModDetectable createGoModDetectable(final DetectableEnvironment environment) {
+        return beanFactory.getBean(GoModDetectable.class, environment);
+    }
+
     public GradleParseDetectable createGradleParseDetectable(final DetectableEnvironment environment) {
         return beanFactory.getBean(GradleParseDetectable.class, environment);
     }
 
+    public GradleLockfileDetectable createGradleLockfileDetectable(final DetectableEnvironment environment) {
+        return beanFactory.getBean(GradleLockfileDetectable.class, environment);
+    }
+
     public GradleInspectorDetectable createGradleInspectorDetectable(final DetectableEnvironment environment) {
         return beanFactory.getBean(GradleInspectorDetectable.class, environment);
     }
@@ -165,6 +183,10 @@ public class DetectableFactory implements BeanFactoryAware {
         return beanFactory.getBean(NugetSolutionDetectable.class, environment);
     }
 
+    public NugetLockfileDetectable createNugetLockfileDetectable(final DetectableEnvironment environment) {
+        return beanFactory.getBean(NugetLockfileDetectable.class, environment);
+    }
+
     public PackratLockDetectable createPackratLockDetectable(final DetectableEnvironment environment) {
         return beanFactory.getBean(PackratLockDetectable.class, environment);
     }
@@ -177,6 +199,10 @@ public class DetectableFactory implements BeanFactoryAware {
         return beanFactory.getBean(PipenvDetectable.class, environment);
     }
 
+    public PipfileLockDetectable createPipfileLockDetectable(final DetectableEnvironment environment) {
+        return beanFactory.getBean(PipfileLockDetectable.class, environment);
+    }
+
     public PipInspectorDetectable createPipInspectorDetectable(final DetectableEnvironment environment) {
         //final String requirementsFile = detectConfiguration.getProperty(DetectProperty.DETECT_PIP_REQUIREMENTS_PATH, PropertyAuthority.None);
         return beanFactory.getBean(PipInspectorDetectable.class, environment);
@@ -190,6 +216,10 @@ public class DetectableFactory implements BeanFactoryAware {
         return beanFactory.getBean(RebarDetectable.class, environment);
     }
 
+    public RebarLockDetectable createRebarLockDetectable(final DetectableEnvironment environment) {
+        return beanFactory.getBean(RebarLockDetectable.class, environment);
+    }
+
     public SbtResolutionCacheDetectable createSbtResolutionCacheDetectable(final DetectableEnvironment environment) {
         return beanFactory.getBean(SbtResolutionCacheDetectable.class, environment);
     }
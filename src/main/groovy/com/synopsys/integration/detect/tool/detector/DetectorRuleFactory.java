@@ -51,11 +51,13 @@ public class DetectorRuleFactory {
         final DetectorRule goLock = ruleSet.addDetector(DetectorType.GO_DEP, "Go Lock", detectableFactory::createGoLockDetectable).defaultNested().build();
         final DetectorRule goVnd = ruleSet.addDetector(DetectorType.GO_VNDR, "Go Vndr", detectableFactory::createGoVndrDetectable).defaultNested().build();
         final DetectorRule goVendor = ruleSet.addDetector(DetectorType.GO_VENDOR, "Go Vendor", detectableFactory::createGoVendorDetectable).defaultNested().build();
+        final DetectorRule goMod = ruleSet.addDetector(DetectorType.GO_MOD, "Go Mod", detectableFactory::createGoModDetectable).defaultNested().build();
         final DetectorRule goCli = ruleSet.addDetector(DetectorType.GO_DEP, "Go Cli", detectableFactory::createGoCliDetectable).defaultNested().build();
 
         ruleSet.yield(goCli).to(goLock);
         ruleSet.yield(goCli).to(goVnd);
         ruleSet.yield(goCli).to(goVendor);
+        ruleSet.yield(goCli).to(goMod);
 
         ruleSet.addDetector(DetectorType.GRADLE, "Gradle Inspector", detectableFactory::createGradleInspectorDetectable).defaultNotNested().build();
         ruleSet.addDetector(DetectorType.HEX, "Rebar", detectableFactory::createRebarDetectable).defaultNotNested().build();
@@ -103,11 +105,21 @@ public class DetectorRuleFactory {
         ruleSet.addDetector(DetectorType.COCOAPODS, "Pod Lock", detectableFactory::createPodLockDetectable).defaultNested().build();
         ruleSet.addDetector(DetectorType.PACKAGIST, "Packrat Lock", detectableFactory::createPackratLockDetectable).defaultNotNested().build();
 
+        ruleSet.addDetector(DetectorType.CPAN, "Cpan Meta", detectableFactory::createCpanMetaDetectable).defaultNotNested().build();
+
         ruleSet.addDetector(DetectorType.GO_DEP, "Go Lock", detectableFactory::createGoLockDetectable).defaultNested().build();
         ruleSet.addDetector(DetectorType.GO_VNDR, "Go Vndr", detectableFactory::createGoVndrDetectable).defaultNested().build();
         ruleSet.addDetector(DetectorType.GO_VENDOR, "Go Vendor", detectableFactory::createGoVendorDetectable).defaultNested().build();
+        ruleSet.addDetector(DetectorType.GO_MOD, "Go Mod", detectableFactory::createGoModDetectable).defaultNested().build();
+
+        final DetectorRule gradleLockfile = ruleSet.addDetector(DetectorType.GRADLE, "Gradle Lockfile", detectableFactory::createGradleLockfileDetectable).defaultNested().build();
+        final DetectorRule gradleParse = ruleSet.addDetector(DetectorType.GRADLE, "Gradle Parse", detectableFactory::createGradleParseDetectable).defaultNotNested().build();
+
+        ruleSet.yield(gradleParse).to(gradleLockfile);
 
-        ruleSet.addDetector(DetectorType.GRADLE, "Gradle Parse", detectableFactory::createGradleParseDetectable).defaultNotNested().build();
+        ruleSet.addDetector(DetectorType.NUGET, "Nuget Lockfile", detectableFactory::createNugetLockfileDetectable).defaultNotNested().build();
+
+        ruleSet.addDetector(DetectorType.HEX, "Rebar Lock", detectableFactory::createRebarLockDetectable).defaultNotNested().build();
 
         ruleSet.addDetector(DetectorType.MAVEN, "Maven Pom Parse", detectableFactory::createMavenParseDetectable).defaultNotNested().build();
 
@@ -126,7 +138,10 @@ public class DetectorRuleFactory {
 
         ruleSet.addDetector(DetectorType.PACKAGIST, "Composer", detectableFactory::createComposerLockDetectable).defaultNotNested().build();
 
-        ruleSet.addDetector(DetectorType.PIP, "Pip Env", detectableFactory::createPipenvDetectable).defaultNotNested().build();
+        final DetectorRule pipfileLock = ruleSet.addDetector(DetectorType.PIP, "Pipfile Lock", detectableFactory::createPipfileLockDetectable).defaultNotNested().build();
+        final DetectorRule pipEnv = ruleSet.addDetector(DetectorType.PIP, "Pip Env", detectableFactory::createPipenvDetectable).defaultNotNested().build();
+
+        ruleSet.yield(pipEnv).to(pipfileLock);
 
         final DetectorRule gemlock = ruleSet.addDetector(DetectorType.RUBYGEMS, "Gemlock", detectableFactory::createGemlockDetectable).defaultNotNested().build();
         final DetectorRule gemspec = ruleSet.addDetector(DetectorType.RUBYGEMS, "Gemspec", detectableFactory::createGemspecParseDetectable).defaultNotNested().build();
@@ -78,15 +78,15 @@ public abstract class BlackDuckSignatureScanner {
         this.scanJobManager = scanJobManager;
     }
 
-    protected abstract ScanBatch createScanBatch(NameVersion projectNameVersion, File installDirectory, List<SignatureScanPath> signatureScanPaths, File dockerTarFile);
+    protected abstract ScanBatch createScanBatch(NameVersion projectNameVersion, File installDirectory, List<SignatureScanPath> signatureScanPaths);
 
-    public ScanBatchOutput performScanActions(NameVersion projectNameVersion, File installDirectory, File dockerTarFile) throws InterruptedException, IntegrationException, DetectUserFriendlyException, IOException {
-        return scanPaths(projectNameVersion, installDirectory, dockerTarFile);
+    public ScanBatchOutput performScanActions(NameVersion projectNameVersion, File installDirectory, List<File> dockerTarFiles) throws InterruptedException, IntegrationException, DetectUserFriendlyException, IOException {
+        return scanPaths(projectNameVersion, installDirectory, dockerTarFiles);
     }
 
-    private ScanBatchOutput scanPaths(final NameVersion projectNameVersion, File installDirectory, File dockerTarFile) throws IntegrationException, InterruptedException, IOException {
-        List<SignatureScanPath> signatureScanPaths = determinePathsAndExclusions(projectNameVersion, signatureScannerOptions.getMaxDepth(), dockerTarFile);
-        final ScanBatch scanJob = createScanBatch(projectNameVersion, installDirectory, signatureScanPaths, dockerTarFile);
+    private ScanBatchOutput scanPaths(final NameVersion projectNameVersion, File installDirectory, List<File> dockerTarFiles) throws IntegrationException, InterruptedException, IOException {
+        List<SignatureScanPath> signatureScanPaths = determinePathsAndExclusions(projectNameVersion, signatureScannerOptions.getMaxDepth(), dockerTarFiles);
+        final ScanBatch scanJob = createScanBatch(projectNameVersion, installDirectory, signatureScanPaths);
 
         List<ScanCommandOutput> scanCommandOutputs = new ArrayList<>();
         final ScanBatchOutput scanJobOutput = scanJobManager.executeScans(scanJob);
@@ -155,7 +155,7 @@ public abstract class BlackDuckSignatureScanner {
         }
     }
 
-    private List<SignatureScanPath> determinePathsAndExclusions(final NameVersion projectNameVersion, Integer maxDepth, File dockerTarFile) throws IntegrationException, IOException {
+    private List<SignatureScanPath> determinePathsAndExclusions(final NameVersion projectNameVersion, Integer maxDepth, List<File> dockerTarFiles) throws IntegrationException, IOException {
         final String[] providedSignatureScanPaths = signatureScannerOptions.getSignatureScannerPaths();
         final boolean userProvidedScanTargets = null != providedSignatureScanPaths && providedSignatureScanPaths.length > 0;
         final String[] providedExclusionPatterns = signatureScannerOptions.getExclusionPatterns();
@@ -168,9 +168,12 @@ public abstract class BlackDuckSignatureScanner {
                 SignatureScanPath scanPath = createScanPath(path, maxDepth, signatureScannerExclusionNamePatterns, providedExclusionPatterns);
                 signatureScanPaths.add(scanPath);
             }
-        } else if (dockerTarFile != null) {
-            SignatureScanPath scanPath = createScanPath(dockerTarFile.getCanonicalPath(), maxDepth, signatureScannerExclusionNamePatterns, providedExclusionPatterns);
-            signatureScanPaths.add(scanPath);
+        } else if (!dockerTarFiles.isEmpty()) {
+            for (final File dockerTarFile : dockerTarFiles) {
+                SignatureScanPath scanPath = createScanPath(dockerTarFile.getCanonicalPath(), maxDepth, signatureScannerExclusionNamePatterns, providedExclusionPatterns);
+                scanPath.dockerTarFilename = dockerTarFile.getName();
+                signatureScanPaths.add(scanPath);
+            }
         } else {
             final String sourcePath = directoryManager.getSourceDirectory().getAbsolutePath();
             if (userProvidedScanTargets) {
@@ -208,7 +211,7 @@ public abstract class BlackDuckSignatureScanner {
         }
     }
 
-    protected ScanBatchBuilder createDefaultScanBatchBuilder(final NameVersion projectNameVersion, File installDirectory, final List<SignatureScanPath> signatureScanPaths, File dockerTarFile) {
+    protected ScanBatchBuilder createDefaultScanBatchBuilder(final NameVersion projectNameVersion, File installDirectory, final List<SignatureScanPath> signatureScanPaths) {
         final ScanBatchBuilder scanJobBuilder = new ScanBatchBuilder();
         scanJobBuilder.scanMemoryInMegabytes(signatureScannerOptions.getScanMemory());
         scanJobBuilder.installDirectory(installDirectory);
@@ -234,12 +237,8 @@ public abstract class BlackDuckSignatureScanner {
         final String prefix = signatureScannerOptions.getCodeLocationPrefix();
         final String suffix = signatureScannerOptions.getCodeLocationSuffix();
 
-        String dockerTarFilename = null;
-        if (dockerTarFile != null) {
-            dockerTarFilename = dockerTarFile.getName();
-        }
         for (final SignatureScanPath scanPath : signatureScanPaths) {
-            final String codeLocationName = codeLocationNameManager.createScanCodeLocationName(sourcePath, scanPath.targetPath, dockerTarFilename, projectName, projectVersionName, prefix, suffix);
+            final String codeLocationName = codeLocationNameManager.createScanCodeLocationName(sourcePath, scanPath.targetPath, scanPath.dockerTarFilename, projectName, projectVersionName, prefix, suffix);
             scanJobBuilder.addTarget(ScanTarget.createBasicTarget(scanPath.targetPath, scanPath.exclusions, codeLocationName));
         }
 
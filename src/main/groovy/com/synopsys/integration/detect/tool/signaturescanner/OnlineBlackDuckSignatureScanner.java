@@ -55,16 +55,16 @@ public class OnlineBlackDuckSignatureScanner extends BlackDuckSignatureScanner {
         this.blackDuckServerConfig = blackDuckServerConfig;
     }
 
-    public CodeLocationCreationData<ScanBatchOutput> performOnlineScan(NameVersion projectNameVersion, File installDirectory, File dockerTarFile) throws InterruptedException, IntegrationException, DetectUserFriendlyException, IOException {
+    public CodeLocationCreationData<ScanBatchOutput> performOnlineScan(NameVersion projectNameVersion, File installDirectory, List<File> dockerTarFiles) throws InterruptedException, IntegrationException, DetectUserFriendlyException, IOException {
         NotificationTaskRange notificationTaskRange = codeLocationCreationService.calculateCodeLocationRange();
-        ScanBatchOutput scanBatchOutput = performScanActions(projectNameVersion, installDirectory, dockerTarFile);
+        ScanBatchOutput scanBatchOutput = performScanActions(projectNameVersion, installDirectory, dockerTarFiles);
         CodeLocationCreationData<ScanBatchOutput> creationData = new CodeLocationCreationData<>(notificationTaskRange, scanBatchOutput);
         return creationData;
     }
 
     @Override
-    protected ScanBatch createScanBatch(NameVersion projectNameVersion, File installDirectory, List<SignatureScanPath> signatureScanPaths, File dockerTarFile) {
-        final ScanBatchBuilder scanJobBuilder = createDefaultScanBatchBuilder(projectNameVersion, installDirectory, signatureScanPaths, dockerTarFile);
+    protected ScanBatch createScanBatch(NameVersion projectNameVersion, File installDirectory, List<SignatureScanPath> signatureScanPaths) {
+        final ScanBatchBuilder scanJobBuilder = createDefaultScanBatchBuilder(projectNameVersion, installDirectory, signatureScanPaths);
         scanJobBuilder.fromBlackDuckServerConfig(blackDuckServerConfig);
         return scanJobBuilder.build();
     }
@@ -28,4 +28,5 @@ import java.util.Set;
 public class SignatureScanPath {
     public String targetPath;
     public Set<String> exclusions = new HashSet<>();
+    public String dockerTarFilename;
 }
@@ -29,7 +29,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.antlr.v4.runtime.misc.Nullable;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,7 +45,7 @@ public class CodeLocationNameGenerator {
     private final Map<String, Integer> nameCounters = new HashMap<>();
     public static final int MAXIMUM_CODE_LOCATION_NAME_LENGTH = 250;
 
-    public CodeLocationNameGenerator(@Nullable String codeLocationNameOverride) {
+    public CodeLocationNameGenerator(String codeLocationNameOverride) {
         this.codeLocationNameOverride = codeLocationNameOverride;
     }
 
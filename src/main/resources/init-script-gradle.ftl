@@ -1,6 +1,8 @@
 import java.nio.charset.StandardCharsets
 
 import org.gradle.api.Task
+import org.gradle.api.artifacts.component.ProjectComponentIdentifier
+import org.gradle.api.artifacts.result.ResolvedDependencyResult
 import org.gradle.api.execution.TaskExecutionListener
 import org.gradle.api.tasks.TaskState
 
@@ -50,9 +52,87 @@ addListener(
             File outputDirectory = new File(outputDirectoryPath)
             outputDirectory.mkdirs()
 
+            // Projects whose reports Detect already has cached are skipped along with the configured exclusions.
+            String excludedProjectNames = ['${excludedProjectNames}', System.getProperty('GRADLEEXTRACTIONCACHEDPROJECTS', '')].findAll { it }.join(',')
+
+<#if structuredOutput == "true">
+            // Every component is written once as a node and every relationship once as an edge, so repeated subtrees cost nothing.
+            def rootProject = task.project
+            def toNames = { String names -> names.split(',').collect { it.trim() }.findAll { it } as Set }
+            def isIncluded = { String name, Set excluded, Set included -> !excluded.contains(name) && (included.isEmpty() || included.contains(name)) }
+            def excludedProjects = toNames(excludedProjectNames)
+            def includedProjects = toNames('${includedProjectNames}')
+            def excludedConfigurations = toNames('${excludedConfigurationNames}')
+            def includedConfigurations = toNames('${includedConfigurationNames}')
+
+            new File(outputDirectory, 'rootProjectMetadata.txt').withWriter('UTF-8') { writer ->
+                writer.writeLine('DETECT META DATA START')
+                writer.writeLine('rootProjectName:' + rootProject.name)
+                writer.writeLine('rootProjectVersion:' + rootProject.version)
+                writer.writeLine('DETECT META DATA END')
+            }
+
+            rootProject.allprojects.eachWithIndex { project, projectIndex ->
+                if (!isIncluded(project.name, excludedProjects, includedProjects)) {
+                    return
+                }
+
+                new File(outputDirectory, projectIndex + '_detectGraph.txt').withWriter('UTF-8') { writer ->
+                    writer.writeLine('projectPath:' + project.projectDir.canonicalPath)
+                    writer.writeLine('projectGroup:' + project.group)
+                    writer.writeLine('projectName:' + project.name)
+                    writer.writeLine('projectVersion:' + project.version)
+
+                    def nodeIds = [:]
+                    def edges = new HashSet()
+                    def expanded = new HashSet()
+                    def nodeId = { component ->
+                        def gav = component.moduleVersion.group + ':' + component.moduleVersion.name + ':' + component.moduleVersion.version
+                        def id = nodeIds[gav]
+                        if (id == null) {
+                            id = nodeIds.size()
+                            nodeIds[gav] = id
+                            writer.writeLine('n ' + id + ' ' + gav)
+                        }
+                        return id
+                    }
+                    def visit
+                    visit = { parentId, dependency ->
+                        if (!(dependency instanceof ResolvedDependencyResult) || dependency.selected.id instanceof ProjectComponentIdentifier) {
+                            return
+                        }
+                        def id = nodeId(dependency.selected)
+                        if (parentId == null) {
+                            writer.writeLine('r ' + id)
+                        } else if (edges.add(parentId + ' ' + id)) {
+                            writer.writeLine('e ' + parentId + ' ' + id)
+                        }
+                        if (expanded.add(id)) {
+                            dependency.selected.dependencies.each { visit(id, it) }
+                        }
+                    }
+
+                    project.configurations.each { configuration ->
+                        if (!isIncluded(configuration.name, excludedConfigurations, includedConfigurations)) {
+                            return
+                        }
+                        if (configuration.hasProperty('canBeResolved') && !configuration.canBeResolved) {
+                            return
+                        }
+                        writer.writeLine('c ' + configuration.name)
+                        try {
+                            configuration.incoming.resolutionResult.root.dependencies.each { visit(null, it) }
+                        } catch (Exception e) {
+                            project.logger.warn('Could not resolve the configuration ' + configuration.name + ' of ' + project.path + ': ' + e.message)
+                        }
+                    }
+                }
+            }
+<#else>
             def dependencyGatherer = new DependencyGatherer()
             def rootProject = task.project
-            dependencyGatherer.createAllDependencyGraphFiles(rootProject, '${excludedProjectNames}', '${includedProjectNames}', '${excludedConfigurationNames}', '${includedConfigurationNames}', outputDirectory)
+            dependencyGatherer.createAllDependencyGraphFiles(rootProject, excludedProjectNames, '${includedProjectNames}', '${excludedConfigurationNames}', '${includedConfigurationNames}', outputDirectory)
+</#if>
         }
     }
 )
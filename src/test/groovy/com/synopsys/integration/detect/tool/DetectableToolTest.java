@@ -0,0 +1,95 @@
+package com.synopsys.integration.detect.tool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detect.DetectTool;
+import com.synopsys.integration.detect.exitcode.ExitCodeType;
+import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodeRequest;
+import com.synopsys.integration.detect.tool.detector.CodeLocationConverter;
+import com.synopsys.integration.detect.tool.detector.impl.ExtractionEnvironmentProvider;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.status.Status;
+import com.synopsys.integration.detect.workflow.status.StatusType;
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.Extraction;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
+import com.synopsys.integration.detectable.detectables.docker.DockerExtractor;
+import com.synopsys.integration.detectable.detectables.docker.DockerInspectionResults;
+
+public class DetectableToolTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void failedDockerImagesFailTheRun() throws Exception {
+        final CodeLocation ubuntu = new CodeLocation(new MutableMapDependencyGraph(), externalIdFactory.createPathExternalId(new Forge("/", "/", "docker"), "ubuntu"));
+        final Map<CodeLocation, String> imageNames = new HashMap<>();
+        imageNames.put(ubuntu, "ubuntu:18.04");
+        final List<File> scanFiles = Arrays.asList(new File("image-0/ubuntu_containerfilesystem.tar.gz"));
+        final DockerInspectionResults results = new DockerInspectionResults(imageNames, scanFiles, Arrays.asList("broken:1.0"));
+        final Extraction extraction = new Extraction.Builder().success(ubuntu).metaData(DockerExtractor.DOCKER_INSPECTION_RESULTS_META_DATA, results).build();
+
+        final EventSystem eventSystem = new EventSystem();
+        final List<Status> statuses = new ArrayList<>();
+        final List<ExitCodeRequest> exitCodeRequests = new ArrayList<>();
+        eventSystem.registerListener(Event.StatusSummary, statuses::add);
+        eventSystem.registerListener(Event.ExitCode, exitCodeRequests::add);
+
+        final DetectableToolResult toolResult = createTool(extraction, eventSystem).execute(new File("source"));
+
+        assertEquals(1, toolResult.getDetectCodeLocations().size());
+        assertEquals(scanFiles, toolResult.getDockerTars());
+        assertEquals(Arrays.asList("Docker (broken:1.0)"), statuses.stream().map(Status::getDescriptionKey).collect(Collectors.toList()));
+        assertTrue(statuses.stream().allMatch(status -> status.getStatusType() == StatusType.FAILURE));
+        assertEquals(1, exitCodeRequests.size());
+        assertEquals(ExitCodeType.FAILURE_GENERAL_ERROR, exitCodeRequests.get(0).getExitCodeType());
+        assertTrue(exitCodeRequests.get(0).getReason().contains("broken:1.0"));
+    }
+
+    @Test
+    public void successfulDockerImagesPass() throws Exception {
+        final CodeLocation ubuntu = new CodeLocation(new MutableMapDependencyGraph(), externalIdFactory.createPathExternalId(new Forge("/", "/", "docker"), "ubuntu"));
+        final Map<CodeLocation, String> imageNames = new HashMap<>();
+        imageNames.put(ubuntu, "ubuntu:18.04");
+        final DockerInspectionResults results = new DockerInspectionResults(imageNames, new ArrayList<>(), new ArrayList<>());
+        final Extraction extraction = new Extraction.Builder().success(ubuntu).metaData(DockerExtractor.DOCKER_INSPECTION_RESULTS_META_DATA, results).build();
+
+        final EventSystem eventSystem = new EventSystem();
+        final List<Status> statuses = new ArrayList<>();
+        final List<ExitCodeRequest> exitCodeRequests = new ArrayList<>();
+        eventSystem.registerListener(Event.StatusSummary, statuses::add);
+        eventSystem.registerListener(Event.ExitCode, exitCodeRequests::add);
+
+        createTool(extraction, eventSystem).execute(new File("source"));
+
+        assertEquals(1, statuses.size());
+        assertEquals(StatusType.SUCCESS, statuses.get(0).getStatusType());
+        assertTrue(exitCodeRequests.isEmpty());
+    }
+
+    private DetectableTool createTool(final Extraction extraction, final EventSystem eventSystem) throws Exception {
+        final Detectable detectable = Mockito.mock(Detectable.class);
+        Mockito.when(detectable.applicable()).thenReturn(new PassedDetectableResult());
+        Mockito.when(detectable.extractable()).thenReturn(new PassedDetectableResult());
+        Mockito.when(detectable.extract(Mockito.any())).thenReturn(extraction);
+
+        return new DetectableTool(environment -> detectable, Mockito.mock(ExtractionEnvironmentProvider.class), new CodeLocationConverter(externalIdFactory), "Docker", DetectTool.DOCKER,
+            eventSystem);
+    }
+}
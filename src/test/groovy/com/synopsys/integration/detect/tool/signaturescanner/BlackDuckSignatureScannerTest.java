@@ -0,0 +1,88 @@
+package com.synopsys.integration.detect.tool.signaturescanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatch;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchOutput;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchRunner;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.ScanTarget;
+import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameGenerator;
+import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameManager;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.file.DirectoryManager;
+import com.synopsys.integration.detectable.detectable.file.impl.SimpleFileFinder;
+import com.synopsys.integration.util.NameVersion;
+
+public class BlackDuckSignatureScannerTest {
+    private File workingDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        workingDirectory = Files.createTempDirectory("BlackDuckSignatureScannerTest").toFile();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(workingDirectory);
+    }
+
+    @Test
+    public void eachDockerTarIsScannedUnderItsOwnName() throws Exception {
+        final File ubuntuTar = createFile("image-0/ubuntu_18.04_containerfilesystem.tar.gz");
+        final File alpineTar = createFile("image-1/alpine_3.10_containerfilesystem.tar.gz");
+
+        final List<ScanTarget> scanTargets = scan(Arrays.asList(ubuntuTar, alpineTar));
+
+        assertEquals(Arrays.asList(ubuntuTar.getCanonicalPath(), alpineTar.getCanonicalPath()), scanTargets.stream().map(ScanTarget::getPath).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("ubuntu_18.04_containerfilesystem.tar.gz/project/1.0 scan", "alpine_3.10_containerfilesystem.tar.gz/project/1.0 scan"),
+            scanTargets.stream().map(ScanTarget::getCodeLocationName).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void sourceDirectoryIsScannedWithoutDockerTars() throws Exception {
+        final List<ScanTarget> scanTargets = scan(Collections.emptyList());
+
+        assertEquals(Collections.singletonList(new File(workingDirectory, "source").getCanonicalPath()), scanTargets.stream().map(ScanTarget::getPath).collect(Collectors.toList()));
+    }
+
+    private List<ScanTarget> scan(final List<File> dockerTars) throws Exception {
+        final File sourceDirectory = new File(workingDirectory, "source");
+        sourceDirectory.mkdirs();
+        final DirectoryManager directoryManager = Mockito.mock(DirectoryManager.class);
+        Mockito.when(directoryManager.getSourceDirectory()).thenReturn(sourceDirectory);
+        Mockito.when(directoryManager.getScanOutputDirectory()).thenReturn(new File(workingDirectory, "scan"));
+        final BlackDuckSignatureScannerOptions options = Mockito.mock(BlackDuckSignatureScannerOptions.class);
+        Mockito.when(options.getScanMemory()).thenReturn(4096);
+        final ScanBatchRunner scanBatchRunner = Mockito.mock(ScanBatchRunner.class);
+        Mockito.when(scanBatchRunner.executeScans(Mockito.any())).thenReturn(new ScanBatchOutput(Collections.emptyList()));
+
+        final OfflineBlackDuckSignatureScanner scanner = new OfflineBlackDuckSignatureScanner(directoryManager, new SimpleFileFinder(), new CodeLocationNameManager(new CodeLocationNameGenerator(null)), options,
+            Mockito.mock(EventSystem.class), scanBatchRunner);
+        scanner.performScanActions(new NameVersion("project", "1.0"), new File(workingDirectory, "install"), dockerTars);
+
+        final ArgumentCaptor<ScanBatch> scanBatch = ArgumentCaptor.forClass(ScanBatch.class);
+        Mockito.verify(scanBatchRunner).executeScans(scanBatch.capture());
+        return scanBatch.getValue().getScanTargets();
+    }
+
+    private File createFile(final String path) throws IOException {
+        final File file = new File(workingDirectory, path);
+        FileUtils.writeStringToFile(file, "layers", "UTF-8");
+        return file;
+    }
+}